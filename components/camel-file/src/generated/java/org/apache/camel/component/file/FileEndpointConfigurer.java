@@ -59,6 +59,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": target.setCopyAndDeleteOnRenameFail(property(camelContext, boolean.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
+        case "directoryindex":
+        case "directoryIndex": target.setDirectoryIndex(property(camelContext, boolean.class, value)); return true;
+        case "directoryindexfile":
+        case "directoryIndexFile": target.setDirectoryIndexFile(property(camelContext, java.lang.String.class, value)); return true;
+        case "directoryindexreconcileinterval":
+        case "directoryIndexReconcileInterval": target.setDirectoryIndexReconcileInterval(property(camelContext, long.class, value)); return true;
         case "directorymustexist":
         case "directoryMustExist": target.setDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
         case "donefilename":
@@ -91,6 +97,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": target.setForceWrites(property(camelContext, boolean.class, value)); return true;
         case "greedy": target.setGreedy(property(camelContext, boolean.class, value)); return true;
+        case "hardlink":
+        case "hardLink": target.setHardLink(property(camelContext, boolean.class, value)); return true;
         case "idempotent": target.setIdempotent(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "idempotenteager":
         case "idempotentEager": target.setIdempotentEager(property(camelContext, java.lang.Boolean.class, value)); return true;
@@ -247,6 +255,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": return boolean.class;
         case "delay": return long.class;
         case "delete": return boolean.class;
+        case "directoryindex":
+        case "directoryIndex": return boolean.class;
+        case "directoryindexfile":
+        case "directoryIndexFile": return java.lang.String.class;
+        case "directoryindexreconcileinterval":
+        case "directoryIndexReconcileInterval": return long.class;
         case "directorymustexist":
         case "directoryMustExist": return boolean.class;
         case "donefilename":
@@ -279,6 +293,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": return boolean.class;
         case "greedy": return boolean.class;
+        case "hardlink":
+        case "hardLink": return boolean.class;
         case "idempotent": return java.lang.Boolean.class;
         case "idempotenteager":
         case "idempotentEager": return java.lang.Boolean.class;
@@ -436,6 +452,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": return target.isCopyAndDeleteOnRenameFail();
         case "delay": return target.getDelay();
         case "delete": return target.isDelete();
+        case "directoryindex":
+        case "directoryIndex": return target.isDirectoryIndex();
+        case "directoryindexfile":
+        case "directoryIndexFile": return target.getDirectoryIndexFile();
+        case "directoryindexreconcileinterval":
+        case "directoryIndexReconcileInterval": return target.getDirectoryIndexReconcileInterval();
         case "directorymustexist":
         case "directoryMustExist": return target.isDirectoryMustExist();
         case "donefilename":
@@ -468,6 +490,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "forcewrites":
         case "forceWrites": return target.isForceWrites();
         case "greedy": return target.isGreedy();
+        case "hardlink":
+        case "hardLink": return target.isHardLink();
         case "idempotent": return target.getIdempotent();
         case "idempotenteager":
         case "idempotentEager": return target.getIdempotentEager();
@@ -23,7 +23,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(100);
+        Set<String> props = new HashSet<>(104);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -44,6 +44,9 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("copyAndDeleteOnRenameFail");
         props.add("delay");
         props.add("delete");
+        props.add("directoryIndex");
+        props.add("directoryIndexFile");
+        props.add("directoryIndexReconcileInterval");
         props.add("directoryMustExist");
         props.add("directoryName");
         props.add("doneFileName");
@@ -63,6 +66,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("flatten");
         props.add("forceWrites");
         props.add("greedy");
+        props.add("hardLink");
         props.add("idempotent");
         props.add("idempotentEager");
         props.add("idempotentKey");
@@ -34,6 +34,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
+import org.apache.camel.component.file.consumer.FileDirectoryIndex;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
@@ -54,6 +55,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private FileDirectoryIndex directoryIndex;
+    private boolean reconciling;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -81,6 +84,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
+        if (reconciling) {
+            directoryIndex.watch(directory, depth);
+        }
         final File[] files = listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
@@ -104,6 +110,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 return true;
             }
 
+            // skip files that has been evaluated before and not changed since
+            if (directoryIndex != null && directoryIndex.isSettled(file)) {
+                continue;
+            }
+
             // trace log as Windows/Unix can have different views what the file is
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
@@ -115,15 +126,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             Supplier<GenericFile<File>> gf = Suppliers.memorize(
                     () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
 
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
+            if (isResumed(file, gf)) {
+                continue;
             }
 
             if (processEntry(dynamic, fileList, depth, file, gf, files)) {
@@ -133,6 +137,79 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return false;
     }
 
+    private boolean isResumed(File file, Supplier<GenericFile<File>> gf) {
+        if (resumeStrategy != null) {
+            final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+            if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+                LOG.trace("Running the resume process for file {}", file);
+                if (directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean pollDirectoryIndex(Exchange dynamic, File directory, List<GenericFile<File>> fileList) {
+        directoryIndex.collectChanges();
+
+        if (directoryIndex.isReconcileNeeded()) {
+            LOG.debug("Reconciling directory index by scanning directory: {}", directory);
+            directoryIndex.beginReconcile();
+            reconciling = true;
+            try {
+                boolean canPollMore = pollDirectory(dynamic, directory, fileList, 0);
+                if (!canPollMore) {
+                    // the files we did not get to are only found by scanning again
+                    directoryIndex.reconcileNeeded();
+                }
+                return canPollMore;
+            } finally {
+                reconciling = false;
+                directoryIndex.endReconcile();
+            }
+        }
+
+        LOG.trace("Polling {} pending files from directory index", directoryIndex.getPendingSize());
+        for (Map.Entry<String, Integer> entry : directoryIndex.getPending().entrySet()) {
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+
+            File file = new File(entry.getKey());
+            if (!file.isFile()) {
+                // deleted or moved (new directories are found by reconciliation)
+                directoryIndex.remove(entry.getKey());
+                continue;
+            }
+            if (directoryIndex.isSettled(file)) {
+                // reported as changed but has not changed since it was evaluated
+                directoryIndex.settle(file);
+                continue;
+            }
+
+            Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
+            if (isResumed(file, gf)) {
+                continue;
+            }
+            processFileEntry(dynamic, fileList, entry.getValue(), file, gf, null);
+        }
+        return true;
+    }
+
+    private void updateDirectoryIndex(File file, int depth, boolean valid) {
+        // valid files (now in progress) must be evaluated again, as they may be rolled back, and so must files
+        // in progress by another poll, or waiting for a done file
+        if (valid || getEndpoint().getDoneFileName() != null
+                || getEndpoint().getInProgressRepository().contains(file.getAbsolutePath())) {
+            directoryIndex.pending(file, depth);
+        } else {
+            directoryIndex.settle(file);
+        }
+    }
+
     private boolean processEntry(
             Exchange dynamic,
             List<GenericFile<File>> fileList, int depth, File file, Supplier<GenericFile<File>> gf, File[] files) {
@@ -167,6 +244,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 }
                 fileList.add(gf.get());
             }
+            if (directoryIndex != null) {
+                updateDirectoryIndex(file, depth, valid);
+            }
+        } else if (directoryIndex != null) {
+            directoryIndex.settle(file);
         }
     }
 
@@ -210,6 +292,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        if (directoryIndex != null && dynamic == null) {
+            return pollDirectoryIndex(dynamic, directory, fileList);
+        }
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
@@ -265,6 +350,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(Supplier<GenericFile<File>> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // polling from the directory index, so check the file system
+            return new File(doneFileName).exists();
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -407,6 +496,13 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        if (getEndpoint().isDirectoryIndex()) {
+            File indexFile = getEndpoint().getDirectoryIndexFile() != null
+                    ? new File(getEndpoint().getDirectoryIndexFile()) : null;
+            directoryIndex = new FileDirectoryIndex(indexFile, getEndpoint().getDirectoryIndexReconcileInterval());
+            directoryIndex.start();
+        }
+
         // turn off scheduler first, so autoCreate is handled before scheduler
         // starts
         boolean startScheduler = isStartScheduler();
@@ -431,6 +527,16 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (directoryIndex != null) {
+            directoryIndex.stop();
+            directoryIndex = null;
+        }
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
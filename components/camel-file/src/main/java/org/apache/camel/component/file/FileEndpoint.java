@@ -22,6 +22,7 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Category;
 import org.apache.camel.Component;
@@ -29,6 +30,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.file.strategy.FileMoveExistingStrategy;
 import org.apache.camel.component.file.strategy.FileProcessStrategyFactory;
 import org.apache.camel.spi.Metadata;
@@ -46,6 +49,7 @@ import org.slf4j.LoggerFactory;
  */
 @UriEndpoint(firstVersion = "1.0.0", scheme = "file", title = "File", syntax = "file:directoryName",
              category = { Category.FILE, Category.CORE }, headersClass = FileConstants.class)
+@ManagedResource(description = "Managed FileEndpoint")
 public class FileEndpoint extends GenericFileEndpoint<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileEndpoint.class);
@@ -57,6 +61,7 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     public static final String PARAM_FILE = "file";
 
     private final FileOperations operations = new FileOperations(this);
+    private final LongAdder zeroCopyBytes = new LongAdder();
 
     @UriPath(name = "directoryName")
     @Metadata(required = true)
@@ -67,6 +72,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean copyAndDeleteOnRenameFail = true;
     @UriParam(label = "advanced")
     private boolean renameUsingCopy;
+    @UriParam(label = "producer,advanced")
+    private boolean hardLink;
     @UriParam(label = "consumer,advanced")
     private boolean includeHiddenFiles;
     @UriParam(label = "consumer,advanced")
@@ -81,6 +88,12 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean directoryIndex;
+    @UriParam(label = "consumer,advanced")
+    private String directoryIndexFile;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long directoryIndexReconcileInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -297,6 +310,32 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.renameUsingCopy = renameUsingCopy;
     }
 
+    public boolean isHardLink() {
+        return hardLink;
+    }
+
+    /**
+     * When the message body is a file, then the producer writes the target file as a hard link to the file, instead of
+     * copying the content. This is only possible when the files are on the same file system, otherwise the content is
+     * copied. Notice that the source and target file then share the same content and permissions, so changing one
+     * changes the other. Is not in use when appending to files, using a charset, or with the chmod option.
+     */
+    public void setHardLink(boolean hardLink) {
+        this.hardLink = hardLink;
+    }
+
+    /**
+     * Adds to the number of bytes written by zero-copy file transfers (or hard links)
+     */
+    public void addZeroCopyBytes(long bytes) {
+        zeroCopyBytes.add(bytes);
+    }
+
+    @ManagedAttribute(description = "Number of bytes written by zero-copy file transfers or hard links, without copying through the JVM")
+    public long getZeroCopyBytes() {
+        return zeroCopyBytes.sum();
+    }
+
     public boolean isIncludeHiddenFiles() {
         return includeHiddenFiles;
     }
@@ -395,6 +434,47 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isDirectoryIndex() {
+        return directoryIndex;
+    }
+
+    /**
+     * Whether the consumer should maintain an index of the files in the directory, so each poll only evaluates files
+     * that are new or changed, instead of listing the directory and evaluating filters, idempotent and in-progress
+     * checks for every file. Changes are detected using the file system watch service, with periodic reconciliation
+     * scans of the directory. This can speed up polling directories with a very large number of files. Files skipped by
+     * a filter are not evaluated again until their length or last modified timestamp changes, so custom filters should
+     * only depend on the file name, length and last modified timestamp.
+     */
+    public void setDirectoryIndex(boolean directoryIndex) {
+        this.directoryIndex = directoryIndex;
+    }
+
+    public String getDirectoryIndexFile() {
+        return directoryIndexFile;
+    }
+
+    /**
+     * Optional file used to persist the directory index, so the index survives restarts. Is only in use when
+     * directoryIndex is enabled.
+     */
+    public void setDirectoryIndexFile(String directoryIndexFile) {
+        this.directoryIndexFile = directoryIndexFile;
+    }
+
+    public long getDirectoryIndexReconcileInterval() {
+        return directoryIndexReconcileInterval;
+    }
+
+    /**
+     * Interval in millis between full reconciliation scans of the directory, when directoryIndex is enabled. The scans
+     * catch changes that the file system watch service may not report. Use 0 to only reconcile when needed, such as on
+     * startup or when new sub directories are created.
+     */
+    public void setDirectoryIndexReconcileInterval(long directoryIndexReconcileInterval) {
+        this.directoryIndexReconcileInterval = directoryIndexReconcileInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -17,7 +17,6 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -28,8 +27,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -281,13 +281,10 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 final Object body = extractBodyFromExchange(exchange);
                 if (body instanceof File fileBody) {
                     source = fileBody;
@@ -295,7 +292,15 @@ public class FileOperations implements GenericFileOperations<File> {
                 }
             }
 
-            if (fileBased) {
+            if (fileBased && endpoint.getFileExist() == GenericFileExist.Append) {
+                // append the file content to the target file
+                if (source.exists()) {
+                    writeFileByFileAppend(source, file, exchange);
+                    keepLastModified(exchange, file);
+                    setPermissions(file);
+                    return true;
+                }
+            } else if (fileBased) {
                 // okay we know the body is a file based
 
                 // so try to see if we can optimize by renaming the local work
@@ -403,6 +408,9 @@ public class FileOperations implements GenericFileOperations<File> {
                 }
             }
         }
+        if (body instanceof Path path && path.getFileSystem() == FileSystems.getDefault()) {
+            body = path.toFile();
+        }
         return body;
     }
 
@@ -472,20 +480,94 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        if (target.exists() && Files.isSameFile(source.toPath(), target.toPath())) {
+            LOG.trace("writeFileByFile source and target is the same file: {}", target);
+            return;
+        }
         // in case we are using file locks as read-locks then we need to use
         // file channels for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
+            try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                transferFile(channel, out);
             }
+        } else if (endpoint.isHardLink() && writeFileByHardLink(source, target)) {
+            LOG.trace("writeFileByFile using hard link: {} -> {}", source, target);
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            // use zero-copy transfer, where the OS copies the content directly between the files
+            LOG.trace("writeFileByFile using FileChannel.transferTo: {} -> {}", source, target);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                transferFile(in, out);
+            }
+        }
+    }
+
+    private void writeFileByFileAppend(File source, File target, Exchange exchange) throws IOException {
+        String path = source.getAbsolutePath();
+        FileChannel channel
+                = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
+        LOG.trace("writeFileByFileAppend using FileChannel.transferTo: {} -> {}", source, target);
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND,
+                StandardOpenOption.CREATE)) {
+            if (channel != null) {
+                transferFile(channel, out);
+            } else {
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    transferFile(in, out);
+                }
+            }
+            if (endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
+    /**
+     * Transfers the entire content of the source channel to the target channel using
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which allows the OS to copy
+     * the content directly without going through buffers in the JVM.
+     */
+    private void transferFile(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        long position = 0;
+        // transferTo may transfer fewer bytes than requested, so loop until done
+        while (position < size) {
+            long transferred = in.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                // the source file was truncated while transferring
+                break;
+            }
+            position += transferred;
+        }
+        endpoint.addZeroCopyBytes(position);
+    }
+
+    /**
+     * Creates the target file as a hard link to the source file, which is only possible on the same file system.
+     *
+     * @return <tt>true</tt> if the link was created, <tt>false</tt> to fallback and copy the file
+     */
+    private boolean writeFileByHardLink(File source, File target) {
+        // the file permissions are shared by the source and target when linked
+        if (ObjectHelper.isNotEmpty(endpoint.getChmod())) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(target.toPath());
+            Files.createLink(target.toPath(), source.toPath());
+            endpoint.addZeroCopyBytes(source.length());
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            // such as when on different file systems
+            LOG.debug("Cannot create hard link: {} -> {} due: {}. Will copy the file instead.", source, target,
+                    e.getMessage());
+            return false;
         }
     }
 
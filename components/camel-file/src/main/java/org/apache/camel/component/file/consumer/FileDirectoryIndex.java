@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An incremental index of the files in the directory polled by the file consumer.
+ * <p/>
+ * Files that have been evaluated by the consumer and rejected (for example skipped by a filter, or by the idempotent
+ * repository) are <i>settled</i> together with their length and last modified timestamp, and are not evaluated again
+ * until they change. Files that must be evaluated on the next poll are kept as <i>pending</i>.
+ * <p/>
+ * Between reconciliation scans, the consumer does not list the directories, but only evaluates the pending files and
+ * the files reported as created or modified by a {@link WatchService}. A reconciliation scan lists all the directories
+ * again, and is done periodically, on startup, and whenever the watch service cannot tell what has changed (such as
+ * overflow or a new sub directory).
+ * <p/>
+ * The settled entries can be persisted to a file, so they survive restarts.
+ * <p/>
+ * This class is not thread-safe, and is only meant to be used by the polling thread of a single consumer.
+ */
+public class FileDirectoryIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileDirectoryIndex.class);
+
+    private final File indexFile;
+    private final long reconcileInterval;
+    private final Map<String, Entry> settled = new HashMap<>();
+    private final TreeMap<String, Integer> pending = new TreeMap<>();
+    private final Map<WatchKey, WatchedDirectory> watched = new HashMap<>();
+    private WatchService watchService;
+    private boolean reconcileNeeded = true;
+    private long lastReconcile;
+    private boolean changed;
+
+    /**
+     * @param indexFile         optional file to persist the settled entries, can be <tt>null</tt>
+     * @param reconcileInterval interval in millis between full reconciliation scans
+     */
+    public FileDirectoryIndex(File indexFile, long reconcileInterval) {
+        this.indexFile = indexFile;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    public void start() throws IOException {
+        load();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Cannot create watch service, the directory index will use reconciliation scans on every poll due: {}",
+                    e.getMessage());
+            watchService = null;
+        }
+        reconcileNeeded = true;
+    }
+
+    public void stop() throws IOException {
+        save();
+        if (watchService != null) {
+            IOHelper.close(watchService);
+            watchService = null;
+        }
+        watched.clear();
+        pending.clear();
+    }
+
+    /**
+     * Whether the next poll must be a full reconciliation scan of the directories.
+     */
+    public boolean isReconcileNeeded() {
+        if (reconcileNeeded || watchService == null) {
+            return true;
+        }
+        return reconcileInterval > 0 && System.currentTimeMillis() - lastReconcile >= reconcileInterval;
+    }
+
+    /**
+     * Forces the next poll to be a full reconciliation scan.
+     */
+    public void reconcileNeeded() {
+        reconcileNeeded = true;
+    }
+
+    /**
+     * Marks the start of a full reconciliation scan. The watched directories are registered again during the scan.
+     */
+    public void beginReconcile() {
+        for (WatchKey key : watched.keySet()) {
+            key.cancel();
+        }
+        watched.clear();
+        // drain any events, as the scan is going to find the changes
+        if (watchService != null) {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                key.pollEvents();
+                key.reset();
+            }
+        }
+        reconcileNeeded = false;
+        lastReconcile = System.currentTimeMillis();
+    }
+
+    /**
+     * Marks the end of a full reconciliation scan, and persists the index if it has changed.
+     */
+    public void endReconcile() {
+        if (changed) {
+            try {
+                save();
+            } catch (IOException e) {
+                LOG.warn("Error saving directory index to file: {} due: {}. This exception is ignored.", indexFile,
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Watches the directory for changes, where files in the directory are at the given depth.
+     */
+    public void watch(File directory, int depth) {
+        if (watchService == null) {
+            return;
+        }
+        Path dir = directory.toPath();
+        try {
+            WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watched.put(key, new WatchedDirectory(dir, depth));
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.debug("Cannot watch directory: {} due: {}. Will use reconciliation scans instead.", directory,
+                    e.getMessage());
+            watchService = null;
+        }
+    }
+
+    /**
+     * Collects the changes reported by the watch service since the last poll as pending files.
+     */
+    public void collectChanges() {
+        if (watchService == null) {
+            return;
+        }
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            WatchedDirectory dir = watched.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                    reconcileNeeded = true;
+                    continue;
+                }
+                Path path = dir.path.resolve((Path) event.context());
+                String name = path.toFile().getAbsolutePath();
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                    remove(name);
+                } else if (Files.isDirectory(path)) {
+                    // a new directory must be scanned and registered
+                    reconcileNeeded = true;
+                } else {
+                    pending.put(name, dir.depth);
+                }
+            }
+            if (!key.reset()) {
+                watched.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Whether the file is settled and has not changed since.
+     */
+    public boolean isSettled(File file) {
+        Entry entry = settled.get(file.getAbsolutePath());
+        return entry != null && entry.length == file.length() && entry.lastModified == file.lastModified();
+    }
+
+    /**
+     * Settles the file, so it is not evaluated again until it changes.
+     */
+    public void settle(File file) {
+        String name = file.getAbsolutePath();
+        pending.remove(name);
+        settled.put(name, new Entry(file.length(), file.lastModified()));
+        changed = true;
+    }
+
+    /**
+     * Marks the file as pending, so it is evaluated again on the next poll.
+     */
+    public void pending(File file, int depth) {
+        String name = file.getAbsolutePath();
+        pending.put(name, depth);
+        if (settled.remove(name) != null) {
+            changed = true;
+        }
+    }
+
+    /**
+     * Removes the file from the index, such as when it has been deleted.
+     */
+    public void remove(String name) {
+        pending.remove(name);
+        if (settled.remove(name) != null) {
+            changed = true;
+        }
+    }
+
+    /**
+     * The pending files (absolute path and depth) sorted by their absolute path.
+     */
+    public Map<String, Integer> getPending() {
+        return new TreeMap<>(pending);
+    }
+
+    public int getPendingSize() {
+        return pending.size();
+    }
+
+    public int getSettledSize() {
+        return settled.size();
+    }
+
+    protected void load() throws IOException {
+        if (indexFile == null || !indexFile.exists()) {
+            return;
+        }
+        LOG.debug("Loading directory index from file: {}", indexFile);
+        try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // length, last modified and the name (which can contain tabs) separated by tab
+                int a = line.indexOf('\t');
+                int b = a != -1 ? line.indexOf('\t', a + 1) : -1;
+                if (b == -1) {
+                    continue;
+                }
+                try {
+                    long length = Long.parseLong(line.substring(0, a));
+                    long lastModified = Long.parseLong(line.substring(a + 1, b));
+                    settled.put(line.substring(b + 1), new Entry(length, lastModified));
+                } catch (NumberFormatException e) {
+                    LOG.debug("Skipping invalid line in directory index file: {}", line);
+                }
+            }
+        }
+        LOG.debug("Loaded {} entries from directory index file: {}", settled.size(), indexFile);
+        changed = false;
+    }
+
+    protected void save() throws IOException {
+        if (indexFile == null || !changed) {
+            return;
+        }
+        LOG.debug("Saving {} entries to directory index file: {}", settled.size(), indexFile);
+        File parent = indexFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        // write to a temporary file and rename, so a crash does not leave a partial index
+        File tmp = new File(indexFile.getPath() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> e : settled.entrySet()) {
+                writer.write(Long.toString(e.getValue().length));
+                writer.write('\t');
+                writer.write(Long.toString(e.getValue().lastModified));
+                writer.write('\t');
+                writer.write(e.getKey());
+                writer.newLine();
+            }
+        }
+        FileUtil.renameFile(tmp, indexFile, true);
+        changed = false;
+    }
+
+    private static final class Entry {
+        private final long length;
+        private final long lastModified;
+
+        private Entry(long length, long lastModified) {
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static final class WatchedDirectory {
+        private final Path path;
+        private final int depth;
+
+        private WatchedDirectory(Path path, int depth) {
+            this.path = path;
+            this.depth = depth;
+        }
+    }
+}
@@ -23,7 +23,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(112);
+        Set<String> props = new HashSet<>(115);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -68,6 +68,9 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("kerberosRenewWindowFactor");
         props.add("key");
         props.add("keyDeserializer");
+        props.add("keyOrdered");
+        props.add("keyOrderedConcurrency");
+        props.add("keyOrderedExpression");
         props.add("keySerializer");
         props.add("lazyStartProducer");
         props.add("lingerMs");
@@ -359,6 +359,12 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean batching;
     @UriParam(label = "consumer")
     private Integer batchingIntervalMs;
+    @UriParam(label = "consumer")
+    private boolean keyOrdered;
+    @UriParam(label = "consumer", defaultValue = "10")
+    private int keyOrderedConcurrency = 10;
+    @UriParam(label = "consumer")
+    private String keyOrderedExpression;
 
     @UriParam(label = "producer")
     private String transactionalId;
@@ -2033,6 +2039,50 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.batchingIntervalMs = batchingIntervalMs;
     }
 
+    public boolean isKeyOrdered() {
+        return keyOrdered;
+    }
+
+    /**
+     * Whether to process the records of a partition in parallel, while keeping the order of the records with the same
+     * key. The default is false, which processes the records of a partition one at a time.
+     *
+     * The records are processed by a pool of worker threads (see keyOrderedConcurrency), and the consumer waits for all
+     * records of a poll to complete before it polls again. The offset committed for a partition only advances up to the
+     * lowest record which has not completed. If a record fails with breakOnFirstError, then the records of other keys
+     * which completed after it are consumed again (at-least-once).
+     *
+     * This option cannot be used together with batching or allowManualCommit.
+     */
+    public void setKeyOrdered(boolean keyOrdered) {
+        this.keyOrdered = keyOrdered;
+    }
+
+    public int getKeyOrderedConcurrency() {
+        return keyOrderedConcurrency;
+    }
+
+    /**
+     * In key ordered mode, the number of worker threads that process the records in parallel. The worker threads are
+     * shared by the consumers of the endpoint (see consumersCount).
+     */
+    public void setKeyOrderedConcurrency(int keyOrderedConcurrency) {
+        this.keyOrderedConcurrency = keyOrderedConcurrency;
+    }
+
+    public String getKeyOrderedExpression() {
+        return keyOrderedExpression;
+    }
+
+    /**
+     * In key ordered mode, a simple expression that is evaluated on the exchange of each record to compute the key to
+     * keep the order for, instead of the key of the record. Records for which the key is null are processed without
+     * any ordering.
+     */
+    public void setKeyOrderedExpression(String keyOrderedExpression) {
+        this.keyOrderedExpression = keyOrderedExpression;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
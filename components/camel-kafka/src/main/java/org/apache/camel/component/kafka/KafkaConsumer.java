@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.apache.camel.Expression;
 import org.apache.camel.Processor;
 import org.apache.camel.Suspendable;
 import org.apache.camel.api.management.ManagedAttribute;
@@ -57,6 +58,8 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    private ExecutorService keyOrderedExecutor;
+    private Expression keyOrderedExpression;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -96,6 +99,20 @@ public class KafkaConsumer extends DefaultConsumer
         return (KafkaEndpoint) super.getEndpoint();
     }
 
+    /**
+     * The worker threads which process the records in key ordered mode
+     */
+    public ExecutorService getKeyOrderedExecutor() {
+        return keyOrderedExecutor;
+    }
+
+    /**
+     * The expression which computes the key to keep the order for in key ordered mode, or null to use the record key
+     */
+    public Expression getKeyOrderedExpression() {
+        return keyOrderedExpression;
+    }
+
     private String randomUUID() {
         return UUID.randomUUID().toString();
     }
@@ -148,6 +165,23 @@ public class KafkaConsumer extends DefaultConsumer
             }
         }
 
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.isKeyOrdered()) {
+            if (configuration.isBatching()) {
+                throw new IllegalArgumentException("The keyOrdered option cannot be used together with batching");
+            }
+            if (configuration.isAllowManualCommit()) {
+                // the manual commit would call the Kafka consumer from the worker threads
+                throw new IllegalArgumentException("The keyOrdered option cannot be used together with allowManualCommit");
+            }
+            if (configuration.getKeyOrderedExpression() != null) {
+                keyOrderedExpression = endpoint.getCamelContext().resolveLanguage("simple")
+                        .createExpression(configuration.getKeyOrderedExpression());
+                keyOrderedExpression.init(endpoint.getCamelContext());
+            }
+            keyOrderedExecutor = endpoint.createKeyOrderedExecutor(this);
+        }
+
         executor = endpoint.createExecutor(this);
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -216,6 +250,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (keyOrderedExecutor != null) {
+            // the consumer tasks have stopped, so there are no more records in flight
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(keyOrderedExecutor);
+            keyOrderedExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
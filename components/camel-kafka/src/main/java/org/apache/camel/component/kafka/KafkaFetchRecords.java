@@ -36,6 +36,7 @@ import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFac
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.TopicHelper;
 import org.apache.camel.component.kafka.consumer.support.batching.KafkaRecordBatchingProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.keyordered.KafkaRecordKeyOrderedProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessorFacade;
@@ -450,6 +451,9 @@ public class KafkaFetchRecords implements Runnable {
         if (configuration.isBatching()) {
             return new KafkaRecordBatchingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+        } else if (configuration.isKeyOrdered()) {
+            return new KafkaRecordKeyOrderedProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener);
         } else {
             return new KafkaRecordStreamingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class KafkaRecordKeyOrderedProcessor extends KafkaRecordProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessor.class);
+
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+    private final Expression orderingKey;
+
+    KafkaRecordKeyOrderedProcessor(KafkaConfiguration configuration, Processor processor, Expression orderingKey) {
+        this.configuration = configuration;
+        this.processor = processor;
+        this.orderingKey = orderingKey;
+    }
+
+    /**
+     * Creates the exchange for the record. This happens on the polling thread, so the ordering key can be evaluated
+     * before the record is handed over to a worker thread.
+     */
+    Exchange createExchange(KafkaConsumer camelKafkaConsumer, ConsumerRecord<Object, Object> consumerRecord) {
+        final Exchange exchange = camelKafkaConsumer.createExchange(false);
+
+        Message message = exchange.getMessage();
+
+        setupExchangeMessage(message, consumerRecord);
+
+        propagateHeaders(configuration, consumerRecord, exchange);
+
+        return exchange;
+    }
+
+    /**
+     * The key which the records must be processed in order for
+     */
+    Object getOrderingKey(Exchange exchange, ConsumerRecord<Object, Object> consumerRecord) {
+        Object key = orderingKey != null ? orderingKey.evaluate(exchange, Object.class) : consumerRecord.key();
+        if (key instanceof byte[] bytes) {
+            // arrays do not have equals and hashCode by content
+            return ByteBuffer.wrap(bytes);
+        }
+        return key;
+    }
+
+    ProcessingResult processExchange(
+            KafkaConsumer camelKafkaConsumer, TopicPartition topicPartition, ConsumerRecord<Object, Object> consumerRecord,
+            Exchange exchange) {
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        ProcessingResult result;
+        if (exchange.getException() != null) {
+            LOG.debug("An exception was thrown for consumerRecord at partition {} and offset {}",
+                    consumerRecord.partition(), consumerRecord.offset());
+
+            boolean breakOnErrorExit = processException(exchange, topicPartition, consumerRecord,
+                    camelKafkaConsumer.getExceptionHandler());
+            result = new ProcessingResult(
+                    breakOnErrorExit, true, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        } else {
+            result = new ProcessingResult(
+                    false, false, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        }
+
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return result;
+    }
+
+    private boolean processException(
+            Exchange exchange, TopicPartition topicPartition,
+            ConsumerRecord<Object, Object> consumerRecord, ExceptionHandler exceptionHandler) {
+
+        // processing failed due to an unhandled exception, what should we do
+        if (configuration.isBreakOnFirstError()) {
+            // we are failing and we should break out, the offset is committed by the polling thread
+            // once the other records in flight have completed
+            if (LOG.isWarnEnabled()) {
+                Exception exc = exchange.getException();
+                LOG.warn("Error during processing {} from topic: {} due to {}", exchange, topicPartition.topic(),
+                        exc.getMessage());
+                LOG.warn("Will seek consumer to offset {} on partition {} and start polling again.",
+                        consumerRecord.offset(), consumerRecord.partition());
+            }
+            return true;
+        } else {
+            // will handle/log the exception and then continue to next
+            exceptionHandler.handleException("Error during processing", exchange, exchange.getException());
+        }
+
+        return false;
+    }
+}
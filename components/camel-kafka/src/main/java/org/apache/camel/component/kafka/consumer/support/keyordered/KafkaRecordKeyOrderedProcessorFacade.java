@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records of a partition in parallel, while the records with the same key (or the same value of the
+ * keyOrderedExpression) are processed one at a time in the order of their offsets.
+ *
+ * The records of each key in the partition are handed over to the worker pool as a lane, and the polling thread waits
+ * for all lanes to complete before it commits and polls again, as the Kafka consumer must only be used from the
+ * polling thread. The offset committed for a partition is the last offset before the lowest record that did not
+ * complete, so a record that failed with breakOnFirstError, or was not processed as the consumer is stopping, is
+ * consumed again. Records of other keys that completed after it are then consumed again as well.
+ */
+public class KafkaRecordKeyOrderedProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessorFacade.class);
+
+    private final KafkaRecordKeyOrderedProcessor kafkaRecordProcessor;
+    private final ExecutorService workerPool;
+
+    public KafkaRecordKeyOrderedProcessorFacade(
+                                                KafkaConsumer camelKafkaConsumer, String threadId,
+                                                CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        this.kafkaRecordProcessor = new KafkaRecordKeyOrderedProcessor(
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor(),
+                camelKafkaConsumer.getKeyOrderedExpression());
+        this.workerPool = camelKafkaConsumer.getKeyOrderedExecutor();
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        Set<TopicPartition> partitions = allRecords.partitions();
+        LOG.debug("Poll received records on {} partitions", partitions.size());
+
+        Map<TopicPartition, PartitionOffsetTracker> trackers = new LinkedHashMap<>();
+        List<Future<ProcessingResult>> lanes = new ArrayList<>();
+        AtomicBoolean abort = new AtomicBoolean();
+
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            PartitionOffsetTracker tracker = new PartitionOffsetTracker(partitionRecords);
+            trackers.put(partition, tracker);
+
+            for (List<KeyedRecord> lane : groupByKey(partitionRecords)) {
+                lanes.add(workerPool.submit(() -> processLane(partition, lane, tracker, abort)));
+            }
+        }
+
+        ProcessingResult result = awaitLanes(lanes, abort);
+
+        for (Map.Entry<TopicPartition, PartitionOffsetTracker> entry : trackers.entrySet()) {
+            long offset = entry.getValue().getLastCompletedOffset();
+            if (offset != AbstractCommitManager.START_OFFSET) {
+                commitManager.recordOffset(entry.getKey(), offset);
+            }
+            LOG.debug("Committing offset {} on partition {}", offset, entry.getKey());
+            commitManager.commit(entry.getKey());
+        }
+
+        if (consumerListener != null && result.getTopic() != null) {
+            consumerListener.afterProcess(result);
+        }
+
+        return result;
+    }
+
+    private List<List<KeyedRecord>> groupByKey(List<ConsumerRecord<Object, Object>> partitionRecords) {
+        // records without a key have no order to keep, so each of them gets a lane of its own
+        Map<Object, List<KeyedRecord>> lanes = new LinkedHashMap<>();
+        List<List<KeyedRecord>> answer = new ArrayList<>();
+        for (ConsumerRecord<Object, Object> consumerRecord : partitionRecords) {
+            Exchange exchange = kafkaRecordProcessor.createExchange(camelKafkaConsumer, consumerRecord);
+            KeyedRecord keyedRecord = new KeyedRecord(consumerRecord, exchange);
+
+            Object key = kafkaRecordProcessor.getOrderingKey(exchange, consumerRecord);
+            if (key == null) {
+                answer.add(List.of(keyedRecord));
+            } else {
+                List<KeyedRecord> lane = lanes.get(key);
+                if (lane == null) {
+                    lane = new ArrayList<>();
+                    lanes.put(key, lane);
+                    answer.add(lane);
+                }
+                lane.add(keyedRecord);
+            }
+        }
+        return answer;
+    }
+
+    private ProcessingResult processLane(
+            TopicPartition partition, List<KeyedRecord> lane, PartitionOffsetTracker tracker, AtomicBoolean abort) {
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        int index = 0;
+        while (index < lane.size() && !abort.get() && !isStopping()) {
+            KeyedRecord keyedRecord = lane.get(index++);
+            logRecord(keyedRecord.consumerRecord);
+
+            result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, partition, keyedRecord.consumerRecord,
+                    keyedRecord.exchange);
+            if (result.isBreakOnErrorHit()) {
+                // the following records of this key must not be processed before this one, and the other lanes stop
+                // as well so the consumer can seek back to the failed record
+                abort.set(true);
+            } else {
+                tracker.complete(keyedRecord.consumerRecord.offset());
+            }
+        }
+
+        // release the exchanges of the records which were not processed
+        while (index < lane.size()) {
+            camelKafkaConsumer.releaseExchange(lane.get(index++).exchange, false);
+        }
+        return result;
+    }
+
+    private ProcessingResult awaitLanes(List<Future<ProcessingResult>> lanes, AtomicBoolean abort) {
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        for (Future<ProcessingResult> lane : lanes) {
+            ProcessingResult laneResult;
+            try {
+                laneResult = lane.get();
+            } catch (InterruptedException e) {
+                abort.set(true);
+                throw new InterruptException(e);
+            } catch (ExecutionException e) {
+                abort.set(true);
+                throw new RuntimeCamelException(e.getCause());
+            }
+            // the result to report is a break on error first, then a failure, and otherwise any processed record
+            if (laneResult.getTopic() != null && !result.isBreakOnErrorHit()
+                    && (laneResult.isBreakOnErrorHit() || laneResult.isFailed() || !result.isFailed())) {
+                result = laneResult;
+            }
+        }
+        return result;
+    }
+
+    private static final class KeyedRecord {
+        private final ConsumerRecord<Object, Object> consumerRecord;
+        private final Exchange exchange;
+
+        private KeyedRecord(ConsumerRecord<Object, Object> consumerRecord, Exchange exchange) {
+            this.consumerRecord = consumerRecord;
+            this.exchange = exchange;
+        }
+    }
+}
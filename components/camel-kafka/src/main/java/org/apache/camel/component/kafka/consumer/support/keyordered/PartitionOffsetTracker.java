@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Tracks which of the records polled from a partition have completed, when the records are processed out of order.
+ * The offset that is safe to commit is the last offset before the lowest record that has not completed yet.
+ */
+final class PartitionOffsetTracker {
+    private final long[] offsets;
+    private final boolean[] completed;
+    private int next;
+
+    PartitionOffsetTracker(List<ConsumerRecord<Object, Object>> partitionRecords) {
+        // the records of a partition are polled in offset order
+        this.offsets = partitionRecords.stream().mapToLong(ConsumerRecord::offset).toArray();
+        this.completed = new boolean[offsets.length];
+    }
+
+    /**
+     * Marks the record with the given offset as completed
+     *
+     * @param offset the offset of the record
+     */
+    synchronized void complete(long offset) {
+        int index = Arrays.binarySearch(offsets, offset);
+        if (index >= 0) {
+            completed[index] = true;
+            while (next < completed.length && completed[next]) {
+                next++;
+            }
+        }
+    }
+
+    /**
+     * The last offset for which this record and all the records before it have completed
+     *
+     * @return the offset, or {@link AbstractCommitManager#START_OFFSET} if the first record has not completed
+     */
+    synchronized long getLastCompletedOffset() {
+        return next == 0 ? AbstractCommitManager.START_OFFSET : offsets[next - 1];
+    }
+}
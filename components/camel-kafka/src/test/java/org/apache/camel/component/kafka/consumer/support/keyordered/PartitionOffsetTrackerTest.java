@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PartitionOffsetTrackerTest {
+
+    private static List<ConsumerRecord<Object, Object>> records(long... offsets) {
+        return LongStream.of(offsets)
+                .mapToObj(offset -> new ConsumerRecord<Object, Object>("topic", 0, offset, "key", "value"))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Tests that nothing can be committed before the first record completes")
+    void nothingCompleted() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(records(10, 11, 12));
+
+        assertEquals(AbstractCommitManager.START_OFFSET, tracker.getLastCompletedOffset());
+
+        tracker.complete(12);
+        tracker.complete(11);
+        assertEquals(AbstractCommitManager.START_OFFSET, tracker.getLastCompletedOffset());
+    }
+
+    @Test
+    @DisplayName("Tests that the offset only advances up to the lowest record which has not completed")
+    void completedOutOfOrder() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(records(10, 11, 12, 13));
+
+        tracker.complete(10);
+        tracker.complete(12);
+        assertEquals(10, tracker.getLastCompletedOffset());
+
+        tracker.complete(11);
+        assertEquals(12, tracker.getLastCompletedOffset());
+
+        tracker.complete(13);
+        assertEquals(13, tracker.getLastCompletedOffset());
+    }
+
+    @Test
+    @DisplayName("Tests that gaps between the offsets of the polled records are skipped")
+    void offsetGaps() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(records(5, 8, 20));
+
+        tracker.complete(8);
+        tracker.complete(5);
+        assertEquals(8, tracker.getLastCompletedOffset());
+
+        // an offset which was not polled is ignored
+        tracker.complete(9);
+        assertEquals(8, tracker.getLastCompletedOffset());
+
+        tracker.complete(20);
+        assertEquals(20, tracker.getLastCompletedOffset());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.integration.common.KafkaTestUtil;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerKeyOrderedIT extends BaseKafkaTestSupport {
+
+    public static final String TOPIC = "test-key-ordered";
+
+    private static final int KEYS = 5;
+    private static final int RECORDS_PER_KEY = 20;
+
+    private final Map<String, List<String>> received = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> threads = new ConcurrentHashMap<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                fromF("kafka:%s?brokers=%s&autoOffsetReset=earliest&autoCommitEnable=false&keyOrdered=true&keyOrderedConcurrency=5",
+                        TOPIC, service.getBootstrapServers())
+                        .routeId("foo")
+                        .process(exchange -> {
+                            threads.put(Thread.currentThread().getName(), Boolean.TRUE);
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+                            String key = exchange.getMessage().getHeader(KafkaConstants.KEY, String.class);
+                            received.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                                    .add(exchange.getMessage().getBody(String.class));
+                        })
+                        .to(KafkaTestUtil.MOCK_RESULT);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesAreProcessedInOrderPerKey() throws Exception {
+        MockEndpoint to = contextExtension.getMockEndpoint(KafkaTestUtil.MOCK_RESULT);
+        to.expectedMessageCount(KEYS * RECORDS_PER_KEY);
+
+        for (int i = 0; i < RECORDS_PER_KEY; i++) {
+            for (int k = 0; k < KEYS; k++) {
+                producer.send(new ProducerRecord<>(TOPIC, "key" + k, "key" + k + "-" + i));
+            }
+        }
+
+        to.assertIsSatisfied();
+
+        assertEquals(KEYS, received.size());
+        for (int k = 0; k < KEYS; k++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < RECORDS_PER_KEY; i++) {
+                expected.add("key" + k + "-" + i);
+            }
+            assertEquals(expected, received.get("key" + k), "The records of key" + k + " must be processed in order");
+        }
+        assertTrue(threads.size() > 1, "The records should be processed by more than one worker thread");
+    }
+}
@@ -23,7 +23,9 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(22);
+        props.add("batchGrouped");
+        props.add("batchSize");
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
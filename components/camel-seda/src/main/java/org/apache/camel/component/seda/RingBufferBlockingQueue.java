@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link BlockingQueue} backed by a multi-producer single-consumer ring buffer.
+ * <p/>
+ * Producers claim a slot by a CAS on the tail sequence and publish the element by advancing the per-slot sequence, so
+ * offering never takes a lock. Consumers are serialized by a lock which is uncontended when the SEDA endpoint has a
+ * single consumer thread, and which allows {@link #drainTo(Collection, int)} to take many elements in one go. Threads
+ * only block (and producers only signal) when the queue is empty or full.
+ * <p/>
+ * {@link #remove(Object)} leaves a tombstone in the slot which consumers skip, and {@link #iterator()} returns a
+ * snapshot of the current elements.
+ *
+ * @param <E> Element type, usually {@link org.apache.camel.Exchange}
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    // number of tombstones between head and tail
+    private final AtomicInteger removed = new AtomicInteger();
+
+    private final Lock consumerLock = new ReentrantLock();
+    private final Lock signalLock = new ReentrantLock();
+    private final Condition notEmpty = signalLock.newCondition();
+    private final Condition notFull = signalLock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    public RingBufferBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.capacity = capacity;
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        while (true) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (pos - head.get() >= capacity) {
+                    return false;
+                }
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements[index] = e;
+                    sequences.set(index, pos + 1);
+                    if (waitingConsumers.get() > 0) {
+                        signal(notEmpty);
+                    }
+                    return true;
+                }
+            } else if (diff < 0) {
+                if (pos - head.get() >= capacity) {
+                    // the slot has not been consumed yet, so we are full
+                    return false;
+                }
+                // the consumer is about to release the slot
+                Thread.onSpinWait();
+            }
+            // another producer claimed the slot, so try again
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        while (!offer(e)) {
+            awaitNotFull(Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            awaitNotFull(remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        consumerLock.lock();
+        try {
+            return doPoll();
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E answer;
+        while ((answer = poll()) == null) {
+            awaitNotEmpty(Long.MAX_VALUE);
+        }
+        return answer;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E answer;
+        while ((answer = poll()) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            awaitNotEmpty(remaining);
+        }
+        return answer;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        int count = 0;
+        consumerLock.lock();
+        try {
+            E e;
+            while (count < maxElements && (e = doPoll()) != null) {
+                c.add(e);
+                count++;
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        consumerLock.lock();
+        try {
+            long pos = head.get();
+            while (true) {
+                int index = (int) pos & mask;
+                if (sequences.get(index) != pos + 1) {
+                    return null;
+                }
+                Object e = elements[index];
+                if (e != REMOVED) {
+                    return (E) e;
+                }
+                pos++;
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        consumerLock.lock();
+        try {
+            long end = tail.get();
+            for (long pos = head.get(); pos < end; pos++) {
+                int index = (int) pos & mask;
+                if (sequences.get(index) == pos + 1 && o.equals(elements[index])) {
+                    // only consumers touch a published slot, and they hold the lock
+                    elements[index] = REMOVED;
+                    removed.incrementAndGet();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        consumerLock.lock();
+        try {
+            while (doPoll() != null) {
+                // noop
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the elements currently in the queue. Removing via the iterator is not supported.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        consumerLock.lock();
+        try {
+            long end = tail.get();
+            for (long pos = head.get(); pos < end; pos++) {
+                int index = (int) pos & mask;
+                if (sequences.get(index) != pos + 1) {
+                    // not yet published
+                    break;
+                }
+                Object e = elements[index];
+                if (e != REMOVED) {
+                    answer.add((E) e);
+                }
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - head.get() - removed.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * The maximum number of elements this queue can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E doPoll() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            if (sequences.get(index) != pos + 1) {
+                // empty, or the producer has claimed the slot but not published yet
+                return null;
+            }
+            Object e = elements[index];
+            elements[index] = null;
+            head.set(pos + 1);
+            sequences.set(index, pos + mask + 1);
+            if (waitingProducers.get() > 0) {
+                signal(notFull);
+            }
+            if (e != REMOVED) {
+                return (E) e;
+            }
+            removed.decrementAndGet();
+        }
+    }
+
+    private void awaitNotEmpty(long nanos) throws InterruptedException {
+        waitingConsumers.incrementAndGet();
+        signalLock.lock();
+        try {
+            // re-check after registering as waiter so a concurrent offer cannot be missed
+            if (isEmptyForConsumer()) {
+                notEmpty.awaitNanos(nanos);
+            }
+        } finally {
+            signalLock.unlock();
+            waitingConsumers.decrementAndGet();
+        }
+    }
+
+    private void awaitNotFull(long nanos) throws InterruptedException {
+        waitingProducers.incrementAndGet();
+        signalLock.lock();
+        try {
+            // re-check after registering as waiter so a concurrent poll cannot be missed
+            if (tail.get() - head.get() >= capacity) {
+                notFull.awaitNanos(nanos);
+            }
+        } finally {
+            signalLock.unlock();
+            waitingProducers.decrementAndGet();
+        }
+    }
+
+    private boolean isEmptyForConsumer() {
+        long pos = head.get();
+        return sequences.get((int) pos & mask) != pos + 1;
+    }
+
+    private void signal(Condition condition) {
+        signalLock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+}
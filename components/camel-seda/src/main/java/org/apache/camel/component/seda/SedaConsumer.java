@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -25,14 +26,17 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeExtension;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -54,10 +58,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final boolean batchGrouped;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchGrouped = endpoint.isBatchGrouped();
     }
 
     @Override
@@ -181,16 +189,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        final Exchange original = exchange;
-                        // prepare the exchange before sending to consumer
-                        final Exchange prepared = prepareExchange(exchange);
-                        // callback to be executed when sending to consumer and processing is done
-                        AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
-                        // process the exchange
-                        sendToConsumers(prepared, callback);
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 1) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -210,6 +212,87 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        try {
+            final Exchange original = exchange;
+            // prepare the exchange before sending to consumer
+            final Exchange prepared = prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
+            // process the exchange
+            sendToConsumers(prepared, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    private void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        // take any further waiting exchanges in one go, so we do not wake up once per exchange
+        final List<Exchange> batch = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        final int total = batch.size();
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Drained {} exchanges from queue {}", total, ObjectHelper.getIdentityHashCode(queue));
+        }
+
+        if (batchGrouped) {
+            processGroupedBatch(batch);
+            return;
+        }
+
+        for (int i = 0; i < total; i++) {
+            Exchange exchange = batch.get(i);
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == total - 1);
+            processExchange(exchange);
+        }
+    }
+
+    private void processGroupedBatch(List<Exchange> batch) {
+        final List<Exchange> originals = new ArrayList<>(batch.size());
+        final List<Exchange> prepared = new ArrayList<>(batch.size());
+        for (Exchange exchange : batch) {
+            if (ExchangeHelper.isOutCapable(exchange)) {
+                // there is no reply per sender from the grouped exchange, so reject rather than reply with the request
+                exchange.setException(new CamelExchangeException(
+                        "Cannot reply to a request/reply exchange when batchGrouped is enabled", exchange));
+                UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+            } else {
+                originals.add(exchange);
+                prepared.add(prepareExchange(exchange));
+            }
+        }
+        if (originals.isEmpty()) {
+            return;
+        }
+        final Exchange grouped = prepareExchange(getEndpoint().createExchange());
+        grouped.getMessage().setBody(prepared);
+        try {
+            // callback to be executed when the grouped exchange is done, which then completes the grouped exchanges
+            AsyncCallback callback = doneSync -> onBatchDone(originals, grouped);
+            sendToConsumers(grouped, callback);
+        } catch (Exception e) {
+            grouped.setException(e);
+            onBatchDone(originals, grouped);
+        }
+    }
+
+    private void onBatchDone(List<Exchange> batch, Exchange grouped) {
+        // log exception once if an exception occurred and was not handled
+        onProcessingDone(grouped, grouped);
+
+        for (Exchange original : batch) {
+            if (grouped.getException() != null && original.getException() == null) {
+                // let the senders know that their messages failed
+                original.setException(grouped.getException());
+            }
+            // the grouped exchanges did not have their own unit of work, so we must done their completions
+            UnitOfWorkHelper.doneSynchronizations(original, original.getExchangeExtension().handoverCompletions());
+        }
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
@@ -99,6 +99,16 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can check whether it is"
                             + " allowed to continue running. Setting a lower value allows the consumer to react more quickly upon shutdown.")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages a consumer thread takes from the queue per poll. When set higher than 1, the"
+                            + " consumer drains any further waiting messages together with the first one, and processes them as a batch with"
+                            + " the batch index, size and completion exchange properties set.")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether to route each batch of messages (see batchSize) as a single exchange with the list of exchanges as"
+                            + " message body, instead of routing the messages one by one. This cannot be used with request/reply"
+                            + " messages, which are rejected, or together with waitForTaskToComplete=Always.")
+    private boolean batchGrouped;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected",
               description = "Option to specify whether the caller should wait for the async task to complete or not before continuing. The"
@@ -526,6 +536,34 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages a consumer thread takes from the queue per poll. When set higher than 1, the
+     * consumer drains any further waiting messages together with the first one, and processes them as a batch with the
+     * batch index, size and completion exchange properties set.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchGrouped() {
+        return batchGrouped;
+    }
+
+    /**
+     * Whether to route each batch of messages (see batchSize) as a single exchange with the list of exchanges as
+     * message body, instead of routing the messages one by one. This cannot be used with request/reply messages, which
+     * are rejected, or together with waitForTaskToComplete=Always.
+     */
+    public void setBatchGrouped(boolean batchGrouped) {
+        this.batchGrouped = batchGrouped;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -611,6 +649,11 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
                     "Cannot enable both discardWhenFull=true and blockWhenFull=true."
                                                + " You can only either discard or block when full.");
         }
+        if (batchGrouped && waitForTaskToComplete == WaitForTaskToComplete.Always) {
+            throw new IllegalArgumentException(
+                    "Cannot enable both batchGrouped=true and waitForTaskToComplete=Always."
+                                               + " The grouped exchange cannot reply to each of the senders.");
+        }
     }
 
     @Override
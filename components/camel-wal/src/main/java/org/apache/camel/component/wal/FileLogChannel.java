@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A log channel that writes the records directly through the {@link FileChannel}
+ */
+final class FileLogChannel implements LogChannel {
+    private final FileChannel fileChannel;
+
+    FileLogChannel(FileChannel fileChannel) {
+        this.fileChannel = fileChannel;
+    }
+
+    @Override
+    public long position() throws IOException {
+        return fileChannel.position();
+    }
+
+    @Override
+    public void position(long position) throws IOException {
+        fileChannel.position(position);
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer) throws IOException {
+        return IOUtil.write(fileChannel, byteBuffer);
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer, long position) throws IOException {
+        return IOUtil.write(fileChannel, byteBuffer, position);
+    }
+
+    @Override
+    public void truncate(long size) throws IOException {
+        fileChannel.truncate(size);
+    }
+
+    @Override
+    public void force() throws IOException {
+        fileChannel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
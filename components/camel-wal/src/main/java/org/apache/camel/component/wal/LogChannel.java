@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The storage used by the {@link LogWriter} to write the records of the transaction log
+ */
+interface LogChannel extends AutoCloseable {
+
+    /**
+     * Gets the position where the next appended record will be written
+     *
+     * @return             the current position
+     * @throws IOException in case of I/O errors
+     */
+    long position() throws IOException;
+
+    /**
+     * Sets the position where the next appended record will be written
+     *
+     * @param  position    the new position
+     * @throws IOException in case of I/O errors
+     */
+    void position(long position) throws IOException;
+
+    /**
+     * Writes the buffer at the current position, advancing it and clearing the source after completion
+     *
+     * @param  byteBuffer  the buffer containing the bytes to write
+     * @return             the number of bytes written
+     * @throws IOException in case of I/O errors
+     */
+    long write(ByteBuffer byteBuffer) throws IOException;
+
+    /**
+     * Writes the buffer at a given position, clearing the source after completion
+     *
+     * @param  byteBuffer  the buffer containing the bytes to write
+     * @param  position    the position to write to
+     * @return             the number of bytes written
+     * @throws IOException in case of I/O errors
+     */
+    long write(ByteBuffer byteBuffer, long position) throws IOException;
+
+    /**
+     * Discards everything written after the given size
+     *
+     * @param  size        the size to truncate to
+     * @throws IOException in case of I/O errors
+     */
+    void truncate(long size) throws IOException;
+
+    /**
+     * Forces the written data to the storage device
+     *
+     * @throws IOException in case of I/O errors
+     */
+    void force() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
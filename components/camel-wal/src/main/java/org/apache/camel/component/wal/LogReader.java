@@ -144,6 +144,10 @@ public class LogReader implements AutoCloseable {
         }
 
         int state = ioBuffer.getInt();
+        if (state == 0) {
+            // the zero-filled tail of a memory-mapped log that was not closed: there are no more records
+            return null;
+        }
 
         Slot keySlot = readSlot();
         Slot valueSlot = readSlot();
@@ -19,10 +19,16 @@ package org.apache.camel.component.wal;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -32,7 +38,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A writer for write-ahead log files
+ * A writer for write-ahead log files.
+ * <p>
+ * By default, the records are written through the file channel and forced to disk by the {@link LogSupervisor}. When
+ * group commit is enabled, {@link #append(LogEntry)} only returns after the record was forced to disk: concurrent
+ * appends (and the state updates written in the meantime) are coalesced into a single force, waiting at most the
+ * configured latency for the writers that are still appending to join. The records can also be written into a memory-mapped segment of the
+ * file, which avoids a system call per write.
  */
 public final class LogWriter implements AutoCloseable {
     /**
@@ -41,8 +53,24 @@ public final class LogWriter implements AutoCloseable {
     public static final int DEFAULT_CAPACITY = 1024 * 512;
     private static final Logger LOG = LoggerFactory.getLogger(LogWriter.class);
 
+    /**
+     * The default size of the memory-mapped segments: 8 MiB
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 1024 * 1024 * 8;
+
     private final Lock lock = new ReentrantLock();
-    private final FileChannel fileChannel;
+    private final LogChannel logChannel;
+
+    private final boolean groupCommit;
+    private final long groupCommitLatency;
+    private final Lock commitLock = new ReentrantLock();
+    private final Condition committed = commitLock.newCondition();
+    private final Condition joined = commitLock.newCondition();
+    private final AtomicInteger pendingWriters = new AtomicInteger();
+    private final LongAdder groupCommitCount = new LongAdder();
+    private final AtomicLong writeSequence = new AtomicLong();
+    private long durableSequence;
+    private boolean committing;
 
     private final LogSupervisor flushPolicy;
     private final TransactionLog transactionLog;
@@ -72,8 +100,41 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException    in case of I/O errors
      */
     LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount) throws IOException {
-        this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+        this(logFile, logSupervisor, maxRecordCount, false, 0, 0);
+    }
+
+    /**
+     * Constructs a new log writer with the default capacity {@link LogWriter#DEFAULT_CAPACITY} (512 KiB). If the file
+     * already exists, it will be truncated.
+     *
+     * @param  logFile            the transaction log file
+     * @param  logSupervisor      the log supervisor {@link LogSupervisor} for the writer
+     * @param  groupCommit        whether to force the appended records to disk before returning, coalescing concurrent
+     *                            writers into a single force
+     * @param  groupCommitLatency the maximum time (in milliseconds) to wait for other writers to join a group commit
+     * @param  segmentSize        the size of the memory-mapped segments used to write the file or 0 to write through
+     *                            the file channel
+     * @throws IOException        in case of I/O errors
+     */
+    public LogWriter(File logFile, LogSupervisor logSupervisor, boolean groupCommit, long groupCommitLatency,
+                     long segmentSize) throws IOException {
+        this(logFile, logSupervisor, DEFAULT_CAPACITY, groupCommit, groupCommitLatency, segmentSize);
+    }
+
+    LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount, boolean groupCommit, long groupCommitLatency,
+              long segmentSize) throws IOException {
+        if (segmentSize > 0) {
+            final FileChannel fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.logChannel = new MappedLogChannel(fileChannel, segmentSize);
+        } else {
+            final FileChannel fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.logChannel = new FileLogChannel(fileChannel);
+        }
+
+        this.groupCommit = groupCommit;
+        this.groupCommitLatency = TimeUnit.MILLISECONDS.toNanos(groupCommitLatency);
 
         final Header header = Header.WA_DEFAULT_V1;
         writeHeader(header);
@@ -89,24 +150,45 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException in case of I/O errors
      */
     void flush() throws IOException {
-        fileChannel.force(true);
+        logChannel.force();
     }
 
     private void tryFlush() {
-        lock.lock();
+        // no need to hold the write lock: forcing the channel does not block the writers in the meantime
         try {
             flush();
         } catch (IOException e) {
             LOG.error("Unable to save record: {}", e.getMessage(), e);
             throw new RuntimeException(e);
+        }
+    }
+
+    public void reset() throws IOException {
+        lock.lock();
+        try {
+            logChannel.truncate(startOfRecords);
+            logChannel.position(startOfRecords);
         } finally {
             lock.unlock();
         }
     }
 
-    public void reset() throws IOException {
-        fileChannel.truncate(startOfRecords);
-        fileChannel.position(startOfRecords);
+    /**
+     * Whether appended records are forced to disk in group commits before returning
+     *
+     * @return true if group commit is enabled or false otherwise
+     */
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    /**
+     * Gets the number of group commits (forces to disk) done on behalf of the appending threads
+     *
+     * @return the number of group commits
+     */
+    public long getGroupCommitCount() {
+        return groupCommitCount.sum();
     }
 
     @Override
@@ -115,7 +197,12 @@ public final class LogWriter implements AutoCloseable {
             flushPolicy.stop();
             flush();
 
-            fileChannel.close();
+            lock.lock();
+            try {
+                logChannel.close();
+            } finally {
+                lock.unlock();
+            }
         } catch (IOException e) {
             LOG.error(e.getMessage(), e);
         }
@@ -127,9 +214,9 @@ public final class LogWriter implements AutoCloseable {
         headerBuffer.put(header.getFormatName().getBytes());
         headerBuffer.putInt(header.getFileVersion());
 
-        IOUtil.write(fileChannel, headerBuffer);
+        logChannel.write(headerBuffer);
 
-        startOfRecords = fileChannel.position();
+        startOfRecords = logChannel.position();
     }
 
     /**
@@ -140,6 +227,83 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException for lower-level I/O errors
      */
     public EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException {
+        final EntryInfo.CachedEntryInfo entryInfo;
+        final long sequence;
+
+        if (groupCommit) {
+            pendingWriters.incrementAndGet();
+        }
+
+        lock.lock();
+        try {
+            entryInfo = doAppend(entry);
+            sequence = writeSequence.incrementAndGet();
+        } finally {
+            lock.unlock();
+            if (groupCommit) {
+                pendingWriters.decrementAndGet();
+            }
+        }
+
+        if (groupCommit) {
+            awaitCommit(sequence);
+        }
+
+        return entryInfo;
+    }
+
+    /**
+     * Waits until a group commit forces the write with the given sequence to disk. The first thread to arrive leads the
+     * commit: as long as other writers are still appending, it waits up to the configured latency for them to join and
+     * then forces everything written so far. The other threads wait for the commit in progress and either find their
+     * writes covered by it or lead the next one.
+     *
+     * @param  sequence    the sequence of the write
+     * @throws IOException in case of I/O errors or if interrupted while waiting
+     */
+    private void awaitCommit(long sequence) throws IOException {
+        commitLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (committing) {
+                    // let the leader know this write joined, so it does not wait for it any longer
+                    joined.signal();
+                    committed.await();
+                    continue;
+                }
+
+                committing = true;
+                try {
+                    // no point in waiting when nobody else is appending
+                    long remaining = groupCommitLatency;
+                    while (remaining > 0 && pendingWriters.get() > 0) {
+                        remaining = joined.awaitNanos(remaining);
+                    }
+
+                    final long target = writeSequence.get();
+                    commitLock.unlock();
+                    try {
+                        flush();
+                    } finally {
+                        commitLock.lock();
+                    }
+
+                    durableSequence = Math.max(durableSequence, target);
+                    groupCommitCount.increment();
+                } finally {
+                    committing = false;
+                    committed.signalAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the group commit");
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private EntryInfo.CachedEntryInfo doAppend(LogEntry entry) throws IOException {
         final TransactionLog.LayerInfo layerInfo = transactionLog.add(entry);
         if (layerInfo.getLayer() == 0) {
             return persist(layerInfo, entry);
@@ -149,7 +313,7 @@ public final class LogWriter implements AutoCloseable {
             reset();
         }
 
-        LOG.trace("Writing at position {}", fileChannel.position());
+        LOG.trace("Writing at position {}", logChannel.position());
         EntryInfo.CachedEntryInfo spear = persist(layerInfo, entry);
 
         final List<EntryInfo> collect = transactionLog.stream()
@@ -159,11 +323,11 @@ public final class LogWriter implements AutoCloseable {
         if (!collect.isEmpty()) {
             final EntryInfo lastOnLayer = collect.get(0);
 
-            LOG.trace("Current pos is: {}", fileChannel.position());
+            LOG.trace("Current pos is: {}", logChannel.position());
             LOG.trace("Next pos should be: {}", lastOnLayer.getPosition());
 
-            fileChannel.position(lastOnLayer.getPosition());
-            LOG.trace("Current pos now is: {}", fileChannel.position());
+            logChannel.position(lastOnLayer.getPosition());
+            LOG.trace("Current pos now is: {}", logChannel.position());
         }
 
         return spear;
@@ -186,7 +350,7 @@ public final class LogWriter implements AutoCloseable {
             LOG.trace("Position: {} for record {} with key {}", position, layerInfo, new String(entry.getKey()));
         }
 
-        long size = IOUtil.write(fileChannel, updateBuffer, position);
+        long size = logChannel.write(updateBuffer, position);
 
         if (size == 0) {
             LOG.warn("No bytes written for the given record!");
@@ -208,8 +372,8 @@ public final class LogWriter implements AutoCloseable {
         ByteBuffer writeBuffer = ByteBuffer.allocate(LogEntry.size(key, value));
         IOUtil.serialize(writeBuffer, entry);
 
-        long recordPosition = fileChannel.position();
-        IOUtil.write(fileChannel, writeBuffer);
+        long recordPosition = logChannel.position();
+        logChannel.write(writeBuffer);
 
         return EntryInfo.createForCached(recordPosition, layerInfo);
     }
@@ -241,16 +405,22 @@ public final class LogWriter implements AutoCloseable {
 
         /*
          If it has layer information, then it's a hot record kept in the cache. In this case, just
-         update the cache and let the LogSupervisor flush to disk.
+         update the cache and let the LogSupervisor (or the next group commit) flush to disk.
 
          Trying to update a persisted entry here is not acceptable
          */
         assert layerInfo != null;
 
-        final LogEntry logEntry = transactionLog.update(layerInfo, state);
+        lock.lock();
+        try {
+            final LogEntry logEntry = transactionLog.update(layerInfo, state);
 
-        if (logEntry != null) {
-            persist(layerInfo, logEntry, entryInfo.getPosition());
+            if (logEntry != null) {
+                persist(layerInfo, logEntry, entryInfo.getPosition());
+                writeSequence.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -273,7 +443,14 @@ public final class LogWriter implements AutoCloseable {
             LOG.trace("Position: {} with key {}", entryInfo.getPosition(), new String(entry.getKey()));
         }
 
-        long size = IOUtil.write(fileChannel, updateBuffer, entryInfo.getPosition());
+        final long size;
+        lock.lock();
+        try {
+            size = logChannel.write(updateBuffer, entryInfo.getPosition());
+            writeSequence.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
 
         if (size == 0) {
             LOG.warn("No bytes written for the given record!");
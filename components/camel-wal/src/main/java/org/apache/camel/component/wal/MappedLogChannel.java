@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A log channel that writes the records into a memory-mapped region of the file. The region is pre-allocated in
+ * segments of a fixed size and grows by another segment whenever a write would not fit in it. Because the unused part
+ * of the region is filled with zeros, the {@link LogReader} treats a record with a zero state as the end of the log.
+ * When closed, the file is truncated to the size of the data actually written.
+ */
+final class MappedLogChannel implements LogChannel {
+    private static final Logger LOG = LoggerFactory.getLogger(MappedLogChannel.class);
+    private static final byte[] ZEROS = new byte[4096];
+
+    private final FileChannel fileChannel;
+    private final long segmentSize;
+    private volatile MappedByteBuffer mappedBuffer;
+    private long position;
+    private long limit;
+
+    MappedLogChannel(FileChannel fileChannel, long segmentSize) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("The segment size must be greater than zero");
+        }
+
+        this.fileChannel = fileChannel;
+        this.segmentSize = segmentSize;
+        this.mappedBuffer = map(segmentSize);
+    }
+
+    private MappedByteBuffer map(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The transaction log cannot be mapped beyond " + Integer.MAX_VALUE + " bytes");
+        }
+
+        LOG.trace("Mapping {} bytes of the transaction log", size);
+        return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void ensureCapacity(long required) throws IOException {
+        if (required > mappedBuffer.capacity()) {
+            final long segments = (required + segmentSize - 1) / segmentSize;
+
+            mappedBuffer = map(segments * segmentSize);
+        }
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void position(long position) {
+        this.position = position;
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer) throws IOException {
+        final long bytesWritten = write(byteBuffer, position);
+
+        position += bytesWritten;
+        return bytesWritten;
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer, long position) throws IOException {
+        byteBuffer.flip();
+
+        final int length = byteBuffer.remaining();
+        ensureCapacity(position + length);
+        mappedBuffer.put((int) position, byteBuffer, byteBuffer.position(), length);
+        limit = Math.max(limit, position + length);
+
+        byteBuffer.clear();
+        return length;
+    }
+
+    @Override
+    public void truncate(long size) {
+        // zero the discarded records, so that they are not read back if the process crashes before closing
+        for (long i = size; i < limit; i += ZEROS.length) {
+            final int length = (int) Math.min(ZEROS.length, limit - i);
+
+            mappedBuffer.put((int) i, ZEROS, 0, length);
+        }
+
+        limit = Math.min(limit, size);
+        position = Math.min(position, size);
+    }
+
+    @Override
+    public void force() {
+        mappedBuffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            mappedBuffer.force();
+            fileChannel.truncate(limit);
+        } finally {
+            fileChannel.close();
+        }
+    }
+}
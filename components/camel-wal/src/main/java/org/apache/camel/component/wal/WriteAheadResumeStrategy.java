@@ -315,7 +315,15 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
             DefaultLogSupervisor flushPolicy = new DefaultLogSupervisor(
                     resumeStrategyConfiguration.getSupervisorInterval(),
                     executorService);
-            logWriter = new LogWriter(logFile, flushPolicy);
+            long segmentSize = 0;
+            if (resumeStrategyConfiguration.isMemoryMapped()) {
+                segmentSize = resumeStrategyConfiguration.getSegmentSize() > 0
+                        ? resumeStrategyConfiguration.getSegmentSize() : LogWriter.DEFAULT_SEGMENT_SIZE;
+            }
+
+            logWriter = new LogWriter(
+                    logFile, flushPolicy, resumeStrategyConfiguration.isGroupCommit(),
+                    resumeStrategyConfiguration.getGroupCommitLatency(), segmentSize);
         } catch (Exception e) {
             throw new RuntimeCamelException(e);
         }
@@ -24,10 +24,15 @@ import org.apache.camel.resume.ResumeStrategyConfiguration;
 
 public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfiguration {
     public static final long DEFAULT_SUPERVISOR_INTERVAL = 100;
+    public static final long DEFAULT_GROUP_COMMIT_LATENCY = 1;
 
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private boolean groupCommit;
+    private long groupCommitLatency;
+    private boolean memoryMapped;
+    private long segmentSize;
 
     public File getLogFile() {
         return logFile;
@@ -53,6 +58,38 @@ public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfigu
         this.supervisorInterval = supervisorInterval;
     }
 
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public long getGroupCommitLatency() {
+        return groupCommitLatency;
+    }
+
+    void setGroupCommitLatency(long groupCommitLatency) {
+        this.groupCommitLatency = groupCommitLatency;
+    }
+
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    void setMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
     @Override
     public String resumeStrategyService() {
         return "write-ahead-resume-strategy";
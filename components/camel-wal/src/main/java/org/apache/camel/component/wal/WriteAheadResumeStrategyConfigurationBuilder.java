@@ -28,6 +28,10 @@ public class WriteAheadResumeStrategyConfigurationBuilder
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private boolean groupCommit;
+    private long groupCommitLatency;
+    private boolean memoryMapped;
+    private long segmentSize;
 
     /**
      * The transaction log file to use
@@ -53,6 +57,56 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         return this;
     }
 
+    /**
+     * Whether to force the log entries to disk before updating the delegate strategy. Concurrent updates are coalesced
+     * into a single force (group commit), instead of relying only on the periodic flush of the supervisor
+     *
+     * @param  groupCommit true to enable group commit
+     * @return             this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+
+        return this;
+    }
+
+    /**
+     * The maximum time (in milliseconds) a group commit waits for other updates to join it before forcing the log to
+     * disk
+     *
+     * @param  groupCommitLatency the latency budget in milliseconds
+     * @return                    this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommitLatency(long groupCommitLatency) {
+        this.groupCommitLatency = groupCommitLatency;
+
+        return this;
+    }
+
+    /**
+     * Whether to write the transaction log into memory-mapped segments of the file
+     *
+     * @param  memoryMapped true to use memory-mapped writes
+     * @return              this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+
+        return this;
+    }
+
+    /**
+     * The size (in bytes) of the memory-mapped segments. The mapping grows by this size when it is full
+     *
+     * @param  segmentSize the segment size in bytes
+     * @return             this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+
+        return this;
+    }
+
     @Override
     public WriteAheadResumeStrategyConfiguration build() {
         final WriteAheadResumeStrategyConfiguration writeAheadResumeStrategyConfiguration
@@ -63,6 +117,10 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         writeAheadResumeStrategyConfiguration.setLogFile(logFile);
         writeAheadResumeStrategyConfiguration.setDelegateResumeStrategy(delegateResumeStrategy);
         writeAheadResumeStrategyConfiguration.setSupervisorInterval(supervisorInterval);
+        writeAheadResumeStrategyConfiguration.setGroupCommit(groupCommit);
+        writeAheadResumeStrategyConfiguration.setGroupCommitLatency(groupCommitLatency);
+        writeAheadResumeStrategyConfiguration.setMemoryMapped(memoryMapped);
+        writeAheadResumeStrategyConfiguration.setSegmentSize(segmentSize);
 
         return writeAheadResumeStrategyConfiguration;
     }
@@ -85,6 +143,8 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         WriteAheadResumeStrategyConfigurationBuilder builder = new WriteAheadResumeStrategyConfigurationBuilder();
 
         builder.withSupervisorInterval(WriteAheadResumeStrategyConfiguration.DEFAULT_SUPERVISOR_INTERVAL);
+        builder.withGroupCommitLatency(WriteAheadResumeStrategyConfiguration.DEFAULT_GROUP_COMMIT_LATENCY);
+        builder.withSegmentSize(LogWriter.DEFAULT_SEGMENT_SIZE);
 
         return builder;
     }
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogWriterGroupCommitTest extends LogTestBase {
+    private static final int THREADS = 4;
+    private static final int RECORDS_PER_THREAD = 250;
+
+    private int countRecords(File logFile) throws IOException {
+        int count = 0;
+        try (LogReader reader = new LogReader(logFile)) {
+            PersistedLogEntry entry = reader.readEntry();
+            while (entry != null) {
+                assertEquals(LogEntry.EntryState.NEW, entry.getEntryState());
+                count++;
+
+                entry = reader.readEntry();
+            }
+        }
+
+        return count;
+    }
+
+    private void appendConcurrently(LogWriter logWriter) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[THREADS];
+
+            for (int t = 0; t < THREADS; t++) {
+                final int offset = t * RECORDS_PER_THREAD;
+                futures[t] = executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                        logWriter.append(createNewLogEntry(null, offset + i));
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), true, 1, 0)) {
+            appendConcurrently(logWriter);
+
+            // every append waited for a commit, but concurrent appends shared them
+            final long commits = logWriter.getGroupCommitCount();
+            assertTrue(commits > 0, "There should be at least one group commit");
+            assertTrue(commits < THREADS * RECORDS_PER_THREAD,
+                    "The appends should have been coalesced, but there were " + commits + " commits");
+
+            // the records are durable before closing the writer
+            assertEquals(THREADS * RECORDS_PER_THREAD, countRecords(logFile));
+        }
+
+        assertEquals(THREADS * RECORDS_PER_THREAD, countRecords(logFile));
+    }
+
+    @Test
+    public void testGroupCommitWithoutOtherWriters() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        // a lone writer must not wait for the (long) latency before the commit
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), true, 30000, 0)) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                logWriter.append(createNewLogEntry(null, i));
+            }
+
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10),
+                    "The appends should not have waited for other writers");
+            assertEquals(10, logWriter.getGroupCommitCount());
+            assertEquals(10, countRecords(logFile));
+        }
+    }
+
+    @Test
+    public void testMemoryMappedGroupCommit() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        // a small segment size, so that the mapping grows while writing
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), true, 1, 4096)) {
+            appendConcurrently(logWriter);
+
+            // the file is still pre-allocated, so the reader must stop at the zero-filled tail
+            assertEquals(0, logFile.length() % 4096);
+            assertEquals(THREADS * RECORDS_PER_THREAD, countRecords(logFile));
+        }
+
+        assertEquals(THREADS * RECORDS_PER_THREAD, countRecords(logFile));
+
+        long expectedLength = Header.BYTES;
+        for (int i = 0; i < THREADS * RECORDS_PER_THREAD; i++) {
+            expectedLength += createNewLogEntry(null, i).size();
+        }
+        assertEquals(expectedLength, logFile.length(), "The file should have been truncated to the written size");
+    }
+
+    @Test
+    public void testMemoryMappedConcurrentAppendAndUpdate() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        // a small segment size, so that the mapping grows while the states are updated
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), true, 1, 4096)) {
+            ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?>[] futures = new Future<?>[THREADS];
+
+                for (int t = 0; t < THREADS; t++) {
+                    final int offset = t * RECORDS_PER_THREAD;
+                    futures[t] = executorService.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                            EntryInfo.CachedEntryInfo entryInfo = logWriter.append(createNewLogEntry(null, offset + i));
+                            logWriter.updateState(entryInfo, LogEntry.EntryState.PROCESSED);
+                        }
+                        return null;
+                    });
+                }
+
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        // none of the records may be lost when the file is truncated on close
+        int count = 0;
+        try (LogReader reader = new LogReader(logFile)) {
+            PersistedLogEntry entry = reader.readEntry();
+            while (entry != null) {
+                assertEquals(LogEntry.EntryState.PROCESSED, entry.getEntryState());
+                count++;
+
+                entry = reader.readEntry();
+            }
+        }
+        assertEquals(THREADS * RECORDS_PER_THREAD, count);
+
+        long expectedLength = Header.BYTES;
+        for (int i = 0; i < THREADS * RECORDS_PER_THREAD; i++) {
+            expectedLength += createNewLogEntry(null, i).size();
+        }
+        assertEquals(expectedLength, logFile.length(), "The file should have been truncated to the written size");
+    }
+
+    @Test
+    public void testMemoryMappedReset() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), false, 0, 4096)) {
+            for (int i = 0; i < 100; i++) {
+                assertNotNull(logWriter.append(createNewLogEntry(null, i)));
+            }
+
+            logWriter.reset();
+            logWriter.flush();
+
+            // the discarded records must not be read back, even before closing
+            assertEquals(0, countRecords(logFile));
+
+            for (int i = 0; i < 10; i++) {
+                logWriter.append(createNewLogEntry(null, i));
+            }
+        }
+
+        assertEquals(10, countRecords(logFile));
+    }
+}
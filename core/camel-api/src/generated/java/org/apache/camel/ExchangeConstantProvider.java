@@ -13,7 +13,7 @@ public class ExchangeConstantProvider {
 
     private static final Map<String, String> MAP;
     static {
-        Map<String, String> map = new HashMap<>(164);
+        Map<String, String> map = new HashMap<>(165);
         map.put("ACCEPT_CONTENT_TYPE", "CamelAcceptContentType");
         map.put("AGGREGATED_COLLECTION_GUARD", "CamelAggregatedCollectionGuard");
         map.put("AGGREGATED_COMPLETED_BY", "CamelAggregatedCompletedBy");
@@ -147,6 +147,7 @@ public class ExchangeConstantProvider {
         map.put("SAGA_LONG_RUNNING_ACTION", "Long-Running-Action");
         map.put("SAXPARSER_FACTORY", "CamelSAXParserFactory");
         map.put("SCHEDULER_POLLED_MESSAGES", "CamelSchedulerPolledMessages");
+        map.put("SIMPLE_COMPILED", "CamelSimpleCompiled");
         map.put("SKIP_GZIP_ENCODING", "CamelSkipGzipEncoding");
         map.put("SKIP_OVER", "CamelSkipOver");
         map.put("SKIP_WWW_FORM_URLENCODED", "CamelSkipWwwFormUrlEncoding");
@@ -1670,4 +1670,19 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Sets the maximum number of routes that are started in parallel.
+     * <p/>
+     * The default is 1, which starts the routes one by one in their startup order. A higher value is useful when there
+     * are many routes with consumers that are slow to start (such as connecting to remote systems). Routes that have a
+     * startup order configured are still started in order, and a route that sends to the endpoint of another route
+     * (such as direct or seda) is started after that route.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Gets the maximum number of routes that are started in parallel.
+     */
+    int getRouteStartupParallelism();
+
 }
@@ -289,6 +289,7 @@ public interface Exchange extends VariableAware {
     String SCHEDULER_POLLED_MESSAGES = "CamelSchedulerPolledMessages";
     @Deprecated(since = "3.15.0")
     String SOAP_ACTION = "CamelSoapAction";
+    String SIMPLE_COMPILED = "CamelSimpleCompiled";
     String SKIP_GZIP_ENCODING = "CamelSkipGzipEncoding";
     String SKIP_OVER = "CamelSkipOver";
     String SKIP_WWW_FORM_URLENCODED = "CamelSkipWwwFormUrlEncoding";
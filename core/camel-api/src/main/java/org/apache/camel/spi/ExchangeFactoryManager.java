@@ -21,7 +21,7 @@ import java.util.Collection;
 import org.apache.camel.StaticService;
 
 /**
- * Manages {@link ExchangeFactory}.
+ * Manages {@link ExchangeFactory} and {@link ProcessorExchangeFactory}.
  */
 public interface ExchangeFactoryManager extends StaticService {
 
@@ -45,6 +45,26 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     Collection<ExchangeFactory> getExchangeFactories();
 
+    /**
+     * Adds the {@link ProcessorExchangeFactory} (used by EIPs such as Multicast and Split) to be managed.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory);
+
+    /**
+     * Removes the {@link ProcessorExchangeFactory} from being managed (such as when a route is stopped/removed) or
+     * during shutdown.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory);
+
+    /**
+     * Returns a read-only view of the managed processor factories.
+     */
+    Collection<ProcessorExchangeFactory> getProcessorExchangeFactories();
+
     /**
      * Number of consumers currently being managed
      */
@@ -85,4 +105,10 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     ExchangeFactory.Statistics getStatistics();
 
+    /**
+     * Aggregated statistics for all the managed processor exchange factories, where the acquired counter is the number
+     * of pool hits, and the created counter is the number of pool misses (if pooled is in use).
+     */
+    PooledObjectFactory.Statistics getProcessorStatistics();
+
 }
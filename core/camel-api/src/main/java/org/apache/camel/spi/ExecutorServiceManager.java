@@ -258,6 +258,26 @@ public interface ExecutorServiceManager extends ShutdownableService, StaticServi
      */
     ExecutorService newCachedThreadPool(Object source, String name);
 
+    /**
+     * Creates a new executor service which starts a new virtual thread for each task, instead of using a thread pool.
+     * <p/>
+     * Virtual threads requires JDK 21+, and on older JDKs then platform threads are used.
+     * <p/>
+     * The default implementation does not use virtual threads, but creates a thread pool with the maximum number of
+     * tasks as pool size, or a cached thread pool if unbounded.
+     *
+     * @param  source             the source object, usually it should be <tt>this</tt> passed in as parameter
+     * @param  name               name which is appended to the thread name
+     * @param  maxConcurrentTasks the maximum number of tasks to run concurrently, or 0 for unbounded
+     * @return                    the created executor service
+     */
+    default ExecutorService newVirtualThreadPerTaskExecutor(Object source, String name, int maxConcurrentTasks) {
+        if (maxConcurrentTasks > 0) {
+            return newThreadPool(source, name, maxConcurrentTasks, maxConcurrentTasks);
+        }
+        return newCachedThreadPool(source, name);
+    }
+
     /**
      * Creates a new fixed thread pool (the pool will not grow or shrink but has a fixed number of threads constantly).
      *
@@ -69,6 +69,21 @@ public interface ProcessorExchangeFactory extends PooledObjectFactory<Exchange>,
      */
     Exchange createCorrelatedCopy(Exchange exchange, boolean handover);
 
+    /**
+     * Gets a copy of the given {@link Exchange} and the copy is correlated to the source
+     * <p/>
+     * With copy-on-write the message headers, exchange properties and variables are shared by the source and the copy
+     * until either of them changes them, which saves copying them for copies which only read them. A factory which
+     * reuses exchanges from a pool may ignore copy-on-write, and copy them as usual.
+     *
+     * @param exchange    original exchange
+     * @param handover    whether the on completion callbacks should be handed over to the new copy.
+     * @param copyOnWrite whether to share the message headers, exchange properties and variables until changed
+     */
+    default Exchange createCorrelatedCopy(Exchange exchange, boolean handover, boolean copyOnWrite) {
+        return createCorrelatedCopy(exchange, handover);
+    }
+
     /**
      * Gets a new {@link Exchange}
      */
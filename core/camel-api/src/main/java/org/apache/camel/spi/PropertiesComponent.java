@@ -320,4 +320,42 @@ public interface PropertiesComponent extends StaticService {
      */
     void addPropertiesLookupListener(PropertiesLookupListener propertiesLookupListener);
 
+    /**
+     * Whether to cache the result of resolving texts with property placeholders, so the same text is not parsed and
+     * resolved again. The cache is invalidated when the properties are changed or reloaded.
+     * <p/>
+     * Values are only cached when all the properties sources are {@link LoadablePropertiesSource}, and values from
+     * properties functions are only cached if the function is cacheable (such as env and sys). Notice that changes to
+     * JVM system properties or OS environment variables at runtime are not detected, so the cache must be invalidated
+     * after changing these.
+     * <p/>
+     * This is disabled by default.
+     */
+    void setPlaceholderCacheEnabled(boolean placeholderCacheEnabled);
+
+    /**
+     * Whether to cache the result of resolving texts with property placeholders.
+     */
+    boolean isPlaceholderCacheEnabled();
+
+    /**
+     * Number of times a resolved text was found in the placeholder cache.
+     */
+    long getPlaceholderCacheHits();
+
+    /**
+     * Number of times a text was not found in the placeholder cache, and therefore was parsed and resolved.
+     */
+    long getPlaceholderCacheMisses();
+
+    /**
+     * Number of resolved texts in the placeholder cache.
+     */
+    int getPlaceholderCacheSize();
+
+    /**
+     * Invalidates the placeholder cache, such as after changing properties outside the properties component.
+     */
+    void invalidatePlaceholderCache();
+
 }
@@ -56,4 +56,18 @@ public interface PropertiesFunction {
         return false;
     }
 
+    /**
+     * Whether the value returned by this function is always the same for the given remainder, which allows the
+     * properties component to cache the resolved placeholders using this function.
+     * <p/>
+     * Functions that returns values that can change over time (such as secrets that can be refreshed) should not be
+     * cacheable.
+     *
+     * @param  remainder the remainder value
+     * @return           true if the result can be cached, false to apply this function every time (default).
+     */
+    default boolean cacheable(String remainder) {
+        return false;
+    }
+
 }
@@ -110,6 +110,30 @@ public interface StartupStepRecorder extends StaticService {
      */
     void endStep(StartupStep step);
 
+    /**
+     * Begins a new step that runs concurrently with other steps in another thread, such as when routes are started in
+     * parallel.
+     * <p>
+     * The step becomes a sub step of the current step, and any steps that are started from the same thread, until the
+     * step is ended, becomes sub steps of this step.
+     * <p>
+     * Important must call {@link #endConcurrentStep(StartupStep)} from the same thread to end the step.
+     *
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginConcurrentStep(Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
+    /**
+     * Ends the step that was started by {@link #beginConcurrentStep(Class, String, String)}
+     */
+    default void endConcurrentStep(StartupStep step) {
+        endStep(step);
+    }
+
     /**
      * Some records will capture all steps which can be accessed on demand.
      */
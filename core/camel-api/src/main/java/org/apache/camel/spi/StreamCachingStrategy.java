@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -64,6 +65,33 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the number of pooled buffer chunks which are currently available for reuse.
+         */
+        long getBufferPoolAvailable();
+
+        /**
+         * Gets the number of pooled buffer chunks which are currently in use by stream caches.
+         */
+        long getBufferPoolInUse();
+
+        /**
+         * Gets the counter for number of buffer chunks that was allocated because the pool had no available chunk.
+         */
+        long getBufferPoolMissCounter();
+
+        /**
+         * Gets the counter for number of pooled buffer chunks which has been spooled to disk.
+         */
+        long getSpoolChunkCounter();
+
+        /**
+         * Updates the counter for number of pooled buffer chunks which has been spooled to disk.
+         *
+         * @param chunks number of chunks spooled
+         */
+        void updateSpoolChunks(int chunks);
+
         /**
          * Reset the counters
          */
@@ -215,6 +243,44 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Sets the maximum number of buffer chunks to keep in a pool for reuse. When this is a positive number then stream
+     * caches are built from fixed-size chunks (of the buffer size) that are reused across exchanges, and when spooling
+     * then the chunks are written one by one to the spool file, instead of growing and copying byte arrays.
+     * <p/>
+     * The chunks are returned to the pool when the exchange is done, which means the stream caches are only valid for
+     * the duration of the exchange, as with spooled stream caches.
+     * <p/>
+     * This option is default <tt>0</tt> which means the pool is disabled. The pool is not in use when using a spool
+     * cipher.
+     */
+    void setBufferPoolSize(int bufferPoolSize);
+
+    int getBufferPoolSize();
+
+    /**
+     * Whether the pooled buffer chunks are allocated as direct (off-heap) byte buffers.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    void setBufferPoolDirect(boolean bufferPoolDirect);
+
+    boolean isBufferPoolDirect();
+
+    /**
+     * Acquires a buffer chunk with the capacity of the buffer size from the pool.
+     *
+     * @return the buffer, or <tt>null</tt> if the buffer pool is not enabled
+     */
+    ByteBuffer acquireBuffer();
+
+    /**
+     * Releases the buffer chunk back to the pool, so it can be reused.
+     *
+     * @param buffer the buffer
+     */
+    void releaseBuffer(ByteBuffer buffer);
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
@@ -65,6 +65,20 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of conversion attempts where the type converter (or a miss) was already resolved in the lookup table
+         */
+        default long getLookupHitCounter() {
+            return 0;
+        }
+
+        /**
+         * Number of conversion attempts where the type converter had to be resolved from the registry
+         */
+        default long getLookupMissCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -51,7 +51,9 @@ import org.apache.camel.util.URISupport;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.ThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -235,6 +237,28 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         return answer;
     }
 
+    @Override
+    public ExecutorService newVirtualThreadPerTaskExecutor(Object source, String name, int maxConcurrentTasks) {
+        String sanitizedName = URISupport.sanitizeUri(name);
+        CamelThreadFactory threadFactory
+                = new CamelThreadFactory(threadNamePattern, sanitizedName, true, ThreadType.VIRTUAL);
+        if (!threadFactory.isVirtual()) {
+            LOG.debug("Virtual threads are not supported on this JVM, using platform threads for: {}", sanitizedName);
+        }
+        ThreadFactory factory = threadFactory;
+        for (ThreadFactoryListener listener : threadFactoryListeners) {
+            factory = listener.onNewThreadFactory(source, factory);
+        }
+        ExecutorService answer = new ThreadPerTaskExecutorService(factory, maxConcurrentTasks);
+        onThreadPoolCreated(answer, source, null);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Created new VirtualThreadPerTaskExecutor for source: {} with name: {}. -> {}", source, sanitizedName,
+                    answer);
+        }
+        return answer;
+    }
+
     @Override
     public ExecutorService newFixedThreadPool(Object source, String name, int poolSize) {
         ThreadPoolProfile profile = new ThreadPoolProfile(name);
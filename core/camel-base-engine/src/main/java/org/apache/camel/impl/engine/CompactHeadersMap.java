@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A compact map that uses case insensitive keys, but preserves the original key cases, and iterates in insertion order.
+ * Notice this is unlike {@link org.apache.camel.util.CaseInsensitiveMap} which iterates the keys sorted.
+ * <p/>
+ * The entries are stored in plain arrays with an open-addressing index on top, so adding a header does not allocate any
+ * objects once the arrays have been sized. {@link #clear()} keeps the arrays, which means a message that is reused by
+ * the {@link PooledExchangeFactory} does not allocate a new map either. The well-known Camel keys (the {@link Exchange}
+ * constants) have their case insensitive hash pre-computed, so looking up those keys does not require case folding the
+ * key.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CompactHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 8;
+    // do not retain larger arrays than this when the map is cleared for reuse
+    private static final int MAX_RETAINED_CAPACITY = 64;
+
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        List<String> keys = new ArrayList<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    keys.add(((String) field.get(null)).intern());
+                } catch (IllegalAccessException e) {
+                    // ignore as its only an optimization
+                }
+            }
+        }
+        int size = Integer.highestOneBit(keys.size() * 4);
+        KNOWN_KEYS = new String[size];
+        KNOWN_HASHES = new int[size];
+        for (String key : keys) {
+            int i = key.hashCode() & (size - 1);
+            while (KNOWN_KEYS[i] != null && KNOWN_KEYS[i] != key) {
+                i = (i + 1) & (size - 1);
+            }
+            KNOWN_KEYS[i] = key;
+            KNOWN_HASHES[i] = computeHash(key);
+        }
+    }
+
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // open-addressing table with the position of the entry + 1, or 0 if the slot is free
+    private int[] index;
+    // number of used entry positions, including removed entries
+    private int count;
+    private int size;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CompactHeadersMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public CompactHeadersMap(Map<? extends String, ?> map) {
+        if (map instanceof CompactHeadersMap other) {
+            // fast copy of the arrays
+            keys = Arrays.copyOf(other.keys, other.keys.length);
+            values = Arrays.copyOf(other.values, other.values.length);
+            hashes = Arrays.copyOf(other.hashes, other.hashes.length);
+            index = Arrays.copyOf(other.index, other.index.length);
+            count = other.count;
+            size = other.size;
+        } else {
+            int capacity = INITIAL_CAPACITY;
+            while (capacity < map.size()) {
+                capacity <<= 1;
+            }
+            allocate(capacity);
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && findSlot(s, hash(s)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s) {
+            int slot = findSlot(s, hash(s));
+            if (slot >= 0) {
+                return values[index[slot] - 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key);
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        if (slot >= 0) {
+            // keep the original key case
+            int pos = index[slot] - 1;
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+        if (count == keys.length) {
+            compactOrGrow();
+            slot = findSlot(key, h);
+        }
+        int pos = count++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = h;
+        index[-slot - 1] = pos + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s) {
+            int slot = findSlot(s, hash(s));
+            if (slot >= 0) {
+                int pos = index[slot] - 1;
+                Object answer = values[pos];
+                removeSlot(slot);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (keys.length > MAX_RETAINED_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+        } else if (count > 0) {
+            Arrays.fill(keys, 0, count, null);
+            Arrays.fill(values, 0, count, null);
+            Arrays.fill(index, 0);
+        }
+        count = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int mc = modCount;
+        for (int i = 0; i < count; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (mc != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity * 2];
+    }
+
+    /**
+     * Finds the index slot of the key
+     *
+     * @return the slot if found, or <tt>-(slot + 1)</tt> of the free slot where the key should be inserted
+     */
+    private int findSlot(String key, int h) {
+        int mask = index.length - 1;
+        int slot = h & mask;
+        while (true) {
+            int pos = index[slot] - 1;
+            if (pos < 0) {
+                return -slot - 1;
+            }
+            if (hashes[pos] == h) {
+                String k = keys[pos];
+                if (k == key || k.equalsIgnoreCase(key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void removeSlot(int slot) {
+        int pos = index[slot] - 1;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        while (count > 0 && keys[count - 1] == null) {
+            count--;
+        }
+
+        // shift back the following entries so lookups do not need tombstones
+        int mask = index.length - 1;
+        int free = slot;
+        index[free] = 0;
+        int next = free;
+        while (true) {
+            next = (next + 1) & mask;
+            int e = index[next];
+            if (e == 0) {
+                return;
+            }
+            int ideal = hashes[e - 1] & mask;
+            boolean move = next > free ? ideal <= free || ideal > next : ideal <= free && ideal > next;
+            if (move) {
+                index[free] = e;
+                index[next] = 0;
+                free = next;
+            }
+        }
+    }
+
+    private void compactOrGrow() {
+        int capacity = keys.length;
+        if (size > capacity / 2) {
+            capacity <<= 1;
+        }
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldCount = count;
+        allocate(capacity);
+        int mask = index.length - 1;
+        int pos = 0;
+        for (int i = 0; i < oldCount; i++) {
+            if (oldKeys[i] != null) {
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+                int h = oldHashes[i];
+                hashes[pos] = h;
+                int slot = h & mask;
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = ++pos;
+            }
+        }
+        count = pos;
+    }
+
+    private static int hash(String key) {
+        // well-known keys are typically the same string instance as the constant
+        int mask = KNOWN_KEYS.length - 1;
+        int i = key.hashCode() & mask;
+        String known;
+        while ((known = KNOWN_KEYS[i]) != null) {
+            if (known == key) {
+                return KNOWN_HASHES[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return computeHash(key);
+    }
+
+    private static int computeHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 32;
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < count && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            String key = keys[last];
+            removeSlot(findSlot(key, hashes[last]));
+            // removing the last entry may have shrunk the count
+            if (next > count) {
+                next = count;
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int pos;
+        private final String key;
+
+        Entry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : CompactHeadersMap.this.get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] == key) {
+                Object answer = values[pos];
+                values[pos] = value;
+                return answer;
+            }
+            return CompactHeadersMap.this.put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && Objects.equals(key, e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
@@ -26,12 +27,16 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 public class DefaultExchangeFactoryManager extends ServiceSupport implements ExchangeFactoryManager, CamelContextAware {
 
     private final Map<Consumer, ExchangeFactory> factories = new ConcurrentHashMap<>();
+    private final Set<ProcessorExchangeFactory> processorFactories = ConcurrentHashMap.newKeySet();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
+    private final ProcessorUtilizationStatistics processorStatistics = new ProcessorUtilizationStatistics();
     private CamelContext camelContext;
     private int capacity;
     private boolean statisticsEnabled;
@@ -62,6 +67,21 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return Collections.unmodifiableCollection(factories.values());
     }
 
+    @Override
+    public void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.add(processorExchangeFactory);
+    }
+
+    @Override
+    public void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.remove(processorExchangeFactory);
+    }
+
+    @Override
+    public Collection<ProcessorExchangeFactory> getProcessorExchangeFactories() {
+        return Collections.unmodifiableCollection(processorFactories);
+    }
+
     @Override
     public int getConsumerCounter() {
         return factories.size();
@@ -97,11 +117,13 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
     @Override
     public void resetStatistics() {
         factories.values().forEach(ExchangeFactory::resetStatistics);
+        processorFactories.forEach(ProcessorExchangeFactory::resetStatistics);
     }
 
     @Override
     public void purge() {
         factories.values().forEach(ExchangeFactory::purge);
+        processorFactories.forEach(ProcessorExchangeFactory::purge);
     }
 
     @Override
@@ -109,6 +131,11 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return statistics;
     }
 
+    @Override
+    public PooledObjectFactory.Statistics getProcessorStatistics() {
+        return processorStatistics;
+    }
+
     /**
      * Represents utilization statistics
      */
@@ -165,8 +192,70 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
 
     }
 
+    /**
+     * Represents utilization statistics of the processor exchange factories, which have statistics enabled
+     * individually.
+     */
+    final class ProcessorUtilizationStatistics implements PooledObjectFactory.Statistics {
+
+        @Override
+        public void reset() {
+            processorFactories.forEach(ProcessorExchangeFactory::resetStatistics);
+        }
+
+        @Override
+        public long getCreatedCounter() {
+            long answer = 0;
+            for (ProcessorExchangeFactory pef : processorFactories) {
+                PooledObjectFactory.Statistics stat = pef.getStatistics();
+                if (pef.isStatisticsEnabled() && stat != null) {
+                    answer += stat.getCreatedCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getAcquiredCounter() {
+            long answer = 0;
+            for (ProcessorExchangeFactory pef : processorFactories) {
+                PooledObjectFactory.Statistics stat = pef.getStatistics();
+                if (pef.isStatisticsEnabled() && stat != null) {
+                    answer += stat.getAcquiredCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getReleasedCounter() {
+            long answer = 0;
+            for (ProcessorExchangeFactory pef : processorFactories) {
+                PooledObjectFactory.Statistics stat = pef.getStatistics();
+                if (pef.isStatisticsEnabled() && stat != null) {
+                    answer += stat.getReleasedCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getDiscardedCounter() {
+            long answer = 0;
+            for (ProcessorExchangeFactory pef : processorFactories) {
+                PooledObjectFactory.Statistics stat = pef.getStatistics();
+                if (pef.isStatisticsEnabled() && stat != null) {
+                    answer += stat.getDiscardedCounter();
+                }
+            }
+            return answer;
+        }
+
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         factories.clear();
+        processorFactories.clear();
     }
 }
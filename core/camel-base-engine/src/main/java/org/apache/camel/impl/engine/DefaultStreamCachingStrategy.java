@@ -19,11 +19,14 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -69,6 +72,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
+    private int bufferPoolSize;
+    private boolean bufferPoolDirect;
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
@@ -197,6 +203,61 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    @Override
+    public void setBufferPoolSize(int bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    @Override
+    public boolean isBufferPoolDirect() {
+        return bufferPoolDirect;
+    }
+
+    @Override
+    public void setBufferPoolDirect(boolean bufferPoolDirect) {
+        this.bufferPoolDirect = bufferPoolDirect;
+    }
+
+    @Override
+    public ByteBuffer acquireBuffer() {
+        if (bufferPoolSize <= 0) {
+            return null;
+        }
+        ByteBuffer answer = bufferPool.poll();
+        if (answer != null) {
+            statistics.available.decrementAndGet();
+        } else {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.missCounter.incrementAndGet();
+            }
+            int size = chunkSize();
+            answer = bufferPoolDirect ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        }
+        statistics.inUse.incrementAndGet();
+        return answer;
+    }
+
+    @Override
+    public void releaseBuffer(ByteBuffer buffer) {
+        statistics.inUse.decrementAndGet();
+        // only keep buffers up to the pool size, and drop buffers from before the buffer size was changed
+        if (buffer.capacity() == chunkSize() && statistics.available.incrementAndGet() <= bufferPoolSize) {
+            buffer.clear();
+            bufferPool.offer(buffer);
+        } else {
+            statistics.available.decrementAndGet();
+        }
+    }
+
+    private int chunkSize() {
+        return bufferSize > 0 ? bufferSize : IOHelper.DEFAULT_BUFFER_SIZE;
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -474,6 +535,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        bufferPool.clear();
+        statistics.available.set(0);
     }
 
     private boolean isSpoolRemovable() {
@@ -489,6 +552,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", bufferPoolSize=" + bufferPoolSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -568,6 +632,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        private final AtomicLong spoolChunkCounter = new AtomicLong();
+        private final AtomicLong missCounter = new AtomicLong();
+        // gauges of the buffer pool which are not reset
+        private final AtomicLong available = new AtomicLong();
+        private final AtomicLong inUse = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -583,7 +652,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             try {
                 spoolAverageSize.set(spoolSize.addAndGet(size) / spoolCounter.incrementAndGet());
             } finally {
-                lock.lock();
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void updateSpoolChunks(int chunks) {
+            if (statisticsEnabled) {
+                spoolChunkCounter.addAndGet(chunks);
             }
         }
 
@@ -617,6 +693,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getBufferPoolAvailable() {
+            return available.get();
+        }
+
+        @Override
+        public long getBufferPoolInUse() {
+            return inUse.get();
+        }
+
+        @Override
+        public long getBufferPoolMissCounter() {
+            return missCounter.get();
+        }
+
+        @Override
+        public long getSpoolChunkCounter() {
+            return spoolChunkCounter.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +723,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                spoolChunkCounter.set(0);
+                missCounter.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +743,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                                 + " spoolChunkCounter=%s, bufferPoolAvailable=%s, bufferPoolInUse=%s, bufferPoolMissCounter=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    spoolChunkCounter, available, inUse, missCounter);
         }
     }
 
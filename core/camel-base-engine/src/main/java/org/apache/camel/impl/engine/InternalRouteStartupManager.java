@@ -19,10 +19,16 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,6 +38,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -40,6 +47,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -354,6 +362,12 @@ final class InternalRouteStartupManager {
             AbstractCamelContext camelContext,
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
+        int parallelism = camelContext.getRouteStartupParallelism();
+        if (parallelism > 1 && inputs.size() > 1) {
+            doStartOrResumeRouteConsumersInParallel(camelContext, inputs, resumeOnly, addingRoute, parallelism);
+            return;
+        }
+
         List<Endpoint> routeInputs = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -380,100 +394,288 @@ final class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                doCheckMultipleConsumerSupportClash(camelContext, route, endpoint, routeInputs);
+
+                // when starting we should invoke the lifecycle strategies
+                if (!resumeOnly || !route.supportsSuspension()) {
+                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                    }
                 }
+                doStartOrResumeConsumer(camelContext, order, route, consumer, resumeOnly);
+
+                routeInputs.add(endpoint);
+
+                addRouteStartupOrder(camelContext, entry.getValue());
+            }
+
+            doStartOrResumeRouteService(route, routeService, resumeOnly);
+
+            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        }
+    }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
+    /**
+     * Starts (or resumes) the routes concurrently, using up to the given number of threads.
+     * <p>
+     * The routes are started in waves, where each wave starts the routes that do not depend on a route that has not
+     * been started yet. A route depends on the routes that comes before it in the startup order, if any of the two
+     * routes have been configured with an explicit startup order. In addition a route depends on the routes it sends
+     * to (such as direct or seda endpoints), so these routes are ready to consume before the route starts sending.
+     */
+    private void doStartOrResumeRouteConsumersInParallel(
+            AbstractCamelContext camelContext,
+            Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute, int parallelism)
+            throws Exception {
+        List<Endpoint> routeInputs = new ArrayList<>();
+        List<DefaultRouteStartupOrder> routes = new ArrayList<>();
+
+        // check the routes in their startup order, so problems are reported the same way as when starting one by one
+        for (DefaultRouteStartupOrder entry : inputs.values()) {
+            Route route = entry.getRoute();
+            RouteService routeService = entry.getRouteService();
+
+            if (addingRoute && !routeService.isAutoStartup()) {
+                routeLogger.log(
+                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                        getRouteLoggerLogLevel(camelContext));
+                continue;
+            }
+
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                Endpoint endpoint = consumer.getEndpoint();
+                doCheckMultipleConsumerSupportClash(camelContext, route, endpoint, routeInputs);
+                routeInputs.add(endpoint);
+            }
+            routes.add(entry);
+        }
+
+        Map<DefaultRouteStartupOrder, List<DefaultRouteStartupOrder>> dependencies = doGatherRouteDependencies(routes);
+
+        ExecutorService executor
+                = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", parallelism);
+        try {
+            List<DefaultRouteStartupOrder> pending = new ArrayList<>(routes);
+            while (!pending.isEmpty()) {
+                List<DefaultRouteStartupOrder> wave = new ArrayList<>();
+                for (DefaultRouteStartupOrder entry : pending) {
+                    boolean ready = true;
+                    for (DefaultRouteStartupOrder dependency : dependencies.get(entry)) {
+                        if (pending.contains(dependency)) {
+                            ready = false;
+                            break;
+                        }
                     }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
+                    if (ready) {
+                        wave.add(entry);
                     }
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                if (wave.isEmpty()) {
+                    // the routes depend on each other (such as two routes sending to each other),
+                    // so fallback to start the first route in the startup order
+                    wave.add(pending.get(0));
                 }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+                // the lifecycle strategies are not thread-safe, so invoke them before starting the wave in parallel
+                // (and only for the routes of the wave, so the routes of a later wave are not added if this one fails)
+                for (DefaultRouteStartupOrder entry : wave) {
+                    Route route = entry.getRoute();
+                    Consumer consumer = entry.getRouteService().getInput();
+                    if (consumer != null && (!resumeOnly || !route.supportsSuspension())) {
+                        for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                            strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                        }
+                    }
                 }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
-                    }
+                Map<DefaultRouteStartupOrder, Future<?>> futures = new LinkedHashMap<>();
+                for (DefaultRouteStartupOrder entry : wave) {
+                    futures.put(entry, executor.submit(() -> {
+                        doStartOrResumeRouteConcurrently(camelContext, entry, resumeOnly);
+                        return null;
+                    }));
+                }
+
+                // wait for the wave to complete, and fail with the first failed route in the startup order
+                Exception cause = null;
+                for (Map.Entry<DefaultRouteStartupOrder, Future<?>> future : futures.entrySet()) {
                     try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
+                        future.getValue().get();
+                        if (future.getKey().getRouteService().getInput() != null) {
+                            addRouteStartupOrder(camelContext, future.getKey());
+                        }
+                    } catch (ExecutionException e) {
+                        if (cause == null) {
+                            cause = e.getCause() instanceof Exception ex ? ex : new RuntimeCamelException(e.getCause());
+                        }
                     }
-
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
                 }
+                if (cause != null) {
+                    throw cause;
+                }
+                pending.removeAll(wave);
+            }
+        } finally {
+            camelContext.getExecutorServiceManager().shutdown(executor);
+        }
+    }
 
-                routeInputs.add(endpoint);
+    private void doStartOrResumeRouteConcurrently(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder entry, boolean resumeOnly)
+            throws Exception {
+        Route route = entry.getRoute();
+        RouteService routeService = entry.getRouteService();
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginConcurrentStep(Route.class, route.getRouteId(), "Start Route");
+        try {
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                doStartOrResumeConsumer(camelContext, entry.getStartupOrder(), route, consumer, resumeOnly);
+            }
+            doStartOrResumeRouteService(route, routeService, resumeOnly);
+        } finally {
+            recorder.endConcurrentStep(step);
+        }
+    }
+
+    /**
+     * Gathers for each route the routes that must be started before the route.
+     */
+    private static Map<DefaultRouteStartupOrder, List<DefaultRouteStartupOrder>> doGatherRouteDependencies(
+            List<DefaultRouteStartupOrder> routes) {
+        Map<DefaultRouteStartupOrder, String> consumerUris = new HashMap<>();
+        for (DefaultRouteStartupOrder entry : routes) {
+            Consumer consumer = entry.getRouteService().getInput();
+            if (consumer != null) {
+                consumerUris.put(entry, consumer.getEndpoint().getEndpointBaseUri());
+            }
+        }
+
+        Map<DefaultRouteStartupOrder, List<DefaultRouteStartupOrder>> answer = new HashMap<>();
+        for (DefaultRouteStartupOrder entry : routes) {
+            Set<String> producerUris = new HashSet<>();
+            for (Endpoint endpoint : entry.getRouteService().gatherEndpoints()) {
+                producerUris.add(endpoint.getEndpointBaseUri());
+            }
+            boolean explicit = entry.getRoute().getStartupOrder() != null;
+
+            List<DefaultRouteStartupOrder> dependencies = new ArrayList<>();
+            for (DefaultRouteStartupOrder other : routes) {
+                if (other == entry) {
+                    continue;
                 }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
+                boolean otherExplicit = other.getRoute().getStartupOrder() != null;
+                if ((explicit || otherExplicit) && other.getStartupOrder() < entry.getStartupOrder()) {
+                    dependencies.add(other);
+                } else if (!explicit && !otherExplicit && producerUris.contains(consumerUris.get(other))) {
+                    dependencies.add(other);
                 }
             }
+            answer.put(entry, dependencies);
+        }
+        return answer;
+    }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
-                }
+    private void doStartOrResumeConsumer(
+            AbstractCamelContext camelContext, Integer order, Route route, Consumer consumer, boolean resumeOnly)
+            throws Exception {
+        Endpoint endpoint = consumer.getEndpoint();
+
+        // start the consumer on the route
+        LOG.debug("Route: {} >>> {}", route.getId(), route);
+        if (resumeOnly) {
+            LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+        } else {
+            LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+        }
+
+        if (resumeOnly && route.supportsSuspension()) {
+            // if we are resuming and the route can be resumed
+            ServiceHelper.resumeService(consumer);
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                    getRouteLoggerLogLevel(camelContext));
+        } else {
+            try {
+                camelContext.startService(consumer);
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
             }
 
-            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                    getRouteLoggerLogLevel(camelContext));
+        }
+    }
+
+    private static void doStartOrResumeRouteService(Route route, RouteService routeService, boolean resumeOnly)
+            throws Exception {
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
+        }
+    }
+
+    private static void addRouteStartupOrder(AbstractCamelContext camelContext, DefaultRouteStartupOrder routeStartupOrder) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        boolean found = false;
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(routeStartupOrder.getRoute().getId())) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            camelContext.getCamelContextExtension().getRouteStartupOrder().add(routeStartupOrder);
+        }
+    }
+
+    private void doCheckMultipleConsumerSupportClash(
+            AbstractCamelContext camelContext, Route route, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
         }
     }
 
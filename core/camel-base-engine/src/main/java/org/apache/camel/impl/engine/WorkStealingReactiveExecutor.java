@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.ref.WeakReference;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} that runs tasks on the thread that scheduled them (same as
+ * {@link DefaultReactiveExecutor}) but allows idle threads from a fork-join pool to steal pending work from busy
+ * workers.
+ * <p/>
+ * The tasks of a worker are queued per flow, where a new flow is started when a new exchange is routed (see
+ * {@link #scheduleMain(Runnable)}), and the flows that have been put aside for the new flow are kept in a lock-free
+ * deque. Thieves only steal a whole flow which is put aside, and none of its tasks is running, and then run all the
+ * tasks of the flow one after another, in the same order as the owner would have. The tasks of the same flow (such as
+ * the continuations of an exchange) are therefore never run concurrently or out of order. Stealing only happens when a
+ * worker has more pending tasks than the steal threshold. A worker that has tasks scheduled via
+ * {@link #scheduleQueue(Runnable)} (transacted routing) is pinned and its flows are never stolen.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+@Experimental
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int stealThreshold = 4;
+    private volatile ForkJoinPool pool;
+    private final AtomicInteger activeThieves = new AtomicInteger();
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+    private final Set<Worker> trackedWorkers = ConcurrentHashMap.newKeySet();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelWorkStealingReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        Worker worker = new Worker(number, WorkStealingReactiveExecutor.this);
+        if (worker.stats) {
+            trackedWorkers.add(worker);
+        }
+        return worker;
+    });
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        Worker worker = workers.get();
+        worker.pinned = true;
+        worker.queue.add(runnable);
+        worker.size.incrementAndGet();
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Maximum number of threads that can steal tasks from busy workers")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Maximum number of threads that can steal tasks from busy workers. Is default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks a worker must have before other threads can steal tasks")
+    public int getStealThreshold() {
+        return stealThreshold;
+    }
+
+    /**
+     * Number of pending tasks a worker must have before other threads can steal tasks from the worker. Is default 4.
+     */
+    public void setStealThreshold(int stealThreshold) {
+        this.stealThreshold = stealThreshold;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from busy workers (as part of the stolen flows)")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of threads currently stealing tasks")
+    public int getActiveThieves() {
+        return activeThieves.get();
+    }
+
+    @ManagedOperation(description = "Dumps the queue depth and steal statistics per worker (requires statistics enabled)")
+    public String dumpWorkerStatistics() {
+        StringBuilder sb = new StringBuilder();
+        for (Worker worker : trackedWorkers) {
+            Thread thread = worker.owner.get();
+            if (thread == null || !thread.isAlive()) {
+                // the thread is gone so the worker can no longer be used
+                trackedWorkers.remove(worker);
+                continue;
+            }
+            sb.append(String.format("Worker #%d [thread: %s, queueDepth: %d, maxQueueDepth: %d, stolenFrom: %d, stolen: %d]%n",
+                    worker.number, thread.getName(), Math.max(0, worker.size.get()), worker.maxDepth,
+                    worker.stolenFrom.longValue(), worker.stolen.longValue()));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (pool == null) {
+            AtomicInteger counter = new AtomicInteger();
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("CamelReactiveThief #" + counter.incrementAndGet());
+                return thread;
+            }, null, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        trackedWorkers.clear();
+        workers.remove();
+    }
+
+    private void trySteal(Worker victim, int depth) {
+        final ForkJoinPool p = pool;
+        if (p == null || victim.pinned || depth <= stealThreshold || !victim.hasBackFlows()) {
+            return;
+        }
+        // only one thief per worker at a time, and no more thieves than the parallelism
+        if (!victim.stealRequested.compareAndSet(false, true)) {
+            return;
+        }
+        if (activeThieves.incrementAndGet() > parallelism) {
+            activeThieves.decrementAndGet();
+            victim.stealRequested.set(false);
+            return;
+        }
+        try {
+            p.execute(() -> steal(victim));
+        } catch (Exception e) {
+            // the pool is shutting down
+            activeThieves.decrementAndGet();
+            victim.stealRequested.set(false);
+        }
+    }
+
+    private void steal(Worker victim) {
+        try {
+            final Worker thief = workers.get();
+            while (!victim.pinned && victim.size.get() > stealThreshold) {
+                final Flow flow = victim.stealFlow();
+                if (flow == null) {
+                    break;
+                }
+                final int count = flow.size();
+                victim.size.addAndGet(-count);
+                if (statisticsEnabled) {
+                    stolenTasks.add(count);
+                    victim.stolenFrom.add(count);
+                    thief.stolen.add(count);
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} stole flow with {} tasks from worker #{}", thief.number, count, victim.number);
+                }
+                thief.runStolenFlow(flow, count);
+            }
+        } finally {
+            activeThieves.decrementAndGet();
+            victim.stealRequested.set(false);
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private final WeakReference<Thread> owner;
+        // approximate number of pending tasks in all the flows, as thieves update it concurrently
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean stealRequested = new AtomicBoolean();
+        private final LongAdder stolenFrom = new LongAdder();
+        private final LongAdder stolen = new LongAdder();
+        private volatile int maxDepth;
+        private volatile Flow queue = new Flow();
+        // the flows put aside, where thieves can steal from the tail
+        private volatile Deque<Flow> back;
+        private boolean running;
+        private volatile boolean pinned;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor != null && executor.isStatisticsEnabled();
+            this.owner = new WeakReference<>(Thread.currentThread());
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            final int depth = size.incrementAndGet();
+            if (stats && depth > maxDepth) {
+                maxDepth = depth;
+            }
+
+            incrementPendingTasks();
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+                executor.trySteal(this, depth);
+            }
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ConcurrentLinkedDeque<>();
+                }
+                back.push(queue);
+                queue = new Flow();
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final Flow flow = queue;
+                final Runnable polled = flow.pollFirst();
+                if (polled == null) {
+                    // a thief may have stolen the flow put aside
+                    final Flow next = back != null ? back.pollFirst() : null;
+                    if (next != null) {
+                        queue = next;
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                size.decrementAndGet();
+                doRun(flow, polled);
+            }
+        }
+
+        boolean hasBackFlows() {
+            final Deque<Flow> flows = back;
+            return flows != null && !flows.isEmpty();
+        }
+
+        /**
+         * Steals the oldest flow put aside which has no running tasks. The tasks of such a flow are only waiting for
+         * their turn, and are not needed by the tasks running on the owner, so the flow can be run by another thread.
+         */
+        Flow stealFlow() {
+            final Deque<Flow> flows = back;
+            if (flows == null) {
+                return null;
+            }
+            final Iterator<Flow> it = flows.descendingIterator();
+            while (it.hasNext()) {
+                final Flow flow = it.next();
+                // a flow which is put aside cannot get running tasks, until it is taken back by the owner
+                if (flow.running == 0 && flows.removeLastOccurrence(flow)) {
+                    return flow;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Runs the stolen flow as the current flow of this worker, so its tasks and their continuations are run in the
+         * same order as by the worker it was stolen from.
+         */
+        void runStolenFlow(Flow flow, int count) {
+            queue = flow;
+            size.addAndGet(count);
+            running = true;
+            incrementRunningWorkers();
+            try {
+                executeReactiveWork();
+            } finally {
+                running = false;
+                decrementRunningWorkers();
+            }
+        }
+
+        private void doRun(Flow flow, Runnable polled) {
+            // only the thread running the flow updates the counter
+            flow.running++;
+            try {
+                doRun(polled);
+            } finally {
+                flow.running--;
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Flow flow = queue;
+            final Runnable polled = flow != null ? flow.pollFirst() : null;
+            if (polled == null) {
+                pinned = false;
+                return false;
+            }
+            size.decrementAndGet();
+            doRun(flow, polled);
+            return true;
+        }
+
+    }
+
+    /**
+     * The tasks of a flow, which are run one after another by a single thread.
+     */
+    private static final class Flow extends ConcurrentLinkedDeque<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+
+        // number of tasks of this flow that are running (nested) on the thread running the flow
+        private transient volatile int running;
+
+    }
+
+}
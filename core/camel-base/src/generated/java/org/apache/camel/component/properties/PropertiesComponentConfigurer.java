@@ -35,6 +35,7 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         map.put("Locations", java.util.List.class);
         map.put("NestedPlaceholder", boolean.class);
         map.put("OverrideProperties", java.util.Properties.class);
+        map.put("PlaceholderCacheEnabled", boolean.class);
         map.put("PropertiesFunctionResolver", org.apache.camel.component.properties.PropertiesFunctionResolver.class);
         map.put("PropertiesParser", org.apache.camel.component.properties.PropertiesParser.class);
         map.put("SystemPropertiesMode", int.class);
@@ -68,6 +69,8 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         case "nestedPlaceholder": target.setNestedPlaceholder(property(camelContext, boolean.class, value)); return true;
         case "overrideproperties":
         case "overrideProperties": target.setOverrideProperties(property(camelContext, java.util.Properties.class, value)); return true;
+        case "placeholdercacheenabled":
+        case "placeholderCacheEnabled": target.setPlaceholderCacheEnabled(property(camelContext, boolean.class, value)); return true;
         case "propertiesfunctionresolver":
         case "propertiesFunctionResolver": target.setPropertiesFunctionResolver(property(camelContext, org.apache.camel.component.properties.PropertiesFunctionResolver.class, value)); return true;
         case "propertiesparser":
@@ -109,6 +112,8 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         case "nestedPlaceholder": return boolean.class;
         case "overrideproperties":
         case "overrideProperties": return java.util.Properties.class;
+        case "placeholdercacheenabled":
+        case "placeholderCacheEnabled": return boolean.class;
         case "propertiesfunctionresolver":
         case "propertiesFunctionResolver": return org.apache.camel.component.properties.PropertiesFunctionResolver.class;
         case "propertiesparser":
@@ -146,6 +151,8 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         case "nestedPlaceholder": return target.isNestedPlaceholder();
         case "overrideproperties":
         case "overrideProperties": return target.getOverrideProperties();
+        case "placeholdercacheenabled":
+        case "placeholderCacheEnabled": return target.isPlaceholderCacheEnabled();
         case "propertiesfunctionresolver":
         case "propertiesFunctionResolver": return target.getPropertiesFunctionResolver();
         case "propertiesparser":
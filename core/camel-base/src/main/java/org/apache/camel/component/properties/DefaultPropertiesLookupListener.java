@@ -17,6 +17,7 @@
 package org.apache.camel.component.properties;
 
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.camel.PropertiesLookupListener;
 import org.apache.camel.spi.PropertiesResolvedValue;
@@ -29,11 +30,27 @@ import org.apache.camel.support.service.ServiceSupport;
  */
 public class DefaultPropertiesLookupListener extends ServiceSupport implements PropertiesLookupListener {
 
+    private final PropertiesComponent component;
     private Map<String, PropertiesResolvedValue> properties;
 
+    public DefaultPropertiesLookupListener() {
+        this(null);
+    }
+
+    public DefaultPropertiesLookupListener(PropertiesComponent component) {
+        this.component = component;
+    }
+
     @Override
     public void onLookup(String name, String value, String defaultValue, String source) {
-        properties.put(name, new PropertiesResolvedValue(name, value, value, defaultValue, source));
+        PropertiesResolvedValue old
+                = properties.put(name, new PropertiesResolvedValue(name, value, value, defaultValue, source));
+        // a property has changed its value, so any cached placeholders may be using the old value
+        // (local properties are not cached, and default values are not from a source)
+        if (component != null && old != null && old.source() != null && source != null
+                && component.getLocalProperties() == null && !Objects.equals(old.originalValue(), value)) {
+            component.invalidatePlaceholderCache();
+        }
     }
 
     void updateValue(String name, String newValue, String newSource) {
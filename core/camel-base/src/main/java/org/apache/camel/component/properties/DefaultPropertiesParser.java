@@ -19,6 +19,7 @@ package org.apache.camel.component.properties;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.PropertiesLookupListener;
 import org.apache.camel.spi.PropertiesFunction;
@@ -68,9 +69,26 @@ public class DefaultPropertiesParser implements PropertiesParser {
             String text, PropertiesLookup properties, boolean defaultFallbackEnabled, boolean keepUnresolvedOptional,
             boolean nestedPlaceholder)
             throws IllegalArgumentException {
+        return parseUri(text, properties, defaultFallbackEnabled, keepUnresolvedOptional, nestedPlaceholder, null);
+    }
+
+    /**
+     * Parses the text and replaces all the property placeholders, and reports whether the result can be cached.
+     *
+     * @param  cacheable is set to false if the result cannot be cached, such as when a {@link PropertiesFunction} was
+     *                   used that is not cacheable. Can be <tt>null</tt>.
+     * @see              #parseUri(String, PropertiesLookup, boolean, boolean, boolean)
+     */
+    public String parseUri(
+            String text, PropertiesLookup properties, boolean defaultFallbackEnabled, boolean keepUnresolvedOptional,
+            boolean nestedPlaceholder, AtomicBoolean cacheable)
+            throws IllegalArgumentException {
         ParsingContext context
                 = new ParsingContext(properties, defaultFallbackEnabled, keepUnresolvedOptional, nestedPlaceholder);
         String answer = context.parse(text);
+        if (cacheable != null && !context.cacheable) {
+            cacheable.set(false);
+        }
         if (keepUnresolvedOptional && answer != null && answer.contains(UNRESOLVED_PREFIX_TOKEN)) {
             // replace temporary unresolved keys back to with placeholders so they are kept as-is
             answer = answer.replace(UNRESOLVED_PREFIX_TOKEN, PREFIX_TOKEN);
@@ -92,6 +110,7 @@ public class DefaultPropertiesParser implements PropertiesParser {
         private final boolean defaultFallbackEnabled;
         private final boolean keepUnresolvedOptional;
         private final boolean nestedPlaceholder;
+        private boolean cacheable = true;
 
         ParsingContext(PropertiesLookup properties, boolean defaultFallbackEnabled, boolean keepUnresolvedOptional,
                        boolean nestedPlaceholder) {
@@ -332,6 +351,9 @@ public class DefaultPropertiesParser implements PropertiesParser {
                 PropertiesFunction function = propertiesComponent.getPropertiesFunction(prefix);
                 if (function != null) {
                     String remainder = StringHelper.after(key, ":");
+                    if (!function.cacheable(remainder)) {
+                        cacheable = false;
+                    }
                     boolean remainderOptional = remainder.startsWith(OPTIONAL_TOKEN);
                     if (function.lookupFirst(remainder)) {
                         String value = getPropertyValue(prevKey, remainder, input);
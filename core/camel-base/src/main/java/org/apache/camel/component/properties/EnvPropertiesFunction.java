@@ -30,6 +30,11 @@ public class EnvPropertiesFunction implements PropertiesFunction {
         return "env";
     }
 
+    @Override
+    public boolean cacheable(String remainder) {
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
@@ -19,10 +19,14 @@ package org.apache.camel.component.properties;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -41,6 +45,7 @@ import org.apache.camel.spi.PropertiesResolvedValue;
 import org.apache.camel.spi.PropertiesSource;
 import org.apache.camel.spi.PropertiesSourceFactory;
 import org.apache.camel.spi.annotations.JdkService;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -107,13 +112,15 @@ public class PropertiesComponent extends ServiceSupport
 
     private static final String NEGATE_PREFIX = PREFIX_TOKEN + "!";
 
+    private static final int PLACEHOLDER_CACHE_SIZE = 1000;
+
     private CamelContext camelContext;
     private PropertiesFunctionResolver propertiesFunctionResolver = new DefaultPropertiesFunctionResolver();
     private PropertiesParser propertiesParser = new DefaultPropertiesParser(this);
     private final PropertiesLookup propertiesLookup = new DefaultPropertiesLookup(this);
     private final List<PropertiesLookupListener> propertiesLookupListeners = new ArrayList<>();
     private final PropertiesSourceFactory propertiesSourceFactory = new DefaultPropertiesSourceFactory(this);
-    private final DefaultPropertiesLookupListener defaultPropertiesLookupListener = new DefaultPropertiesLookupListener();
+    private final DefaultPropertiesLookupListener defaultPropertiesLookupListener = new DefaultPropertiesLookupListener(this);
     private final List<PropertiesSource> sources = new ArrayList<>();
     private List<PropertiesLocation> locations = new ArrayList<>();
     private String location;
@@ -125,9 +132,19 @@ public class PropertiesComponent extends ServiceSupport
     private Properties initialProperties;
     private Properties overrideProperties;
     private final Stack<Properties> localProperties = new Stack<>();;
+    private final AtomicLong localPropertiesCounter = new AtomicLong();
     private int systemPropertiesMode = SYSTEM_PROPERTIES_MODE_OVERRIDE;
     private int environmentVariableMode = ENVIRONMENT_VARIABLES_MODE_OVERRIDE;
     private boolean autoDiscoverPropertiesSources = true;
+    private boolean placeholderCacheEnabled;
+    // use a cache with max limit to avoid caching endless texts if there are a lot of dynamic values
+    private final Map<String, String> placeholderCache = LRUCacheFactory.newLRUCache(PLACEHOLDER_CACHE_SIZE);
+    private final Map<String, String> placeholderCacheKeepUnresolved = LRUCacheFactory.newLRUCache(PLACEHOLDER_CACHE_SIZE);
+    private final LongAdder placeholderCacheHits = new LongAdder();
+    private final LongAdder placeholderCacheMisses = new LongAdder();
+    // changed on every invalidation, so a text resolved before an invalidation is never cached after it
+    private final AtomicLong placeholderCacheGeneration = new AtomicLong();
+    private volatile String placeholderCacheProfile;
 
     public PropertiesComponent() {
         addPropertiesLookupListener(defaultPropertiesLookupListener);
@@ -325,6 +342,22 @@ public class PropertiesComponent extends ServiceSupport
     protected String parseUri(final String uri, PropertiesLookup properties, boolean keepUnresolvedOptional) {
         LOG.trace("Parsing uri {}", uri);
 
+        // local properties are only in use when creating routes from templates, so their values must not be cached
+        Map<String, String> cache = null;
+        long localCounter = localPropertiesCounter.get();
+        long generation = placeholderCacheGeneration.get();
+        if (placeholderCacheEnabled && properties == propertiesLookup && localProperties.isEmpty()
+                && propertiesParser instanceof DefaultPropertiesParser && isPlaceholderCacheable()) {
+            cache = placeholderCache(keepUnresolvedOptional);
+            String answer = cache.get(uri);
+            if (answer != null) {
+                placeholderCacheHits.increment();
+                LOG.trace("Parsed uri {} -> {} (cached)", uri, answer);
+                return answer;
+            }
+            placeholderCacheMisses.increment();
+        }
+
         String key = uri;
         // enclose tokens if missing
         if (!key.contains(PREFIX_TOKEN) && !key.startsWith(PREFIX_TOKEN)) {
@@ -340,8 +373,16 @@ public class PropertiesComponent extends ServiceSupport
             key = PREFIX_TOKEN + key.substring(NEGATE_PREFIX.length());
         }
 
-        String answer
-                = propertiesParser.parseUri(key, properties, defaultFallbackEnabled, keepUnresolvedOptional, nestedPlaceholder);
+        String answer;
+        AtomicBoolean cacheable = null;
+        if (cache != null) {
+            cacheable = new AtomicBoolean(true);
+            answer = ((DefaultPropertiesParser) propertiesParser).parseUri(key, properties, defaultFallbackEnabled,
+                    keepUnresolvedOptional, nestedPlaceholder, cacheable);
+        } else {
+            answer = propertiesParser.parseUri(key, properties, defaultFallbackEnabled, keepUnresolvedOptional,
+                    nestedPlaceholder);
+        }
         if (negate) {
             if ("true".equalsIgnoreCase(answer)) {
                 answer = "false";
@@ -353,10 +394,41 @@ public class PropertiesComponent extends ServiceSupport
             // Remove the escape characters if any
             answer = unescape(answer);
         }
+        // local properties may have been in use by another thread while resolving, as they are not thread local
+        if (answer != null && cache != null && cacheable.get()
+                && localProperties.isEmpty() && localCounter == localPropertiesCounter.get()
+                && generation == placeholderCacheGeneration.get()) {
+            cache.put(uri, answer);
+            // an invalidation between the check and the put may already have cleared the cache
+            if (generation != placeholderCacheGeneration.get()) {
+                cache.remove(uri, answer);
+            }
+        }
         LOG.trace("Parsed uri {} -> {}", uri, answer);
         return answer;
     }
 
+    private boolean isPlaceholderCacheable() {
+        // values from custom sources (such as a vault) may change at any time, so only cache values from sources which
+        // are loaded up front, and where changes are signalled by reloading the properties
+        for (PropertiesSource source : sources) {
+            if (!(source instanceof LoadablePropertiesSource)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, String> placeholderCache(boolean keepUnresolvedOptional) {
+        String profile = camelContext != null ? camelContext.getCamelContextExtension().getProfile() : null;
+        if (!Objects.equals(profile, placeholderCacheProfile)) {
+            // the profile has changed, which can change the resolved values
+            invalidatePlaceholderCache();
+            placeholderCacheProfile = profile;
+        }
+        return keepUnresolvedOptional ? placeholderCacheKeepUnresolved : placeholderCache;
+    }
+
     @Override
     public List<String> getLocations() {
         if (locations.isEmpty()) {
@@ -377,6 +449,7 @@ public class PropertiesComponent extends ServiceSupport
 
         // we need to re-create the property sources which may have already been created from locations
         this.sources.removeIf(s -> s instanceof LocationPropertiesSource);
+        invalidatePlaceholderCache();
         // ensure the locations are in the same order as here, and therefore we provide the order number
         int order = 100;
         for (PropertiesLocation loc : locations) {
@@ -464,6 +537,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setPropertiesParser(PropertiesParser propertiesParser) {
         this.propertiesParser = propertiesParser;
+        invalidatePlaceholderCache();
     }
 
     public PropertiesFunctionResolver getPropertiesFunctionResolver() {
@@ -475,6 +549,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setPropertiesFunctionResolver(PropertiesFunctionResolver propertiesFunctionResolver) {
         this.propertiesFunctionResolver = propertiesFunctionResolver;
+        invalidatePlaceholderCache();
     }
 
     @ManagedAttribute(description = "Whether to support using fallback values if a property cannot be found")
@@ -487,6 +562,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setDefaultFallbackEnabled(boolean defaultFallbackEnabled) {
         this.defaultFallbackEnabled = defaultFallbackEnabled;
+        invalidatePlaceholderCache();
     }
 
     @ManagedAttribute(description = "Ignore missing location")
@@ -506,6 +582,7 @@ public class PropertiesComponent extends ServiceSupport
 
     public void setIgnoreMissingProperty(boolean ignoreMissingProperty) {
         this.ignoreMissingProperty = ignoreMissingProperty;
+        invalidatePlaceholderCache();
     }
 
     @ManagedAttribute(description = "Nested placeholder")
@@ -516,6 +593,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setNestedPlaceholder(boolean nestedPlaceholder) {
         this.nestedPlaceholder = nestedPlaceholder;
+        invalidatePlaceholderCache();
     }
 
     /**
@@ -532,6 +610,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setInitialProperties(Properties initialProperties) {
         this.initialProperties = initialProperties;
+        invalidatePlaceholderCache();
     }
 
     @Override
@@ -540,6 +619,7 @@ public class PropertiesComponent extends ServiceSupport
             this.initialProperties = new OrderedProperties();
         }
         this.initialProperties.setProperty(key, value);
+        invalidatePlaceholderCache();
     }
 
     /**
@@ -556,6 +636,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setOverrideProperties(Properties overrideProperties) {
         this.overrideProperties = overrideProperties;
+        invalidatePlaceholderCache();
     }
 
     @Override
@@ -564,14 +645,17 @@ public class PropertiesComponent extends ServiceSupport
             this.overrideProperties = new OrderedProperties();
         }
         this.overrideProperties.setProperty(key, value);
-
+        invalidatePlaceholderCache();
     }
 
     @Override
     public void setLocalProperties(Properties localProperties) {
+        // count before changing, so a text resolved while local properties were in use is never cached
         if (localProperties != null) {
+            this.localPropertiesCounter.incrementAndGet();
             this.localProperties.push(localProperties);
         } else if (!this.localProperties.isEmpty()) {
+            this.localPropertiesCounter.incrementAndGet();
             this.localProperties.pop();
         }
     }
@@ -598,6 +682,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void addPropertiesFunction(PropertiesFunction function) {
         propertiesFunctionResolver.addPropertiesFunction(function);
+        invalidatePlaceholderCache();
     }
 
     @Override
@@ -623,6 +708,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setSystemPropertiesMode(int systemPropertiesMode) {
         this.systemPropertiesMode = systemPropertiesMode;
+        invalidatePlaceholderCache();
     }
 
     @ManagedAttribute(description = "Environment variable mode")
@@ -643,6 +729,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setEnvironmentVariableMode(int environmentVariableMode) {
         this.environmentVariableMode = environmentVariableMode;
+        invalidatePlaceholderCache();
     }
 
     public boolean isAutoDiscoverPropertiesSources() {
@@ -656,6 +743,44 @@ public class PropertiesComponent extends ServiceSupport
         this.autoDiscoverPropertiesSources = autoDiscoverPropertiesSources;
     }
 
+    @ManagedAttribute(description = "Whether to cache the result of resolving texts with property placeholders")
+    @Override
+    public boolean isPlaceholderCacheEnabled() {
+        return placeholderCacheEnabled;
+    }
+
+    @Override
+    public void setPlaceholderCacheEnabled(boolean placeholderCacheEnabled) {
+        this.placeholderCacheEnabled = placeholderCacheEnabled;
+        invalidatePlaceholderCache();
+    }
+
+    @ManagedAttribute(description = "Number of times a resolved text was found in the placeholder cache")
+    @Override
+    public long getPlaceholderCacheHits() {
+        return placeholderCacheHits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of times a text was not found in the placeholder cache")
+    @Override
+    public long getPlaceholderCacheMisses() {
+        return placeholderCacheMisses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of resolved texts in the placeholder cache")
+    @Override
+    public int getPlaceholderCacheSize() {
+        return placeholderCache.size() + placeholderCacheKeepUnresolved.size();
+    }
+
+    @ManagedOperation(description = "Invalidates the placeholder cache")
+    @Override
+    public void invalidatePlaceholderCache() {
+        placeholderCacheGeneration.incrementAndGet();
+        placeholderCache.clear();
+        placeholderCacheKeepUnresolved.clear();
+    }
+
     @Override
     public void addPropertiesSource(PropertiesSource propertiesSource) {
         CamelContextAware.trySetCamelContext(propertiesSource, getCamelContext());
@@ -664,6 +789,7 @@ public class PropertiesComponent extends ServiceSupport
             sources.add(propertiesSource);
             // resort after we add a new source
             sources.sort(OrderedComparator.get());
+            invalidatePlaceholderCache();
             if (!isNew()) {
                 // if we have already initialized or started then also init the source
                 ServiceHelper.initService(propertiesSource);
@@ -730,6 +856,9 @@ public class PropertiesComponent extends ServiceSupport
                 }
             }
         }
+        if (answer) {
+            invalidatePlaceholderCache();
+        }
         return answer;
     }
 
@@ -813,6 +942,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     protected void doStop() throws Exception {
         ServiceHelper.stopService(sources, propertiesFunctionResolver, defaultPropertiesLookupListener);
+        invalidatePlaceholderCache();
     }
 
     @Override
@@ -44,6 +44,11 @@ public class ServiceHostPropertiesFunction implements PropertiesFunction {
         return "service.host";
     }
 
+    @Override
+    public boolean cacheable(String remainder) {
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
@@ -44,6 +44,11 @@ public class ServicePortPropertiesFunction implements PropertiesFunction {
         return "service.port";
     }
 
+    @Override
+    public boolean cacheable(String remainder) {
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
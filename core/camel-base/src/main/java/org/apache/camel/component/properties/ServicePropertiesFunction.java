@@ -42,6 +42,11 @@ public class ServicePropertiesFunction implements PropertiesFunction {
         return "service";
     }
 
+    @Override
+    public boolean cacheable(String remainder) {
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
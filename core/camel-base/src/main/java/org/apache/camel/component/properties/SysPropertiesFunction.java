@@ -29,6 +29,11 @@ public class SysPropertiesFunction implements PropertiesFunction {
         return "sys";
     }
 
+    @Override
+    public boolean cacheable(String remainder) {
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
@@ -55,6 +55,16 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
      */
     void incrementAttempt();
 
+    /**
+     * Increment the count of conversions where the type converter was resolved from the lookup table
+     */
+    void incrementLookupHit();
+
+    /**
+     * Increment the count of conversions where the type converter was not resolved in the lookup table
+     */
+    void incrementLookupMiss();
+
     /**
      * Log the statistics from the converters
      *
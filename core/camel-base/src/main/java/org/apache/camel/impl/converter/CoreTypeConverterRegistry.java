@@ -71,6 +71,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // resolved converters (incl misses) indexed by class identity to avoid key allocation and map lookups
+    private final TypeConverterLookupTable lookupTable = new TypeConverterLookupTable();
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -384,6 +386,19 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // attempt bulk first which is the fastest (also taking into account primitives)
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
+
+        // attempt the lookup table which has already resolved converters (and misses)
+        final TypeConverter resolved = lookupTable.get(value.getClass(), aClass);
+        if (resolved != null) {
+            statistics.incrementLookupHit();
+            final Object ret = resolved.convertTo(type, exchange, value);
+            if (ret != null) {
+                return ret;
+            }
+        } else {
+            statistics.incrementLookupMiss();
+        }
+
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
         final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
@@ -400,6 +415,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final TypeConverter assignableConverter = tryAssignableFrom(typeConvertible, converters);
         if (assignableConverter != null) {
             converters.put(typeConvertible, assignableConverter);
+            lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), assignableConverter);
             return assignableConverter.convertTo(type, exchange, value);
         }
 
@@ -407,11 +423,13 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final TypeConverter objConverter = converters.get(new TypeConvertible<>(Object.class, type));
         if (objConverter != null) {
             converters.put(typeConvertible, objConverter);
+            lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), objConverter);
             return objConverter.convertTo(type, exchange, value);
         }
 
         if (!tryConvert) {
             converters.put(typeConvertible, MISS_CONVERTER);
+            lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -423,6 +441,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (typeConverter != null) {
             final Object ret = typeConverter.convertTo(type, exchange, value);
             if (ret != null) {
+                lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), typeConverter);
                 return ret;
             }
         }
@@ -432,6 +451,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             final Object ret = superConverterTc.convertTo(type, exchange, value);
             if (ret != null) {
                 converters.put(typeConvertible, superConverterTc);
+                lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), superConverterTc);
                 return ret;
             }
         }
@@ -457,6 +477,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (rc != null) {
                 converters.put(typeConvertible, tc);
+                lookupTable.put(typeConvertible.getFrom(), typeConvertible.getTo(), tc);
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -487,6 +508,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        lookupTable.clear();
     }
 
     @Override
@@ -507,6 +529,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
             converters.put(typeConvertible, typeConverter);
+            lookupTable.clear();
             return;
         }
 
@@ -524,6 +547,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                lookupTable.clear();
             }
         }
     }
@@ -548,6 +572,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        lookupTable.clear();
         return removed != null;
     }
 
@@ -562,6 +587,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        // a new fallback may be able to convert what previously was a miss
+        lookupTable.clear();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -590,6 +617,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             converter = lookup(toType, fromType);
             if (converter != null) {
                 converters.put(typeConvertible, converter);
+                lookupTable.clear();
             }
         }
         return converter;
@@ -655,6 +683,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         statistics.logMappingStatisticsMessage(converters, MISS_CONVERTER);
 
         statistics.reset();
+        lookupTable.clear();
     }
 
     /**
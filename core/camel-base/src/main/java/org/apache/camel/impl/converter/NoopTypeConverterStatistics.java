@@ -48,6 +48,16 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
         return 0;
     }
 
+    @Override
+    public long getLookupHitCounter() {
+        return 0;
+    }
+
+    @Override
+    public long getLookupMissCounter() {
+        return 0;
+    }
+
     @Override
     public void reset() {
         // NO-OP
@@ -78,6 +88,16 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
         // NO-OP
     }
 
+    @Override
+    public void incrementLookupHit() {
+        // NO-OP
+    }
+
+    @Override
+    public void incrementLookupMiss() {
+        // NO-OP
+    }
+
     @Override
     public void incrementAttempt() {
         // NO-OP
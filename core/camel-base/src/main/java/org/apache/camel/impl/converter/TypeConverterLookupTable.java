@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TypeConverter;
+
+/**
+ * A lookup table of resolved type converters indexed by class identity, which sits in front of the converters map in
+ * {@link CoreTypeConverterRegistry} so a lookup does not need to allocate a
+ * {@link org.apache.camel.spi.TypeConvertible} key and probe the map.
+ * <p>
+ * Each class involved in a conversion is given an id (via {@link ClassValue}) and the resolved converter is stored in a
+ * two-level array indexed by [from][to]. The table is bounded by the maximum number of class ids (256 by default), so
+ * at most 256 x 256 converters are held. A class which is given no id because all the ids are in use is not cached in
+ * the table, and its conversions are looked up in the converters map, which is always the source of truth.
+ * <p>
+ * The ids are only weakly bound to their classes, so the id of a class that has been garbage collected, such as when
+ * the application that loaded it has been undeployed, is given to the next new class.
+ * <p>
+ * Misses are cached as well (negative caching), so the table must be cleared whenever type converters are added or
+ * removed.
+ */
+final class TypeConverterLookupTable {
+
+    static final int DEFAULT_MAX_CLASSES = 256;
+
+    private final int maxClasses;
+    private final ClassValue<Integer> ids = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return allocateId(type);
+        }
+    };
+    // the class of each id, guarded by the lock
+    private final WeakReference<Class<?>>[] classes;
+    private final Lock lock = new ReentrantLock();
+    private volatile AtomicReferenceArray<AtomicReferenceArray<TypeConverter>> table;
+
+    TypeConverterLookupTable() {
+        this(DEFAULT_MAX_CLASSES);
+    }
+
+    @SuppressWarnings("unchecked")
+    TypeConverterLookupTable(int maxClasses) {
+        this.maxClasses = maxClasses;
+        this.classes = new WeakReference[maxClasses];
+        this.table = new AtomicReferenceArray<>(maxClasses);
+    }
+
+    /**
+     * Gets the resolved type converter
+     *
+     * @param  from the type to convert from
+     * @param  to   the type to convert to (wrapper type for primitives)
+     * @return      the type converter (can be a miss converter), or <tt>null</tt> if not resolved in the table
+     */
+    TypeConverter get(Class<?> from, Class<?> to) {
+        final int fromId = ids.get(from);
+        if (fromId < 0) {
+            return null;
+        }
+        final int toId = ids.get(to);
+        if (toId < 0) {
+            return null;
+        }
+        final AtomicReferenceArray<TypeConverter> row = table.get(fromId);
+        return row != null ? row.get(toId) : null;
+    }
+
+    /**
+     * Stores the resolved type converter
+     *
+     * @param from          the type to convert from
+     * @param to            the type to convert to (wrapper type for primitives)
+     * @param typeConverter the type converter (can be a miss converter)
+     */
+    void put(Class<?> from, Class<?> to, TypeConverter typeConverter) {
+        final int fromId = ids.get(from);
+        final int toId = ids.get(to);
+        if (fromId < 0 || toId < 0) {
+            return;
+        }
+        final AtomicReferenceArray<AtomicReferenceArray<TypeConverter>> current = table;
+        AtomicReferenceArray<TypeConverter> row = current.get(fromId);
+        if (row == null) {
+            current.compareAndSet(fromId, null, new AtomicReferenceArray<>(maxClasses));
+            row = current.get(fromId);
+        }
+        row.set(toId, typeConverter);
+    }
+
+    /**
+     * Clears all the resolved type converters
+     */
+    void clear() {
+        table = new AtomicReferenceArray<>(maxClasses);
+    }
+
+    private int allocateId(Class<?> type) {
+        lock.lock();
+        try {
+            for (int id = 0; id < maxClasses; id++) {
+                WeakReference<Class<?>> ref = classes[id];
+                if (ref == null || ref.get() == null) {
+                    if (ref != null) {
+                        // the class of this id has been garbage collected, so its converters must not be used anymore
+                        evict(id);
+                    }
+                    classes[id] = new WeakReference<>(type);
+                    return id;
+                }
+            }
+            // all ids are in use
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(int id) {
+        final AtomicReferenceArray<AtomicReferenceArray<TypeConverter>> current = table;
+        current.set(id, null);
+        for (int i = 0; i < current.length(); i++) {
+            AtomicReferenceArray<TypeConverter> row = current.get(i);
+            if (row != null) {
+                row.set(id, null);
+            }
+        }
+    }
+
+    /**
+     * Number of resolved type converters (including misses) in the table
+     */
+    int size() {
+        final AtomicReferenceArray<AtomicReferenceArray<TypeConverter>> current = table;
+        int size = 0;
+        for (int i = 0; i < current.length(); i++) {
+            AtomicReferenceArray<TypeConverter> row = current.get(i);
+            if (row != null) {
+                for (int j = 0; j < row.length(); j++) {
+                    if (row.get(j) != null) {
+                        size++;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+}
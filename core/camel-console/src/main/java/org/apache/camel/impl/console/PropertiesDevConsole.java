@@ -44,6 +44,11 @@ public class PropertiesDevConsole extends AbstractDevConsole {
         String loc = String.join(", ", pc.getLocations());
         sb.append(String.format("Properties loaded from locations: %s", loc));
         sb.append("\n");
+        if (pc.isPlaceholderCacheEnabled()) {
+            sb.append(String.format("Placeholder cache (size: %d hits: %d misses: %d)", pc.getPlaceholderCacheSize(),
+                    pc.getPlaceholderCacheHits(), pc.getPlaceholderCacheMisses()));
+            sb.append("\n");
+        }
 
         Properties p = pc.loadProperties();
         OrderedLocationProperties olp = null;
@@ -71,6 +76,13 @@ public class PropertiesDevConsole extends AbstractDevConsole {
 
         PropertiesComponent pc = getCamelContext().getPropertiesComponent();
         root.put("locations", pc.getLocations());
+        if (pc.isPlaceholderCacheEnabled()) {
+            JsonObject jo = new JsonObject();
+            jo.put("size", pc.getPlaceholderCacheSize());
+            jo.put("hits", pc.getPlaceholderCacheHits());
+            jo.put("misses", pc.getPlaceholderCacheMisses());
+            root.put("placeholderCache", jo);
+        }
 
         JsonArray arr = new JsonArray();
         Properties p = pc.loadProperties();
@@ -150,6 +150,10 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
             if (mrb.getExchangesTotal() > 0) {
+                sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mrb.getP50ProcessingTime(), true)));
+                sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mrb.getP90ProcessingTime(), true)));
+                sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mrb.getP99ProcessingTime(), true)));
+                sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(mrb.getP999ProcessingTime(), true)));
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
             }
@@ -235,6 +239,11 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n        Max Time: %s", TimeUtils.printDuration(mp.getMaxProcessingTime(), true)));
             sb.append(String.format("\n        Min Time: %s", TimeUtils.printDuration(mp.getMinProcessingTime(), true)));
             if (mp.getExchangesTotal() > 0) {
+                sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(mp.getP50ProcessingTime(), true)));
+                sb.append(String.format("\n        P90 Time: %s", TimeUtils.printDuration(mp.getP90ProcessingTime(), true)));
+                sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(mp.getP99ProcessingTime(), true)));
+                sb.append(
+                        String.format("\n        P999 Time: %s", TimeUtils.printDuration(mp.getP999ProcessingTime(), true)));
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
                         String.format("\n        Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
@@ -327,6 +336,10 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
             if (mrb.getExchangesTotal() > 0) {
+                stats.put("p50ProcessingTime", mrb.getP50ProcessingTime());
+                stats.put("p90ProcessingTime", mrb.getP90ProcessingTime());
+                stats.put("p99ProcessingTime", mrb.getP99ProcessingTime());
+                stats.put("p999ProcessingTime", mrb.getP999ProcessingTime());
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
             }
@@ -423,6 +436,10 @@ public class RouteDevConsole extends AbstractDevConsole {
         stats.put("maxProcessingTime", mp.getMaxProcessingTime());
         stats.put("minProcessingTime", mp.getMinProcessingTime());
         if (mp.getExchangesTotal() > 0) {
+            stats.put("p50ProcessingTime", mp.getP50ProcessingTime());
+            stats.put("p90ProcessingTime", mp.getP90ProcessingTime());
+            stats.put("p99ProcessingTime", mp.getP99ProcessingTime());
+            stats.put("p999ProcessingTime", mp.getP999ProcessingTime());
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
         }
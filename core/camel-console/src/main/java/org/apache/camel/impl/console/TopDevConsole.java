@@ -86,6 +86,10 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+                    sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mrb.getP50ProcessingTime(), true)));
+                    sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mrb.getP90ProcessingTime(), true)));
+                    sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mrb.getP99ProcessingTime(), true)));
+                    sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(mrb.getP999ProcessingTime(), true)));
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                     sb.append(
@@ -142,6 +146,10 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mpb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mpb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mpb.getMinProcessingTime(), true)));
+                    sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mpb.getP50ProcessingTime(), true)));
+                    sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mpb.getP90ProcessingTime(), true)));
+                    sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mpb.getP99ProcessingTime(), true)));
+                    sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(mpb.getP999ProcessingTime(), true)));
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mpb.getLastProcessingTime(), true)));
                     sb.append(
@@ -255,6 +263,10 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mpb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mpb.getMaxProcessingTime());
         stats.put("minProcessingTime", mpb.getMinProcessingTime());
+        stats.put("p50ProcessingTime", mpb.getP50ProcessingTime());
+        stats.put("p90ProcessingTime", mpb.getP90ProcessingTime());
+        stats.put("p99ProcessingTime", mpb.getP99ProcessingTime());
+        stats.put("p999ProcessingTime", mpb.getP999ProcessingTime());
         stats.put("lastProcessingTime", mpb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mpb.getDeltaProcessingTime());
         stats.put("totalProcessingTime", mpb.getTotalProcessingTime());
@@ -269,6 +281,10 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
         stats.put("minProcessingTime", mrb.getMinProcessingTime());
+        stats.put("p50ProcessingTime", mrb.getP50ProcessingTime());
+        stats.put("p90ProcessingTime", mrb.getP90ProcessingTime());
+        stats.put("p99ProcessingTime", mrb.getP99ProcessingTime());
+        stats.put("p999ProcessingTime", mrb.getP999ProcessingTime());
         stats.put("lastProcessingTime", mrb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
         stats.put("totalProcessingTime", mrb.getTotalProcessingTime());
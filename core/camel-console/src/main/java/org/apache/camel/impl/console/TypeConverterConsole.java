@@ -45,6 +45,10 @@ public class TypeConverterConsole extends AbstractDevConsole {
         statistics.computeIfEnabled(statistics::getMissCounter, v -> sb.append(String.format("\n    Miss: %s", v)));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> sb.append(String.format("\n    Failed: %s", v)));
         statistics.computeIfEnabled(statistics::getNoopCounter, v -> sb.append(String.format("\n    Noop: %s", v)));
+        statistics.computeIfEnabled(statistics::getLookupHitCounter,
+                v -> sb.append(String.format("\n    Lookup Hit: %s", v)));
+        statistics.computeIfEnabled(statistics::getLookupMissCounter,
+                v -> sb.append(String.format("\n    Lookup Miss: %s", v)));
 
         return sb.toString();
     }
@@ -66,6 +70,8 @@ public class TypeConverterConsole extends AbstractDevConsole {
         statistics.computeIfEnabled(statistics::getMissCounter, v -> props.put("missCounter", v));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> props.put("failedCounter", v));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> props.put("noopCounter", v));
+        statistics.computeIfEnabled(statistics::getLookupHitCounter, v -> props.put("lookupHitCounter", v));
+        statistics.computeIfEnabled(statistics::getLookupMissCounter, v -> props.put("lookupMissCounter", v));
 
         if (!props.isEmpty()) {
             root.put("statistics", props);
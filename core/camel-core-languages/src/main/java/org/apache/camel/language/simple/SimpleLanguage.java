@@ -49,6 +49,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
     boolean allowEscape = true;
+    boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -60,8 +61,27 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to build the predicates of binary operators with a literal on the right hand side (such as
+     * <tt>${header.foo} == 'bar'</tt>, <tt>regex</tt>, <tt>in</tt>, <tt>range</tt> and <tt>is</tt>) once when the
+     * predicate is created, instead of on each evaluation. Operators that cannot be built up front are evaluated as
+     * usual.
+     * <p/>
+     * This can also be enabled with the global option {@link Exchange#SIMPLE_COMPILED} on the CamelContext.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
+        if (getCamelContext() != null && "true".equalsIgnoreCase(getCamelContext().getGlobalOption(Exchange.SIMPLE_COMPILED))) {
+            compiled = true;
+        }
         // setup cache which requires CamelContext to be set first
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
@@ -123,7 +143,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             // using the expression cache here with the predicate parser is okay
             SimplePredicateParser parser
-                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression, compiled);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
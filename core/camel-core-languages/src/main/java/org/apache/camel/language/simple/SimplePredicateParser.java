@@ -62,11 +62,18 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private final Map<String, Expression> cacheExpression;
+    private final boolean compiled;
 
     public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
                                  Map<String, Expression> cacheExpression) {
+        this(camelContext, expression, allowEscape, cacheExpression, false);
+    }
+
+    public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
+                                 Map<String, Expression> cacheExpression, boolean compiled) {
         super(camelContext, expression, allowEscape);
         this.cacheExpression = cacheExpression;
+        this.compiled = compiled;
     }
 
     public Predicate parsePredicate() {
@@ -325,7 +332,7 @@ public class SimplePredicateParser extends BaseSimpleParser {
         if (token.getType().isUnary()) {
             return new UnaryExpression(token);
         } else if (token.getType().isBinary()) {
-            return new BinaryExpression(token);
+            return new BinaryExpression(token, compiled);
         } else if (token.getType().isLogical()) {
             return new LogicalExpression(token);
         } else if (token.getType().isNullValue()) {
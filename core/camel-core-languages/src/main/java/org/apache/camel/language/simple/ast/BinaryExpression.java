@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -39,6 +40,11 @@ import org.apache.camel.util.StringHelper;
 
 /**
  * Represents a binary expression in the AST.
+ * <p/>
+ * When compiled mode is enabled, operators with a literal on the right hand side (such as
+ * <tt>${header.foo} == 'bar'</tt> or <tt>${body} regex '\\d+'</tt>) build their predicate once when the expression is
+ * created, instead of on each evaluation. Operators that cannot be built up front (such as functions on the right hand
+ * side, or an invalid regular expression) fall back to be evaluated as usual.
  */
 public class BinaryExpression extends BaseSimpleNode {
 
@@ -46,12 +52,18 @@ public class BinaryExpression extends BaseSimpleNode {
     private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)(\\.\\.)(\\d+)$");
 
     private final BinaryOperatorType operator;
+    private final boolean compiled;
     private SimpleNode left;
     private SimpleNode right;
 
     public BinaryExpression(SimpleToken token) {
+        this(token, false);
+    }
+
+    public BinaryExpression(SimpleToken token, boolean compiled) {
         super(token);
-        operator = BinaryOperatorType.asOperator(token.getText());
+        this.operator = BinaryOperatorType.asOperator(token.getText());
+        this.compiled = compiled;
     }
 
     @Override
@@ -89,6 +101,13 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        if (compiled) {
+            Expression answer = createCompiledExpression(camelContext, leftExp);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         if (operator == BinaryOperatorType.EQ) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
@@ -134,6 +153,157 @@ public class BinaryExpression extends BaseSimpleNode {
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
+    /**
+     * Gets the text if the right hand side is a literal (such as a quoted text without functions), which allows to
+     * build the predicate once instead of on each evaluation.
+     *
+     * @return the literal text, or <tt>null</tt> if the right hand side is not a literal
+     */
+    private String rightLiteralText() {
+        if (right instanceof LiteralExpression le && !(right instanceof SimpleFunctionExpression)) {
+            return le.getText();
+        }
+        if (!(right instanceof SingleQuoteStart sqs) || sqs.getBlock() == null) {
+            return null;
+        }
+        CompositeNodes block = sqs.getBlock();
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (child instanceof LiteralExpression le && !(child instanceof SimpleFunctionExpression)) {
+                sb.append(le.getText());
+            } else {
+                return null;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates the expression for compiled mode
+     *
+     * @return the expression, or <tt>null</tt> if the operator cannot be compiled and should be evaluated as usual
+     */
+    private Expression createCompiledExpression(final CamelContext camelContext, final Expression leftExp) {
+        if (operator == BinaryOperatorType.EQ || operator == BinaryOperatorType.NOT_EQ) {
+            return createLiteralEqualExpression(leftExp);
+        } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
+            return createLiteralIsExpression(camelContext, leftExp);
+        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
+            return createLiteralRegexExpression(leftExp);
+        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            return createLiteralInExpression(leftExp);
+        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
+            return createLiteralRangeExpression(leftExp);
+        }
+        return null;
+    }
+
+    private Expression createLiteralEqualExpression(final Expression leftExp) {
+        final String text = rightLiteralText();
+        if (text == null) {
+            return null;
+        }
+        // same semantics as the == operator, but the literal is only inspected once
+        Long number = null;
+        if (ObjectHelper.isNumber(text)) {
+            try {
+                number = Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                // let it fail when evaluated
+                return null;
+            }
+        }
+        final Long value = number;
+        Predicate predicate = exchange -> {
+            Object leftValue = leftExp.evaluate(exchange, Object.class);
+            if (leftValue instanceof String str) {
+                if (value != null && ObjectHelper.isNumber(str)) {
+                    return Long.parseLong(str) == value;
+                }
+                return text.equals(str);
+            } else if (leftValue == null) {
+                return false;
+            }
+            return ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), leftValue, text);
+        };
+        if (operator == BinaryOperatorType.NOT_EQ) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return new PredicateExpression(predicate, toString(), true);
+    }
+
+    private Expression createLiteralIsExpression(final CamelContext camelContext, final Expression leftExp) {
+        String name = rightLiteralText();
+        if (name == null || name.isEmpty() || "null".equals(name)) {
+            return null;
+        }
+        Class<?> rightType = camelContext.getClassResolver().resolveClass(name);
+        if (rightType == null) {
+            // let it fail when evaluated
+            return null;
+        }
+        Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+        if (operator == BinaryOperatorType.NOT_IS) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return new PredicateExpression(predicate, toString(), true);
+    }
+
+    private Expression createLiteralRegexExpression(final Expression leftExp) {
+        String regex = rightLiteralText();
+        if (regex == null) {
+            return null;
+        }
+        try {
+            Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            // let it fail when evaluated
+            return null;
+        }
+        Predicate predicate = PredicateBuilder.regex(leftExp, regex);
+        if (operator == BinaryOperatorType.NOT_REGEX) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return new PredicateExpression(predicate, toString(), true);
+    }
+
+    private Expression createLiteralInExpression(final Expression leftExp) {
+        String text = rightLiteralText();
+        if (text == null) {
+            return null;
+        }
+        Iterator<?> it = ObjectHelper.createIterator(text);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        Predicate predicate = new ValueBuilder(leftExp).in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return new PredicateExpression(predicate, toString(), true);
+    }
+
+    private Expression createLiteralRangeExpression(final Expression leftExp) {
+        String range = rightLiteralText();
+        if (range == null) {
+            return null;
+        }
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+            // let it fail when evaluated
+            return null;
+        }
+        Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+        Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+        Predicate predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+        predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return new PredicateExpression(predicate, toString(), true);
+    }
+
     private Expression createIsExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
         return new Expression() {
@@ -267,18 +437,7 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
+        return new PredicateExpression(predicate, left + " " + token.getText() + " " + right, false);
     }
 
     @Override
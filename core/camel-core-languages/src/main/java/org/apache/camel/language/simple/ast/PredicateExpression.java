@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+
+/**
+ * An {@link Expression} which is also a {@link Predicate}.
+ * <p/>
+ * Operators in the AST that can be fully built when the expression is created (such as when the right hand side is a
+ * literal) use this, so the predicate is built once during route initialization and can be used directly by the
+ * predicate parser, instead of being adapted and re-created on each exchange.
+ * <p/>
+ * Only predicates built up front are initialized from {@link #init(CamelContext)}, as the other operators are built from
+ * expressions which have already been initialized when they were created.
+ */
+final class PredicateExpression implements Expression, Predicate {
+
+    private final Predicate predicate;
+    private final String text;
+    private final boolean init;
+
+    PredicateExpression(Predicate predicate, String text, boolean init) {
+        this.predicate = predicate;
+        this.text = text;
+        this.init = init;
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        return predicate.matches(exchange);
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        boolean answer = predicate.matches(exchange);
+        return exchange.getContext().getTypeConverter().convertTo(type, answer);
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        if (init) {
+            predicate.init(context);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String stripedLocking;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -173,6 +176,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                 ? source.optimisticLockRetryPolicyDefinition.copyDefinition() : null;
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
+        this.stripedLocking = source.stripedLocking;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -501,6 +505,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getStripedLocking() {
+        return stripedLocking;
+    }
+
+    public void setStripedLocking(String stripedLocking) {
+        this.stripedLocking = stripedLocking;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1000,6 +1012,30 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on using striped locking, where exchanges are locked per correlation key (using a fixed number of lock
+     * stripes) instead of using a single lock for all correlation keys. This allows exchanges with different
+     * correlation keys to be aggregated in parallel, which reduces lock contention when there are many correlation
+     * groups. The aggregationRepository being used must be thread-safe for different correlation keys. This cannot be
+     * used together with optimistic locking or completionFromBatchConsumer.
+     */
+    public AggregateDefinition stripedLocking() {
+        setStripedLocking(Boolean.toString(true));
+        return this;
+    }
+
+    /**
+     * Turns on using striped locking, where exchanges are locked per correlation key (using a fixed number of lock
+     * stripes) instead of using a single lock for all correlation keys. This allows exchanges with different
+     * correlation keys to be aggregated in parallel, which reduces lock contention when there are many correlation
+     * groups. The aggregationRepository being used must be thread-safe for different correlation keys. This cannot be
+     * used together with optimistic locking or completionFromBatchConsumer.
+     */
+    public AggregateDefinition stripedLocking(boolean stripedLocking) {
+        setStripedLocking(Boolean.toString(stripedLocking));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
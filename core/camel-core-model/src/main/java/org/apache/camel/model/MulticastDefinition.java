@@ -65,6 +65,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String parallelProcessing;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String virtualThreads;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxConcurrentTasks;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String synchronous;
     @XmlAttribute
@@ -99,6 +105,8 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.aggregationStrategyMethodAllowNull = source.aggregationStrategyMethodAllowNull;
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
+        this.virtualThreads = source.virtualThreads;
+        this.maxConcurrentTasks = source.maxConcurrentTasks;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
@@ -262,6 +270,67 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition virtualThreads() {
+        return virtualThreads(true);
+    }
+
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
+    /**
+     * The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional
+     * sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition maxConcurrentTasks(int maxConcurrentTasks) {
+        return maxConcurrentTasks(Integer.toString(maxConcurrentTasks));
+    }
+
+    /**
+     * The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional
+     * sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition maxConcurrentTasks(String maxConcurrentTasks) {
+        setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     /**
      * Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to
      * continue routing after the multicast is complete, even if parallel processing is enabled.
@@ -500,6 +569,22 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.parallelProcessing = parallelProcessing;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public String getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(String maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     public String getSynchronous() {
         return synchronous;
     }
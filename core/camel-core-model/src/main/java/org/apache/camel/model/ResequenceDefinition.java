@@ -201,6 +201,21 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Keeps the messages by their long sequence numbers instead of sorting them with the comparator, which is faster.
+     * This requires the sequence numbers to be long values where the next message has the sequence number incremented
+     * by one, such as with the default comparator.
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition longSequence() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("longSequence() only supported for stream resequencer");
+        }
+        streamConfig.setLongSequence(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      *
@@ -65,12 +65,21 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String parallelProcessing;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String virtualThreads;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxConcurrentTasks;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String synchronous;
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxInFlight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -100,8 +109,11 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.aggregationStrategyMethodAllowNull = source.aggregationStrategyMethodAllowNull;
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
+        this.virtualThreads = source.virtualThreads;
+        this.maxConcurrentTasks = source.maxConcurrentTasks;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.maxInFlight = source.maxInFlight;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -281,6 +293,67 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public SplitDefinition virtualThreads() {
+        return virtualThreads(true);
+    }
+
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public SplitDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    /**
+     * When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of
+     * using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as
+     * the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to
+     * limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are
+     * used. This option is ignored if a custom thread pool is configured with executorService.
+     *
+     * @return the builder
+     */
+    public SplitDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
+    /**
+     * The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional
+     * sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxConcurrentTasks(int maxConcurrentTasks) {
+        return maxConcurrentTasks(Integer.toString(maxConcurrentTasks));
+    }
+
+    /**
+     * The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional
+     * sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxConcurrentTasks(String maxConcurrentTasks) {
+        setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     /**
      * If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would
      * require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false
@@ -410,6 +483,33 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * The maximum number of split messages that can be in-flight (sent but not yet aggregated) at the same time, when
+     * parallel processing is enabled. When the limit is reached then the splitter stops reading from the iterator until
+     * earlier split messages have been aggregated, which keeps memory bounded when splitting big payloads in streaming
+     * mode with a slow downstream. When in use, then the replies are aggregated in the same order as the messages were
+     * split, also in streaming mode. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * The maximum number of split messages that can be in-flight (sent but not yet aggregated) at the same time, when
+     * parallel processing is enabled. When the limit is reached then the splitter stops reading from the iterator until
+     * earlier split messages have been aggregated, which keeps memory bounded when splitting big payloads in streaming
+     * mode with a slow downstream. When in use, then the replies are aggregated in the same order as the messages were
+     * split, also in streaming mode. Use 0 for unbounded.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -614,6 +714,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = parallelProcessing;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public String getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(String maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     public String getSynchronous() {
         return synchronous;
     }
@@ -630,6 +746,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -45,7 +45,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests")
+              enums = "TotalRequests,ConcurrentRequests,TokenBucket")
     private String mode;
     @XmlElement(name = "correlationExpression")
     private ExpressionSubElementDefinition correlationExpression;
@@ -64,6 +64,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "100000", javaType = "java.lang.Integer")
+    private String maximumCorrelationKeys;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -80,6 +83,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.maximumCorrelationKeys = source.maximumCorrelationKeys;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -117,13 +121,18 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition tokenBucketMode() {
+        this.mode = ThrottlingMode.TokenBucket.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
     }
 
     protected String description() {
-        if (mode.equals(ThrottlingMode.TotalRequests.name())) {
+        if (isTimePeriodMode()) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
         } else {
             return getExpression() + " maximum concurrent requests";
@@ -331,6 +340,33 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * The maximum number of correlation keys to keep the throttling state for, when using the token bucket mode. When
+     * exceeded then the state of the least recently used key is evicted.
+     * <p/>
+     * Is by default <tt>100000</tt>
+     *
+     * @param  maximumCorrelationKeys the maximum number of correlation keys
+     * @return                        the builder
+     */
+    public ThrottleDefinition maximumCorrelationKeys(int maximumCorrelationKeys) {
+        return maximumCorrelationKeys(Integer.toString(maximumCorrelationKeys));
+    }
+
+    /**
+     * The maximum number of correlation keys to keep the throttling state for, when using the token bucket mode. When
+     * exceeded then the state of the least recently used key is evicted.
+     * <p/>
+     * Is by default <tt>100000</tt>
+     *
+     * @param  maximumCorrelationKeys the maximum number of correlation keys
+     * @return                        the builder
+     */
+    public ThrottleDefinition maximumCorrelationKeys(String maximumCorrelationKeys) {
+        setMaximumCorrelationKeys(maximumCorrelationKeys);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -358,8 +394,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `TokenBucket`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -392,21 +428,36 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     public String getTimePeriodMillis() {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isTimePeriodMode()) {
             return timePeriodMillis;
         }
 
-        throw new IllegalArgumentException("Time period in millis can only be obtained when using total requests mode");
+        throw new IllegalArgumentException(
+                "Time period in millis can only be obtained when using total requests or token bucket mode");
     }
 
     public void setTimePeriodMillis(String timePeriodMillis) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isTimePeriodMode()) {
             this.timePeriodMillis = timePeriodMillis;
         } else {
-            throw new IllegalArgumentException("Time period in millis can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                    "Time period in millis can only be set when using total requests or token bucket mode");
         }
     }
 
+    private boolean isTimePeriodMode() {
+        ThrottlingMode throttlingMode = ThrottlingMode.toMode(mode);
+        return throttlingMode == ThrottlingMode.TotalRequests || throttlingMode == ThrottlingMode.TokenBucket;
+    }
+
+    public String getMaximumCorrelationKeys() {
+        return maximumCorrelationKeys;
+    }
+
+    public void setMaximumCorrelationKeys(String maximumCorrelationKeys) {
+        this.maximumCorrelationKeys = maximumCorrelationKeys;
+    }
+
     public String getAsyncDelayed() {
         return asyncDelayed;
     }
@@ -458,8 +509,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *             `ConcurrentRequests`
+     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *             `ConcurrentRequests` or `TokenBucket`
      * @see        ThrottlingMode
      */
     public void setMode(String mode) {
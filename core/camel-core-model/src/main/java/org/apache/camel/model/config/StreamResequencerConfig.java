@@ -54,6 +54,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "org.apache.camel.processor.resequencer.ExpressionResultComparator")
     private String comparator;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String longSequence;
 
     /**
      * Creates a new {@link StreamResequencerConfig} instance using default values for <code>capacity</code> (1000) and
@@ -123,6 +126,7 @@ public class StreamResequencerConfig extends ResequencerConfig {
         this.ignoreInvalidExchanges = source.ignoreInvalidExchanges;
         this.rejectOld = source.rejectOld;
         this.comparator = source.comparator;
+        this.longSequence = source.longSequence;
     }
 
     @Override
@@ -219,4 +223,18 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public String getLongSequence() {
+        return longSequence;
+    }
+
+    /**
+     * Whether the sequence numbers are long values where the next message has the sequence number incremented by one
+     * (such as with the default comparator). Then the messages are kept by their sequence numbers instead of being
+     * sorted with the comparator, which is faster. The comparator must be a
+     * org.apache.camel.processor.resequencer.LongSequenceElementComparator type.
+     */
+    public void setLongSequence(String longSequence) {
+        this.longSequence = longSequence;
+    }
+
 }
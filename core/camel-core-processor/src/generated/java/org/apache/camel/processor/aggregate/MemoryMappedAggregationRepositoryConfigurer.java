@@ -0,0 +1,93 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.processor.aggregate;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class MemoryMappedAggregationRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository target = (org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
+        case "deadletteruri":
+        case "deadLetterUri": target.setDeadLetterUri(property(camelContext, java.lang.String.class, value)); return true;
+        case "directory": target.setDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maximumredeliveries":
+        case "maximumRedeliveries": target.setMaximumRedeliveries(property(camelContext, int.class, value)); return true;
+        case "recoveryinterval":
+        case "recoveryInterval": target.setRecoveryInterval(property(camelContext, long.class, value)); return true;
+        case "returnoldexchange":
+        case "returnOldExchange": target.setReturnOldExchange(property(camelContext, boolean.class, value)); return true;
+        case "segmentsize":
+        case "segmentSize": target.setSegmentSize(property(camelContext, int.class, value)); return true;
+        case "sync": target.setSync(property(camelContext, boolean.class, value)); return true;
+        case "userecovery":
+        case "useRecovery": target.setUseRecovery(property(camelContext, boolean.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": return boolean.class;
+        case "deadletteruri":
+        case "deadLetterUri": return java.lang.String.class;
+        case "directory": return java.lang.String.class;
+        case "maximumredeliveries":
+        case "maximumRedeliveries": return int.class;
+        case "recoveryinterval":
+        case "recoveryInterval": return long.class;
+        case "returnoldexchange":
+        case "returnOldExchange": return boolean.class;
+        case "segmentsize":
+        case "segmentSize": return int.class;
+        case "sync": return boolean.class;
+        case "userecovery":
+        case "useRecovery": return boolean.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository target = (org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
+        case "deadletteruri":
+        case "deadLetterUri": return target.getDeadLetterUri();
+        case "directory": return target.getDirectory();
+        case "maximumredeliveries":
+        case "maximumRedeliveries": return target.getMaximumRedeliveries();
+        case "recoveryinterval":
+        case "recoveryInterval": return target.getRecoveryInterval();
+        case "returnoldexchange":
+        case "returnOldExchange": return target.isReturnOldExchange();
+        case "segmentsize":
+        case "segmentSize": return target.getSegmentSize();
+        case "sync": return target.isSync();
+        case "userecovery":
+        case "useRecovery": return target.isUseRecovery();
+        default: return null;
+        }
+    }
+}
+
@@ -32,6 +32,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -186,6 +187,10 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final int cacheSize;
     private final Map<Processor, Processor> errorHandlers;
     private final boolean shareUnitOfWork;
+    private int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong windowFullCounter = new AtomicLong();
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -285,6 +290,55 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    /**
+     * The maximum number of sub exchanges that can be in-flight (sent but not yet aggregated) at the same time, when
+     * using parallel processing. When the window is full then no further sub exchanges are pulled from the iterator
+     * until earlier ones have been aggregated. The replies are aggregated in the same order as they were sent, also in
+     * streaming mode. A value of 0 or less means unbounded.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Number of sub exchanges currently in-flight across all the exchanges being processed (only tracked when
+     * maxInFlight is in use)
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The highest number of sub exchanges that has been in-flight for a single exchange (only tracked when maxInFlight
+     * is in use)
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    /**
+     * Number of times the in-flight window was full, and pulling from the iterator was paused
+     */
+    public long getWindowFullCounter() {
+        return windowFullCounter.get();
+    }
+
+    /**
+     * Resets the in-flight window statistics
+     */
+    public void resetWindowStatistics() {
+        peakInFlight.set(0);
+        windowFullCounter.set(0);
+    }
+
+    protected boolean isWindowEnabled() {
+        return maxInFlight > 0 && isParallelProcessing();
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -410,6 +464,7 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -432,11 +487,14 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // when using a bounded in-flight window then the completion service is always ordered, as it then acts
+            // as a reorder buffer which is bounded by the size of the window
+            boolean ordered = !isStreaming() || isWindowEnabled();
             if (capacity > 0) {
                 this.completion
-                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock, capacity);
+                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock);
             }
         }
 
@@ -459,6 +517,10 @@ public class MulticastProcessor extends BaseProcessorSupport
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
                         doAggregate(result, exchange, original);
+                        onAggregated(original, exchange, result.get());
+                        if (isWindowEnabled()) {
+                            inFlight.decrementAndGet();
+                        }
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
                         }
@@ -471,12 +533,70 @@ public class MulticastProcessor extends BaseProcessorSupport
                     lock.unlock();
                 }
             }
+            if (paused.get()) {
+                resume();
+            }
+        }
+
+        /**
+         * Number of sub exchanges sent but not yet aggregated
+         */
+        protected int inFlight() {
+            return nbExchangeSent.get() - nbAggregated.get();
+        }
+
+        /**
+         * Records that a sub exchange has been sent, when using a bounded in-flight window
+         */
+        protected void onSent() {
+            inFlight.incrementAndGet();
+            int current = inFlight();
+            peakInFlight.accumulateAndGet(current, Math::max);
+        }
+
+        /**
+         * Pauses pulling from the iterator if the in-flight window is full.
+         *
+         * @return <tt>true</tt> if paused, in which case the task is scheduled again when the window has room
+         */
+        protected boolean pauseIfWindowFull() {
+            if (inFlight() < maxInFlight) {
+                return false;
+            }
+            windowFullCounter.incrementAndGet();
+            paused.set(true);
+            // the window may have been drained concurrently before we were marked as paused
+            resume();
+            return true;
+        }
+
+        /**
+         * Resumes pulling from the iterator if paused and the in-flight window has room again
+         */
+        protected void resume() {
+            if (!done.get() && inFlight() < maxInFlight && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        /**
+         * Removes the sub exchanges that are still in-flight from the window statistics
+         */
+        protected void releaseInFlight() {
+            if (isWindowEnabled()) {
+                int remaining = inFlight();
+                if (remaining > 0) {
+                    inFlight.addAndGet(-remaining);
+                }
+            }
         }
 
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
                 try {
+                    // all the remaining sub exchanges are aggregated or timed out below
+                    releaseInFlight();
                     while (nbAggregated.get() < nbExchangeSent.get()) {
                         Exchange exchange = completion.pollUnordered();
                         int index = exchange != null ? getExchangeIndex(exchange) : nbExchangeSent.get();
@@ -512,6 +632,7 @@ public class MulticastProcessor extends BaseProcessorSupport
 
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                releaseInFlight();
                 // cancel timeout if we are done normally (we cannot cancel if called via onTimeout)
                 if (timeoutTask != null) {
                     try {
@@ -567,6 +688,9 @@ public class MulticastProcessor extends BaseProcessorSupport
                 if (!hasNext) {
                     allSent.set(true);
                 }
+                if (isWindowEnabled()) {
+                    onSent();
+                }
 
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
@@ -624,7 +748,8 @@ public class MulticastProcessor extends BaseProcessorSupport
                     }
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // unless the in-flight window is full, then aggregating will resume pulling from the iterator
+                if (hasNext && isParallelProcessing() && (!isWindowEnabled() || !pauseIfWindowFull())) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -944,6 +1069,20 @@ public class MulticastProcessor extends BaseProcessorSupport
         }
     }
 
+    /**
+     * Invoked when a sub exchange has been aggregated with the current result.
+     * <p/>
+     * The sub exchanges are by default released back to the {@link ProcessorExchangeFactory} when all the sub exchanges
+     * are done, however this allows releasing the sub exchange earlier if it is no longer in use.
+     *
+     * @param original    the original exchange
+     * @param subExchange the sub exchange that has been aggregated
+     * @param result      the current result of the aggregation
+     */
+    protected void onAggregated(Exchange original, Exchange subExchange, Exchange result) {
+        // noop
+    }
+
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
         exchange.setProperty(ExchangePropertyKey.MULTICAST_INDEX, index);
         if (hasNext) {
@@ -970,8 +1109,9 @@ public class MulticastProcessor extends BaseProcessorSupport
 
         int index = 0;
         for (Processor processor : processors) {
-            // copy exchange, and do not share the unit of work
-            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+            // copy exchange, and do not share the unit of work, the headers and properties are copied on write
+            // as most processors only read them
+            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false, true);
             copy.getExchangeExtension().setTransacted(exchange.isTransacted());
             // If we are in a transaction, set TRANSACTION_CONTEXT_DATA property for new exchanges to share txData
             // during the transaction.
@@ -213,8 +213,8 @@ public class Splitter extends MulticastProcessor implements AsyncProcessor, Trac
                     Object part = iterator.next();
                     if (part != null) {
                         // create a correlated copy as the new exchange to be routed in the splitter from the copy
-                        // and do not share the unit of work
-                        Exchange newExchange = processorExchangeFactory.createCorrelatedCopy(copy, false);
+                        // and do not share the unit of work, the headers and properties are copied on write
+                        Exchange newExchange = processorExchangeFactory.createCorrelatedCopy(copy, false, true);
                         newExchange.getExchangeExtension().setTransacted(original.isTransacted());
                         // If we are in a transaction, set TRANSACTION_CONTEXT_DATA property for new exchanges to share txData
                         // during the transaction.
@@ -287,6 +287,24 @@ public class Splitter extends MulticastProcessor implements AsyncProcessor, Trac
         return result;
     }
 
+    @Override
+    protected void onAggregated(Exchange original, Exchange subExchange, Exchange result) {
+        // in streaming mode the sub exchanges cannot be iterated again to release them when all are done,
+        // so release the sub exchange when it has been aggregated and the aggregation strategy does not keep it
+        // (such as the default strategy that keeps the original), which allows pooling the sub exchanges
+        if (isStreaming() && subExchange != result && subExchange != original && isUseOriginal(original)) {
+            processorExchangeFactory.release(subExchange);
+        }
+    }
+
+    private boolean isUseOriginal(Exchange original) {
+        AggregationStrategy strategy = getAggregationStrategy(original);
+        if (strategy instanceof ShareUnitOfWorkAggregationStrategy share) {
+            strategy = share.getDelegate();
+        }
+        return strategy instanceof UseOriginalAggregationStrategy;
+    }
+
     @Override
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
         exchange.setProperty(ExchangePropertyKey.SPLIT_INDEX, index);
@@ -31,6 +31,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.resequencer.LongSequenceElementComparator;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
@@ -85,9 +86,22 @@ public class StreamResequencer extends BaseProcessorSupport
      */
     public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
                              Expression expression) {
+        this(camelContext, processor, comparator, expression, false);
+    }
+
+    /**
+     * Creates a new {@link StreamResequencer} instance.
+     *
+     * @param processor    next processor that processes re-ordered exchanges.
+     * @param comparator   a sequence element comparator for exchanges.
+     * @param longSequence whether to keep the exchanges keyed by their long sequence numbers, which requires the
+     *                     comparator to be a {@link LongSequenceElementComparator}.
+     */
+    public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
+                             Expression expression, boolean longSequence) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
-        this.engine = new ResequencerEngine<>(comparator);
+        this.engine = new ResequencerEngine<>(comparator, longSequence);
         this.engine.setSequenceSender(this);
         this.processor = processor;
         this.expression = expression;
@@ -239,7 +253,7 @@ public class StreamResequencer extends BaseProcessorSupport
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         try {
-            engine.waitUntil(s -> s.size() < capacity);
+            engine.waitUntilCondition(s -> s.size() < capacity);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             // we were interrupted so break out
@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> that uses a token bucket to limit the rate of
+ * message exchanges which can be sent to a processor.
+ * <p/>
+ * The bucket holds up to maximumRequests tokens, and is refilled with maximumRequests tokens per timePeriodMillis,
+ * which means bursts of up to maximumRequests are allowed, and the sustained rate is maximumRequests per period.
+ * <p/>
+ * This throttle implementation is thread-safe and lock-free. The state of each bucket is a single timestamp (the time
+ * at which the bucket will be full again, based on {@link System#nanoTime()}), which is updated using compare and set.
+ * There are no permit objects, and a delayed exchange reserves its token up front, so the asynchronous delay is a
+ * single scheduled task that continues routing via the {@link ReactiveExecutor} without competing for the token again.
+ * <p/>
+ * When using a correlation expression, the bucket for each correlation key is kept in a LRU cache (bounded by
+ * maximumCorrelationKeys, and touched on every use so the least recently used key is evicted), and buckets that have been idle long enough to be full again are evicted periodically, as
+ * they would behave the same as a new bucket.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    public static final int DEFAULT_MAXIMUM_CORRELATION_KEYS = 100000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    // marks a bucket which has been evicted (nano time is not expected to ever be this exact value)
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final ReactiveExecutor reactiveExecutor;
+    private long timePeriodMillis;
+    private int maximumCorrelationKeys = DEFAULT_MAXIMUM_CORRELATION_KEYS;
+    private Map<String, ThrottlingState> states;
+    private ScheduledFuture<?> cleanFuture;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+        this.reactiveExecutor = camelContext.getCamelContextExtension().getReactiveExecutor();
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            int rate = evaluateMaxRequestsPerPeriod(exchange, key);
+            long periodNanos = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            boolean reserve = !isRejectExecution();
+
+            long delay;
+            do {
+                ThrottlingState throttlingState = states.get(key);
+                if (throttlingState == null) {
+                    throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+                } else if (correlationExpression != null) {
+                    // the LRU cache may only track writes, so touch the state to not evict the busiest keys
+                    states.replace(key, throttlingState, throttlingState);
+                }
+                if (throttlingState.throttleRate != rate) {
+                    throttlingState.throttleRate = rate;
+                }
+                delay = throttlingState.acquire(rate, periodNanos, reserve);
+                if (delay == EVICTED) {
+                    // evicted concurrently so remove it (if not already done) and use a new state
+                    states.remove(key, throttlingState);
+                }
+            } while (delay == EVICTED);
+
+            if (delay <= 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            } else if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + rate + " within " + timePeriodMillis + "ms");
+            } else if (isAsyncDelayed() && !exchange.isTransacted()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so scheduling async processing, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                return processAsynchronously(exchange, callback, delay);
+            } else {
+                // the token is reserved so we only need to wait until its time is due
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                            exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+
+            callback.done(true);
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, true);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, true);
+        }
+    }
+
+    /**
+     * Schedules the exchange to continue routing when its reserved token is due, without blocking the current thread.
+     * Except if the executor rejects the task and isCallerRunsWhenRejected() is enabled, then the current thread waits
+     * instead.
+     */
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback, long delay)
+            throws InterruptedException {
+        try {
+            asyncExecutor.schedule(() -> reactiveExecutor.schedule(() -> {
+                if (!isRunAllowed()) {
+                    exchange.setException(new RejectedExecutionException("Run is not allowed"));
+                }
+                callback.done(false);
+            }), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+                callback.done(true);
+                return true;
+            }
+            throw e;
+        }
+    }
+
+    private int evaluateMaxRequestsPerPeriod(final Exchange exchange, String key) {
+        Integer newThrottle = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+        if (newThrottle == null) {
+            ThrottlingState throttlingState = states.get(key);
+            if (throttlingState == null || throttlingState.throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                        exchange);
+            }
+            // keep using the last known rate
+            return throttlingState.throttleRate;
+        }
+        if (newThrottle <= 0) {
+            throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+        }
+        return newThrottle;
+    }
+
+    /**
+     * Evicts the buckets that are full (have been idle for a period) as they behave the same as a new bucket.
+     */
+    protected void evictIdleStates() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (ThrottlingState throttlingState : states.values()) {
+            if (throttlingState.tryEvictIdle(now)) {
+                states.remove(throttlingState.getKey(), throttlingState);
+                count++;
+            }
+        }
+        if (count > 0 && LOG.isTraceEnabled()) {
+            LOG.trace("Evicted {} idle throttling states", count);
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        states = LRUCacheFactory.newLRUCache(maximumCorrelationKeys, ThrottlingState::evict);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+        if (asyncExecutor != null && correlationExpression != null) {
+            long cleanPeriodMillis = timePeriodMillis * 10;
+            cleanFuture = asyncExecutor.scheduleWithFixedDelay(this::evictIdleStates, cleanPeriodMillis,
+                    cleanPeriodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+            cleanFuture = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        if (states != null) {
+            states.clear();
+        }
+        super.doShutdown();
+    }
+
+    protected static class ThrottlingState {
+        private final String key;
+        // the time at which the bucket is full again (the theoretical arrival time of the next request)
+        private final AtomicLong fullAt = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        ThrottlingState(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Takes a token from the bucket.
+         *
+         * @param  rate        the number of tokens per period (and the capacity of the bucket)
+         * @param  periodNanos the period in nanos
+         * @param  reserve     whether to reserve a token (to be used later) when the bucket is empty
+         * @return             0 if a token was taken, the delay in nanos until a token is available (or the reserved
+         *                     token is due), or EVICTED if this bucket has been evicted.
+         */
+        long acquire(int rate, long periodNanos, boolean reserve) {
+            long interval = Math.max(1, periodNanos / rate);
+            while (true) {
+                long now = System.nanoTime();
+                long current = fullAt.get();
+                if (current == EVICTED) {
+                    return EVICTED;
+                }
+                long next = (current - now > 0 ? current : now) + interval;
+                long delay = next - now - periodNanos;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return Math.max(0, delay);
+                }
+            }
+        }
+
+        boolean tryEvictIdle(long now) {
+            long current = fullAt.get();
+            return current != EVICTED && now - current >= 0 && fullAt.compareAndSet(current, EVICTED);
+        }
+
+        void evict() {
+            fullAt.set(EVICTED);
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
+     * than the max per period within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        if (states == null) {
+            return 0;
+        }
+        return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
+    }
+
+    /**
+     * Gets the number of correlation keys which currently have a throttling state
+     */
+    public int getCorrelationKeysSize() {
+        return states != null ? states.size() : 0;
+    }
+
+    /**
+     * Sets the time period during which the maximum number of requests apply
+     */
+    public void setTimePeriodMillis(final long timePeriodMillis) {
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    public int getMaximumCorrelationKeys() {
+        return maximumCorrelationKeys;
+    }
+
+    /**
+     * Sets the maximum number of correlation keys to keep throttling state for. When exceeded then the least recently
+     * used state is evicted. Must be set before the throttler is initialized.
+     */
+    public void setMaximumCorrelationKeys(int maximumCorrelationKeys) {
+        this.maximumCorrelationKeys = maximumCorrelationKeys;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -248,7 +248,8 @@ public class WireTapProcessor extends BaseProcessorSupport
 
     private Exchange configureCopyExchange(Exchange exchange) throws IOException {
         // must use a copy as we dont want it to cause side effects of the original exchange
-        Exchange target = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        // (the headers and properties are copied on write, so neither exchange sees changes made by the other)
+        Exchange target = processorExchangeFactory.createCorrelatedCopy(exchange, false, true);
         // should not be correlated, but we needed to copy without handover
         target.removeProperty(ExchangePropertyKey.CORRELATION_ID);
         // set MEP to InOnly as this wire tap is a fire and forget
@@ -100,6 +100,7 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -141,6 +142,8 @@ public class AggregateProcessor extends BaseProcessorSupport
     private final AtomicLong completedByBatchConsumer = new AtomicLong();
     private final AtomicLong completedByForce = new AtomicLong();
     private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong lockContended = new AtomicLong();
+    private final AtomicLong lockWaitTime = new AtomicLong();
     private final AtomicBoolean recoveryInProgress = new AtomicBoolean(false);
 
     // keep booking about redelivery
@@ -202,6 +205,16 @@ public class AggregateProcessor extends BaseProcessorSupport
             return discarded.get();
         }
 
+        @Override
+        public long getLockContended() {
+            return lockContended.get();
+        }
+
+        @Override
+        public long getLockWaitTime() {
+            return lockWaitTime.get();
+        }
+
         @Override
         public void reset() {
             totalIn.set(0);
@@ -213,6 +226,8 @@ public class AggregateProcessor extends BaseProcessorSupport
             completedByBatchConsumer.set(0);
             completedByForce.set(0);
             discarded.set(0);
+            lockContended.set(0);
+            lockWaitTime.set(0);
         }
 
         @Override
@@ -231,6 +246,8 @@ public class AggregateProcessor extends BaseProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private boolean stripedLocking;
+    private int stripedLockingSize;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +421,16 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // only used by striped locking, where the other groups cannot be completed while holding the lock of this group
+        AtomicBoolean completeOtherGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock groupLock = lockFor(key);
+        acquireLock(groupLock);
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeOtherGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +439,10 @@ public class AggregateProcessor extends BaseProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeOtherGroups != null && completeOtherGroups.get()) {
+            doForceCompletionOfAllGroups(key);
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -472,11 +496,14 @@ public class AggregateProcessor extends BaseProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeOtherGroups                     when using striped locking, this is set to <tt>true</tt> if all
+     *                                                 the other groups should be completed after the lock is released
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeOtherGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -576,10 +603,18 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeOtherGroups != null) {
+                completeOtherGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
-            forceCompletionOfAllGroups();
+            if (completeOtherGroups != null) {
+                completeOtherGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         }
 
         // special for some repository implementations
@@ -1109,6 +1144,31 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public boolean isStripedLocking() {
+        return stripedLocking;
+    }
+
+    /**
+     * Whether to lock per correlation key, using a fixed number of lock stripes, instead of a single lock shared by all
+     * the correlation keys. This allows exchanges with different correlation keys to be aggregated in parallel. The
+     * aggregation repository must be thread-safe for different keys, which {@link MemoryAggregationRepository} is.
+     */
+    public void setStripedLocking(boolean stripedLocking) {
+        this.stripedLocking = stripedLocking;
+    }
+
+    public int getStripedLockingSize() {
+        return stripedLockingSize;
+    }
+
+    /**
+     * Number of lock stripes to use with striped locking, which is rounded up to a power of two. Is by default 4 times
+     * the number of processors (minimum 16).
+     */
+    public void setStripedLockingSize(int stripedLockingSize) {
+        this.stripedLockingSize = stripedLockingSize;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1270,12 +1330,18 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (with striped locking there is no shared lock, so the timeout map must lock itself)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || stripedLocking);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
+            if (stripedLocking) {
+                // the lock of each group is acquired when evicted
+                super.purge();
+                return;
+            }
             // wait for lock to be created
             if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
@@ -1300,6 +1366,11 @@ public class AggregateProcessor extends BaseProcessorSupport
                 return;
             }
 
+            if (stripedLocking) {
+                onStripedEviction(key);
+                return;
+            }
+
             // get the aggregated exchange
             boolean evictionStolen = false;
             Exchange answer = aggregationRepository.get(camelContext, key);
@@ -1324,6 +1395,28 @@ public class AggregateProcessor extends BaseProcessorSupport
                         exchangeId, key);
             }
         }
+
+        private void onStripedEviction(String key) {
+            Exchange answer = null;
+            Lock groupLock = lockFor(key);
+            acquireLock(groupLock);
+            try {
+                // a new exchange may have been aggregated to the group after it was evicted, which tracks the timeout again
+                if (get(key) == null) {
+                    answer = aggregationRepository.get(camelContext, key);
+                    if (answer != null) {
+                        // indicate it was completed by timeout
+                        answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+                        answer = onCompletion(key, answer, answer, true, false);
+                    }
+                }
+            } finally {
+                groupLock.unlock();
+            }
+            if (answer != null) {
+                onSubmitCompletion(key, answer);
+            }
+        }
     }
 
     /**
@@ -1345,7 +1438,11 @@ public class AggregateProcessor extends BaseProcessorSupport
             // trigger completion for all in the repository
             Set<String> keys = aggregationRepository.getKeys();
 
-            if (keys != null && !keys.isEmpty()) {
+            if (keys != null && !keys.isEmpty() && stripedLocking) {
+                for (String key : keys) {
+                    completeStripedGroup(key, COMPLETED_BY_INTERVAL);
+                }
+            } else if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
                 lock.lock();
                 try {
@@ -1415,7 +1512,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1492,7 +1589,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1557,6 +1654,15 @@ public class AggregateProcessor extends BaseProcessorSupport
             }
             LOG.info("Optimistic locking is enabled");
         }
+        if (stripedLocking) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Striped locking cannot be used together with optimistic locking");
+            }
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException(
+                        "Striped locking cannot be used together with completionFromBatchConsumer, which completes all the groups at once");
+            }
+        }
 
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
@@ -1634,6 +1740,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         }
         aggregateController.onStart(this);
 
+        stripedLocks = null;
         if (optimisticLocking) {
             lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
@@ -1641,6 +1748,18 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (stripedLocking) {
+            int size = stripedLockingSize > 0
+                    ? stripedLockingSize : Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+            // round up to power of two so the stripe can be selected with a bit mask
+            size = Integer.highestOneBit(size - 1) << 1;
+            Lock[] locks = new Lock[Math.max(1, size)];
+            for (int i = 0; i < locks.length; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            stripedLocks = locks;
+            lock = locks[0];
+            LOG.info("Striped locking is enabled using {} locks", locks.length);
         } else {
             lock = new ReentrantLock();
         }
@@ -1751,6 +1870,14 @@ public class AggregateProcessor extends BaseProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
+        if (stripedLocking) {
+            int total = completeStripedGroup(key, COMPLETED_BY_FORCE);
+            if (total > 0) {
+                LOG.debug("Forcing completion of group {} with {} exchanges", key, total);
+            }
+            return total;
+        }
+
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
@@ -1779,6 +1906,10 @@ public class AggregateProcessor extends BaseProcessorSupport
     }
 
     public int forceCompletionOfAllGroups() {
+        return doForceCompletionOfAllGroups(null);
+    }
+
+    private int doForceCompletionOfAllGroups(String excludeKey) {
 
         // only run if CamelContext has been fully started or is stopping
         boolean allow = camelContext.getStatus().isStarted() || camelContext.getStatus().isStopping();
@@ -1794,7 +1925,14 @@ public class AggregateProcessor extends BaseProcessorSupport
         Set<String> keys = aggregationRepository.getKeys();
 
         int total = 0;
-        if (keys != null && !keys.isEmpty()) {
+        if (keys != null && !keys.isEmpty() && stripedLocking) {
+            // lock and complete each group on its own
+            for (String key : keys) {
+                if (!key.equals(excludeKey)) {
+                    total += completeStripedGroup(key, COMPLETED_BY_FORCE);
+                }
+            }
+        } else if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
             lock.lock();
             total = keys.size();
@@ -1827,7 +1965,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = lockFor(key);
+        acquireLock(groupLock);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1837,7 +1976,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1863,7 +2002,12 @@ public class AggregateProcessor extends BaseProcessorSupport
         Set<String> keys = aggregationRepository.getKeys();
 
         int total = 0;
-        if (keys != null && !keys.isEmpty()) {
+        if (keys != null && !keys.isEmpty() && stripedLocking) {
+            // lock and discard each group on its own
+            for (String key : keys) {
+                total += forceDiscardingOfGroup(key);
+            }
+        } else if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
             lock.lock();
             total = keys.size();
@@ -1888,6 +2032,83 @@ public class AggregateProcessor extends BaseProcessorSupport
         return total;
     }
 
+    /**
+     * Completes the group with the given correlation key while holding the lock of its stripe, and then submits the
+     * completed exchange outside the lock, so the lock of another group is never acquired while holding a lock.
+     *
+     * @return 1 if the group was completed, 0 if there was no group
+     */
+    private int completeStripedGroup(String key, String completedBy) {
+        Exchange answer = null;
+        Lock groupLock = lockFor(key);
+        acquireLock(groupLock);
+        try {
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange != null) {
+                LOG.trace("Completion by {} triggered for correlation key: {}", completedBy, key);
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, completedBy);
+                answer = onCompletion(key, exchange, exchange, false, false);
+            }
+        } finally {
+            groupLock.unlock();
+        }
+        if (answer != null) {
+            onSubmitCompletion(key, answer);
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the lock to use for aggregating the given correlation key, which is the shared lock unless striped locking
+     * is enabled.
+     */
+    private Lock lockFor(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            int hash = key.hashCode();
+            // spread the higher bits as the stripe is selected by a bit mask
+            hash ^= hash >>> 16;
+            return locks[hash & (locks.length - 1)];
+        }
+        return lock;
+    }
+
+    private void acquireLock(Lock groupLock) {
+        if (!getStatistics().isStatisticsEnabled()) {
+            groupLock.lock();
+        } else if (!groupLock.tryLock()) {
+            // the lock is held by another thread so keep track of the contention
+            lockContended.incrementAndGet();
+            long start = System.nanoTime();
+            groupLock.lock();
+            lockWaitTime.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private void lockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            // always acquire in the same order
+            for (Lock stripe : locks) {
+                acquireLock(stripe);
+            }
+        } else {
+            acquireLock(lock);
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        } else {
+            lock.unlock();
+        }
+    }
+
     /**
      * Synchronization class to avoid busy-loop when waiting for exchanges to be processed during shutdown.
      */
@@ -0,0 +1,1021 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent {@link org.apache.camel.spi.AggregationRepository} which stores {@link Exchange}s in memory-mapped
+ * segment files, and uses an off-heap index for the correlation keys.
+ * <p/>
+ * Every change is appended as a record to the current segment file, so the aggregated exchanges are kept outside the
+ * Java heap and survive restarts. When a segment file is full, a new segment is started, and the oldest segments are
+ * compacted (their live records are copied to the current segment and the file deleted) when less than half of the
+ * stored data is live. The index is rebuilt from the segment files when the repository is started.
+ * <p/>
+ * Completed exchanges are kept until confirmed, which allows to recover them, such as when Camel was stopped while the
+ * completed exchange was being routed.
+ * <p/>
+ * The index is split into stripes by the hash of the key, each with its own read/write lock, so exchanges with
+ * different keys can be added, read and removed concurrently. Only appending a record to the segment file is done
+ * under a single lock, and compaction locks all the stripes as it moves the records of every key.
+ */
+@Metadata(label = "bean",
+          description = "A persistent AggregationRepository which stores Exchanges in memory-mapped segment files, with an off-heap index.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+public class MemoryMappedAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedAggregationRepository.class);
+    private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final byte[] EMPTY = new byte[0];
+
+    // record types
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte COMPLETE = 3;
+    private static final byte CONFIRM = 4;
+
+    // a record is: length (int), type (byte), key length (int), second key length (int), key, second key, payload and crc32 (int)
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 4;
+    private static final int RECORD_OVERHEAD = HEADER_SIZE + 4;
+
+    // the index is split into 16 stripes
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    // guards appending to the active segment
+    private final Lock appendLock = new ReentrantLock();
+    private final ConcurrentNavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    private volatile boolean compactionNeeded;
+
+    @Metadata(description = "Directory where the segment files are stored", required = true)
+    private String directory;
+    @Metadata(description = "The size in bytes of each segment file", defaultValue = "67108864")
+    private int segmentSize = 64 * 1024 * 1024;
+    @Metadata(description = "Whether to force every change to be written to disk, which is slower but will not lose changes if the operating system crashes")
+    private boolean sync;
+    @Metadata(label = "advanced",
+              description = "Whether to return the old exchange when adding new exchanges to the repository")
+    private boolean returnOldExchange;
+    @Metadata(description = "Whether or not recovery is enabled", defaultValue = "true")
+    private boolean useRecovery = true;
+    @Metadata(description = "Sets the interval between recovery scans", defaultValue = "5000")
+    private long recoveryInterval = 5000;
+    @Metadata(description = "Sets an optional limit of the number of redelivery attempt of recovered Exchange should be attempted, before its exhausted."
+                            + " When this limit is hit, then the Exchange is moved to the dead letter channel.")
+    private int maximumRedeliveries;
+    @Metadata(description = "Sets an optional dead letter channel which exhausted recovered Exchange should be send to.")
+    private String deadLetterUri;
+    @Metadata(label = "advanced",
+              description = "Whether headers on the Exchange that are Java objects and Serializable should be included and saved to the repository")
+    private boolean allowSerializedHeaders;
+
+    public MemoryMappedAggregationRepository() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(i);
+        }
+    }
+
+    public MemoryMappedAggregationRepository(String directory) {
+        this();
+        this.directory = directory;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Adding key [{}] -> {}", key, exchange);
+        byte[] payload = marshal(exchange);
+        byte[] old = null;
+        Stripe stripe = stripe(key);
+        stripe.lock.writeLock().lock();
+        try {
+            checkStarted(stripe);
+            long location = append(ADD, toBytes(key), EMPTY, payload);
+            long previous = stripe.keys.put(key, location);
+            if (previous != 0 && returnOldExchange) {
+                old = readPayload(previous);
+            }
+            release(previous);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+        compactIfNeeded();
+        return old != null ? unmarshal(camelContext, old) : null;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        byte[] payload = null;
+        Stripe stripe = stripe(key);
+        stripe.lock.readLock().lock();
+        try {
+            checkStarted(stripe);
+            long location = stripe.keys.get(key);
+            if (location != 0) {
+                payload = readPayload(location);
+            }
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+        Exchange answer = payload != null ? unmarshal(camelContext, payload) : null;
+        LOG.debug("Getting key [{}] -> {}", key, answer);
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Removing key [{}]", key);
+        // only keep the completed exchange when recovery is in use
+        byte[] payload = useRecovery ? marshal(exchange) : null;
+        String exchangeId = payload != null ? exchange.getExchangeId() : null;
+        Stripe stripe = stripe(key);
+        Stripe completedStripe = exchangeId != null ? stripe(exchangeId) : stripe;
+        lockStripes(stripe, completedStripe);
+        try {
+            checkStarted(stripe);
+            if (stripe.keys.get(key) == 0) {
+                return;
+            }
+            if (payload != null) {
+                // a single record removes the key and adds to the completed, so they cannot be lost in between
+                long location = append(COMPLETE, toBytes(exchangeId), toBytes(key), payload);
+                release(stripe.keys.remove(key));
+                release(completedStripe.completed.put(exchangeId, location));
+            } else {
+                append(REMOVE, toBytes(key), EMPTY, EMPTY);
+                release(stripe.keys.remove(key));
+            }
+        } finally {
+            unlockStripes(stripe, completedStripe);
+        }
+        compactIfNeeded();
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        LOG.debug("Confirming exchangeId [{}]", exchangeId);
+        Stripe stripe = stripe(exchangeId);
+        stripe.lock.writeLock().lock();
+        try {
+            checkStarted(stripe);
+            if (stripe.completed.get(exchangeId) != 0) {
+                append(CONFIRM, toBytes(exchangeId), EMPTY, EMPTY);
+                release(stripe.completed.remove(exchangeId));
+            }
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // interval task could potentially be running while we are shutting down so check for that
+        if (!isRunAllowed()) {
+            return null;
+        }
+        Set<String> answer = new LinkedHashSet<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                if (stripe.keys == null) {
+                    // stopped in the meantime
+                    return null;
+                }
+                readKeys(stripe.keys, answer);
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return Collections.unmodifiableSet(answer);
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        if (!isRunAllowed()) {
+            return null;
+        }
+        Set<String> answer = new LinkedHashSet<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                if (stripe.completed == null) {
+                    // stopped in the meantime
+                    return null;
+                }
+                readKeys(stripe.completed, answer);
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        if (answer.isEmpty()) {
+            LOG.trace("Scanned and found no exchange to recover.");
+        } else {
+            LOG.debug("Scanned and found {} exchange(s) to recover (note some of them may already be in progress).",
+                    answer.size());
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        byte[] payload = null;
+        Stripe stripe = stripe(exchangeId);
+        stripe.lock.readLock().lock();
+        try {
+            checkStarted(stripe);
+            long location = stripe.completed.get(exchangeId);
+            if (location != 0) {
+                payload = readPayload(location);
+            }
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+        Exchange answer = payload != null ? unmarshal(camelContext, payload) : null;
+        LOG.debug("Recovering exchangeId [{}] -> {}", exchangeId, answer);
+        return answer;
+    }
+
+    /**
+     * Number of exchanges currently being aggregated
+     */
+    public int size() {
+        int answer = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                answer += stripe.keys != null ? stripe.keys.size : 0;
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Number of segment files in use
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isReturnOldExchange() {
+        return returnOldExchange;
+    }
+
+    public void setReturnOldExchange(boolean returnOldExchange) {
+        this.returnOldExchange = returnOldExchange;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryInterval() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        if (segmentSize <= RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("SegmentSize must be larger than " + RECORD_OVERHEAD + ", was: " + segmentSize);
+        }
+
+        lockAll();
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.keys = new OffHeapIndex(64);
+                stripe.completed = new OffHeapIndex(16);
+            }
+
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(dir)) {
+                files = stream.filter(p -> segmentId(p) > 0).toList();
+            }
+            for (Path file : files) {
+                Segment segment = new Segment(segmentId(file), file, 0);
+                segments.put(segment.id, segment);
+            }
+            // rebuild the index by replaying the segments in the order they were written
+            for (Segment segment : segments.values()) {
+                replay(segment);
+            }
+            if (!segments.isEmpty()) {
+                active = segments.lastEntry().getValue();
+            }
+            int count = 0;
+            for (Stripe stripe : stripes) {
+                count += stripe.keys.size;
+            }
+            LOG.info("Started MemoryMappedAggregationRepository in directory: {} with {} exchanges in {} segments",
+                    directory, count, segments.size());
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lockAll();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.close(true);
+            }
+            segments.clear();
+            active = null;
+            compactionNeeded = false;
+            for (Stripe stripe : stripes) {
+                stripe.keys = null;
+                stripe.completed = null;
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + RECORD_OVERHEAD <= segment.capacity) {
+            int length = buffer.getInt(offset);
+            if (length < RECORD_OVERHEAD || offset + length > segment.capacity || !isValid(segment, offset, length)) {
+                // end of the segment, or a record that was only partially written
+                break;
+            }
+            byte type = buffer.get(offset + 4);
+            String key = readKey(segment, offset);
+            long location = location(segment.id, offset);
+            if (type == ADD) {
+                segment.liveBytes.addAndGet(length);
+                release(stripe(key).keys.put(key, location));
+            } else if (type == REMOVE) {
+                release(stripe(key).keys.remove(key));
+            } else if (type == COMPLETE) {
+                String correlationKey = readSecondKey(segment, offset);
+                if (!correlationKey.isEmpty()) {
+                    release(stripe(correlationKey).keys.remove(correlationKey));
+                }
+                segment.liveBytes.addAndGet(length);
+                release(stripe(key).completed.put(key, location));
+            } else if (type == CONFIRM) {
+                release(stripe(key).completed.remove(key));
+            }
+            offset += length;
+        }
+        segment.position = offset;
+    }
+
+    /**
+     * Appends a record to the active segment. The caller must hold the lock of the stripe of the key, which ensures
+     * the record is written before its location is added to the index.
+     */
+    private long append(byte type, byte[] key, byte[] secondKey, byte[] payload) {
+        int length = RECORD_OVERHEAD + key.length + secondKey.length + payload.length;
+        appendLock.lock();
+        try {
+            Segment segment = active;
+            if (segment == null || segment.position + length > segment.capacity) {
+                createSegment(length);
+                segment = active;
+                // compact when the stripes are no longer locked, as compaction must lock them all
+                compactionNeeded = segments.size() > 1;
+            }
+
+            int offset = segment.position;
+            ByteBuffer buffer = segment.buffer.duplicate();
+            buffer.position(offset);
+            buffer.putInt(length);
+            buffer.put(type);
+            buffer.putInt(key.length);
+            buffer.putInt(secondKey.length);
+            buffer.put(key);
+            buffer.put(secondKey);
+            buffer.put(payload);
+            buffer.putInt(checksum(segment, offset, length));
+            segment.position = offset + length;
+            if (type == ADD || type == COMPLETE) {
+                segment.liveBytes.addAndGet(length);
+            }
+            if (sync) {
+                segment.buffer.force(offset, length);
+            }
+            return location(segment.id, offset);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void createSegment(int length) {
+        int id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = Paths.get(directory, String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        // a record larger than the segment size gets a segment of its own
+        Segment segment = new Segment(id, file, Math.max(segmentSize, length));
+        segments.put(id, segment);
+        active = segment;
+        LOG.debug("Created segment: {}", file);
+    }
+
+    /**
+     * Compacts the oldest segments when less than half of the data in the full segments is live, by copying the live
+     * records to the active segment and then deleting the segment file. Only the oldest segment is deleted, as a remove
+     * or confirm record in a newer segment must be kept as long as an older segment has the record it removes.
+     */
+    private void compact() {
+        while (segments.size() > 1) {
+            Segment oldest = segments.firstEntry().getValue();
+            long live = 0;
+            long total = 0;
+            for (Segment segment : segments.values()) {
+                if (segment != active) {
+                    live += segment.liveBytes.get();
+                    total += segment.position;
+                }
+            }
+            if (oldest.liveBytes.get() > 0 && live * 2 > total) {
+                break;
+            }
+            if (oldest.liveBytes.get() > 0) {
+                copyLiveRecords(oldest);
+            }
+            LOG.debug("Deleting compacted segment: {}", oldest.file);
+            segments.remove(oldest.id);
+            oldest.close(false);
+            FileUtil.deleteFile(oldest.file);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (!compactionNeeded) {
+            return;
+        }
+        // no reader or writer may use the index or the segments while their records are moved
+        lockAll();
+        try {
+            if (compactionNeeded) {
+                compactionNeeded = false;
+                compact();
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    private void checkStarted(Stripe stripe) {
+        // the index is only present while started (guarded by the lock of the stripe)
+        if (stripe.keys == null) {
+            throw new IllegalStateException("MemoryMappedAggregationRepository is not started");
+        }
+    }
+
+    private Stripe stripe(String key) {
+        // use the high bits, as the low bits of the hash select the slot in the index of the stripe
+        return stripes[(key.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - STRIPE_BITS)];
+    }
+
+    private static void lockStripes(Stripe first, Stripe second) {
+        // always lock in the same order to avoid a deadlock
+        Stripe low = first.index <= second.index ? first : second;
+        Stripe high = low == first ? second : first;
+        low.lock.writeLock().lock();
+        if (high != low) {
+            high.lock.writeLock().lock();
+        }
+    }
+
+    private static void unlockStripes(Stripe first, Stripe second) {
+        first.lock.writeLock().unlock();
+        if (second != first) {
+            second.lock.writeLock().unlock();
+        }
+    }
+
+    private void lockAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+        }
+        appendLock.lock();
+    }
+
+    private void unlockAll() {
+        appendLock.unlock();
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].lock.writeLock().unlock();
+        }
+    }
+
+    private void copyLiveRecords(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset < segment.position) {
+            int length = buffer.getInt(offset);
+            byte type = buffer.get(offset + 4);
+            long location = location(segment.id, offset);
+            String key = readKey(segment, offset);
+            if (type == ADD && stripe(key).keys.get(key) == location) {
+                stripe(key).keys.put(key, append(ADD, toBytes(key), EMPTY, readPayload(location)));
+            } else if (type == COMPLETE && stripe(key).completed.get(key) == location) {
+                // the correlation key was removed by the original record, and may have been added again since
+                stripe(key).completed.put(key, append(COMPLETE, toBytes(key), EMPTY, readPayload(location)));
+            }
+            offset += length;
+        }
+        segment.liveBytes.set(0);
+    }
+
+    private void release(long location) {
+        if (location != 0) {
+            Segment segment = segments.get(segmentId(location));
+            if (segment != null) {
+                segment.liveBytes.addAndGet(-segment.buffer.getInt(offset(location)));
+            }
+        }
+    }
+
+    private void readKeys(OffHeapIndex index, Set<String> answer) {
+        index.forEach(location -> answer.add(readKey(segments.get(segmentId(location)), offset(location))));
+    }
+
+    private boolean isValid(Segment segment, int offset, int length) {
+        int keyLength = segment.buffer.getInt(offset + 5);
+        int secondKeyLength = segment.buffer.getInt(offset + 9);
+        if (keyLength < 0 || secondKeyLength < 0 || RECORD_OVERHEAD + keyLength + secondKeyLength > length) {
+            return false;
+        }
+        return segment.buffer.getInt(offset + length - 4) == checksum(segment, offset, length);
+    }
+
+    private static int checksum(Segment segment, int offset, int length) {
+        CRC32 crc = new CRC32();
+        // covers everything but the length and the checksum itself
+        crc.update(segment.buffer.slice(offset + 4, length - 8));
+        return (int) crc.getValue();
+    }
+
+    private static String readKey(Segment segment, int offset) {
+        int keyLength = segment.buffer.getInt(offset + 5);
+        return readString(segment, offset + HEADER_SIZE, keyLength);
+    }
+
+    private static String readSecondKey(Segment segment, int offset) {
+        int keyLength = segment.buffer.getInt(offset + 5);
+        int secondKeyLength = segment.buffer.getInt(offset + 9);
+        return readString(segment, offset + HEADER_SIZE + keyLength, secondKeyLength);
+    }
+
+    private static String readString(Segment segment, int offset, int length) {
+        byte[] bytes = new byte[length];
+        segment.buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte[] readPayload(long location) {
+        Segment segment = segments.get(segmentId(location));
+        int offset = offset(location);
+        int length = segment.buffer.getInt(offset);
+        int keyLength = segment.buffer.getInt(offset + 5);
+        int secondKeyLength = segment.buffer.getInt(offset + 9);
+        byte[] payload = new byte[length - RECORD_OVERHEAD - keyLength - secondKeyLength];
+        segment.buffer.get(offset + HEADER_SIZE + keyLength + secondKeyLength, payload);
+        return payload;
+    }
+
+    private static boolean keyEquals(Segment segment, int offset, byte[] key) {
+        if (segment.buffer.getInt(offset + 5) != key.length) {
+            return false;
+        }
+        int start = offset + HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (segment.buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] toBytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | offset;
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    private static int segmentId(Path file) {
+        String name = file.getFileName().toString();
+        if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+            try {
+                return Integer.parseInt(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10);
+            } catch (NumberFormatException e) {
+                // not a segment file
+            }
+        }
+        return 0;
+    }
+
+    private byte[] marshal(Exchange exchange) {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
+        // add the aggregated size and timeout property as the only properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, Long.class));
+        // add the aggregated completed by property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class));
+        // add the aggregated correlation key property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class));
+        // and a guard property if using the flexible toolbox aggregator
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD,
+                exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
+        }
+
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+             ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(pe);
+            oos.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error marshalling exchange " + exchange.getExchangeId(), e);
+        }
+    }
+
+    private static Exchange unmarshal(CamelContext camelContext, byte[] payload) {
+        DefaultExchangeHolder pe;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            pe = (DefaultExchangeHolder) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error unmarshalling exchange", e);
+        }
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty("CamelAggregatedFromEndpoint");
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    private static MethodHandle lookupInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (Exception e) {
+            LOG.debug("Cannot unmap segment files explicitly, they are unmapped when garbage collected", e);
+            return null;
+        }
+    }
+
+    /**
+     * Unmaps the buffer right away instead of when it is garbage collected, as a mapped file cannot be deleted (such as
+     * on Windows) and keeps using address space until then. The buffer must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+            } catch (Throwable e) {
+                LOG.debug("Error unmapping segment file. This exception is ignored.", e);
+            }
+        }
+    }
+
+    /**
+     * A segment file which is memory mapped.
+     */
+    private static final class Segment {
+        private final int id;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        // guarded by the append lock
+        private int position;
+        // released from any stripe
+        private final AtomicLong liveBytes = new AtomicLong();
+
+        Segment(int id, Path file, int capacity) {
+            this.id = id;
+            this.file = file;
+            try {
+                this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                // an existing segment is mapped with the size it was created with
+                long size = capacity > 0 ? capacity : channel.size();
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                this.capacity = (int) size;
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error opening segment file " + file, e);
+            }
+        }
+
+        void close(boolean force) {
+            if (force) {
+                buffer.force();
+            }
+            IOHelper.close(channel);
+            // the callers hold all the locks, so the buffer is no longer in use
+            unmap(buffer);
+        }
+    }
+
+    /**
+     * A stripe of the index, which holds the keys with the same stripe hash and is guarded by its own lock.
+     */
+    private final class Stripe {
+        private final int index;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private OffHeapIndex keys;
+        private OffHeapIndex completed;
+
+        Stripe(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * An open addressing hash index from the key to the location of its record, which is stored outside the Java heap
+     * in a direct buffer. Each slot is the hash of the key (int) and the location (long), and the key itself is
+     * compared with the key of the record in the segment.
+     */
+    private final class OffHeapIndex {
+        private static final int SLOT_SIZE = 12;
+        private static final long TOMBSTONE = -1;
+
+        private ByteBuffer slots;
+        private int capacity;
+        private int size;
+        private int used;
+
+        OffHeapIndex(int capacity) {
+            allocate(capacity);
+        }
+
+        long get(String key) {
+            return find(key, toBytes(key), false);
+        }
+
+        long put(String key, long location) {
+            if ((used + 1) * 4L > capacity * 3L) {
+                // keep the load factor below 0.75, and grow if it is not only tombstones that fill the index
+                resize(size * 2L > capacity ? capacity * 2 : capacity);
+            }
+            byte[] bytes = toBytes(key);
+            int hash = hash(key);
+            int mask = capacity - 1;
+            int tombstone = -1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE + 4);
+                if (current == 0) {
+                    int slot = tombstone != -1 ? tombstone : i;
+                    if (tombstone == -1) {
+                        used++;
+                    }
+                    slots.putInt(slot * SLOT_SIZE, hash);
+                    slots.putLong(slot * SLOT_SIZE + 4, location);
+                    size++;
+                    return 0;
+                } else if (current == TOMBSTONE) {
+                    if (tombstone == -1) {
+                        tombstone = i;
+                    }
+                } else if (slots.getInt(i * SLOT_SIZE) == hash && matches(current, bytes)) {
+                    slots.putLong(i * SLOT_SIZE + 4, location);
+                    return current;
+                }
+            }
+        }
+
+        long remove(String key) {
+            return find(key, toBytes(key), true);
+        }
+
+        void forEach(LongConsumer consumer) {
+            for (int i = 0; i < capacity; i++) {
+                long location = slots.getLong(i * SLOT_SIZE + 4);
+                if (location != 0 && location != TOMBSTONE) {
+                    consumer.accept(location);
+                }
+            }
+        }
+
+        private long find(String key, byte[] bytes, boolean remove) {
+            int hash = hash(key);
+            int mask = capacity - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE + 4);
+                if (current == 0) {
+                    return 0;
+                } else if (current != TOMBSTONE && slots.getInt(i * SLOT_SIZE) == hash && matches(current, bytes)) {
+                    if (remove) {
+                        slots.putLong(i * SLOT_SIZE + 4, TOMBSTONE);
+                        size--;
+                    }
+                    return current;
+                }
+            }
+        }
+
+        private boolean matches(long location, byte[] key) {
+            return keyEquals(segments.get(segmentId(location)), offset(location), key);
+        }
+
+        private void resize(int newCapacity) {
+            ByteBuffer old = slots;
+            int oldCapacity = capacity;
+            allocate(newCapacity);
+            int mask = capacity - 1;
+            for (int i = 0; i < oldCapacity; i++) {
+                long location = old.getLong(i * SLOT_SIZE + 4);
+                if (location != 0 && location != TOMBSTONE) {
+                    int hash = old.getInt(i * SLOT_SIZE);
+                    int j = hash & mask;
+                    while (slots.getLong(j * SLOT_SIZE + 4) != 0) {
+                        j = (j + 1) & mask;
+                    }
+                    slots.putInt(j * SLOT_SIZE, hash);
+                    slots.putLong(j * SLOT_SIZE + 4, location);
+                    size++;
+                    used++;
+                }
+            }
+        }
+
+        private void allocate(int newCapacity) {
+            capacity = newCapacity;
+            slots = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+            size = 0;
+            used = 0;
+        }
+
+        private int hash(String key) {
+            int h = key.hashCode();
+            return h ^ (h >>> 16);
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+/**
+ * The elements maintained by a {@link ResequencerEngine} in the order of their sequence.
+ *
+ * @see Sequence
+ * @see LongSequence
+ */
+interface ElementSequence<E> {
+
+    /**
+     * Adds the given element to this sequence.
+     *
+     * @param  e an element.
+     * @return   <code>true</code> if the element has been added, <code>false</code> if this sequence already contains an
+     *           element with the same sequence.
+     */
+    boolean add(E e);
+
+    /**
+     * Returns the immediate predecessor of the given element in this sequence or <code>null</code> if no predecessor
+     * exists.
+     */
+    E predecessor(E e);
+
+    /**
+     * Returns the immediate successor of the given element in this sequence or <code>null</code> if no successor
+     * exists.
+     */
+    E successor(E e);
+
+    /**
+     * Returns the first (lowest) element of this sequence. Must not be called if this sequence is empty.
+     */
+    E first();
+
+    /**
+     * Removes and returns the first (lowest) element of this sequence or <code>null</code> if this sequence is empty.
+     */
+    E pollFirst();
+
+    int size();
+
+    boolean isEmpty();
+
+}
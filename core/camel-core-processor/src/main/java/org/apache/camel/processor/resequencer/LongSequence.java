@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sequence of elements keyed by their <code>long</code> sequence numbers, for elements where the immediate successor
+ * of an element has the sequence number incremented by one.
+ * <p/>
+ * The elements are kept in an open addressing hash table where sequence numbers are mapped to slots by their value, so
+ * a stream of consecutive sequence numbers is laid out like in a ring buffer, and immediate successors and predecessors
+ * are found in constant time. The order of the sequence numbers is kept in a ring of ascending sequence numbers, to
+ * which in-order elements are appended and from which they are removed in constant time, and a binary heap for the
+ * out-of-order elements. Both are backed by <code>long</code> arrays, so no node objects are created per element as
+ * with a {@link Sequence} (which is a {@link java.util.TreeSet}).
+ * <p/>
+ * This class is not thread-safe.
+ */
+public class LongSequence<E> implements ElementSequence<E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ToLongFunction<E> sequenceNumber;
+
+    // hash table from sequence number to element (linear probing)
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    // ring of ascending sequence numbers (the in-order elements)
+    private long[] run;
+    private int runHead;
+    private int runSize;
+
+    // binary min-heap of sequence numbers (the out-of-order elements)
+    private long[] heap;
+    private int heapSize;
+
+    // the sequence number of the last element that was looked up, as the same element is often used several times
+    private E lastElement;
+    private long lastKey;
+
+    /**
+     * Creates a new {@link LongSequence} instance.
+     *
+     * @param sequenceNumber a function returning the sequence number of an element.
+     */
+    public LongSequence(ToLongFunction<E> sequenceNumber) {
+        this.sequenceNumber = Objects.requireNonNull(sequenceNumber);
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.run = new long[INITIAL_CAPACITY];
+        this.heap = new long[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean add(E e) {
+        long key = keyOf(e);
+        if (indexOf(key) >= 0) {
+            return false;
+        }
+        if ((size + 1) * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        put(key, e);
+        size++;
+
+        if (runSize == 0 || key > run[(runHead + runSize - 1) & (run.length - 1)]) {
+            // in-order so append to the ring
+            if (runSize == run.length) {
+                run = grow(run, runHead, runSize);
+                runHead = 0;
+            }
+            run[(runHead + runSize) & (run.length - 1)] = key;
+            runSize++;
+        } else {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            siftUp(heapSize++, key);
+        }
+        return true;
+    }
+
+    @Override
+    public E predecessor(E e) {
+        long key = keyOf(e);
+        return key == Long.MIN_VALUE ? null : get(key - 1);
+    }
+
+    @Override
+    public E successor(E e) {
+        long key = keyOf(e);
+        return key == Long.MAX_VALUE ? null : get(key + 1);
+    }
+
+    @Override
+    public E first() {
+        if (size == 0) {
+            return null;
+        }
+        return get(firstKey());
+    }
+
+    @Override
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        long key;
+        if (heapSize == 0 || (runSize > 0 && run[runHead] < heap[0])) {
+            key = run[runHead];
+            runHead = (runHead + 1) & (run.length - 1);
+            runSize--;
+        } else {
+            key = heap[0];
+            long last = heap[--heapSize];
+            if (heapSize > 0) {
+                siftDown(0, last);
+            }
+        }
+        return remove(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private long keyOf(E e) {
+        if (e != lastElement) {
+            lastKey = sequenceNumber.applyAsLong(e);
+            lastElement = e;
+        }
+        return lastKey;
+    }
+
+    private long firstKey() {
+        if (heapSize == 0) {
+            return run[runHead];
+        } else if (runSize == 0) {
+            return heap[0];
+        }
+        return Math.min(run[runHead], heap[0]);
+    }
+
+    private int slot(long key) {
+        // consecutive sequence numbers are mapped to consecutive slots
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private int indexOf(long key) {
+        int i = slot(key);
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E get(long key) {
+        int i = indexOf(key);
+        return i >= 0 ? (E) values[i] : null;
+    }
+
+    private void put(long key, Object value) {
+        int i = slot(key);
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        E answer = (E) values[i];
+        // shift back the following entries of the probe sequence so no tombstones are needed
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+            int k = slot(keys[j]);
+            if (i <= j ? (k <= i || k > j) : (k <= i && k > j)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+        if (answer == lastElement) {
+            lastElement = null;
+        }
+        return answer;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static long[] grow(long[] ring, int head, int count) {
+        long[] answer = new long[ring.length * 2];
+        for (int i = 0; i < count; i++) {
+            answer[i] = ring[(head + i) & (ring.length - 1)];
+        }
+        return answer;
+    }
+
+    private void siftUp(int index, long key) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(int index, long key) {
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && heap[right] < heap[child]) {
+                child = right;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+}
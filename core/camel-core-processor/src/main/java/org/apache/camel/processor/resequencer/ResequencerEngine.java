@@ -50,6 +50,9 @@ import org.apache.camel.util.concurrent.ThreadHelper;
  * adjusted accordingly. If the last-delivered element is <code>null</code> i.e. the resequencer was newly created the
  * first arriving element needs <code>timeout</code> milliseconds in any case for becoming <i>ready-for-delivery</i>.
  * <p>
+ * The elements are maintained in a {@link Sequence} ordered by the comparator, or when the comparator is a
+ * {@link LongSequenceElementComparator} then they can be maintained in a {@link LongSequence} keyed by their sequence
+ * numbers instead, which is faster and creates less garbage.
  */
 public class ResequencerEngine<E> {
 
@@ -66,7 +69,12 @@ public class ResequencerEngine<E> {
     /**
      * A sequence of elements for sorting purposes.
      */
-    private final Sequence<Element<E>> sequence;
+    private final ElementSequence<Element<E>> sequence;
+
+    /**
+     * A strategy for comparing elements of the sequence.
+     */
+    private final SequenceElementComparator<Element<E>> comparator;
 
     /**
      * A timer for scheduling timeout notifications.
@@ -88,7 +96,7 @@ public class ResequencerEngine<E> {
      * List containing wait conditions to be evaluated whenever the sequence is modified. Access to this field should be
      * done inside a lock block.
      */
-    private final Map<CountDownLatch, Predicate<Sequence<?>>> waitConditions = new HashMap<>();
+    private final Map<CountDownLatch, Predicate<ResequencerEngine<?>>> waitConditions = new HashMap<>();
 
     private final Lock lock = new ReentrantLock();
 
@@ -98,7 +106,21 @@ public class ResequencerEngine<E> {
      * @param comparator a sequence element comparator.
      */
     public ResequencerEngine(SequenceElementComparator<E> comparator) {
-        this.sequence = createSequence(comparator);
+        this(comparator, false);
+    }
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds.
+     *
+     * @param  comparator               a sequence element comparator.
+     * @param  longSequence             whether to maintain the elements in a {@link LongSequence} keyed by their
+     *                                  sequence numbers instead of a {@link Sequence}.
+     * @throws IllegalArgumentException if <code>longSequence</code> is <code>true</code> and the comparator is not a
+     *                                  {@link LongSequenceElementComparator}
+     */
+    public ResequencerEngine(SequenceElementComparator<E> comparator, boolean longSequence) {
+        this.comparator = new ElementComparator<>(comparator);
+        this.sequence = createSequence(comparator, this.comparator, longSequence);
         this.timeout = 2000L;
         this.lastDelivered = null;
     }
@@ -129,6 +151,25 @@ public class ResequencerEngine<E> {
         }
     }
 
+    /**
+     * Wait for the following condition on the sequence of elements to happen. Do not call this method while holding a
+     * lock on the resequencer engine, as it will deadlock. The predicate will be evaluated while holding a lock on the
+     * resequencer engine.
+     *
+     * @param      pred                  the condition to wait for
+     * @throws     InterruptedException  if the thread is interrupted
+     * @throws     IllegalStateException if the elements are maintained in a {@link LongSequence}
+     * @deprecated                       use {@link #waitUntilCondition(Predicate)} which works with any sequence
+     */
+    @Deprecated(since = "4.16.0")
+    public void waitUntil(Predicate<Sequence<?>> pred) throws InterruptedException {
+        if (!(sequence instanceof Sequence<?> treeSequence)) {
+            throw new IllegalStateException(
+                    "Waiting for a condition on the sequence is not supported when using a long sequence");
+        }
+        waitUntilCondition(engine -> pred.test(treeSequence));
+    }
+
     /**
      * Wait for the following condition to happen. Do not call this method while holding a lock on the resequencer
      * engine, as it will deadlock. The predicate will be evaluated while holding a lock on the resequencer engine.
@@ -136,11 +177,11 @@ public class ResequencerEngine<E> {
      * @param  pred                 the condition to wait for
      * @throws InterruptedException if the thread is interrupted
      */
-    public void waitUntil(Predicate<Sequence<?>> pred) throws InterruptedException {
+    public void waitUntilCondition(Predicate<ResequencerEngine<?>> pred) throws InterruptedException {
         CountDownLatch latch;
         lock.lock();
         try {
-            if (pred.test(sequence)) {
+            if (pred.test(this)) {
                 return;
             }
             latch = new CountDownLatch(1);
@@ -155,8 +196,8 @@ public class ResequencerEngine<E> {
         lock.lock();
         try {
             for (var it = waitConditions.entrySet().iterator(); it.hasNext();) {
-                Map.Entry<CountDownLatch, Predicate<Sequence<?>>> e = it.next();
-                if (e.getValue().test(sequence)) {
+                Map.Entry<CountDownLatch, Predicate<ResequencerEngine<?>>> e = it.next();
+                if (e.getValue().test(this)) {
                     e.getKey().countDown();
                     it.remove();
                 }
@@ -245,8 +286,8 @@ public class ResequencerEngine<E> {
             Element<E> element = new Element<>(o);
 
             // validate the exchange has no problem
-            if (!sequence.seqComparator().isValid(element)) {
-                throw new IllegalArgumentException("Element cannot be used in comparator: " + sequence.seqComparator());
+            if (!comparator.isValid(element)) {
+                throw new IllegalArgumentException("Element cannot be used in comparator: " + comparator);
             }
 
             // validate the exchange shouldn't be 'rejected' (if applicable)
@@ -324,7 +365,7 @@ public class ResequencerEngine<E> {
             }
 
             // remove deliverable element from sequence
-            sequence.remove(element);
+            sequence.pollFirst();
 
             // set the delivered element to last delivered element
             lastDelivered = element;
@@ -352,7 +393,7 @@ public class ResequencerEngine<E> {
         if (lastDelivered == null) {
             return false;
         }
-        if (sequence.seqComparator().successor(element, lastDelivered)) {
+        if (comparator.successor(element, lastDelivered)) {
             return true;
         }
         return false;
@@ -368,7 +409,7 @@ public class ResequencerEngine<E> {
         if (lastDelivered == null) {
             return false;
         }
-        if (sequence.seqComparator().compare(element, lastDelivered) < 0) {
+        if (comparator.compare(element, lastDelivered) < 0) {
             return true;
         }
         return false;
@@ -383,8 +424,17 @@ public class ResequencerEngine<E> {
         return new Timeout(timer, timeout);
     }
 
-    private static <E> Sequence<Element<E>> createSequence(SequenceElementComparator<E> comparator) {
-        return new Sequence<>(new ElementComparator<>(comparator));
+    private static <E> ElementSequence<Element<E>> createSequence(
+            SequenceElementComparator<E> comparator, SequenceElementComparator<Element<E>> elementComparator,
+            boolean longSequence) {
+        if (longSequence) {
+            if (comparator instanceof LongSequenceElementComparator<E> longComparator) {
+                return new LongSequence<>(e -> longComparator.getSequenceNumber(e.getObject()));
+            }
+            throw new IllegalArgumentException(
+                    "Comparator must be a LongSequenceElementComparator when using long sequence: " + comparator);
+        }
+        return new Sequence<>(elementComparator);
     }
 
 }
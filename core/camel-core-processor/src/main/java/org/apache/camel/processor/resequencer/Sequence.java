@@ -25,7 +25,7 @@ import java.util.TreeSet;
  * given element in the sequence. Successors and predecessors are calculated by using a
  * {@link SequenceElementComparator}.
  */
-public class Sequence<E> extends TreeSet<E> {
+public class Sequence<E> extends TreeSet<E> implements ElementSequence<E> {
 
     private static final @Serial long serialVersionUID = 5647393631147741711L;
 
@@ -45,6 +45,7 @@ public class Sequence<E> extends TreeSet<E> {
      * @param  e an element which is compared to elements of this sequence.
      * @return   an element of this sequence or <code>null</code>.
      */
+    @Override
     public E predecessor(E e) {
         E elem = lower(e);
         if (elem == null) {
@@ -63,6 +64,7 @@ public class Sequence<E> extends TreeSet<E> {
      * @param  e an element which is compared to elements of this sequence.
      * @return   an element of this sequence or <code>null</code>.
      */
+    @Override
     public E successor(E e) {
         E elem = higher(e);
         if (elem == null) {
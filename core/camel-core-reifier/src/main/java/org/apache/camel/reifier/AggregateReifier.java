@@ -130,6 +130,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Boolean stripedLocking = parseBoolean(definition.getStripedLocking());
+        if (stripedLocking != null) {
+            answer.setStripedLocking(stripedLocking);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
@@ -69,7 +69,10 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
 
         boolean shutdownThreadPool = willCreateNewThreadPool(definition, isParallelProcessing);
-        ExecutorService threadPool = getConfiguredExecutorService("Multicast", definition, isParallelProcessing);
+        boolean isVirtualThreads = parseBoolean(definition.getVirtualThreads(), false);
+        int maxConcurrentTasks = parseInt(definition.getMaxConcurrentTasks(), 0);
+        ExecutorService threadPool = getConfiguredParallelExecutorService(
+                "Multicast", definition, isParallelProcessing, isVirtualThreads, maxConcurrentTasks);
 
         long timeout = parseDuration(definition.getTimeout(), 0);
         if (timeout > 0 && !isParallelProcessing) {
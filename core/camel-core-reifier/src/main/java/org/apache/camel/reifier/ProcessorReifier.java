@@ -422,6 +422,31 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
         return null;
     }
 
+    /**
+     * Will look up and get the configured {@link ExecutorService} for parallel processing from the given definition.
+     * <p/>
+     * If virtual threads is enabled, and no explicit executor service is configured on the definition, then an executor
+     * service which starts a new virtual thread per task is created, otherwise this is the same as
+     * {@link #getConfiguredExecutorService(String, ExecutorServiceAwareDefinition, boolean)}.
+     *
+     * @param  name               name which is appended to the thread name
+     * @param  definition         the node definition which may leverage executor service.
+     * @param  parallelProcessing whether parallel processing is enabled
+     * @param  virtualThreads     whether to use a new virtual thread per task
+     * @param  maxConcurrentTasks the maximum number of concurrent tasks when using virtual threads, or 0 for unbounded
+     * @return                    the configured executor service, or <tt>null</tt> if none was configured.
+     */
+    public ExecutorService getConfiguredParallelExecutorService(
+            String name, ExecutorServiceAwareDefinition<?> definition, boolean parallelProcessing,
+            boolean virtualThreads, int maxConcurrentTasks) {
+        if (parallelProcessing && virtualThreads && definition.getExecutorServiceBean() == null
+                && definition.getExecutorServiceRef() == null) {
+            return camelContext.getExecutorServiceManager().newVirtualThreadPerTaskExecutor(definition, name,
+                    maxConcurrentTasks);
+        }
+        return getConfiguredExecutorService(name, definition, parallelProcessing);
+    }
+
     /**
      * Will look up and get the configured {@link java.util.concurrent.ScheduledExecutorService} from the given
      * definition.
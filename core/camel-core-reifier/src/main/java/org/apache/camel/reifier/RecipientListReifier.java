@@ -84,7 +84,10 @@ public class RecipientListReifier extends ProcessorReifier<RecipientListDefiniti
         }
 
         boolean shutdownThreadPool = willCreateNewThreadPool(definition, isParallelProcessing);
-        ExecutorService threadPool = getConfiguredExecutorService("RecipientList", definition, isParallelProcessing);
+        boolean isVirtualThreads = parseBoolean(definition.getVirtualThreads(), false);
+        int maxConcurrentTasks = parseInt(definition.getMaxConcurrentTasks(), 0);
+        ExecutorService threadPool = getConfiguredParallelExecutorService(
+                "RecipientList", definition, isParallelProcessing, isVirtualThreads, maxConcurrentTasks);
         answer.setExecutorService(threadPool);
         answer.setShutdownExecutorService(shutdownThreadPool);
         long timeout = parseDuration(definition.getTimeout(), 0);
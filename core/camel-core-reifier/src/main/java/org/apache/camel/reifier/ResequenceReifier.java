@@ -128,7 +128,8 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         }
         comparator.setExpression(expression);
 
-        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression);
+        boolean longSequence = parseBoolean(config.getLongSequence(), false);
+        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression, longSequence);
         resequencer.setDisabled(isDisabled(camelContext, definition));
         Long dur = parseDuration(config.getTimeout());
         if (dur != null) {
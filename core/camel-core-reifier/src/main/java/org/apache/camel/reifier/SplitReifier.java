@@ -50,7 +50,11 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
         boolean isStopOnException = parseBoolean(definition.getStopOnException(), false);
         boolean shutdownThreadPool = willCreateNewThreadPool(definition, isParallelProcessing);
-        ExecutorService threadPool = getConfiguredExecutorService("Split", definition, isParallelProcessing);
+        boolean isVirtualThreads = parseBoolean(definition.getVirtualThreads(), false);
+        int maxConcurrentTasks = parseInt(definition.getMaxConcurrentTasks(), 0);
+        int maxInFlight = parseInt(definition.getMaxInFlight(), 0);
+        ExecutorService threadPool = getConfiguredParallelExecutorService(
+                "Split", definition, isParallelProcessing, isVirtualThreads, maxConcurrentTasks);
 
         long timeout = parseDuration(definition.getTimeout(), 0);
         if (timeout > 0 && !isParallelProcessing) {
@@ -77,6 +81,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setMaxInFlight(maxInFlight);
         answer.setDisabled(isDisabled(camelContext, definition));
         return answer;
     }
@@ -25,6 +25,7 @@ import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
@@ -51,7 +52,8 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
-        if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
+        ThrottlingMode mode = ThrottlingMode.toMode(parseString(definition.getMode()));
+        if (mode == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
             answer.setDisabled(isDisabled(camelContext, definition));
@@ -59,6 +61,17 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             // should be true by default
             answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
             return answer;
+        } else if (mode == ThrottlingMode.TokenBucket) {
+            long period = parseDuration(definition.getTimePeriodMillis(), 1000L);
+            TokenBucketThrottler answer = new TokenBucketThrottler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+            answer.setDisabled(isDisabled(camelContext, definition));
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            answer.setMaximumCorrelationKeys(
+                    parseInt(definition.getMaximumCorrelationKeys(), TokenBucketThrottler.DEFAULT_MAXIMUM_CORRELATION_KEYS));
+            return answer;
         } else {
             long period = parseDuration(definition.getTimePeriodMillis(), 1000L);
             TotalRequestsThrottler answer = new TotalRequestsThrottler(
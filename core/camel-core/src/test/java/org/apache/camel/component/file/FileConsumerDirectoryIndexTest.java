@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for the directoryIndex option
+ */
+public class FileConsumerDirectoryIndexTest extends ContextTestSupport {
+
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry jndi = super.createCamelRegistry();
+        jndi.bind("myFilter", (GenericFileFilter<Object>) file -> {
+            if (file.isDirectory()) {
+                return true;
+            }
+            if (file.getFileName().startsWith("skip")) {
+                skipped.incrementAndGet();
+                return false;
+            }
+            return true;
+        });
+        return jndi;
+    }
+
+    @Test
+    public void testDirectoryIndex() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Skip me", Exchange.FILE_NAME, "skip.txt");
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+        context.getRouteController().startRoute("foo");
+        assertMockEndpointsSatisfied();
+
+        // the skipped file is settled in the index and not evaluated again
+        Thread.sleep(200);
+        assertEquals(1, skipped.get());
+
+        // new files are picked up from the watch service
+        mock.reset();
+        mock.expectedBodiesReceived("Bye World");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        assertMockEndpointsSatisfied();
+        assertEquals(1, skipped.get());
+
+        // changing the skipped file makes it evaluated again
+        template.sendBodyAndHeader(fileUri(), "Skip me again please", Exchange.FILE_NAME, "skip.txt");
+        await().untilAsserted(() -> assertEquals(2, skipped.get()));
+
+        // the index is persisted on stop, and loaded on start
+        context.getRouteController().stopRoute("foo");
+        assertTrue(Files.exists(testFile("index/dir.idx")));
+        skipped.set(0);
+        mock.reset();
+        mock.expectedBodiesReceived("Hello Again");
+        context.getRouteController().startRoute("foo");
+        template.sendBodyAndHeader(fileUri(), "Hello Again", Exchange.FILE_NAME, "again.txt");
+        assertMockEndpointsSatisfied();
+        assertEquals(0, skipped.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&noop=true&filter=#myFilter&directoryIndex=true"
+                             + "&directoryIndexReconcileInterval=0&directoryIndexFile=" + testFile("index/dir.idx")))
+                        .routeId("foo").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
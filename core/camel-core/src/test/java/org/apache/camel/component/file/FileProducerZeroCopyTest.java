@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for writing files using zero-copy file transfers
+ */
+public class FileProducerZeroCopyTest extends ContextTestSupport {
+
+    @Test
+    public void testFileBody() throws Exception {
+        Path source = createSource("source.txt", "Hello World");
+
+        template.sendBodyAndHeader(fileUri("out"), source.toFile(), Exchange.FILE_NAME, "target.txt");
+
+        assertEquals("Hello World", Files.readString(testFile("out/target.txt")));
+        assertEquals(11, context.getEndpoint(fileUri("out"), FileEndpoint.class).getZeroCopyBytes());
+    }
+
+    @Test
+    public void testPathBody() throws Exception {
+        Path source = createSource("source.txt", "Hello World");
+
+        template.sendBodyAndHeader(fileUri("out"), source, Exchange.FILE_NAME, "target.txt");
+
+        assertEquals("Hello World", Files.readString(testFile("out/target.txt")));
+        assertEquals(11, context.getEndpoint(fileUri("out"), FileEndpoint.class).getZeroCopyBytes());
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        Path source = createSource("source.txt", "Hello");
+
+        String uri = fileUri("out?fileExist=Append&appendChars=\\n");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "target.txt");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "target.txt");
+
+        assertEquals("Hello\nHello\n", Files.readString(testFile("out/target.txt")));
+        assertEquals(10, context.getEndpoint(uri, FileEndpoint.class).getZeroCopyBytes());
+    }
+
+    @Test
+    public void testHardLink() throws Exception {
+        Path source = createSource("source.txt", "Hello World");
+
+        String uri = fileUri("out?hardLink=true");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "target.txt");
+
+        Path target = testFile("out/target.txt");
+        assertEquals("Hello World", Files.readString(target));
+        assertTrue(Files.isSameFile(source, target));
+        assertEquals(11, context.getEndpoint(uri, FileEndpoint.class).getZeroCopyBytes());
+    }
+
+    private Path createSource(String name, String content) throws Exception {
+        Path source = testFile(name);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content);
+        return source;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.properties;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.spi.PropertiesFunction;
+import org.apache.camel.spi.PropertiesSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PropertiesComponentPlaceholderCacheTest extends ContextTestSupport {
+
+    private static final class CountingFunction implements PropertiesFunction {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final boolean cacheable;
+
+        private CountingFunction(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public String getName() {
+            return cacheable ? "counter" : "random";
+        }
+
+        @Override
+        public boolean cacheable(String remainder) {
+            return cacheable;
+        }
+
+        @Override
+        public String apply(String remainder) {
+            return remainder + "-" + counter.incrementAndGet();
+        }
+    }
+
+    private static final class BlockingFunction implements PropertiesFunction {
+
+        private final AtomicReference<String> value = new AtomicReference<>("old");
+        private final CountDownLatch resolving = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+
+        @Override
+        public String getName() {
+            return "blocking";
+        }
+
+        @Override
+        public boolean cacheable(String remainder) {
+            return true;
+        }
+
+        @Override
+        public String apply(String remainder) {
+            String answer = value.get();
+            resolving.countDown();
+            try {
+                resume.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return answer;
+        }
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheDisabledByDefault() {
+        assertFalse(new PropertiesComponent().isPlaceholderCacheEnabled());
+    }
+
+    @Test
+    public void testCache() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+        pc.invalidatePlaceholderCache();
+        long hits = pc.getPlaceholderCacheHits();
+        long misses = pc.getPlaceholderCacheMisses();
+
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+        assertEquals("to mock:result", pc.parseUri("to {{cool.concat}}"));
+        assertEquals("to mock:result", pc.parseUri("to {{cool.concat}}"));
+        assertEquals("to mock:result", pc.parseUri("to {{cool.concat}}"));
+
+        assertEquals(3, pc.getPlaceholderCacheHits() - hits);
+        assertEquals(2, pc.getPlaceholderCacheMisses() - misses);
+        assertEquals(2, pc.getPlaceholderCacheSize());
+    }
+
+    @Test
+    public void testInvalidateOnChange() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+
+        pc.addOverrideProperty("cool.end", "mock:changed");
+        assertEquals("mock:changed", pc.parseUri("{{cool.end}}"));
+
+        Properties initial = new Properties();
+        initial.put("cool.initial", "Hello");
+        pc.setInitialProperties(initial);
+        assertEquals("Hello", pc.parseUri("{{cool.initial}}"));
+        initial = new Properties();
+        initial.put("cool.initial", "Bye");
+        pc.setInitialProperties(initial);
+        assertEquals("Bye", pc.parseUri("{{cool.initial}}"));
+    }
+
+    @Test
+    public void testInvalidateWhileResolving() throws Exception {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+        BlockingFunction function = new BlockingFunction();
+        pc.addPropertiesFunction(function);
+
+        AtomicReference<String> resolved = new AtomicReference<>();
+        Thread thread = new Thread(() -> resolved.set(pc.parseUri("{{blocking:foo}}")));
+        thread.start();
+        assertTrue(function.resolving.await(10, TimeUnit.SECONDS));
+
+        // the value changes while the other thread is still resolving the old value
+        function.value.set("new");
+        pc.invalidatePlaceholderCache();
+        function.resume.countDown();
+        thread.join(10000);
+        assertEquals("old", resolved.get());
+
+        // the old value must not have been cached after the invalidation
+        assertEquals("new", pc.parseUri("{{blocking:foo}}"));
+    }
+
+    @Test
+    public void testFunctions() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+        pc.addPropertiesFunction(new CountingFunction(true));
+        pc.addPropertiesFunction(new CountingFunction(false));
+
+        assertEquals("foo-1", pc.parseUri("{{counter:foo}}"));
+        assertEquals("foo-1", pc.parseUri("{{counter:foo}}"));
+
+        assertEquals("foo-1", pc.parseUri("{{random:foo}}"));
+        assertEquals("foo-2", pc.parseUri("{{random:foo}}"));
+        assertEquals("mock:result foo-3", pc.parseUri("{{cool.end}} {{random:foo}}"));
+    }
+
+    @Test
+    public void testLocalProperties() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+
+        Properties local = new Properties();
+        local.put("cool.end", "mock:local");
+        pc.setLocalProperties(local);
+        try {
+            assertEquals("mock:local", pc.parseUri("{{cool.end}}"));
+        } finally {
+            pc.setLocalProperties(null);
+        }
+
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+    }
+
+    @Test
+    public void testLocalPropertiesInUseByOtherThread() throws Exception {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+
+        // another thread is creating a route from a template, while this thread resolves the same text
+        Properties local = new Properties();
+        local.put("cool.end", "mock:local");
+        Thread thread = new Thread(() -> pc.setLocalProperties(local));
+        thread.start();
+        thread.join();
+        try {
+            pc.parseUri("{{cool.end}}");
+        } finally {
+            pc.setLocalProperties(null);
+        }
+
+        // the value from the local properties must not be cached
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+    }
+
+    @Test
+    public void testCustomSourceNotCached() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+        Properties props = new Properties();
+        props.put("cool.custom", "Hello");
+        pc.addPropertiesSource(new PropertiesSource() {
+            @Override
+            public String getName() {
+                return "custom";
+            }
+
+            @Override
+            public String getProperty(String name) {
+                return props.getProperty(name);
+            }
+        });
+
+        assertEquals("Hello", pc.parseUri("{{cool.custom}}"));
+        // the value from the custom source can change at any time
+        props.put("cool.custom", "Bye");
+        assertEquals("Bye", pc.parseUri("{{cool.custom}}"));
+        assertEquals(0, pc.getPlaceholderCacheSize());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        PropertiesComponent pc = (PropertiesComponent) context.getPropertiesComponent();
+        pc.setPlaceholderCacheEnabled(false);
+        long hits = pc.getPlaceholderCacheHits();
+
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+        assertEquals("mock:result", pc.parseUri("{{cool.end}}"));
+
+        assertEquals(hits, pc.getPlaceholderCacheHits());
+        assertEquals(0, pc.getPlaceholderCacheSize());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getPropertiesComponent().setLocation("classpath:org/apache/camel/component/properties/myproperties.properties");
+        context.getPropertiesComponent().setPlaceholderCacheEnabled(true);
+        return context;
+    }
+
+}
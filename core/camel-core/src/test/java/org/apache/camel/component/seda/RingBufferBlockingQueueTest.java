@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        // capacity is honored even though the ring buffer is sized to a power of two
+        assertFalse(queue.offer("D"));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("D"));
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.poll());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testWrapAround() {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(4);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+            assertTrue(queue.offer(i + 1000));
+            assertEquals(i, queue.poll());
+            assertEquals(i + 1000, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testDrainTo() {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(10);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        List<Integer> list = new ArrayList<>();
+        assertEquals(4, queue.drainTo(list, 4));
+        assertEquals(List.of(0, 1, 2, 3), list);
+        assertEquals(6, queue.drainTo(list));
+        assertEquals(10, list.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAndIterator() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(10);
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertEquals(2, queue.size());
+
+        List<String> list = new ArrayList<>();
+        queue.iterator().forEachRemaining(list::add);
+        assertEquals(List.of("A", "C"), list);
+
+        assertEquals("A", queue.poll());
+        assertEquals("C", queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+
+        queue.offer("D");
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testPollTimeout() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(10);
+        assertNull(queue.poll(50, TimeUnit.MILLISECONDS));
+
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.offer("A");
+        }).start();
+        assertEquals("A", queue.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int count = 10000;
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * count;
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < count; i++) {
+                            queue.put(offset + i);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            Set<Integer> received = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            while (received.size() < producers * count) {
+                Integer first = queue.poll(5, TimeUnit.SECONDS);
+                if (first == null) {
+                    break;
+                }
+                batch.clear();
+                batch.add(first);
+                queue.drainTo(batch, 31);
+                received.addAll(batch);
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(producers * count, received.size());
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringBufferQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(4).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(4);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(5).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(5).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(6).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        // queue up the messages before the consumer starts so they are drained in batches
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:batch?batchSize=5", body);
+        }
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(2);
+
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:grouped?batchSize=5&batchGrouped=true", body);
+        }
+        context.getRouteController().startRoute("grouped");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(5, first.size());
+        assertEquals("A", assertInstanceOf(Exchange.class, first.get(0)).getMessage().getBody());
+        List<?> second = mock.getReceivedExchanges().get(1).getMessage().getBody(List.class);
+        assertEquals(2, second.size());
+        assertEquals("G", assertInstanceOf(Exchange.class, second.get(1)).getMessage().getBody());
+    }
+
+    @Test
+    public void testBatchGroupedRequestReplyRejected() {
+        Exception e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("seda:reply?batchSize=10&batchGrouped=true", "World"));
+        assertInstanceOf(CamelExchangeException.class, e.getCause());
+        assertEquals(0, getMockEndpoint("mock:reply").getReceivedCounter());
+    }
+
+    @Test
+    public void testBatchGroupedFailed() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Exchange exchange = createExchangeWithBody("World");
+        exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onFailure(Exchange exchange) {
+                failure.set(exchange.getException());
+                latch.countDown();
+            }
+        });
+        template.send("seda:fail?batchSize=10&batchGrouped=true", exchange);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("Forced", failure.get().getMessage());
+    }
+
+    @Test
+    public void testBatchGroupedWaitForTaskToCompleteAlways() {
+        Exception e = assertThrows(Exception.class,
+                () -> context.getEndpoint("seda:always?batchGrouped=true&waitForTaskToComplete=Always").start());
+        assertNotNull(ObjectHelper.getException(IllegalArgumentException.class, e));
+    }
+
+    @Test
+    public void testBatchRingBufferQueue() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint(
+                "seda:ring?queueFactory=#ringBufferQueueFactory&batchSize=50&concurrentConsumers=2", SedaEndpoint.class);
+        assertInstanceOf(RingBufferBlockingQueue.class, endpoint.getQueue());
+
+        MockEndpoint mock = getMockEndpoint("mock:ring");
+        mock.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:ring?queueFactory=#ringBufferQueueFactory&batchSize=50&concurrentConsumers=2", i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:batch?batchSize=5").routeId("batch").autoStartup(false).to("mock:batch");
+
+                from("seda:grouped?batchSize=5&batchGrouped=true").routeId("grouped").autoStartup(false).to("mock:grouped");
+
+                from("seda:reply?batchSize=10&batchGrouped=true").to("mock:reply");
+
+                from("seda:fail?batchSize=10&batchGrouped=true").throwException(new IllegalArgumentException("Forced"));
+
+                from("seda:ring?queueFactory=#ringBufferQueueFactory&batchSize=50&concurrentConsumers=2").to("mock:ring");
+            }
+        };
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledCachedOutputStreamTest extends ContextTestSupport {
+
+    private static final String SMALL = "Hello pooled World";
+    private static final String LARGE = "0123456789".repeat(10);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(40);
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.getStreamCachingStrategy().setBufferPoolSize(8);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange));
+        return exchange;
+    }
+
+    private static String read(StreamCache cache) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        return bos.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testInMemoryChunksReused() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(SMALL.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(PooledInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(SMALL.length(), cache.length());
+        assertEquals(SMALL, new String(((InputStream) cache).readAllBytes(), StandardCharsets.UTF_8));
+        cache.reset();
+        assertEquals(SMALL, read(cache));
+        assertEquals(2, stats.getBufferPoolInUse());
+        assertEquals(2, stats.getBufferPoolMissCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, stats.getBufferPoolInUse());
+        assertEquals(2, stats.getBufferPoolAvailable());
+
+        // the chunks are reused by the next exchange
+        exchange = createExchange();
+        cos = new CachedOutputStream(exchange);
+        cos.write(SMALL.getBytes(StandardCharsets.UTF_8));
+        assertEquals(SMALL, read(cos.newStreamCache()));
+        assertEquals(2, stats.getBufferPoolMissCounter());
+        assertEquals(0, stats.getBufferPoolAvailable());
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(2, stats.getBufferPoolAvailable());
+    }
+
+    @Test
+    public void testSpoolChunkByChunk() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(LARGE.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        assertFalse(cache.inMemory());
+        assertEquals(LARGE.length(), cache.length());
+
+        // the full chunks are spooled and only the last chunk is kept in memory
+        assertEquals(6, stats.getSpoolChunkCounter());
+        assertEquals(1, stats.getBufferPoolInUse());
+
+        File dir = testDirectory().toFile();
+        String[] files = dir.list();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        assertTrue(files[0].startsWith("cos"));
+
+        assertEquals(LARGE, new String(((InputStream) cache).readAllBytes(), StandardCharsets.UTF_8));
+
+        // a copy for another exchange is still readable after the first exchange is done
+        Exchange other = createExchange();
+        StreamCache copy = cache.copy(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(LARGE, read(copy));
+        assertEquals(1, dir.list().length);
+
+        other.getUnitOfWork().done(other);
+        assertEquals(0, dir.list().length);
+        assertEquals(0, stats.getBufferPoolInUse());
+
+        // the spooled data is deleted when the exchanges are done
+        copy.reset();
+        assertThrows(IOException.class, () -> read(copy));
+    }
+
+    @Test
+    public void testInMemoryReadableAfterDone() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(SMALL.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        exchange.getUnitOfWork().done(exchange);
+
+        // such as the reply body returned to a producer template
+        assertEquals(0, stats.getBufferPoolInUse());
+        assertEquals(SMALL, read(cache));
+        assertEquals(SMALL, new String(((InputStream) cache).readAllBytes(), StandardCharsets.UTF_8));
+        assertTrue(cache.inMemory());
+    }
+
+    @Test
+    public void testNotPooledWhenNotClosedOnCompletion() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange, false);
+        cos.write(SMALL.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        assertFalse(cache instanceof PooledInputStreamCache);
+        assertEquals(SMALL, read(cache));
+        assertEquals(0, stats.getBufferPoolInUse());
+        cos.close();
+    }
+}
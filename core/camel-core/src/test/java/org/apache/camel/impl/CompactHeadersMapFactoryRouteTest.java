@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CompactHeadersMap;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class CompactHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new CompactHeadersMapFactory());
+        context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+        context.getCamelContextExtension().setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        return context;
+    }
+
+    @Test
+    public void testCompactHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        getMockEndpoint("mock:result").allMessages().header("FOO").isEqualTo(456);
+        getMockEndpoint("mock:result").allMessages().header("bar").isEqualTo("yes");
+        getMockEndpoint("mock:result").allMessages().header("camelfilename").isEqualTo("hello.txt");
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> headers = new HashMap<>();
+            headers.put("foo", 123);
+            headers.put("Bar", "yes");
+            template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        Exchange exchange = getMockEndpoint("mock:result").getReceivedExchanges().get(0);
+        assertInstanceOf(CompactHeadersMap.class, exchange.getMessage().getHeaders());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").setHeader("FOO", constant(456)).setHeader(Exchange.FILE_NAME, constant("hello.txt"))
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryLookupTableTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testLookupHit() {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().reset();
+
+        assertEquals(3, context.getTypeConverter().convertTo(Integer.class, "3"));
+        assertEquals(1, reg.getStatistics().getLookupMissCounter());
+        assertEquals(0, reg.getStatistics().getLookupHitCounter());
+
+        assertEquals(7, context.getTypeConverter().convertTo(Integer.class, "7"));
+        assertEquals(8, context.getTypeConverter().convertTo(int.class, "8"));
+        assertEquals(1, reg.getStatistics().getLookupMissCounter());
+        assertEquals(2, reg.getStatistics().getLookupHitCounter());
+        assertEquals(3, reg.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testNegativeCacheInvalidated() {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+
+        MyOrder order = new MyOrder();
+        assertNull(context.getTypeConverter().convertTo(MyInvoice.class, order));
+        assertNull(context.getTypeConverter().convertTo(MyInvoice.class, order));
+        assertTrue(reg.getStatistics().getLookupHitCounter() > 0, "Miss should be cached");
+
+        // adding a converter must invalidate the cached miss
+        reg.addTypeConverter(MyInvoice.class, MyOrder.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return (T) new MyInvoice();
+            }
+        });
+        assertEquals(MyInvoice.class, context.getTypeConverter().convertTo(MyInvoice.class, order).getClass());
+
+        // and removing it as well
+        reg.removeTypeConverter(MyInvoice.class, MyOrder.class);
+        assertNull(context.getTypeConverter().convertTo(MyInvoice.class, order));
+    }
+
+    private static class MyOrder {
+    }
+
+    private static class MyInvoice {
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TypeConverterLookupTableTest {
+
+    private final TypeConverter converter = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            return null;
+        }
+    };
+
+    @Test
+    public void testClassesBeyondBoundNotCached() {
+        TypeConverterLookupTable table = new TypeConverterLookupTable(2);
+
+        table.put(String.class, Integer.class, converter);
+        assertEquals(converter, table.get(String.class, Integer.class));
+
+        // there is no id left for Long, so it is not cached in the table
+        table.put(String.class, Long.class, converter);
+        assertNull(table.get(String.class, Long.class));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testIdOfCollectedClassIsReused() throws Exception {
+        TypeConverterLookupTable table = new TypeConverterLookupTable(2);
+        table.put(String.class, String.class, converter);
+
+        WeakReference<Class<?>> collected = putCollectableClass(table);
+        for (int i = 0; i < 20 && collected.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assumeTrue(collected.get() == null, "The class was not garbage collected");
+
+        // the id of the collected class is given to Integer, without its converters
+        assertNull(table.get(String.class, Integer.class));
+        table.put(String.class, Integer.class, converter);
+        assertNotNull(table.get(String.class, Integer.class));
+        assertEquals(2, table.size());
+    }
+
+    private WeakReference<Class<?>> putCollectableClass(TypeConverterLookupTable table) throws Exception {
+        Class<?> type = new IsolatedClassLoader().loadIsolated(MyOrder.class.getName());
+        table.put(String.class, type, converter);
+        assertNotNull(table.get(String.class, type));
+        return new WeakReference<>(type);
+    }
+
+    private static final class IsolatedClassLoader extends ClassLoader {
+
+        IsolatedClassLoader() {
+            super(TypeConverterLookupTableTest.class.getClassLoader());
+        }
+
+        Class<?> loadIsolated(String name) throws IOException {
+            try (InputStream is = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                byte[] bytes = is.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    public static class MyOrder {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactHeadersMapTest {
+
+    @Test
+    public void testCaseInsensitive() {
+        Map<String, Object> map = new CompactHeadersMap();
+        map.put("Foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertTrue(map.containsKey("CAMELFILENAME"));
+
+        // keeps the original key case
+        map.put("FOO", "beer");
+        assertEquals(2, map.size());
+        assertEquals("beer", map.get("foo"));
+        assertEquals(List.of("Foo", Exchange.FILE_NAME), new ArrayList<>(map.keySet()));
+
+        assertEquals("beer", map.remove("fOO"));
+        assertNull(map.get("Foo"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testInsertionOrderAndGrow() {
+        Map<String, Object> map = new CompactHeadersMap();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            map.put("header" + i, i);
+            expected.add("header" + i);
+        }
+        assertEquals(100, map.size());
+        assertEquals(expected, new ArrayList<>(map.keySet()));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.get("HEADER" + i));
+        }
+    }
+
+    @Test
+    public void testClearAndReuse() {
+        Map<String, Object> map = new CompactHeadersMap();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20; i++) {
+                map.put("header" + i, round);
+            }
+            assertEquals(20, map.size());
+            assertEquals(round, map.get("header19"));
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertNull(map.get("header19"));
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        Map<String, Object> map = new CompactHeadersMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals("b")) {
+                it.remove();
+            } else {
+                entry.setValue((Integer) entry.getValue() * 10);
+            }
+        }
+        assertEquals(2, map.size());
+        assertEquals(10, map.get("A"));
+        assertEquals(30, map.get("C"));
+        assertFalse(map.containsKey("b"));
+
+        Map<String, Object> copy = new CompactHeadersMap(map);
+        copy.put("d", 4);
+        assertEquals(2, map.size());
+        assertEquals(3, copy.size());
+        assertEquals(map, new CompactHeadersMap(map));
+    }
+
+    @Test
+    public void testCompareWithTreeMap() {
+        Random random = new Random(42);
+        Map<String, Object> map = new CompactHeadersMap();
+        Map<String, Object> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        String[] keys = {
+                "foo", "FOO", "Bar", "bAR", Exchange.FILE_NAME, "CAMELFILENAME", Exchange.CONTENT_TYPE,
+                "content-type", "x", "y", "z", "header1", "header2", "header3", "header4", "header5", "header6" };
+
+        for (int i = 0; i < 10000; i++) {
+            String key = keys[random.nextInt(keys.length)];
+            int op = random.nextInt(10);
+            if (op < 5) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (op < 8) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (op < 9) {
+                assertEquals(expected.get(key), map.get(key));
+            } else if (random.nextInt(20) == 0) {
+                expected.clear();
+                map.clear();
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+    }
+}
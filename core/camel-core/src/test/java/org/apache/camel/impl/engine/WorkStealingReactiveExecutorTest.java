@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setStatisticsEnabled(true);
+        executor.setParallelism(2);
+        executor.setStealThreshold(0);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        assertInstanceOf(WorkStealingReactiveExecutor.class, context.getCamelContextExtension().getReactiveExecutor());
+
+        getMockEndpoint("mock:a").expectedMessageCount(20);
+        getMockEndpoint("mock:b").expectedMessageCount(20);
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testContinuationsNotStolen() throws Exception {
+        WorkStealingReactiveExecutor executor
+                = (WorkStealingReactiveExecutor) context.getCamelContextExtension().getReactiveExecutor();
+
+        final Thread owner = Thread.currentThread();
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        executor.schedule(() -> {
+            for (int i = 0; i < 10; i++) {
+                final int number = i;
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread());
+                    order.add(number);
+                });
+            }
+            // block the owner, where the continuations of the running task must wait for the task to complete
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertTrue(order.isEmpty(), "Continuations should not run while the task is running");
+        });
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+        assertTrue(threads.stream().allMatch(t -> t == owner), "Continuations should run on the owner");
+        assertEquals(0L, executor.getStolenTasks());
+    }
+
+    @Test
+    public void testStealFlowInOrder() throws Exception {
+        WorkStealingReactiveExecutor executor
+                = (WorkStealingReactiveExecutor) context.getCamelContextExtension().getReactiveExecutor();
+
+        final Thread owner = Thread.currentThread();
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch latch = new CountDownLatch(11);
+
+        executor.schedule(() -> {
+            // the pending tasks of this flow
+            for (int i = 0; i < 10; i++) {
+                final int number = i;
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread());
+                    order.add("task-" + number);
+                    if (number == 0) {
+                        // a continuation is run after the pending tasks of the flow
+                        executor.schedule(() -> {
+                            threads.add(Thread.currentThread());
+                            order.add("continuation");
+                            latch.countDown();
+                        });
+                    }
+                    latch.countDown();
+                });
+            }
+            // a new exchange puts the flow aside, and then blocks the owner
+            executor.scheduleMain(() -> {
+                try {
+                    // scheduling more tasks lets idle threads steal the flow put aside
+                    for (int i = 0; i < 500 && !latch.await(10, TimeUnit.MILLISECONDS); i++) {
+                        executor.schedule(() -> {
+                        });
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("task-0", "task-1", "task-2", "task-3", "task-4", "task-5", "task-6", "task-7", "task-8",
+                "task-9", "continuation"), order);
+        assertEquals(1, threads.size(), "The flow should be run by a single thread");
+        assertFalse(threads.contains(owner), "The flow should be stolen by another thread");
+        assertEquals(10L, executor.getStolenTasks());
+        assertTrue(executor.dumpWorkerStatistics().contains("Worker #"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=4")
+                        .multicast().to("mock:a", "mock:b").end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
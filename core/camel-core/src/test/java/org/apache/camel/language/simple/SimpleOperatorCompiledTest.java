@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the operator tests with the simple language in compiled mode, which must behave the same.
+ */
+public class SimpleOperatorCompiledTest extends SimpleOperatorTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.SIMPLE_COMPILED, "true");
+        return context;
+    }
+
+    @Test
+    public void testCompiled() {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertTrue(simple.isCompiled());
+    }
+
+    @Test
+    public void testCompiledEqualNumbers() {
+        exchange.getIn().setHeader("num", "0123");
+        assertPredicate("${in.header.num} == '123'", true);
+        assertPredicate("${in.header.num} != '123'", false);
+        assertPredicate("${in.header.num} == '0123'", true);
+
+        exchange.getIn().setHeader("num", 123);
+        assertPredicate("${in.header.num} == '123'", true);
+        assertPredicate("${in.header.num} == '124'", false);
+
+        exchange.getIn().setHeader("num", 123.0d);
+        assertPredicate("${in.header.num} == '123'", true);
+        assertPredicate("${in.header.num} == '123.5'", false);
+
+        exchange.getIn().setHeader("num", "99999999999999999999");
+        assertPredicate("${in.header.num} == 'abc'", false);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.BaseSimpleNode;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.language.simple.types.SimpleTokenType;
+import org.apache.camel.language.simple.types.TokenType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the expressions and predicates of the operators are initialized once.
+ */
+public class SimpleOperatorInitTest extends ExchangeTestSupport {
+
+    @Test
+    public void testBinaryOperatorInitializedOnce() {
+        // functions are initialized when they are created
+        CountingNode left = new CountingNode("foo", true);
+        CountingNode right = new CountingNode("foo", true);
+        Predicate predicate = createBinary("==", left, right, true);
+        predicate.init(context);
+
+        assertEquals(1, left.inits.get());
+        assertEquals(1, right.inits.get());
+        assertTrue(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testLiteralBinaryOperatorInitializedOnce() {
+        // the predicate is built once from the literal, and initialized when the predicate is initialized
+        CountingNode left = new CountingNode("foo", false);
+        Predicate predicate = createBinary("regex", left, literal("^f.*$"), true);
+        predicate.init(context);
+
+        assertEquals(1, left.inits.get());
+        assertTrue(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testLogicalOperatorInitializedOnce() {
+        CountingNode left = new CountingNode("true", true);
+        CountingNode right = new CountingNode("true", true);
+        Predicate predicate = createLogical("&&", left, right);
+        predicate.init(context);
+
+        assertEquals(1, left.inits.get());
+        assertEquals(1, right.inits.get());
+        assertTrue(predicate.matches(exchange));
+
+        CountingNode binaryLeft = new CountingNode("foo", true);
+        CountingNode binaryRight = new CountingNode("foo", true);
+        BinaryExpression binary = binary("==", binaryLeft, binaryRight, false);
+        CountingNode other = new CountingNode("false", true);
+        predicate = createLogical("||", binary, other);
+        predicate.init(context);
+
+        assertEquals(1, binaryLeft.inits.get());
+        assertEquals(1, binaryRight.inits.get());
+        assertEquals(1, other.inits.get());
+        assertTrue(predicate.matches(exchange));
+    }
+
+    private Predicate createBinary(String operator, SimpleNode left, SimpleNode right, boolean compiled) {
+        return (Predicate) binary(operator, left, right, compiled).createExpression(context, null);
+    }
+
+    private Predicate createLogical(String operator, SimpleNode left, SimpleNode right) {
+        LogicalExpression logical
+                = new LogicalExpression(new SimpleToken(new SimpleTokenType(TokenType.logicalOperator, operator), 0));
+        logical.acceptLeftNode(left);
+        logical.acceptRightNode(right);
+        return (Predicate) logical.createExpression(context, null);
+    }
+
+    private static BinaryExpression binary(String operator, SimpleNode left, SimpleNode right, boolean compiled) {
+        BinaryExpression binary = new BinaryExpression(
+                new SimpleToken(new SimpleTokenType(TokenType.binaryOperator, operator), 0), compiled);
+        binary.acceptLeftNode(left);
+        binary.acceptRightNode(right);
+        return binary;
+    }
+
+    private static LiteralExpression literal(String text) {
+        LiteralExpression literal = new LiteralExpression(new SimpleToken(new SimpleTokenType(TokenType.character, text), 0));
+        literal.addText(text);
+        return literal;
+    }
+
+    private static final class CountingNode extends BaseSimpleNode {
+
+        private final AtomicInteger inits = new AtomicInteger();
+        private final String value;
+        private final boolean initOnCreate;
+
+        private CountingNode(String value, boolean initOnCreate) {
+            super(new SimpleToken(new SimpleTokenType(TokenType.functionStart, "${"), 0));
+            this.value = value;
+            this.initOnCreate = initOnCreate;
+        }
+
+        @Override
+        public Expression createExpression(CamelContext camelContext, String expression) {
+            Expression answer = new Expression() {
+                @Override
+                public <T> T evaluate(Exchange exchange, Class<T> type) {
+                    return exchange.getContext().getTypeConverter().convertTo(type, value);
+                }
+
+                @Override
+                public void init(CamelContext context) {
+                    inits.incrementAndGet();
+                }
+            };
+            if (initOnCreate) {
+                // same as functions which are initialized when created
+                answer.init(camelContext);
+            }
+            return answer;
+        }
+
+        @Override
+        public String createCode(CamelContext camelContext, String expression) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+}
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.language.simple;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.spi.Registry;
 import org.junit.jupiter.api.Test;
@@ -563,6 +566,36 @@ public class SimpleOperatorTest extends LanguageTestSupport {
         assertPredicate("${in.header.bar} not regex '^\\d{2}'", true);
     }
 
+    @Test
+    public void testRegexFunctionInPattern() {
+        exchange.getIn().setHeader("pattern", "^a..$");
+        assertPredicate("${in.header.foo} regex ${in.header.pattern}", true);
+        assertPredicate("${in.header.foo} not regex ${in.header.pattern}", false);
+
+        // the pattern is evaluated per exchange
+        exchange.getIn().setHeader("pattern", "^d.*$");
+        assertPredicate("${in.header.foo} regex ${in.header.pattern}", false);
+    }
+
+    @Test
+    public void testRegexInvalidPattern() {
+        // an invalid pattern fails when evaluated and not when the predicate is created
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${in.header.foo} regex '[a'");
+        assertThrows(PatternSyntaxException.class, () -> predicate.matches(exchange));
+
+        Predicate not = context.resolveLanguage("simple").createPredicate("${in.header.foo} not regex '[a'");
+        assertThrows(PatternSyntaxException.class, () -> not.matches(exchange));
+    }
+
+    @Test
+    public void testIsUnknownClass() {
+        // an unknown class fails when evaluated and not when the predicate is created
+        Predicate predicate
+                = context.resolveLanguage("simple").createPredicate("${in.header.foo} is 'com.mycompany.DoesNotExist'");
+        SimpleIllegalSyntaxException e = assertThrows(SimpleIllegalSyntaxException.class, () -> predicate.matches(exchange));
+        assertEquals(20, e.getIndex());
+    }
+
     @Test
     public void testIn() {
         // string to string
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MulticastParallelVirtualThreadsTest extends ContextTestSupport {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testMulticastVirtualThreads() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("AB");
+
+        template.sendBody("direct:start", "Hello");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitVirtualThreadsMaxConcurrentTasks() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedMessageCount(10);
+        getMockEndpoint("mock:done").expectedMessageCount(1);
+
+        template.sendBody("direct:split", "1,2,3,4,5,6,7,8,9,10");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxActive.get() <= 3, "Should not run more than 3 concurrent tasks, was: " + maxActive.get());
+        assertEquals(0, active.get());
+    }
+
+    @Test
+    public void testRecipientListVirtualThreads() throws Exception {
+        getMockEndpoint("mock:x").expectedMessageCount(1);
+        getMockEndpoint("mock:y").expectedMessageCount(1);
+
+        template.sendBodyAndHeader("direct:recipients", "Hello", "to", "mock:x,mock:y");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AggregationStrategy concat = (oldExchange, newExchange) -> {
+                    if (oldExchange == null) {
+                        return newExchange;
+                    }
+                    String body = oldExchange.getIn().getBody(String.class);
+                    oldExchange.getIn().setBody(body + newExchange.getIn().getBody(String.class));
+                    return oldExchange;
+                };
+
+                from("direct:start").multicast(concat).parallelProcessing().virtualThreads()
+                        .to("direct:a", "direct:b")
+                        .end().to("mock:result");
+
+                from("direct:a").delay(100).setBody(constant("A"));
+                from("direct:b").setBody(constant("B"));
+
+                from("direct:split").split(body().tokenize(",")).parallelProcessing().virtualThreads()
+                        .maxConcurrentTasks(3)
+                        .process(MulticastParallelVirtualThreadsTest.this::blockingCall)
+                        .to("mock:split")
+                        .end().to("mock:done");
+
+                from("direct:recipients").recipientList(header("to")).parallelProcessing().virtualThreads();
+            }
+        };
+    }
+
+    private void blockingCall(Exchange exchange) throws Exception {
+        int current = active.incrementAndGet();
+        maxActive.accumulateAndGet(current, Math::max);
+        try {
+            // simulate a blocking call
+            Thread.sleep(50);
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.RoutePolicySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupParallelism(4);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupOrder() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+
+        assertEquals(5, order.size());
+        // the route with a startup order is started first
+        assertEquals("seda://first", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        // the routes are started before the routes that send to them
+        assertEquals("seda://b", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://other", order.get(2).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://a", order.get(3).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(4).getRoute().getEndpoint().getEndpointUri());
+    }
+
+    @Test
+    public void testRouteStartupThreads() {
+        assertEquals(5, threads.size());
+        for (String name : threads.values()) {
+            assertTrue(name.contains("RouteStartup"), "Should start route in parallel thread: " + name);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                RoutePolicySupport policy = new RoutePolicySupport() {
+                    @Override
+                    public void onStart(Route route) {
+                        threads.put(route.getRouteId(), Thread.currentThread().getName());
+                    }
+                };
+
+                from("direct:start").routePolicy(policy).to("direct:a");
+
+                from("direct:a").routePolicy(policy).to("seda:b");
+
+                from("seda:b").routePolicy(policy).to("mock:result");
+
+                from("direct:other").routePolicy(policy).to("mock:other");
+
+                from("seda:first").startupOrder(1).routePolicy(policy).to("mock:first");
+            }
+        };
+    }
+}
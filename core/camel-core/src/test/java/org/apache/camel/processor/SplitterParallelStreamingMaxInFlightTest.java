@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelStreamingMaxInFlightTest extends ContextTestSupport {
+
+    private static final int SIZE = 50;
+    private static final int MAX_IN_FLIGHT = 5;
+
+    private final AtomicInteger pulled = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxOutstanding = new AtomicInteger();
+    private final List<Integer> order = new ArrayList<>();
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", new CountingIterable());
+
+        assertMockEndpointsSatisfied();
+
+        // the splitter may look one element ahead on the iterator
+        assertTrue(maxOutstanding.get() <= MAX_IN_FLIGHT + 1,
+                "Should not pull more than the window from the iterator, was: " + maxOutstanding.get());
+
+        // replies are aggregated in the same order as split, also in streaming mode
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, order);
+
+        Splitter splitter = context.getProcessor("mySplit", Splitter.class);
+        assertEquals(MAX_IN_FLIGHT, splitter.getMaxInFlight());
+        assertEquals(0, splitter.getInFlight());
+        assertTrue(splitter.getPeakInFlight() <= MAX_IN_FLIGHT);
+        assertTrue(splitter.getWindowFullCounter() > 0);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AggregationStrategy strategy = (oldExchange, newExchange) -> {
+                    order.add(newExchange.getMessage().getBody(Integer.class));
+                    aggregated.incrementAndGet();
+                    return oldExchange != null ? oldExchange : newExchange;
+                };
+
+                from("direct:start")
+                        .split(body(), strategy).streaming().parallelProcessing().maxInFlight(MAX_IN_FLIGHT).id("mySplit")
+                        .process(e -> {
+                            // later elements complete faster so replies come back out-of-order
+                            int n = e.getMessage().getBody(Integer.class);
+                            Thread.sleep(n % MAX_IN_FLIGHT == 0 ? 20 : 1);
+                        })
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private class CountingIterable implements Iterable<Integer> {
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < SIZE;
+                }
+
+                @Override
+                public Integer next() {
+                    int outstanding = pulled.incrementAndGet() - aggregated.get();
+                    maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                    return next++;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateStripedLockingTest extends ContextTestSupport {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    public void testStripedLocking() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBodyAndHeader("seda:start", i, "id", i % 20);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(10, exchange.getMessage().getBody(List.class).size());
+        }
+
+        AggregateProcessor aggregate = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertTrue(aggregate.isStripedLocking());
+        assertEquals(200, aggregate.getStatistics().getTotalIn());
+        assertEquals(20, aggregate.getStatistics().getCompletedBySize());
+    }
+
+    @Test
+    public void testStripedLockingContention() throws Exception {
+        // Aa and BB have the same hash code, so they always use the same lock stripe, and Ab always uses another one
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        // hold the lock of the Aa stripe in the aggregation strategy
+        Future<Exchange> blocked = template.asyncSend("direct:contended", e -> {
+            e.getMessage().setBody("block");
+            e.getMessage().setHeader("id", "Aa");
+        });
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // a group on another stripe is not blocked
+        Exchange other = template.asyncSend("direct:contended", e -> {
+            e.getMessage().setBody("other");
+            e.getMessage().setHeader("id", "Ab");
+        }).get(10, TimeUnit.SECONDS);
+        assertNull(other.getException());
+
+        // a group on the same stripe has to wait
+        Future<Exchange> waiting = template.asyncSend("direct:contended", e -> {
+            e.getMessage().setBody("wait");
+            e.getMessage().setHeader("id", "BB");
+        });
+
+        AggregateProcessor aggregate = context.getProcessor("contended", AggregateProcessor.class);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(1, aggregate.getStatistics().getLockContended()));
+        assertFalse(waiting.isDone());
+
+        release.countDown();
+        assertNull(blocked.get(10, TimeUnit.SECONDS).getException());
+        assertNull(waiting.get(10, TimeUnit.SECONDS).getException());
+
+        assertEquals(1, aggregate.getStatistics().getLockContended());
+        assertTrue(aggregate.getStatistics().getLockWaitTime() > 0);
+        assertEquals(3, aggregate.getStatistics().getTotalIn());
+    }
+
+    @Test
+    public void testStripedLockingTimeout() throws Exception {
+        getMockEndpoint("mock:timeout").expectedBodiesReceivedInAnyOrder("AA", "B");
+        getMockEndpoint("mock:timeout").expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", "1");
+        template.sendBodyAndHeader("direct:timeout", "B", "id", "2");
+        template.sendBodyAndHeader("direct:timeout", "A", "id", "1");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStripedLockingCompletionOnNewCorrelationGroup() throws Exception {
+        getMockEndpoint("mock:group").expectedBodiesReceived("AA", "BB");
+
+        template.sendBodyAndHeader("direct:group", "A", "id", "1");
+        template.sendBodyAndHeader("direct:group", "A", "id", "1");
+        template.sendBodyAndHeader("direct:group", "B", "id", "2");
+        template.sendBodyAndHeader("direct:group", "B", "id", "2");
+        template.sendBodyAndHeader("direct:group", "C", "id", "3");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStripedLockingWithOptimisticLocking() {
+        Exception e = assertThrows(FailedToStartRouteException.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:optimistic")
+                        .aggregate(header("id"), new GroupedBodyAggregationStrategy())
+                        .stripedLocking().optimisticLocking().completionSize(2)
+                        .to("mock:optimistic");
+            }
+        }));
+        assertTrue(e.getMessage().contains("Striped locking cannot be used together with optimistic locking"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=5")
+                        .aggregate(header("id"), new GroupedBodyAggregationStrategy()).id("aggregate")
+                        .stripedLocking().completionSize(10)
+                        .to("mock:aggregated");
+
+                from("direct:timeout")
+                        .aggregate(header("id"), new AggregateCompletionOnNewCorrelationGroupTest.MyAggregationStrategy())
+                        .stripedLocking().completionTimeout(100).completionTimeoutCheckerInterval(10)
+                        .to("mock:timeout");
+
+                from("direct:contended")
+                        .aggregate(header("id"), (oldExchange, newExchange) -> {
+                            if ("block".equals(newExchange.getMessage().getBody())) {
+                                entered.countDown();
+                                try {
+                                    release.await(20, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            return newExchange;
+                        }).id("contended")
+                        .stripedLocking().completionSize(10)
+                        .to("mock:contended");
+
+                from("direct:group")
+                        .aggregate(header("id"), new AggregateCompletionOnNewCorrelationGroupTest.MyAggregationStrategy())
+                        .stripedLocking().completionOnNewCorrelationGroup().completionSize(3)
+                        .to("mock:group");
+            }
+        };
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.MemoryMappedAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedAggregationRepositoryTest extends ContextTestSupport {
+
+    @Test
+    public void testAddGetRemoveConfirm() throws Exception {
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(testDirectory("repo").toString());
+        repo.setReturnOldExchange(true);
+        repo.start();
+        try {
+            assertNull(repo.get(context, "foo"));
+
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Hello");
+            exchange.getIn().setHeader("counter", 1);
+            assertNull(repo.add(context, "foo", exchange));
+
+            Exchange answer = repo.get(context, "foo");
+            assertNotNull(answer);
+            assertEquals("Hello", answer.getIn().getBody());
+            assertEquals(1, answer.getIn().getHeader("counter"));
+
+            exchange.getIn().setBody("Hello World");
+            Exchange old = repo.add(context, "foo", exchange);
+            assertEquals("Hello", old.getIn().getBody());
+            assertEquals("Hello World", repo.get(context, "foo").getIn().getBody());
+            assertEquals(Set.of("foo"), repo.getKeys());
+
+            repo.remove(context, "foo", exchange);
+            assertNull(repo.get(context, "foo"));
+            assertTrue(repo.getKeys().isEmpty());
+
+            // the completed exchange is kept until confirmed
+            assertEquals(Set.of(exchange.getExchangeId()), repo.scan(context));
+            assertEquals("Hello World", repo.recover(context, exchange.getExchangeId()).getIn().getBody());
+
+            repo.confirm(context, exchange.getExchangeId());
+            assertTrue(repo.scan(context).isEmpty());
+            assertNull(repo.recover(context, exchange.getExchangeId()));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testNotStarted() throws Exception {
+        Path dir = testDirectory("stopped");
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(dir.toString());
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello");
+        repo.start();
+        repo.add(context, "foo", exchange);
+        repo.stop();
+
+        assertThrows(IllegalStateException.class, () -> repo.add(context, "foo", exchange));
+        assertThrows(IllegalStateException.class, () -> repo.get(context, "foo"));
+        assertThrows(IllegalStateException.class, () -> repo.remove(context, "foo", exchange));
+        assertThrows(IllegalStateException.class, () -> repo.confirm(context, exchange.getExchangeId()));
+        assertThrows(IllegalStateException.class, () -> repo.recover(context, exchange.getExchangeId()));
+        assertNull(repo.getKeys());
+        assertNull(repo.scan(context));
+
+        // the segment files are unmapped when stopped, so they can be deleted
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        String dir = testDirectory("restart").toString();
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(dir);
+        repo.start();
+
+        Exchange completed = null;
+        for (int i = 0; i < 100; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Bye " + i);
+            repo.add(context, "key" + i, exchange);
+            if (i % 2 == 0) {
+                repo.remove(context, "key" + i, exchange);
+                if (i == 50) {
+                    completed = exchange;
+                } else {
+                    repo.confirm(context, exchange.getExchangeId());
+                }
+            }
+        }
+        repo.stop();
+
+        // the index is rebuilt from the segment files
+        repo = new MemoryMappedAggregationRepository(dir);
+        repo.start();
+        try {
+            assertEquals(50, repo.getKeys().size());
+            assertEquals("Bye 99", repo.get(context, "key99").getIn().getBody());
+            assertNull(repo.get(context, "key98"));
+            assertEquals(Set.of(completed.getExchangeId()), repo.scan(context));
+            assertEquals("Bye 50", repo.recover(context, completed.getExchangeId()).getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        Path dir = testDirectory("compaction");
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(dir.toString());
+        repo.setSegmentSize(16 * 1024);
+        repo.setUseRecovery(false);
+        repo.start();
+
+        for (int i = 0; i < 2000; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Message " + i);
+            repo.add(context, "key" + (i % 10), exchange);
+        }
+        // old versions of the aggregated exchanges are compacted away
+        assertTrue(repo.getSegmentCount() <= 3, "Should compact segments, was: " + repo.getSegmentCount());
+        repo.stop();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.count() <= 3);
+        }
+
+        repo = new MemoryMappedAggregationRepository(dir.toString());
+        repo.setSegmentSize(16 * 1024);
+        repo.start();
+        try {
+            assertEquals(10, repo.getKeys().size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("Message " + (1990 + i), repo.get(context, "key" + i).getIn().getBody());
+            }
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testCompactionWithMostlyLiveSegment() throws Exception {
+        Path dir = testDirectory("live");
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(dir.toString());
+        repo.setSegmentSize(8 * 1024);
+        repo.setUseRecovery(false);
+        repo.start();
+        try {
+            // more than half of the oldest segment stays live, so compaction fills most of the new segment
+            Exchange live = new DefaultExchange(context);
+            live.getIn().setBody("x".repeat(4500));
+            repo.add(context, "live", live);
+
+            for (int i = 0; i < 50; i++) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setBody(i + "y".repeat(3500));
+                repo.add(context, "dead", exchange);
+            }
+
+            // a record larger than the segment size after compaction
+            Exchange large = new DefaultExchange(context);
+            large.getIn().setBody("z".repeat(20000));
+            repo.add(context, "large", large);
+
+            assertEquals("x".repeat(4500), repo.get(context, "live").getIn().getBody());
+            assertEquals(49 + "y".repeat(3500), repo.get(context, "dead").getIn().getBody());
+            assertEquals("z".repeat(20000), repo.get(context, "large").getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+
+        // and the records survive a restart
+        repo = new MemoryMappedAggregationRepository(dir.toString());
+        repo.setSegmentSize(8 * 1024);
+        repo.start();
+        try {
+            assertEquals(Set.of("live", "dead", "large"), repo.getKeys());
+            assertEquals("x".repeat(4500), repo.get(context, "live").getIn().getBody());
+            assertEquals("z".repeat(20000), repo.get(context, "large").getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testConcurrentKeys() throws Exception {
+        Path dir = testDirectory("concurrent");
+        MemoryMappedAggregationRepository repo = new MemoryMappedAggregationRepository(dir.toString());
+        repo.setSegmentSize(16 * 1024);
+        repo.start();
+
+        // every thread works on its own keys, while the segments are rolled and compacted underneath
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final String prefix = "thread" + t + "-";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        String key = prefix + (i % 5);
+                        Exchange exchange = new DefaultExchange(context);
+                        exchange.getIn().setBody(key + ":" + i);
+                        repo.add(context, key, exchange);
+                        assertEquals(key + ":" + i, repo.get(context, key).getIn().getBody());
+                        if (i % 3 == 0 && i < 195) {
+                            repo.remove(context, key, exchange);
+                            assertNull(repo.get(context, key));
+                            repo.confirm(context, exchange.getExchangeId());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the last round of messages is not removed
+        assertEquals(40, repo.getKeys().size());
+        assertTrue(repo.scan(context).isEmpty());
+        repo.stop();
+
+        MemoryMappedAggregationRepository restarted = new MemoryMappedAggregationRepository(dir.toString());
+        restarted.setSegmentSize(16 * 1024);
+        restarted.start();
+        try {
+            assertEquals(40, restarted.size());
+            for (int t = 0; t < 8; t++) {
+                for (int i = 195; i < 200; i++) {
+                    String key = "thread" + t + "-" + (i % 5);
+                    assertEquals(key + ":" + i, restarted.get(context, key).getIn().getBody());
+                }
+            }
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A+B+C", "D+E+F");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "D", "id", 2);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "E", "id", 2);
+        template.sendBodyAndHeader("direct:start", "C", "id", 1);
+        template.sendBodyAndHeader("direct:start", "F", "id", 2);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                MemoryMappedAggregationRepository repo
+                        = new MemoryMappedAggregationRepository(testDirectory("route").toString());
+
+                from("direct:start")
+                        .aggregate(header("id"), (oldExchange, newExchange) -> {
+                            if (oldExchange == null) {
+                                return newExchange;
+                            }
+                            String body = oldExchange.getIn().getBody(String.class) + "+"
+                                          + newExchange.getIn().getBody(String.class);
+                            oldExchange.getIn().setBody(body);
+                            return oldExchange;
+                        })
+                        .aggregationRepository(repo)
+                        .completionSize(3)
+                        .to("mock:result");
+            }
+        };
+    }
+}
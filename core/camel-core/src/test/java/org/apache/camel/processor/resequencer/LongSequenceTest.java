@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongSequenceTest {
+
+    private TestObject e1;
+    private TestObject e2;
+    private TestObject e3;
+
+    private LongSequence<TestObject> set;
+
+    @BeforeEach
+    public void setUp() {
+        e1 = new TestObject(3);
+        e2 = new TestObject(4);
+        e3 = new TestObject(7);
+        set = new LongSequence<>(TestObject::getValue);
+        set.add(e3);
+        set.add(e1);
+        set.add(e2);
+    }
+
+    @Test
+    public void testPredecessor() {
+        assertEquals(e1, set.predecessor(e2));
+        assertNull(set.predecessor(e1));
+        assertNull(set.predecessor(e3));
+    }
+
+    @Test
+    public void testSuccessor() {
+        assertEquals(e2, set.successor(e1));
+        assertNull(set.successor(e2));
+        assertNull(set.successor(e3));
+    }
+
+    @Test
+    public void testDuplicate() {
+        assertFalse(set.add(new TestObject(4)));
+        assertEquals(3, set.size());
+        assertSame(e2, set.successor(e1));
+    }
+
+    @Test
+    public void testPollFirst() {
+        assertSame(e1, set.first());
+        assertSame(e1, set.pollFirst());
+        assertSame(e2, set.pollFirst());
+        assertSame(e3, set.pollFirst());
+        assertNull(set.pollFirst());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testOrder() {
+        List<TestObject> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            objects.add(new TestObject(i * 3 % 1024));
+        }
+        Collections.shuffle(objects, new Random(4711));
+
+        LongSequence<TestObject> sequence = new LongSequence<>(TestObject::getValue);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < objects.size(); i++) {
+            assertTrue(sequence.add(objects.get(i)));
+            expected.add(objects.get(i).getValue());
+            // remove some elements while adding
+            if (i % 3 == 0) {
+                assertEquals(expected.pollFirst(), sequence.pollFirst().getValue());
+            }
+        }
+        assertEquals(expected.size(), sequence.size());
+        while (!sequence.isEmpty()) {
+            assertEquals(expected.first(), sequence.first().getValue());
+            assertEquals(expected.pollFirst(), sequence.pollFirst().getValue());
+        }
+        assertTrue(expected.isEmpty());
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.tokenbucket;
+
+import java.time.Duration;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    private static final int TENANTS = 1000;
+
+    @Test
+    public void testBurstThenReject() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        getMockEndpoint("mock:error").expectedMessageCount(2);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("throttler", TokenBucketThrottler.class);
+        assertEquals("TokenBucket", throttler.getMode());
+        assertEquals(3, throttler.getCurrentMaximumRequests());
+    }
+
+    @Test
+    public void testAsyncDelayed() throws Exception {
+        getMockEndpoint("mock:async").expectedMessageCount(6);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:async", "Message " + i);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertMockEndpointsSatisfied();
+
+        // 2 messages in the initial burst, and then 1 message per 250 millis
+        assertTrue(elapsed >= 900, "Should take at least 1 second, was: " + elapsed);
+    }
+
+    @Test
+    public void testCorrelationKeys() throws Exception {
+        getMockEndpoint("mock:tenant").expectedMessageCount(TENANTS);
+        getMockEndpoint("mock:error").expectedMessageCount(1);
+
+        template.sendBodyAndHeader("direct:tenant", "Hello", "tenant", "tenant-0");
+        // the bucket of this tenant is empty
+        template.sendBodyAndHeader("direct:tenant", "Hello", "tenant", "tenant-0");
+        for (int i = 1; i < TENANTS; i++) {
+            template.sendBodyAndHeader("direct:tenant", "Hello", "tenant", "tenant-" + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the buckets are evicted when they are full again
+        TokenBucketThrottler throttler = context.getProcessor("tenants", TokenBucketThrottler.class);
+        Awaitility.await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(0, throttler.getCorrelationKeysSize()));
+    }
+
+    @Test
+    public void testMaximumCorrelationKeys() throws Exception {
+        getMockEndpoint("mock:bounded").expectedMessageCount(1 + TENANTS);
+        getMockEndpoint("mock:error").expectedMessageCount(TENANTS);
+
+        template.sendBodyAndHeader("direct:bounded", "Hello", "tenant", "busy");
+        for (int i = 0; i < TENANTS; i++) {
+            template.sendBodyAndHeader("direct:bounded", "Hello", "tenant", "tenant-" + i);
+            // the bucket of the busy tenant must not be evicted (and come back full) while it is in use
+            template.sendBodyAndHeader("direct:bounded", "Hello", "tenant", "busy");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("bounded", TokenBucketThrottler.class);
+        assertEquals(10, throttler.getMaximumCorrelationKeys());
+        assertTrue(throttler.getCorrelationKeysSize() <= 10,
+                "Should keep at most 10 keys, was: " + throttler.getCorrelationKeysSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:start")
+                        .throttle(3).tokenBucketMode().timePeriodMillis(1000).rejectExecution(true).id("throttler")
+                        .to("mock:result");
+
+                from("direct:async")
+                        .throttle(2).tokenBucketMode().timePeriodMillis(500).asyncDelayed()
+                        .to("mock:async");
+
+                from("direct:tenant")
+                        .throttle(constant(1), header("tenant")).tokenBucketMode().timePeriodMillis(100)
+                        .rejectExecution(true).id("tenants")
+                        .to("mock:tenant");
+
+                from("direct:bounded")
+                        .throttle(constant(1), header("tenant")).tokenBucketMode().timePeriodMillis(60000)
+                        .maximumCorrelationKeys(10).rejectExecution(true).id("bounded")
+                        .to("mock:bounded");
+            }
+        };
+    }
+}
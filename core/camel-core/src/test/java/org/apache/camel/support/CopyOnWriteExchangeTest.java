@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests copy-on-write copies of an {@link Exchange}.
+ */
+public class CopyOnWriteExchangeTest {
+
+    private CamelContext context;
+    private Exchange exchange;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", "123");
+        exchange.setProperty("bar", "456");
+        exchange.setVariable("beer", "Carlsberg");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testCopyReadsSharedState() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+
+        assertNotSame(exchange, copy);
+        assertNotSame(exchange.getIn(), copy.getIn());
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals("123", copy.getIn().getHeader("foo"));
+        assertEquals("456", copy.getProperty("bar"));
+        assertEquals("Carlsberg", copy.getVariable("beer"));
+        assertEquals(exchange.getExchangeId(), copy.getProperty(Exchange.CORRELATION_ID));
+    }
+
+    @Test
+    public void testChangeCopy() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+
+        copy.getIn().setHeader("foo", "abc");
+        copy.getIn().setHeader("extra", "yes");
+        copy.setProperty("bar", "def");
+        copy.removeVariable("beer");
+
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+        assertEquals("yes", copy.getIn().getHeader("extra"));
+        assertEquals("def", copy.getProperty("bar"));
+        assertNull(copy.getVariable("beer"));
+
+        assertEquals("123", exchange.getIn().getHeader("foo"));
+        assertNull(exchange.getIn().getHeader("extra"));
+        assertEquals("456", exchange.getProperty("bar"));
+        assertEquals("Carlsberg", exchange.getVariable("beer"));
+    }
+
+    @Test
+    public void testChangeOriginal() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+
+        exchange.getIn().removeHeader("foo");
+        exchange.removeProperty("bar");
+        exchange.setVariable("beer", "Tuborg");
+
+        assertNull(exchange.getIn().getHeader("foo"));
+        assertNull(exchange.getProperty("bar"));
+        assertEquals("Tuborg", exchange.getVariable("beer"));
+
+        assertEquals("123", copy.getIn().getHeader("foo"));
+        assertEquals("456", copy.getProperty("bar"));
+        assertEquals("Carlsberg", copy.getVariable("beer"));
+    }
+
+    @Test
+    public void testCopiesAreIsolated() {
+        Exchange copy1 = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+        Exchange copy2 = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+
+        copy1.getIn().getHeaders().put("foo", "copy1");
+        copy1.getProperties().put("bar", "copy1");
+        copy1.getVariables().put("beer", "copy1");
+
+        assertEquals("copy1", copy1.getIn().getHeader("foo"));
+        assertEquals("copy1", copy1.getProperty("bar"));
+        assertEquals("copy1", copy1.getVariable("beer"));
+
+        assertEquals("123", copy2.getIn().getHeader("foo"));
+        assertEquals("456", copy2.getProperty("bar"));
+        assertEquals("Carlsberg", copy2.getVariable("beer"));
+        assertEquals("123", exchange.getIn().getHeader("foo"));
+        assertEquals("456", exchange.getProperty("bar"));
+        assertEquals("Carlsberg", exchange.getVariable("beer"));
+    }
+
+    @Test
+    public void testRemoveAllOnCopy() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+
+        copy.getIn().removeHeaders("*");
+        copy.removeProperties("*");
+        copy.removeVariable("*");
+
+        assertTrue(copy.getIn().getHeaders().isEmpty());
+        assertNull(copy.getProperty("bar"));
+        assertNull(copy.getVariable("beer"));
+
+        assertEquals("123", exchange.getIn().getHeader("foo"));
+        assertEquals("456", exchange.getProperty("bar"));
+        assertEquals("Carlsberg", exchange.getVariable("beer"));
+    }
+
+    @Test
+    public void testReadsDoNotCopy() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+        DefaultMessage in = (DefaultMessage) copy.getIn();
+        AbstractExchange ae = (AbstractExchange) copy;
+
+        assertTrue(in.isHeadersShared());
+        assertTrue(ae.propertiesShared);
+        assertTrue(ae.variablesShared);
+
+        assertEquals("123", in.getHeader("foo"));
+        assertTrue(in.hasHeaders());
+        assertEquals("123", in.getHeaders().get("foo"));
+        assertTrue(in.getHeaders().containsKey("foo"));
+        assertEquals(1, in.getHeaders().size());
+        for (Map.Entry<String, Object> entry : in.getHeaders().entrySet()) {
+            assertEquals("foo", entry.getKey());
+        }
+        assertEquals("456", copy.getProperties().get("bar"));
+        assertEquals(1, copy.getProperties().entrySet().size());
+        assertEquals("Carlsberg", copy.getVariables().get("beer"));
+        assertTrue(copy.getVariables().containsKey("beer"));
+
+        // removing what is not there is not a change either
+        assertNull(in.removeHeader("unknown"));
+        assertNull(copy.removeProperty("unknown"));
+        assertNull(copy.removeVariable("unknown"));
+        copy.getIn().getHeaders().remove("unknown");
+
+        assertTrue(in.isHeadersShared());
+        assertTrue(ae.propertiesShared);
+        assertTrue(ae.variablesShared);
+    }
+
+    @Test
+    public void testChangeCopyViaIterator() {
+        Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false, false, true);
+        copy.getIn().setHeader("extra", "yes");
+        Exchange copy2 = ExchangeHelper.createCorrelatedCopy(copy, false, false, true);
+
+        Iterator<Map.Entry<String, Object>> it = copy2.getIn().getHeaders().entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if ("foo".equals(entry.getKey())) {
+                entry.setValue("abc");
+                assertEquals("abc", entry.getValue());
+            } else {
+                it.remove();
+            }
+        }
+        copy2.getProperties().entrySet().iterator().next().setValue("def");
+
+        assertFalse(((DefaultMessage) copy2.getIn()).isHeadersShared());
+        assertEquals("abc", copy2.getIn().getHeader("foo"));
+        assertNull(copy2.getIn().getHeader("extra"));
+        assertEquals("def", copy2.getProperty("bar"));
+
+        assertEquals("123", copy.getIn().getHeader("foo"));
+        assertEquals("yes", copy.getIn().getHeader("extra"));
+        assertEquals("456", copy.getProperty("bar"));
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.apache.camel.support.cache.ApproximateLRUCache.MINIMUM_QUEUE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for {@link ApproximateLRUCache}.
+ */
+@Isolated("Some of these tests creates a lot of threads")
+@DisabledIfSystemProperty(named = "ci.env.name", matches = ".*",
+                          disabledReason = "Apache CI nodes are too resource constrained for this test")
+class ApproximateLRUCacheTest {
+
+    private final List<String> consumed = new ArrayList<>();
+    private final ApproximateLRUCache<String, String> map = new ApproximateLRUCache<>(16, 3, consumed::add);
+
+    @Test
+    void forbiddenOperations() {
+        assertThrows(UnsupportedOperationException.class, () -> map.values().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().add(Map.entry("x", "y")));
+        assertThrows(NullPointerException.class, () -> map.put("1", null));
+        assertThrows(NullPointerException.class, () -> map.put(null, "One"));
+    }
+
+    @Test
+    void evictLeastRecentlyAdded() {
+        assertNull(map.put("1", "One"));
+        assertNull(map.put("2", "Two"));
+        assertNull(map.put("3", "Three"));
+        assertNull(map.put("4", "Four"));
+        assertEquals(3, map.size());
+        assertFalse(map.containsKey("1"));
+        assertEquals(List.of("One"), consumed);
+    }
+
+    @Test
+    void secondChanceForReferencedEntries() {
+        map.put("1", "One");
+        map.put("2", "Two");
+        map.put("3", "Three");
+        // reading the oldest entry gives it a second chance, so the next oldest is evicted
+        assertEquals("One", map.get("1"));
+        map.put("4", "Four");
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey("1"));
+        assertFalse(map.containsKey("2"));
+        assertEquals(List.of("Two"), consumed);
+    }
+
+    @Test
+    void replaceDoesNotEvict() {
+        map.put("1", "One");
+        assertEquals("One", map.put("1", "Uno"));
+        assertEquals("Uno", map.replace("1", "Eins"));
+        assertTrue(map.replace("1", "Eins", "One"));
+        assertFalse(map.replace("1", "Eins", "Uno"));
+        assertEquals("One", map.get("1"));
+        assertEquals(1, map.size());
+        assertTrue(consumed.isEmpty());
+    }
+
+    @Test
+    void computeAndRemove() {
+        assertEquals("One", map.computeIfAbsent("1", k -> "One"));
+        assertEquals("One", map.computeIfAbsent("1", k -> "Uno"));
+        assertNull(map.computeIfAbsent("2", k -> null));
+        assertEquals("One!", map.computeIfPresent("1", (k, v) -> v + "!"));
+        assertEquals("Two", map.compute("2", (k, v) -> v == null ? "Two" : v));
+        assertEquals("Two+Two", map.merge("2", "Two", (v1, v2) -> v1 + "+" + v2));
+        assertNull(map.putIfAbsent("3", "Three"));
+        assertEquals("Three", map.putIfAbsent("3", "Drei"));
+        assertEquals(3, map.size());
+
+        assertFalse(map.remove("1", "One"));
+        assertTrue(map.remove("1", "One!"));
+        assertEquals("Two+Two", map.remove("2"));
+        assertNull(map.compute("3", (k, v) -> null));
+        assertTrue(map.isEmpty());
+        assertTrue(consumed.isEmpty());
+    }
+
+    @Test
+    void setValue() {
+        map.put("1", "One");
+        map.entrySet().iterator().next().setValue("bar");
+        assertEquals(1, map.size());
+        assertEquals("bar", map.get("1"));
+        assertThrows(NullPointerException.class, () -> map.entrySet().iterator().next().setValue(null));
+    }
+
+    @Test
+    void queueSize() {
+        for (int i = 1; i <= MINIMUM_QUEUE_SIZE; i++) {
+            map.put("1", Integer.toString(i));
+            assertEquals(i, map.getQueueSize());
+        }
+        // the replaced entries are purged from the queue
+        map.put("1", "A");
+        assertEquals(1, map.size());
+        assertEquals(1, map.getQueueSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1 })
+    void validateCacheSize(int maximumCacheSize) {
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateLRUCache<>(16, maximumCacheSize, x -> {
+        }));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 5, 10, 20, 50, 100, 1_000 })
+    void concurrentPut(int maximumCacheSize) throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int totalKeysPerThread = 1_000;
+        AtomicInteger counter = new AtomicInteger();
+        ApproximateLRUCache<String, String> cache
+                = new ApproximateLRUCache<>(16, maximumCacheSize, v -> counter.incrementAndGet());
+
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            int threadId = i;
+            new Thread(() -> {
+                try {
+                    for (int j = 0; j < totalKeysPerThread; j++) {
+                        cache.put(threadId + "-" + j, Integer.toString(j));
+                        cache.get(threadId + "-" + (j / 2));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS),
+                "Should have completed within a reasonable timeframe. Latch at: " + latch.getCount());
+        assertEquals(maximumCacheSize, cache.size());
+        assertEquals(totalKeysPerThread * threads - maximumCacheSize, counter.get());
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedFileIdempotentRepositoryTest extends TestSupport {
+
+    private SegmentedFileIdempotentRepository repo;
+    private File directory;
+
+    @BeforeEach
+    public void setup() {
+        directory = testDirectory().resolve("store").toFile();
+        repo = new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        repo.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        repo.start();
+
+        assertTrue(repo.add("foo"));
+        assertFalse(repo.add("foo"));
+        assertTrue(repo.add("bar"));
+        assertTrue(repo.contains("foo"));
+        assertFalse(repo.contains("baz"));
+
+        assertTrue(repo.remove("foo"));
+        assertFalse(repo.remove("foo"));
+        assertFalse(repo.contains("foo"));
+        assertTrue(repo.contains("bar"));
+        assertTrue(repo.add("foo"));
+
+        repo.clear();
+        assertFalse(repo.contains("foo"));
+        assertFalse(repo.contains("bar"));
+        assertEquals(0, repo.getSize());
+    }
+
+    @Test
+    public void testRestart() {
+        repo.start();
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key" + i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            repo.remove("key" + i);
+        }
+        repo.stop();
+
+        repo = new SegmentedFileIdempotentRepository(directory);
+        repo.start();
+        assertEquals(500, repo.getSize());
+        assertFalse(repo.contains("key0"));
+        assertTrue(repo.contains("key1"));
+        assertTrue(repo.contains("key999"));
+        assertFalse(repo.add("key999"));
+    }
+
+    @Test
+    public void testCompaction() {
+        repo.setSegmentSize(4096);
+        repo.setSync(false);
+        repo.start();
+
+        for (int i = 0; i < 5000; i++) {
+            repo.add("key" + i);
+            // only keep every 10th key
+            if (i % 10 != 0) {
+                repo.remove("key" + i);
+            }
+        }
+        repo.compact();
+
+        assertTrue(repo.getCompactionCount() > 0);
+        assertEquals(500, repo.getSize());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 10 == 0, repo.contains("key" + i), "key" + i);
+        }
+        repo.stop();
+
+        // the compacted segments are replayed in the same order
+        repo = new SegmentedFileIdempotentRepository(directory);
+        repo.start();
+        assertEquals(500, repo.getSize());
+        assertTrue(repo.getSegmentCount() < 10, "Should be compacted, was: " + repo.getSegmentCount());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 10 == 0, repo.contains("key" + i), "key" + i);
+        }
+    }
+
+    @Test
+    public void testCrashWhileDeletingCompactedSegments() throws Exception {
+        repo.setSegmentSize(1024);
+        repo.setSync(false);
+        // only compact when asked
+        repo.setCompactionThreshold(1);
+        repo.start();
+        for (int i = 0; i < 100; i++) {
+            repo.add("key" + i);
+        }
+        // the remove records are in newer segments than the add records
+        for (int i = 1; i < 100; i += 2) {
+            repo.remove("key" + i);
+        }
+        repo.stop();
+
+        // keep the segments as they were before compacting
+        Path crashed = testDirectory().resolve("crashed");
+        copySegments(directory.toPath(), crashed);
+
+        repo = new SegmentedFileIdempotentRepository(directory);
+        repo.setSegmentSize(1024);
+        repo.setSync(false);
+        repo.setCompactionThreshold(1);
+        repo.start();
+        repo.compact();
+        assertEquals(1, repo.getCompactionCount());
+        repo.stop();
+
+        // simulate a crash after the compaction was completed, but before the segments it copied from were deleted,
+        // where the oldest segment was deleted, and the compacted segment is next to the other segments
+        Path compacted = listSegments(directory.toPath()).get(0);
+        Files.copy(compacted, crashed.resolve(compacted.getFileName() + ".compacted"));
+        Files.delete(listSegments(crashed).get(0));
+
+        repo = new SegmentedFileIdempotentRepository(crashed.toFile());
+        repo.start();
+        assertEquals(50, repo.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0, repo.contains("key" + i), "key" + i);
+        }
+        // the compaction is completed on start
+        assertEquals(listSegments(directory.toPath()).stream().map(Path::getFileName).toList(),
+                listSegments(crashed).stream().map(Path::getFileName).toList());
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        repo.setTimeToLive(200);
+        repo.setSegmentSize(1024);
+        repo.start();
+
+        assertTrue(repo.add("foo"));
+        assertTrue(repo.contains("foo"));
+        Thread.sleep(400);
+        assertFalse(repo.contains("foo"));
+        // an expired key can be added again
+        assertTrue(repo.add("foo"));
+
+        for (int i = 0; i < 100; i++) {
+            repo.add("key" + i);
+        }
+        Thread.sleep(400);
+        repo.add("bar");
+        repo.compact();
+
+        // the expired keys in the full segments are removed from the index
+        assertTrue(repo.getSize() < 50, "Should remove expired keys, was: " + repo.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertFalse(repo.contains("key" + i));
+        }
+        assertTrue(repo.contains("bar"));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        repo.setSegmentSize(8192);
+        repo.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    int added = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (repo.add("key" + i)) {
+                            added++;
+                        }
+                    }
+                    return added;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get();
+            }
+            // every key is only added once
+            assertEquals(500, total);
+            assertEquals(500, repo.getSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void copySegments(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        for (Path file : listSegments(from)) {
+            Files.copy(file, to.resolve(file.getFileName()));
+        }
+    }
+
+    private static List<Path> listSegments(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.filter(f -> f.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+}
@@ -70,6 +70,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("GlobalOptions", java.util.Map.class);
         map.put("GroovyPreloadCompiled", boolean.class);
         map.put("GroovyScriptPattern", java.lang.String.class);
+        map.put("HeadersMapFactory", java.lang.String.class);
         map.put("InflightRepositoryBrowseEnabled", boolean.class);
         map.put("JavaRoutesExcludePattern", java.lang.String.class);
         map.put("JavaRoutesIncludePattern", java.lang.String.class);
@@ -88,6 +89,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("LogLanguage", java.lang.String.class);
         map.put("LogMask", boolean.class);
         map.put("LogName", java.lang.String.class);
+        map.put("LruCacheFactory", java.lang.String.class);
         map.put("MainListenerClasses", java.lang.String.class);
         map.put("MainListeners", java.util.List.class);
         map.put("MdcLoggingKeysPattern", java.lang.String.class);
@@ -96,8 +98,11 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Name", java.lang.String.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorStatisticsEnabled", boolean.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
+        map.put("RouteStartupParallelism", int.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
         map.put("RoutesCollectorEnabled", boolean.class);
@@ -125,6 +130,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StartupSummaryLevel", org.apache.camel.StartupSummaryLevel.class);
         map.put("StreamCachingAllowClasses", java.lang.String.class);
         map.put("StreamCachingAnySpoolRules", boolean.class);
+        map.put("StreamCachingBufferPoolDirect", boolean.class);
+        map.put("StreamCachingBufferPoolSize", int.class);
         map.put("StreamCachingBufferSize", int.class);
         map.put("StreamCachingDenyClasses", java.lang.String.class);
         map.put("StreamCachingEnabled", boolean.class);
@@ -248,6 +255,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": target.setGroovyPreloadCompiled(property(camelContext, boolean.class, value)); return true;
         case "groovyscriptpattern":
         case "groovyScriptPattern": target.setGroovyScriptPattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "headersmapfactory":
+        case "headersMapFactory": target.setHeadersMapFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
         case "javaroutesexcludepattern":
@@ -284,6 +293,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "logMask": target.setLogMask(property(camelContext, boolean.class, value)); return true;
         case "logname":
         case "logName": target.setLogName(property(camelContext, java.lang.String.class, value)); return true;
+        case "lrucachefactory":
+        case "lruCacheFactory": target.setLruCacheFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "mainlistenerclasses":
         case "mainListenerClasses": target.setMainListenerClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "mainlisteners":
@@ -297,10 +308,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": target.setReactiveExecutorStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -355,6 +372,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingAllowClasses": target.setStreamCachingAllowClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": target.setStreamCachingAnySpoolRules(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpooldirect":
+        case "streamCachingBufferPoolDirect": target.setStreamCachingBufferPoolDirect(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolsize":
+        case "streamCachingBufferPoolSize": target.setStreamCachingBufferPoolSize(property(camelContext, int.class, value)); return true;
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingdenyclasses":
@@ -504,6 +525,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": return boolean.class;
         case "groovyscriptpattern":
         case "groovyScriptPattern": return java.lang.String.class;
+        case "headersmapfactory":
+        case "headersMapFactory": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return boolean.class;
         case "javaroutesexcludepattern":
@@ -540,6 +563,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "logMask": return boolean.class;
         case "logname":
         case "logName": return java.lang.String.class;
+        case "lrucachefactory":
+        case "lruCacheFactory": return java.lang.String.class;
         case "mainlistenerclasses":
         case "mainListenerClasses": return java.lang.String.class;
         case "mainlisteners":
@@ -553,10 +578,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": return boolean.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return java.lang.String.class;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return int.class;
         case "routesbuilderclasses":
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -611,6 +642,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingAllowClasses": return java.lang.String.class;
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": return boolean.class;
+        case "streamcachingbufferpooldirect":
+        case "streamCachingBufferPoolDirect": return boolean.class;
+        case "streamcachingbufferpoolsize":
+        case "streamCachingBufferPoolSize": return int.class;
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": return int.class;
         case "streamcachingdenyclasses":
@@ -756,6 +791,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": return target.isGroovyPreloadCompiled();
         case "groovyscriptpattern":
         case "groovyScriptPattern": return target.getGroovyScriptPattern();
+        case "headersmapfactory":
+        case "headersMapFactory": return target.getHeadersMapFactory();
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
         case "javaroutesexcludepattern":
@@ -792,6 +829,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "logMask": return target.isLogMask();
         case "logname":
         case "logName": return target.getLogName();
+        case "lrucachefactory":
+        case "lruCacheFactory": return target.getLruCacheFactory();
         case "mainlistenerclasses":
         case "mainListenerClasses": return target.getMainListenerClasses();
         case "mainlisteners":
@@ -805,10 +844,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": return target.isReactiveExecutorStatisticsEnabled();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -863,6 +908,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingAllowClasses": return target.getStreamCachingAllowClasses();
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": return target.isStreamCachingAnySpoolRules();
+        case "streamcachingbufferpooldirect":
+        case "streamCachingBufferPoolDirect": return target.isStreamCachingBufferPoolDirect();
+        case "streamcachingbufferpoolsize":
+        case "streamCachingBufferPoolSize": return target.getStreamCachingBufferPoolSize();
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingdenyclasses":
@@ -38,11 +38,13 @@ import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.debugger.DebuggerJmxConnectorService;
 import org.apache.camel.impl.debugger.DefaultBacklogDebugger;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -90,9 +92,11 @@ import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.spi.VariableRepositoryFactory;
+import org.apache.camel.support.ApproximateLRUCacheFactory;
 import org.apache.camel.support.ClassicUuidGenerator;
 import org.apache.camel.support.DefaultContextReloadStrategy;
 import org.apache.camel.support.DefaultUuidGenerator;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LifecycleStrategySupport;
 import org.apache.camel.support.OffUuidGenerator;
 import org.apache.camel.support.PluginHelper;
@@ -176,6 +180,45 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            if (!(ecc.getReactiveExecutor() instanceof WorkStealingReactiveExecutor)) {
+                // the replaced executor is not managed by the context anymore, so stop it here
+                ReactiveExecutor replaced = ecc.getReactiveExecutor();
+                ecc.setReactiveExecutor(new WorkStealingReactiveExecutor());
+                ServiceHelper.stopAndShutdownService(replaced);
+            }
+        } else if (config.getReactiveExecutor() != null && !"default".equals(config.getReactiveExecutor())) {
+            throw new IllegalArgumentException(
+                    "Unknown reactiveExecutor: " + config.getReactiveExecutor()
+                                               + ". Supported values are default and work-stealing");
+        }
+        if (config.isReactiveExecutorStatisticsEnabled()) {
+            ecc.getReactiveExecutor().setStatisticsEnabled(true);
+        }
+        if ("approximate".equals(config.getLruCacheFactory())) {
+            // the LRU cache factory is JVM wide, and only caches created from now on are affected
+            if (!(LRUCacheFactory.getInstance() instanceof ApproximateLRUCacheFactory)) {
+                LOG.info("Using ApproximateLRUCacheFactory for all CamelContexts in this JVM");
+                LRUCacheFactory.setLRUCacheFactory(new ApproximateLRUCacheFactory());
+            }
+        } else if (config.getLruCacheFactory() != null && !"default".equals(config.getLruCacheFactory())) {
+            throw new IllegalArgumentException(
+                    "Unknown lruCacheFactory: " + config.getLruCacheFactory()
+                                               + ". Supported values are default and approximate");
+        }
+        if ("compact".equals(config.getHeadersMapFactory())) {
+            if (!config.isCaseInsensitiveHeaders()) {
+                throw new IllegalArgumentException(
+                        "Cannot use headersMapFactory=compact with caseInsensitiveHeaders=false,"
+                                                   + " as the compact map is case insensitive");
+            }
+            ecc.setHeadersMapFactory(new CompactHeadersMapFactory());
+        } else if (config.getHeadersMapFactory() != null && !"default".equals(config.getHeadersMapFactory())) {
+            throw new IllegalArgumentException(
+                    "Unknown headersMapFactory: " + config.getHeadersMapFactory()
+                                               + ". Supported values are default and compact");
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -189,6 +232,7 @@ public final class DefaultConfigurationConfigurer {
         if (config.getStartupSummaryLevel() != null) {
             camelContext.setStartupSummaryLevel(config.getStartupSummaryLevel());
         }
+        camelContext.setRouteStartupParallelism(config.getRouteStartupParallelism());
 
         if (config.getShutdownTimeout() > 0) {
             camelContext.getShutdownStrategy().setTimeout(config.getShutdownTimeout());
@@ -212,6 +256,8 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy().setSpoolEnabled(config.isStreamCachingSpoolEnabled());
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolSize(config.getStreamCachingBufferPoolSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolDirect(config.isStreamCachingBufferPoolDirect());
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
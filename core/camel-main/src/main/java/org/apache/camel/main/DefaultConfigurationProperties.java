@@ -69,6 +69,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private int streamCachingBufferPoolSize;
+    private boolean streamCachingBufferPoolDirect;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean typeConverterStatisticsEnabled;
@@ -111,6 +113,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String threadNamePattern;
     private String routeFilterIncludePattern;
     private String routeFilterExcludePattern;
+    private int routeStartupParallelism = 1;
     private boolean beanIntrospectionExtendedStatistics;
     private LoggingLevel beanIntrospectionLoggingLevel;
     private boolean contextReloadEnabled;
@@ -137,6 +140,14 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    @Metadata(label = "advanced")
+    private boolean reactiveExecutorStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,approximate")
+    private String lruCacheFactory = "default";
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,compact")
+    private String headersMapFactory = "default";
     @Metadata(enums = "xml,yaml")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -597,6 +608,32 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public int getStreamCachingBufferPoolSize() {
+        return streamCachingBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of buffer chunks to keep in a pool for reuse by stream caches. When this is a positive
+     * number then stream caches are built from fixed-size chunks (of the buffer size) that are reused across exchanges,
+     * and spooled to disk chunk by chunk.
+     *
+     * The default is 0 which means the pool is disabled. The pool is not in use when using a spool cipher.
+     */
+    public void setStreamCachingBufferPoolSize(int streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+    }
+
+    public boolean isStreamCachingBufferPoolDirect() {
+        return streamCachingBufferPoolDirect;
+    }
+
+    /**
+     * Whether the pooled stream caching buffer chunks are allocated as direct (off-heap) byte buffers.
+     */
+    public void setStreamCachingBufferPoolDirect(boolean streamCachingBufferPoolDirect) {
+        this.streamCachingBufferPoolDirect = streamCachingBufferPoolDirect;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -1177,6 +1214,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeFilterExcludePattern = exclude;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Sets the maximum number of routes that are started in parallel. The default is 1, which starts the routes one by
+     * one in their startup order.
+     *
+     * A higher value is useful when there are many routes with consumers that are slow to start, such as connecting to
+     * remote systems. Routes with an explicit startup order are still started in order, and a route that sends to the
+     * endpoint of another route (such as direct or seda) is started after that route.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public boolean isBeanIntrospectionExtendedStatistics() {
         return beanIntrospectionExtendedStatistics;
     }
@@ -1480,6 +1533,64 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Which reactive executor to use for routing exchanges. The default executor runs tasks on the thread that
+     * scheduled them. The work-stealing executor (experimental) allows idle threads to steal pending exchanges from
+     * busy threads, which can help when many concurrent routes use asynchronous producers.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public boolean isReactiveExecutorStatisticsEnabled() {
+        return reactiveExecutorStatisticsEnabled;
+    }
+
+    /**
+     * Configures whether statistics is enabled on the reactive executor.
+     */
+    public void setReactiveExecutorStatisticsEnabled(boolean reactiveExecutorStatisticsEnabled) {
+        this.reactiveExecutorStatisticsEnabled = reactiveExecutorStatisticsEnabled;
+    }
+
+    public String getLruCacheFactory() {
+        return lruCacheFactory;
+    }
+
+    /**
+     * Which LRU cache to use for the caches in Camel, such as the producer and endpoint caches. The default cache
+     * evicts the least recently added entries, and locks the cache while evicting. The approximate cache evicts entries
+     * in approximate least recently used order without locking, which can reduce contention when many threads add
+     * entries, such as when using toD with many different uris.
+     *
+     * Notice the LRU cache factory is JVM wide, so setting approximate affects all CamelContexts in the JVM. It is only
+     * applied while Camel is bootstrapping, and setting default does not change a cache factory already in use.
+     */
+    public void setLruCacheFactory(String lruCacheFactory) {
+        this.lruCacheFactory = lruCacheFactory;
+    }
+
+    public String getHeadersMapFactory() {
+        return headersMapFactory;
+    }
+
+    /**
+     * Which map to use for storing the message headers, when the headers are case insensitive. The default map is a
+     * sorted tree map. The compact map stores the headers in arrays in insertion order, with pre-computed lookup of the
+     * well-known Camel headers, and keeps the arrays when the message is reused by the pooled exchange factory, which
+     * reduces the allocations per message.
+     *
+     * Notice the compact map iterates the headers in insertion order, whereas the default map iterates them sorted by
+     * name. The compact map cannot be used when caseInsensitiveHeaders is disabled.
+     */
+    public void setHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -2009,6 +2120,26 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of buffer chunks to keep in a pool for reuse by stream caches. When this is a positive
+     * number then stream caches are built from fixed-size chunks (of the buffer size) that are reused across exchanges,
+     * and spooled to disk chunk by chunk.
+     *
+     * The default is 0 which means the pool is disabled. The pool is not in use when using a spool cipher.
+     */
+    public T withStreamCachingBufferPoolSize(int streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+        return (T) this;
+    }
+
+    /**
+     * Whether the pooled stream caching buffer chunks are allocated as direct (off-heap) byte buffers.
+     */
+    public T withStreamCachingBufferPoolDirect(boolean streamCachingBufferPoolDirect) {
+        this.streamCachingBufferPoolDirect = streamCachingBufferPoolDirect;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping. This option is default true.
      */
@@ -2428,6 +2559,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of routes that are started in parallel. The default is 1, which starts the routes one by
+     * one in their startup order.
+     *
+     * A higher value is useful when there are many routes with consumers that are slow to start, such as connecting to
+     * remote systems. Routes with an explicit startup order are still started in order, and a route that sends to the
+     * endpoint of another route (such as direct or seda) is started after that route.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Sets whether bean introspection uses extended statistics. The default is false.
      */
@@ -2660,6 +2804,52 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Which reactive executor to use for routing exchanges. The default executor runs tasks on the thread that
+     * scheduled them. The work-stealing executor (experimental) allows idle threads to steal pending exchanges from
+     * busy threads, which can help when many concurrent routes use asynchronous producers.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether statistics is enabled on the reactive executor.
+     */
+    public T withReactiveExecutorStatisticsEnabled(boolean reactiveExecutorStatisticsEnabled) {
+        this.reactiveExecutorStatisticsEnabled = reactiveExecutorStatisticsEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Which LRU cache to use for the caches in Camel, such as the producer and endpoint caches. The default cache
+     * evicts the least recently added entries, and locks the cache while evicting. The approximate cache evicts entries
+     * in approximate least recently used order without locking, which can reduce contention when many threads add
+     * entries, such as when using toD with many different uris.
+     *
+     * Notice the LRU cache factory is JVM wide, so setting approximate affects all CamelContexts in the JVM. It is only
+     * applied while Camel is bootstrapping, and setting default does not change a cache factory already in use.
+     */
+    public T withLruCacheFactory(String lruCacheFactory) {
+        this.lruCacheFactory = lruCacheFactory;
+        return (T) this;
+    }
+
+    /**
+     * Which map to use for storing the message headers, when the headers are case insensitive. The default map is a
+     * sorted tree map. The compact map stores the headers in arrays in insertion order, with pre-computed lookup of the
+     * well-known Camel headers, and keeps the arrays when the message is reused by the pooled exchange factory, which
+     * reduces the allocations per message.
+     *
+     * Notice the compact map iterates the headers in insertion order, whereas the default map iterates them sorted by
+     * name. The compact map cannot be used when caseInsensitiveHeaders is disabled.
+     */
+    public T withHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML/YAML DSL into the log. This is intended for trouble shooting or to assist during development.
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MainHeadersMapFactoryTest {
+
+    @Test
+    public void testCompact() {
+        Main main = new Main();
+        main.configure().withHeadersMapFactory("compact");
+        main.start();
+        try {
+            assertInstanceOf(CompactHeadersMapFactory.class,
+                    main.getCamelContext().getCamelContextExtension().getHeadersMapFactory());
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testCompactCaseSensitive() {
+        Main main = new Main();
+        main.configure().withHeadersMapFactory("compact").withCaseInsensitiveHeaders(false);
+        try {
+            Exception e = assertThrows(Exception.class, main::start);
+            IllegalArgumentException iae = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(iae);
+            assertEquals("Cannot use headersMapFactory=compact with caseInsensitiveHeaders=false,"
+                         + " as the compact map is case insensitive",
+                    iae.getMessage());
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testUnknown() {
+        Main main = new Main();
+        main.configure().withHeadersMapFactory("compacted");
+        try {
+            Exception e = assertThrows(Exception.class, main::start);
+            IllegalArgumentException iae = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(iae);
+            assertEquals("Unknown headersMapFactory: compacted. Supported values are default and compact",
+                    iae.getMessage());
+        } finally {
+            main.stop();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.support.ApproximateLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MainLRUCacheFactoryTest {
+
+    @Test
+    public void testApproximate() {
+        LRUCacheFactory old = LRUCacheFactory.getInstance();
+        Main main = new Main();
+        main.configure().withLruCacheFactory("approximate");
+        main.start();
+        try {
+            assertInstanceOf(ApproximateLRUCacheFactory.class, LRUCacheFactory.getInstance());
+        } finally {
+            main.stop();
+            // the cache factory is JVM wide
+            LRUCacheFactory.setLRUCacheFactory(old);
+        }
+    }
+
+    @Test
+    public void testUnknown() {
+        Main main = new Main();
+        main.configure().withLruCacheFactory("aproximate");
+        try {
+            Exception e = assertThrows(Exception.class, main::start);
+            IllegalArgumentException iae = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(iae);
+            assertEquals("Unknown lruCacheFactory: aproximate. Supported values are default and approximate",
+                    iae.getMessage());
+        } finally {
+            main.stop();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MainReactiveExecutorTest {
+
+    @Test
+    public void testWorkStealing() {
+        Main main = new Main();
+        main.configure().withReactiveExecutor("work-stealing");
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            assertInstanceOf(WorkStealingReactiveExecutor.class,
+                    camelContext.getCamelContextExtension().getReactiveExecutor());
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testDefault() {
+        Main main = new Main();
+        main.configure().withReactiveExecutor("default");
+        main.start();
+        try {
+            ExtendedCamelContext ecc = main.getCamelContext().getCamelContextExtension();
+            assertFalse(ecc.getReactiveExecutor() instanceof WorkStealingReactiveExecutor);
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testUnknown() {
+        Main main = new Main();
+        main.configure().withReactiveExecutor("work-stelaing");
+        try {
+            Exception e = assertThrows(Exception.class, main::start);
+            IllegalArgumentException iae = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(iae);
+            assertEquals("Unknown reactiveExecutor: work-stelaing. Supported values are default and work-stealing",
+                    iae.getMessage());
+        } finally {
+            main.stop();
+        }
+    }
+}
@@ -98,6 +98,25 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
     }
 
+    public static TabularType listProcessorExchangeFactoryTabularType() throws OpenDataException {
+        CompositeType ct = listProcessorExchangeFactoryCompositeType();
+        return new TabularType(
+                "listProcessorExchangeFactory", "Lists all the processor exchange factories", ct,
+                new String[] { "routeId", "processorId" });
+    }
+
+    public static CompositeType listProcessorExchangeFactoryCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "factories", "Factories",
+                new String[] {
+                        "routeId", "processorId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
+                new String[] {
+                        "RouteId", "ProcessorId", "Capacity", "Pooled", "Created", "Acquired", "Released", "Discarded" },
+                new OpenType[] {
+                        SimpleType.STRING, SimpleType.STRING, SimpleType.INTEGER, SimpleType.INTEGER, SimpleType.LONG,
+                        SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
+    }
+
     public static TabularType listRuntimeEndpointsTabularType() throws OpenDataException {
         CompositeType ct = listRuntimeEndpointsCompositeType();
         return new TabularType(
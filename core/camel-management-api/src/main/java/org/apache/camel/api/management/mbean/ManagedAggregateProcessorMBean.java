@@ -69,6 +69,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Striped locking (lock per correlation key)")
+    boolean isStripedLocking();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
@@ -141,6 +144,12 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Total number of times an exchange had to wait for the aggregation lock held by another thread")
+    long getLockContended();
+
+    @ManagedAttribute(description = "Total time in nanos spent waiting for the aggregation lock when it was contended")
+    long getLockWaitTime();
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
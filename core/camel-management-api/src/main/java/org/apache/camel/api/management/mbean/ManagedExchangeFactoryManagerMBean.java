@@ -59,4 +59,22 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
+    @ManagedAttribute(description = "Number of processors (such as Multicast and Split EIPs) managed")
+    Integer getProcessorCounter();
+
+    @ManagedAttribute(description = "Total number of new exchanges created by processors (pool misses if pooling is in use)")
+    Long getTotalProcessorCreated();
+
+    @ManagedAttribute(description = "Total number of exchanges reused by processors (pool hits if pooling is in use)")
+    Long getTotalProcessorAcquired();
+
+    @ManagedAttribute(description = "Total number of exchanges released back to the pool by processors")
+    Long getTotalProcessorReleased();
+
+    @ManagedAttribute(description = "Total number of exchanges discarded by processors (such as when capacity is full)")
+    Long getTotalProcessorDiscarded();
+
+    @ManagedOperation(description = "Lists all the processor statistics in tabular form")
+    TabularData listProcessorStatistics();
+
 }
@@ -38,4 +38,19 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of sub exchanges that can be in-flight at the same time, when using parallel processing (0 = unbounded)")
+    Integer getMaxInFlight();
+
+    @ManagedAttribute(description = "Number of sub exchanges currently in-flight (sent but not yet aggregated), when using max in-flight")
+    Integer getCurrentInFlight();
+
+    @ManagedAttribute(description = "The highest number of sub exchanges that has been in-flight for a single exchange, when using max in-flight")
+    Integer getPeakInFlight();
+
+    @ManagedAttribute(description = "Utilization in percent (0-100) of the in-flight window, based on the peak in-flight, when using max in-flight")
+    Integer getWindowUtilization();
+
+    @ManagedAttribute(description = "Number of times the in-flight window was full, and reading more sub exchanges was paused")
+    Long getWindowFullCount();
+
 }
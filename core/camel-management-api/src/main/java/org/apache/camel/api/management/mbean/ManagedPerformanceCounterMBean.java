@@ -60,6 +60,21 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th percentile (median) Processing Time [milliseconds]")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th percentile Processing Time [milliseconds]")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th percentile Processing Time [milliseconds]")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time [milliseconds]")
+    long getP999ProcessingTime();
+
+    @ManagedOperation(description = "Reset the processing time percentiles (to start a new interval)")
+    void resetProcessingTimePercentiles();
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
@@ -71,6 +71,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Maximum number of pooled buffer chunks to keep for reuse (0 = disabled)")
+    int getBufferPoolSize();
+
+    @ManagedAttribute(description = "Whether the pooled buffer chunks are direct (off-heap) byte buffers")
+    boolean isBufferPoolDirect();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
@@ -101,6 +107,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of pooled buffer chunks available for reuse")
+    long getBufferPoolAvailable();
+
+    @ManagedAttribute(description = "Number of pooled buffer chunks in use by stream caches")
+    long getBufferPoolInUse();
+
+    @ManagedAttribute(description = "Number of buffer chunks allocated because the pool had no available chunk")
+    long getBufferPoolMissCounter();
+
+    @ManagedAttribute(description = "Number of pooled buffer chunks spooled to disk")
+    long getSpoolChunkCounter();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
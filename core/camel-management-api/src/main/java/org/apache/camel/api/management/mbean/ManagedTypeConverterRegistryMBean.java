@@ -36,6 +36,12 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversions where the type converter was already resolved in the lookup table")
+    long getLookupHitCounter();
+
+    @ManagedAttribute(description = "Number of type conversions where the type converter had to be resolved from the registry")
+    long getLookupMissCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -145,6 +145,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return getProcessor().isOptimisticLocking();
     }
 
+    @Override
+    public boolean isStripedLocking() {
+        return getProcessor().isStripedLocking();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return getProcessor().isEagerCheckCompletion();
@@ -294,6 +299,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return getProcessor().getStatistics().getDiscarded();
     }
 
+    @Override
+    public long getLockContended() {
+        return getProcessor().getStatistics().getLockContended();
+    }
+
+    @Override
+    public long getLockWaitTime() {
+        return getProcessor().getStatistics().getLockWaitTime();
+    }
+
     @Override
     public void resetStatistics() {
         getProcessor().getStatistics().reset();
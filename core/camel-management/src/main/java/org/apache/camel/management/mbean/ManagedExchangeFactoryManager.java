@@ -32,6 +32,8 @@ import org.apache.camel.api.management.mbean.ManagedExchangeFactoryManagerMBean;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.util.URISupport;
 
 @ManagedResource(description = "Managed ExchangeFactory")
@@ -143,4 +145,67 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public Integer getProcessorCounter() {
+        return exchangeFactoryManager.getProcessorExchangeFactories().size();
+    }
+
+    @Override
+    public Long getTotalProcessorCreated() {
+        return exchangeFactoryManager.getProcessorStatistics().getCreatedCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorAcquired() {
+        return exchangeFactoryManager.getProcessorStatistics().getAcquiredCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorReleased() {
+        return exchangeFactoryManager.getProcessorStatistics().getReleasedCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorDiscarded() {
+        return exchangeFactoryManager.getProcessorStatistics().getDiscardedCounter();
+    }
+
+    @Override
+    public TabularData listProcessorStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listProcessorExchangeFactoryTabularType());
+            Collection<ProcessorExchangeFactory> factories = exchangeFactoryManager.getProcessorExchangeFactories();
+            for (ProcessorExchangeFactory pef : factories) {
+                CompositeType ct = CamelOpenMBeanTypes.listProcessorExchangeFactoryCompositeType();
+                String routeId = pef.getRouteId();
+                String processorId = pef.getId();
+
+                int capacity = pef.getCapacity();
+                int size = pef.getSize();
+                long created = 0;
+                long acquired = 0;
+                long released = 0;
+                long discarded = 0;
+                PooledObjectFactory.Statistics stat = pef.getStatistics();
+                if (pef.isStatisticsEnabled() && stat != null) {
+                    created = stat.getCreatedCounter();
+                    acquired = stat.getAcquiredCounter();
+                    released = stat.getReleasedCounter();
+                    discarded = stat.getDiscardedCounter();
+                }
+
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] {
+                                "routeId", "processorId", "capacity", "pooled", "created", "acquired", "released",
+                                "discarded" },
+                        new Object[] { routeId, processorId, capacity, size, created, acquired, released, discarded });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
@@ -63,4 +63,39 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return getProcessor().getTimeout();
     }
+
+    @Override
+    public void reset() {
+        getProcessor().resetWindowStatistics();
+        super.reset();
+    }
+
+    @Override
+    public Integer getMaxInFlight() {
+        return getProcessor().getMaxInFlight();
+    }
+
+    @Override
+    public Integer getCurrentInFlight() {
+        return getProcessor().getInFlight();
+    }
+
+    @Override
+    public Integer getPeakInFlight() {
+        return getProcessor().getPeakInFlight();
+    }
+
+    @Override
+    public Integer getWindowUtilization() {
+        int max = getProcessor().getMaxInFlight();
+        if (max <= 0) {
+            return 0;
+        }
+        return Math.min(100, getProcessor().getPeakInFlight() * 100 / max);
+    }
+
+    @Override
+    public Long getWindowFullCount() {
+        return getProcessor().getWindowFullCounter();
+    }
 }
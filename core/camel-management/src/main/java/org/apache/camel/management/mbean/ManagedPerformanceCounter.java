@@ -46,6 +46,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -74,6 +75,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -97,6 +99,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -168,6 +171,31 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP90ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(90);
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public void resetProcessingTimePercentiles() {
+        processingTimeHistogram.reset();
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -271,6 +299,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        processingTimeHistogram.updateValue(time);
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -333,6 +362,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", getP50ProcessingTime()));
+        sb.append(String.format(" p90ProcessingTime=\"%s\"", getP90ProcessingTime()));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", getP99ProcessingTime()));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", getP999ProcessingTime()));
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
         if (fullStats) {
@@ -378,6 +411,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         jo.put("lastProcessingTime", lastProcessingTime.getValue());
         jo.put("deltaProcessingTime", deltaProcessingTime.getValue());
         jo.put("meanProcessingTime", meanProcessingTime.getValue());
+        jo.put("p50ProcessingTime", getP50ProcessingTime());
+        jo.put("p90ProcessingTime", getP90ProcessingTime());
+        jo.put("p99ProcessingTime", getP99ProcessingTime());
+        jo.put("p999ProcessingTime", getP999ProcessingTime());
         jo.put("idleSince", getIdleSince());
         if (fullStats) {
             jo.put("startTimestamp", startTimestamp.getTime());
@@ -148,6 +148,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public int getBufferPoolSize() {
+        return streamCachingStrategy.getBufferPoolSize();
+    }
+
+    @Override
+    public boolean isBufferPoolDirect() {
+        return streamCachingStrategy.isBufferPoolDirect();
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -198,6 +208,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getBufferPoolAvailable() {
+        return streamCachingStrategy.getStatistics().getBufferPoolAvailable();
+    }
+
+    @Override
+    public long getBufferPoolInUse() {
+        return streamCachingStrategy.getStatistics().getBufferPoolInUse();
+    }
+
+    @Override
+    public long getBufferPoolMissCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolMissCounter();
+    }
+
+    @Override
+    public long getSpoolChunkCounter() {
+        return streamCachingStrategy.getStatistics().getSpoolChunkCounter();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
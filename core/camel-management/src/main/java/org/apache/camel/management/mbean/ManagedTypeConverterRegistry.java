@@ -64,6 +64,16 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    @Override
+    public long getLookupHitCounter() {
+        return registry.getStatistics().getLookupHitCounter();
+    }
+
+    @Override
+    public long getLookupMissCounter() {
+        return registry.getStatistics().getLookupMissCounter();
+    }
+
     @Override
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed memory histogram used for computing percentiles (such as p99) of recorded values, for example processing
+ * times in millis.
+ * <p/>
+ * The values are recorded into log-linear buckets (in the same way as HdrHistogram), where each power of two range is
+ * split into 32 sub buckets. This means values up to 64 are recorded exactly, and larger values with a precision of
+ * about 3%. Values larger than {@link #MAX_VALUE} are recorded as {@link #MAX_VALUE}.
+ * <p/>
+ * Recording values is lock-free and can be done concurrently from many threads. Computing percentiles while values are
+ * being recorded is not atomic, which is okay as these jmx statistics are not guaranteed to be 100% accurate.
+ */
+public class StatisticHistogram {
+
+    /**
+     * The largest value that can be recorded (about 50 days in millis)
+     */
+    public static final long MAX_VALUE = (1L << 32) - 1;
+
+    private static final int SUB_BUCKET_HALF_COUNT_BITS = 5;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_BITS;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+
+    private final AtomicLongArray counts = new AtomicLongArray(countsIndex(MAX_VALUE) + 1);
+
+    /**
+     * Records the value
+     *
+     * @param value the value, negative values are ignored
+     */
+    public void updateValue(long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(countsIndex(Math.min(value, MAX_VALUE)));
+    }
+
+    /**
+     * Gets the number of recorded values
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value at the given percentile, which is the highest value that is equivalent (within the precision of the
+     * histogram) to the recorded value at the given percentile.
+     *
+     * @param  percentile the percentile such as 50, 99 or 99.9
+     * @return            the value, or 0 if no values have been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long target = Math.max(1, (long) Math.ceil(p / 100 * total));
+
+        long sum = 0;
+        int last = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                last = i;
+                sum += count;
+                if (sum >= target) {
+                    return highestEquivalentValue(i);
+                }
+            }
+        }
+        // values may have been reset concurrently
+        return highestEquivalentValue(last);
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private static int countsIndex(long value) {
+        int bucketIndex = bucketIndex(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return (bucketIndex << SUB_BUCKET_HALF_COUNT_BITS) + subBucketIndex;
+    }
+
+    private static int bucketIndex(long value) {
+        // the power of two range of the value, where the first bucket holds all values up to the sub bucket count
+        int pow2 = 63 - Long.numberOfLeadingZeros(value | (SUB_BUCKET_COUNT - 1));
+        return pow2 - SUB_BUCKET_HALF_COUNT_BITS;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            // the first bucket holds exact values
+            return index;
+        }
+        long lowest = (long) subBucketIndex << bucketIndex;
+        return lowest + (1L << bucketIndex) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedPooledProcessorExchangeTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        PooledProcessorExchangeFactory pef = new PooledProcessorExchangeFactory();
+        pef.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setProcessorExchangeFactory(pef);
+
+        return context;
+    }
+
+    @Test
+    public void testStreamingSplitReusesExchanges() throws Exception {
+        getMockEndpoint("mock:line").expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+        template.sendBody("direct:start", "A,B,C,D,E");
+        template.sendBody("direct:start", "F,G,H,I,J");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "DefaultExchangeFactoryManager");
+
+        Integer num = (Integer) mbeanServer.getAttribute(on, "ProcessorCounter");
+        assertEquals(1, num.intValue());
+
+        Awaitility.await().untilAsserted(() -> {
+            // the splitter creates a copy of the exchange and a sub exchange per split, which
+            // are released back to the pool after use, and then reused (pool hits)
+            Long created = (Long) mbeanServer.getAttribute(on, "TotalProcessorCreated");
+            assertEquals(2, created.intValue());
+
+            Long acquired = (Long) mbeanServer.getAttribute(on, "TotalProcessorAcquired");
+            assertEquals(10, acquired.intValue());
+
+            Long released = (Long) mbeanServer.getAttribute(on, "TotalProcessorReleased");
+            assertEquals(12, released.intValue());
+
+            Long discarded = (Long) mbeanServer.getAttribute(on, "TotalProcessorDiscarded");
+            assertEquals(0, discarded.intValue());
+        });
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listProcessorStatistics", null, null);
+        assertEquals(1, data.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("foo")
+                        .split(body().tokenize(",")).streaming()
+                            .to("mock:line")
+                        .end();
+            }
+        };
+    }
+}
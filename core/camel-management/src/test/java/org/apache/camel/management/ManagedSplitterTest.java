@@ -64,6 +64,13 @@ public class ManagedSplitterTest extends ManagementTestSupport {
         String exp = (String) mbeanServer.getAttribute(on, "Expression");
         assertEquals("${body}", exp);
 
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaxInFlight");
+        assertEquals(0, max);
+        Integer utilization = (Integer) mbeanServer.getAttribute(on, "WindowUtilization");
+        assertEquals(0, utilization);
+        Long full = (Long) mbeanServer.getAttribute(on, "WindowFullCount");
+        assertEquals(0, full);
+
         String xml = (String) mbeanServer.invoke(on, "dumpProcessorAsXml", null, null);
         assertTrue(xml.contains("<split"));
         assertTrue(xml.contains("</split>"));
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.management.mbean.StatisticHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.updateValue(i);
+        }
+        assertEquals(50, histogram.getCount());
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(45, histogram.getValueAtPercentile(90));
+        assertEquals(50, histogram.getValueAtPercentile(99));
+        assertEquals(50, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.updateValue(i);
+        }
+        assertWithinPrecision(5000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(9000, histogram.getValueAtPercentile(90));
+        assertWithinPrecision(9900, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(9990, histogram.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    public void testTailLatency() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        for (int i = 0; i < 990; i++) {
+            histogram.updateValue(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.updateValue(2000);
+        }
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(2000, histogram.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    public void testLargeAndNegativeValues() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        histogram.updateValue(-1);
+        assertEquals(0, histogram.getCount());
+
+        histogram.updateValue(Long.MAX_VALUE);
+        assertEquals(1, histogram.getCount());
+        assertEquals(StatisticHistogram.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        histogram.updateValue(123);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        histogram.updateValue(7);
+        assertEquals(7, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        StatisticHistogram histogram = new StatisticHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        try {
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        histogram.updateValue(i % 100);
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(40000, histogram.getCount());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        // the values are recorded with a precision of about 3%
+        assertTrue(actual >= expected && actual <= expected * 1.04,
+                "Expected about " + expected + " but was " + actual);
+    }
+
+}
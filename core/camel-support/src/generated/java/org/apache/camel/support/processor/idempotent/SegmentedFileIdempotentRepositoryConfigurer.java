@@ -0,0 +1,69 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.support.processor.idempotent;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class SegmentedFileIdempotentRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": target.setCompactionThreshold(property(camelContext, double.class, value)); return true;
+        case "directory": target.setDirectory(property(camelContext, java.io.File.class, value)); return true;
+        case "segmentsize":
+        case "segmentSize": target.setSegmentSize(property(camelContext, int.class, value)); return true;
+        case "sync": target.setSync(property(camelContext, boolean.class, value)); return true;
+        case "timetolive":
+        case "timeToLive": target.setTimeToLive(property(camelContext, long.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": return double.class;
+        case "directory": return java.io.File.class;
+        case "segmentsize":
+        case "segmentSize": return int.class;
+        case "sync": return boolean.class;
+        case "timetolive":
+        case "timeToLive": return long.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.SegmentedFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": return target.getCompactionThreshold();
+        case "directory": return target.getDirectory();
+        case "segmentsize":
+        case "segmentSize": return target.getSegmentSize();
+        case "sync": return target.isSync();
+        case "timetolive":
+        case "timeToLive": return target.getTimeToLive();
+        default: return null;
+        }
+    }
+}
+
@@ -58,7 +58,13 @@ public class CachedOutputStream extends OutputStream {
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        if (closedOnCompletion && strategy.getBufferPoolSize() > 0 && strategy.getSpoolCipher() == null) {
+            // use pooled chunks which are spooled chunk by chunk, and released when the exchanges are done (the chunks
+            // would never be released if the stream cache is not closed on completion)
+            this.currentStream = new PooledChunkStore(strategy, tempFileManager);
+        } else {
+            this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     @Override
@@ -141,7 +147,9 @@ public class CachedOutputStream extends OutputStream {
     public StreamCache newStreamCache() throws IOException {
         flush();
 
-        if (inMemory) {
+        if (currentStream instanceof PooledChunkStore store) {
+            return store.newStreamCache();
+        } else if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
             } else {
@@ -218,6 +226,9 @@ public class CachedOutputStream extends OutputStream {
 
         @Override
         public boolean inMemory() {
+            if (inputStream instanceof StreamCache sc) {
+                return sc.inMemory();
+            }
             return cachedOutputStream.inMemory;
         }
 
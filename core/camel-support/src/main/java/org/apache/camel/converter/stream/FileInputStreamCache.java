@@ -221,6 +221,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private PooledChunkStore chunkStore;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -308,19 +309,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             if (tempFile != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
-            if (closedOnCompletion && exchangeCounter.get() == 0) {
-                // exchange was already stopped -> in this case the tempFile would never be deleted.
-                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
-                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
-                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
-                String error
-                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
-                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
-                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
-                LOG.error(error);
-                throw new IOException(error);
-            }
-            tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            createTempFile(strategy);
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
             OutputStream out = new BufferedOutputStream(
@@ -350,6 +339,26 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
+        /**
+         * Creates the temporary file in the spool directory, which is deleted when all the exchanges are done.
+         */
+        File createTempFile(StreamCachingStrategy strategy) throws IOException {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped -> in this case the tempFile would never be deleted.
+                // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
+                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
+                // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
+                String error
+                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
+                          + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
+                          + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
+                LOG.error(error);
+                throw new IOException(error);
+            }
+            tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            return tempFile;
+        }
+
         FileInputStreamCache newStreamCache() {
             return new FileInputStreamCache(this);
         }
@@ -364,6 +373,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
 
         void cleanUpTempFile() {
+            // release pooled chunks (and close the spool file) before deleting the file
+            if (chunkStore != null) {
+                chunkStore.release();
+                chunkStore = null;
+            }
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -379,6 +393,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return tempFile;
         }
 
+        void setChunkStore(PooledChunkStore chunkStore) {
+            this.chunkStore = chunkStore;
+        }
+
         CipherPair getCiphers() {
             return ciphers;
         }
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the cached data in fixed-size buffer chunks acquired from the buffer pool of the
+ * {@link StreamCachingStrategy}. When the data should be spooled, then the filled chunks are written one by one to a
+ * single preallocated spool file, and returned to the pool, so only the last (partially filled) chunk is kept in
+ * memory.
+ * <p/>
+ * The chunks are released when the {@link TempFileManager} cleans up, which is when all the exchanges using the stream
+ * cache are done. Closing this output stream does not release the chunks. If the data is still in memory when the
+ * chunks are released, then the data is copied to a byte array, so the stream cache can still be read afterwards (such
+ * as the reply body returned to a producer template), the same as a stream cache which is not pooled. If the data has
+ * been spooled, then the stream cache can no longer be read, the same as a spooled stream cache which is not pooled.
+ * <p/>
+ * Reading and releasing are guarded by a read-write lock, so a chunk is never returned to the pool while it is read.
+ */
+final class PooledChunkStore extends OutputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledChunkStore.class);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StreamCachingStrategy strategy;
+    private final TempFileManager tempFileManager;
+    private final int chunkSize;
+    // the chunks which are kept in memory (the chunks before these have been spooled)
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int spooledChunks;
+    private RandomAccessFile spoolFile;
+    private FileChannel channel;
+    private volatile long length;
+    private volatile boolean spooled;
+    private volatile boolean released;
+    // the data which was still in memory when the chunks were released
+    private byte[] detached;
+
+    PooledChunkStore(StreamCachingStrategy strategy, TempFileManager tempFileManager) {
+        this.strategy = strategy;
+        this.tempFileManager = tempFileManager;
+        this.chunkSize = strategy.getBufferSize() > 0 ? strategy.getBufferSize() : IOHelper.DEFAULT_BUFFER_SIZE;
+        this.tempFileManager.setChunkStore(this);
+    }
+
+    long length() {
+        return length;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    PooledInputStreamCache newStreamCache() {
+        return new PooledInputStreamCache(this, tempFileManager);
+    }
+
+    boolean inMemory() {
+        return !spooled;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        lock.writeLock().lock();
+        try {
+            ByteBuffer chunk = currentChunk();
+            chunk.put((byte) b);
+            length++;
+            afterWrite(chunk);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        lock.writeLock().lock();
+        try {
+            while (len > 0) {
+                ByteBuffer chunk = currentChunk();
+                int n = Math.min(len, chunk.remaining());
+                chunk.put(b, off, n);
+                off += n;
+                len -= n;
+                length += n;
+                afterWrite(chunk);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ByteBuffer currentChunk() throws IOException {
+        if (released) {
+            throw new IOException("Stream cache has been released");
+        }
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || !chunk.hasRemaining()) {
+            chunk = strategy.acquireBuffer();
+            chunks.add(chunk);
+        }
+        return chunk;
+    }
+
+    private void afterWrite(ByteBuffer chunk) throws IOException {
+        if (chunk.hasRemaining()) {
+            return;
+        }
+        if (channel == null && strategy.isSpoolEnabled() && strategy.shouldSpoolCache(length)) {
+            openSpoolFile();
+        }
+        if (channel != null) {
+            spoolFullChunks();
+        }
+    }
+
+    private void openSpoolFile() throws IOException {
+        File file = tempFileManager.createTempFile(strategy);
+        LOG.trace("Creating temporary stream cache spool file: {}", file);
+        spoolFile = new RandomAccessFile(file, "rw");
+        // preallocate the file so the chunks are written into a contiguous file
+        spoolFile.setLength(Math.max(length, (long) chunkSize) * 2);
+        channel = spoolFile.getChannel();
+        spooled = true;
+    }
+
+    private void spoolFullChunks() throws IOException {
+        int count = 0;
+        while (!chunks.isEmpty() && !chunks.get(0).hasRemaining()) {
+            ByteBuffer chunk = chunks.remove(0);
+            long pos = (long) spooledChunks * chunkSize;
+            if (pos + chunkSize > spoolFile.length()) {
+                // grow the preallocated file by doubling its size
+                spoolFile.setLength(spoolFile.length() * 2);
+            }
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                pos += channel.write(chunk, pos);
+            }
+            strategy.releaseBuffer(chunk);
+            spooledChunks++;
+            count++;
+        }
+        if (count > 0) {
+            strategy.getStatistics().updateSpoolChunks(count);
+        }
+    }
+
+    /**
+     * Reads the data at the given position into the byte array.
+     *
+     * @return the number of bytes read, or <tt>-1</tt> if the position is at the end of the data
+     */
+    int read(long position, byte[] b, int off, int len) throws IOException {
+        lock.readLock().lock();
+        try {
+            if (position >= length) {
+                return -1;
+            }
+            int index = (int) (position / chunkSize);
+            int offset = (int) (position % chunkSize);
+            // read at most to the end of the chunk
+            int n = (int) Math.min(Math.min(len, chunkSize - offset), length - position);
+            if (detached != null) {
+                System.arraycopy(detached, (int) position, b, off, n);
+                return n;
+            }
+            if (released) {
+                throw new IOException("Stream cache has been released");
+            }
+            if (index < spooledChunks) {
+                return channel.read(ByteBuffer.wrap(b, off, n), position);
+            }
+            ByteBuffer chunk = chunks.get(index - spooledChunks);
+            chunk.get(offset, b, off, n);
+            return n;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        // noop as the chunks are released when the exchange is done
+    }
+
+    /**
+     * Releases the chunks back to the pool and closes the spool file.
+     */
+    void release() {
+        lock.writeLock().lock();
+        try {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (!spooled && length > 0) {
+                // the stream cache may be read after the exchanges are done, so keep a copy of the data
+                byte[] data = new byte[Math.toIntExact(length)];
+                int pos = 0;
+                for (ByteBuffer chunk : chunks) {
+                    int n = chunk.position();
+                    chunk.get(0, data, pos, n);
+                    pos += n;
+                }
+                detached = data;
+            }
+            for (ByteBuffer chunk : chunks) {
+                strategy.releaseBuffer(chunk);
+            }
+            chunks.clear();
+            IOHelper.close(channel, spoolFile);
+            channel = null;
+            spoolFile = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+}
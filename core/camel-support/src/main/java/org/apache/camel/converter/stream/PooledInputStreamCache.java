@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for data that is cached in pooled buffer chunks, which may have been spooled chunk by chunk to
+ * a temporary file.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class PooledInputStreamCache extends InputStream implements StreamCache {
+
+    private final PooledChunkStore store;
+    private final TempFileManager tempFileManager;
+    private final byte[] single = new byte[1];
+    private long pos;
+
+    PooledInputStreamCache(PooledChunkStore store, TempFileManager tempFileManager) {
+        this.store = store;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n <= 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int n = store.read(pos, b, off, len);
+        if (n > 0) {
+            pos += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        long answer = Math.max(0, Math.min(n, store.length() - pos));
+        pos += answer;
+        return answer;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, store.length() - pos);
+    }
+
+    @Override
+    public void reset() {
+        pos = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] buffer = new byte[store.chunkSize()];
+        long p = 0;
+        int n;
+        while ((n = store.read(p, buffer, 0, buffer.length)) > 0) {
+            os.write(buffer, 0, n);
+            p += n;
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new PooledInputStreamCache(store, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return store.inMemory();
+    }
+
+    @Override
+    public long length() {
+        return store.length();
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+}
@@ -56,6 +56,11 @@ abstract class AbstractExchange implements Exchange {
     protected Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
+    // whether the properties or variables are shared with a copy-on-write copy, and must be copied before changing them
+    protected boolean propertiesShared;
+    protected boolean variablesShared;
+    private Map<String, Object> propertiesView;
+    private Map<String, Object> variablesView;
     protected Message in;
     protected Message out;
     protected Exception exception;
@@ -91,8 +96,19 @@ abstract class AbstractExchange implements Exchange {
         this.privateExtension.setUnitOfWork(parent.getUnitOfWork());
     }
 
-    @SuppressWarnings("CopyConstructorMissesField")
     protected AbstractExchange(AbstractExchange parent) {
+        this(parent, false);
+    }
+
+    /**
+     * Creates a copy of the parent exchange.
+     *
+     * @param parent      the exchange to copy
+     * @param copyOnWrite whether to share the message headers, exchange properties and variables with the parent until
+     *                    either exchange changes them, instead of copying them
+     */
+    @SuppressWarnings("CopyConstructorMissesField")
+    protected AbstractExchange(AbstractExchange parent, boolean copyOnWrite) {
         this.context = parent.getContext();
         this.pattern = parent.getPattern();
         this.internalProperties = new EnumMap<>(parent.internalProperties);
@@ -101,10 +117,10 @@ abstract class AbstractExchange implements Exchange {
         this.privateExtension.setFromRouteId(parent.getFromRouteId());
         this.privateExtension.setUnitOfWork(parent.getUnitOfWork());
 
-        setIn(parent.getIn().copy());
+        setIn(copyMessage(parent.getIn(), copyOnWrite));
 
         if (parent.hasOut()) {
-            setOut(parent.getOut().copy());
+            setOut(copyMessage(parent.getOut(), copyOnWrite));
         }
 
         setException(parent.exception);
@@ -118,13 +134,23 @@ abstract class AbstractExchange implements Exchange {
         privateExtension.setRouteStop(parent.getExchangeExtension().isRouteStop());
 
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
+            if (copyOnWrite) {
+                this.variableRepository = parent.variableRepository;
+                this.variablesShared = true;
+                parent.variablesShared = true;
+            } else {
                 this.variableRepository = new ExchangeVariableRepository(getContext());
+                this.variableRepository.copyFrom(parent.variableRepository);
             }
-            this.variableRepository.copyFrom(parent.variableRepository);
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            if (copyOnWrite) {
+                this.properties = parent.properties;
+                this.propertiesShared = true;
+                parent.propertiesShared = true;
+            } else {
+                this.properties = safeCopyProperties(parent.properties);
+            }
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -138,9 +164,29 @@ abstract class AbstractExchange implements Exchange {
 
     abstract AbstractExchange newCopy();
 
+    /**
+     * Creates a new copy, which shares the message headers, exchange properties and variables with this exchange if
+     * copy-on-write is supported.
+     */
+    AbstractExchange newCopy(boolean copyOnWrite) {
+        return newCopy();
+    }
+
     @Override
     public Exchange copy() {
-        AbstractExchange exchange = newCopy();
+        return copy(false);
+    }
+
+    /**
+     * Creates a copy of this exchange which shares the message headers, exchange properties and variables with this
+     * exchange until either exchange changes them.
+     */
+    Exchange copyOnWrite() {
+        return copy(true);
+    }
+
+    private Exchange copy(boolean copyOnWrite) {
+        AbstractExchange exchange = newCopy(copyOnWrite);
 
         if (getContext().isMessageHistory()) {
             exchange.internalProperties.computeIfPresent(ExchangePropertyKey.MESSAGE_HISTORY,
@@ -256,36 +302,57 @@ abstract class AbstractExchange implements Exchange {
         if (key != null) {
             setProperty(key, value);
         } else if (value != null) {
-            // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
+            writableProperties().put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            removeProperty(name);
         }
     }
 
     void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
             this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
         } else {
             this.properties.clear();
         }
         this.properties.putAll(properties);
     }
 
+    /**
+     * Clears the properties without changing the properties shared with a copy-on-write copy
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
+    private Map<String, Object> writableProperties() {
+        if (properties == null) {
+            this.properties = new ConcurrentHashMap<>(8);
+        } else if (propertiesShared) {
+            // copy the properties which are shared with a copy-on-write copy
+            this.properties = new ConcurrentHashMap<>(properties);
+            this.propertiesShared = false;
+        }
+        return properties;
+    }
+
     @Override
     public Object removeProperty(String name) {
         ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
         if (key != null) {
             return removeProperty(key);
         }
-        if (!hasProperties()) {
+        if (!hasProperties() || propertiesShared && !properties.containsKey(name)) {
+            // avoid copying shared properties when there is nothing to remove
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -297,9 +364,7 @@ abstract class AbstractExchange implements Exchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -324,10 +389,11 @@ abstract class AbstractExchange implements Exchange {
                 matches = true;
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -338,6 +404,17 @@ abstract class AbstractExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
+        if (propertiesShared) {
+            // the returned map can be changed by the caller, so only copy the shared properties when it is changed
+            if (propertiesView == null) {
+                propertiesView = new CopyOnWriteMapView(this::readableProperties, this::writableProperties);
+            }
+            return propertiesView;
+        }
+        return writableProperties();
+    }
+
+    private Map<String, Object> readableProperties() {
         if (properties == null) {
             this.properties = new ConcurrentHashMap<>(8);
         }
@@ -411,10 +488,7 @@ abstract class AbstractExchange implements Exchange {
         if (repo != null) {
             repo.setVariable(name, value);
         } else {
-            if (variableRepository == null) {
-                variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            variableRepository.setVariable(name, value);
+            writableVariableRepository().setVariable(name, value);
         }
     }
 
@@ -430,23 +504,63 @@ abstract class AbstractExchange implements Exchange {
             return repo.removeVariable(name);
         } else if (variableRepository != null) {
             if ("*".equals(name)) {
-                variableRepository.clear();
+                clearVariables();
+                return null;
+            }
+            if (variablesShared && !variableRepository.getVariables().containsKey(name)) {
+                // avoid copying shared variables when there is nothing to remove
                 return null;
             }
-            return variableRepository.removeVariable(name);
+            return writableVariableRepository().removeVariable(name);
         }
         return null;
     }
 
     @Override
     public Map<String, Object> getVariables() {
+        if (variablesShared) {
+            // the returned map can be changed by the caller, so only copy the shared variables when it is changed
+            if (variablesView == null) {
+                variablesView = new CopyOnWriteMapView(this::readableVariables,
+                        () -> writableVariableRepository().getVariables());
+            }
+            return variablesView;
+        }
+        return writableVariableRepository().getVariables();
+    }
+
+    private Map<String, Object> readableVariables() {
         if (variableRepository == null) {
-            // force creating variables
-            variableRepository = new ExchangeVariableRepository(getContext());
+            this.variableRepository = new ExchangeVariableRepository(getContext());
         }
         return variableRepository.getVariables();
     }
 
+    /**
+     * Clears the variables without changing the variables shared with a copy-on-write copy
+     */
+    void clearVariables() {
+        if (variablesShared) {
+            this.variableRepository = null;
+            this.variablesShared = false;
+        } else if (variableRepository != null) {
+            variableRepository.clear();
+        }
+    }
+
+    private ExchangeVariableRepository writableVariableRepository() {
+        if (variableRepository == null) {
+            this.variableRepository = new ExchangeVariableRepository(getContext());
+        } else if (variablesShared) {
+            // copy the variables which are shared with a copy-on-write copy
+            ExchangeVariableRepository copy = new ExchangeVariableRepository(getContext());
+            copy.copyFrom(variableRepository);
+            this.variableRepository = copy;
+            this.variablesShared = false;
+        }
+        return variableRepository;
+    }
+
     @Override
     public boolean hasVariables() {
         if (variableRepository != null) {
@@ -685,6 +799,13 @@ abstract class AbstractExchange implements Exchange {
         }
     }
 
+    private static Message copyMessage(Message message, boolean copyOnWrite) {
+        if (copyOnWrite && message instanceof DefaultMessage defaultMessage) {
+            return defaultMessage.copyOnWrite();
+        }
+        return message.copy();
+    }
+
     void copyInternalProperties(Exchange target) {
         ((AbstractExchange) target).internalProperties.putAll(internalProperties);
     }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.camel.support.cache.ApproximateLRUCache;
+
+/**
+ * {@link LRUCacheFactory} which uses the {@link ApproximateLRUCache}, which does not lock when evicting entries, at the
+ * cost of evicting entries in approximate least recently used order.
+ * <p/>
+ * This can be used to reduce contention on caches with many concurrent writes, such as the producer cache when using
+ * dynamic endpoints (toD) with many different uris.
+ * <p/>
+ * The factory is set JVM wide with {@link LRUCacheFactory#setLRUCacheFactory(LRUCacheFactory)}, which should be done
+ * before Camel is started, as caches that have already been created are not changed.
+ */
+public class ApproximateLRUCacheFactory extends DefaultLRUCacheFactory {
+
+    @Override
+    protected <K, V> Map<K, V> newCache(int initialCapacity, int maximumCacheSize, Consumer<V> onEvict) {
+        return new ApproximateLRUCache<>(initialCapacity, maximumCacheSize, onEvict);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A view of a map which is shared with a copy-on-write copy (such as the message headers), which is returned to callers
+ * that may change the map. Reading from the view reads from the shared map, and the map is only copied when the view is
+ * changed.
+ */
+final class CopyOnWriteMapView extends AbstractMap<String, Object> {
+
+    private final Supplier<Map<String, Object>> readable;
+    private final Supplier<Map<String, Object>> writable;
+    private EntrySet entrySet;
+
+    /**
+     * @param readable supplies the current map for reading, which may be shared
+     * @param writable supplies the current map for changing, which copies the map if it is shared
+     */
+    CopyOnWriteMapView(Supplier<Map<String, Object>> readable, Supplier<Map<String, Object>> writable) {
+        this.readable = readable;
+        this.writable = writable;
+    }
+
+    @Override
+    public int size() {
+        return readable.get().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readable.get().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return readable.get().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return readable.get().containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return readable.get().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return writable.get().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Map<String, Object> map = readable.get();
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        return writable.get().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        writable.get().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        if (!readable.get().isEmpty()) {
+            writable.get().clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            final Map<String, Object> source = readable.get();
+            final Iterator<Entry<String, Object>> it = source.entrySet().iterator();
+            return new Iterator<>() {
+                private Entry<String, Object> last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    last = new ViewEntry(source, it.next());
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    Map<String, Object> map = writable.get();
+                    if (map == source) {
+                        // the map is no longer shared
+                        it.remove();
+                    } else {
+                        // the map has been copied so keep iterating the shared map
+                        map.remove(last.getKey());
+                    }
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CopyOnWriteMapView.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteMapView.this.clear();
+        }
+    }
+
+    private final class ViewEntry implements Entry<String, Object> {
+
+        private final Map<String, Object> source;
+        private final Entry<String, Object> entry;
+        private Object value;
+
+        private ViewEntry(Map<String, Object> source, Entry<String, Object> entry) {
+            this.source = source;
+            this.entry = entry;
+            this.value = entry.getValue();
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Map<String, Object> map = writable.get();
+            Object answer;
+            if (map == source) {
+                answer = entry.setValue(value);
+            } else {
+                // the map has been copied so the entry of the shared map must not be changed
+                answer = map.put(entry.getKey(), value);
+            }
+            this.value = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> other && Objects.equals(getKey(), other.getKey())
+                    && Objects.equals(value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + value;
+        }
+    }
+
+}
@@ -85,6 +85,8 @@ public class DefaultContextReloadStrategy extends ServiceSupport implements Cont
             ServiceHelper.stopAndShutdownService(ps);
             ServiceHelper.startService(ps);
         }
+        // the properties may have changed
+        pc.invalidatePlaceholderCache();
     }
 
     @ManagedAttribute(description = "Number of reloads succeeded")
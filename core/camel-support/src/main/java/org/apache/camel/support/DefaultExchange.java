@@ -55,7 +55,11 @@ public final class DefaultExchange extends AbstractExchange {
     }
 
     DefaultExchange(AbstractExchange parent) {
-        super(parent);
+        this(parent, false);
+    }
+
+    DefaultExchange(AbstractExchange parent, boolean copyOnWrite) {
+        super(parent, copyOnWrite);
         this.timeInfo = parent.getClock();
     }
 
@@ -69,6 +73,11 @@ public final class DefaultExchange extends AbstractExchange {
         return new DefaultExchange(this);
     }
 
+    @Override
+    AbstractExchange newCopy(boolean copyOnWrite) {
+        return new DefaultExchange(this, copyOnWrite);
+    }
+
     public static DefaultExchange newFromEndpoint(Endpoint fromEndpoint) {
         return newFromEndpoint(fromEndpoint, fromEndpoint.getExchangePattern());
     }
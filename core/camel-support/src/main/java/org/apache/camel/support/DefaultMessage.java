@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.trait.message.MessageTrait;
 
@@ -37,6 +38,9 @@ import org.apache.camel.trait.message.MessageTrait;
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // whether the headers are shared with a copy-on-write copy, and must be copied before changing them
+    private boolean headersShared;
+    private Map<String, Object> headersView;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -53,7 +57,10 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+        } else if (headers != null) {
             headers.clear();
         }
         removeTrait(MessageTrait.ATTACHMENTS);
@@ -204,10 +211,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -216,10 +220,11 @@ public class DefaultMessage extends MessageSupport {
             // force creating headers
             headers = createHeaders();
         }
-        if (headers.isEmpty()) {
+        if (headers.isEmpty() || headersShared && !headers.containsKey(name)) {
+            // avoid copying shared headers when there is nothing to remove
             return null;
         }
-        return headers.remove(name);
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -239,19 +244,20 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            writableHeaders().clear();
             return true;
         }
 
         final Set<String> toBeRemoved = PatternHelper.matchingSet(headers, pattern, excludePatterns);
 
         if (toBeRemoved != null) {
-            if (toBeRemoved.size() == headers.size()) {
+            Map<String, Object> map = writableHeaders();
+            if (toBeRemoved.size() == map.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                map.clear();
             } else {
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
 
@@ -263,14 +269,19 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
+        if (headersShared) {
+            // the returned map can be changed by the caller, so only copy the shared headers when it is changed
+            if (headersView == null) {
+                headersView = new CopyOnWriteMapView(this::readableHeaders, this::writableHeaders);
+            }
+            return headersView;
         }
-        return headers;
+        return writableHeaders();
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.headersShared = false;
         HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
@@ -294,6 +305,29 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    protected boolean sameHeaders(Message that) {
+        if (headersShared && that instanceof DefaultMessage message && message.headers == headers) {
+            // the headers are shared by a copy-on-write copy, so there is nothing to copy
+            return true;
+        }
+        return super.sameHeaders(that);
+    }
+
+    /**
+     * Creates a copy of this message which shares the headers with this message until either message changes them.
+     */
+    Message copyOnWrite() {
+        DefaultMessage answer = newInstance();
+        if (headers != null && !headers.isEmpty()) {
+            headersShared = true;
+            answer.headers = headers;
+            answer.headersShared = true;
+        }
+        answer.copyFrom(this);
+        return answer;
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -328,6 +362,32 @@ public class DefaultMessage extends MessageSupport {
         // do nothing by default
     }
 
+    private Map<String, Object> readableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        }
+        return headers;
+    }
+
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        } else if (headersShared) {
+            // copy the headers which are shared with a copy-on-write copy
+            HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+            headers = factory != null ? factory.newMap(headers) : new HashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    /**
+     * Whether the headers are shared with a copy-on-write copy and have not been copied yet
+     */
+    boolean isHeadersShared() {
+        return headersShared;
+    }
+
     /**
      * Returns true if the headers have been mutated in some way
      */
@@ -72,6 +72,11 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
         return new DefaultExchange(this);
     }
 
+    @Override
+    AbstractExchange newCopy(boolean copyOnWrite) {
+        return new DefaultExchange(this, copyOnWrite);
+    }
+
     public boolean isAutoRelease() {
         return autoRelease;
     }
@@ -90,7 +95,7 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
             // by unsetting (setting to 0) we also flag that this exchange is done and needs to be reset to use again
             clock.unset();
 
-            this.properties.clear();
+            clearProperties();
             internalProperties.clear();
             if (this.safeCopyProperties != null) {
                 this.safeCopyProperties.clear();
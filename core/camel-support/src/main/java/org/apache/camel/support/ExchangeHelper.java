@@ -298,10 +298,35 @@ public final class ExchangeHelper {
      * @param useSameMessageId whether to use same message id on the copy message.
      */
     public static Exchange createCorrelatedCopy(Exchange exchange, boolean handover, boolean useSameMessageId) {
+        return createCorrelatedCopy(exchange, handover, useSameMessageId, false);
+    }
+
+    /**
+     * Creates a new instance and copies from the current message exchange so that it can be forwarded to another
+     * destination as a new instance. Unlike regular copy this operation will not share the same
+     * {@link org.apache.camel.spi.UnitOfWork} so its should be used for async messaging, where the original and copied
+     * exchange are independent.
+     * <p/>
+     * With copy-on-write the message headers, exchange properties and variables are shared by the original and the
+     * copy until either exchange changes them. This is only in use for the default exchange and message
+     * implementations, and other implementations are copied as usual.
+     *
+     * @param exchange         original copy of the exchange
+     * @param handover         whether the on completion callbacks should be handed over to the new copy.
+     * @param useSameMessageId whether to use same message id on the copy message.
+     * @param copyOnWrite      whether to share the message headers, exchange properties and variables until changed
+     */
+    public static Exchange createCorrelatedCopy(
+            Exchange exchange, boolean handover, boolean useSameMessageId, boolean copyOnWrite) {
         String id = exchange.getExchangeId();
 
         // make sure to do a safe copy as the correlated copy can be routed independently of the source.
-        Exchange copy = exchange.copy();
+        Exchange copy;
+        if (copyOnWrite && exchange instanceof AbstractExchange abstractExchange) {
+            copy = abstractExchange.copyOnWrite();
+        } else {
+            copy = exchange.copy();
+        }
         // do not reuse message id on copy
         if (!useSameMessageId) {
             if (copy.hasOut()) {
@@ -237,7 +237,10 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         }
     }
 
-    private boolean sameHeaders(Message that) {
+    /**
+     * Whether this message has the same headers instance as the given message, in which case the headers are not copied
+     */
+    protected boolean sameHeaders(Message that) {
         return hasHeaders() && that.hasHeaders() && getHeaders() == that.getHeaders();
     }
 
@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@code ApproximateLRUCache} is an implementation of an approximate Least Recently Used cache, using the CLOCK (second
+ * chance) algorithm. The implementation doesn't accept null values. Generally speaking, the parameters of all the
+ * public methods must have a value otherwise a {@code NullPointerException} is thrown.
+ * <p/>
+ * Reading an entry only marks the entry as referenced, and adding an entry appends it to a lock-free queue. When the
+ * cache is full, the oldest entries in the queue are evicted, except the entries which have been referenced since they
+ * were last checked, which are moved to the end of the queue instead. Only one thread evicts at any time, and other
+ * threads do not wait for the eviction to complete, so there is no global lock.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class ApproximateLRUCache<K, V> implements Map<K, V> {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * The minimum size of the queue of entries, before removed or replaced entries are purged from the queue.
+     */
+    static final int MINIMUM_QUEUE_SIZE = 128;
+    /**
+     * The flag indicating that an eviction process is in progress.
+     */
+    private final AtomicBoolean eviction = new AtomicBoolean();
+    /**
+     * The maximum cache size.
+     */
+    private final int maximumCacheSize;
+    /**
+     * The entries in the order they were added, which is the order they are checked for eviction.
+     */
+    private final Queue<Node<K, V>> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * The number of entries in the queue, including entries which have been removed or replaced.
+     */
+    private final AtomicInteger queueSize = new AtomicInteger();
+    /**
+     * The function to call when an entry is evicted.
+     */
+    private final Consumer<V> evict;
+    /**
+     * The underlying map.
+     */
+    private final Map<K, Node<K, V>> delegate;
+
+    public ApproximateLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        if (maximumCacheSize <= 0) {
+            throw new IllegalArgumentException("The maximum cache size must be greater than 0");
+        }
+        this.delegate = new ConcurrentHashMap<>(initialCapacity, DEFAULT_LOAD_FACTOR);
+        this.maximumCacheSize = maximumCacheSize;
+        this.evict = Objects.requireNonNull(evicted);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return delegate.values().stream().anyMatch(n -> Objects.equals(n.value, value));
+    }
+
+    @Override
+    public V get(Object key) {
+        return touch(delegate.get(key));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = new Node<>(key, value);
+        V answer = extractValue(delegate.put(key, node));
+        added(node);
+        return answer;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> existing = delegate.putIfAbsent(key, node);
+        if (existing != null) {
+            return touch(existing);
+        }
+        added(node);
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V answer = extractValue(delegate.remove(key));
+        purgeIfNeeded();
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = delegate.get(key);
+        boolean answer = node != null && Objects.equals(node.value, value) && delegate.remove((K) key, node);
+        purgeIfNeeded();
+        return answer;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> existing = delegate.get(key);
+        if (existing != null) {
+            return touch(existing);
+        }
+        Node<K, V>[] added = newHolder();
+        Node<K, V> node = delegate.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            return value == null ? null : (added[0] = new Node<>(k, value));
+        });
+        if (added[0] != null) {
+            added(added[0]);
+        }
+        return extractValue(node);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V>[] added = newHolder();
+        Node<K, V> node = delegate.computeIfPresent(key, (k, n) -> {
+            V value = remappingFunction.apply(k, n.value);
+            return value == null ? null : (added[0] = new Node<>(k, value));
+        });
+        addedOrRemoved(added[0]);
+        return extractValue(node);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V>[] added = newHolder();
+        Node<K, V> node = delegate.compute(key, (k, n) -> {
+            V value = remappingFunction.apply(k, extractValue(n));
+            return value == null ? null : (added[0] = new Node<>(k, value));
+        });
+        addedOrRemoved(added[0]);
+        return extractValue(node);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == null || value == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V>[] added = newHolder();
+        Node<K, V> node = delegate.compute(key, (k, n) -> {
+            V newValue = n == null ? value : remappingFunction.apply(n.value, value);
+            return newValue == null ? null : (added[0] = new Node<>(k, newValue));
+        });
+        addedOrRemoved(added[0]);
+        return extractValue(node);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = delegate.get(key);
+        if (node == null || !Objects.equals(node.value, oldValue)) {
+            return false;
+        }
+        Node<K, V> replacement = new Node<>(key, newValue);
+        if (delegate.replace(key, node, replacement)) {
+            added(replacement);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V>[] added = newHolder();
+        V[] previous = newValueHolder();
+        delegate.computeIfPresent(key, (k, n) -> {
+            previous[0] = n.value;
+            return added[0] = new Node<>(k, value);
+        });
+        addedOrRemoved(added[0]);
+        return previous[0];
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        purgeIfNeeded();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return delegate.values().stream().map(n -> n.value).toList();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        if (function == null) {
+            throw new NullPointerException();
+        }
+        for (K key : delegate.keySet()) {
+            computeIfPresent(key, function);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return delegate.entrySet().stream()
+                .map(entry -> new CacheEntry<>(this, entry.getKey(), entry.getValue().value))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @return the size of the queue of entries, which includes entries which have been removed or replaced.
+     */
+    int getQueueSize() {
+        return queueSize.get();
+    }
+
+    private void added(Node<K, V> node) {
+        queue.offer(node);
+        queueSize.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    private void addedOrRemoved(Node<K, V> node) {
+        if (node != null) {
+            added(node);
+        } else {
+            purgeIfNeeded();
+        }
+    }
+
+    private void purgeIfNeeded() {
+        if (isQueueFull()) {
+            evictIfNeeded();
+        }
+    }
+
+    private boolean isCacheFull() {
+        return delegate.size() > maximumCacheSize;
+    }
+
+    private boolean isQueueFull() {
+        return queueSize.get() > Math.max(2 * maximumCacheSize, MINIMUM_QUEUE_SIZE);
+    }
+
+    /**
+     * Evicts entries if the cache is full, unless another thread is already evicting, in which case that thread will
+     * evict the entries.
+     */
+    private void evictIfNeeded() {
+        // check again after the eviction flag has been reset, as entries may have been added by other threads which
+        // did not evict as this thread was evicting
+        boolean progress = true;
+        while (progress && (isCacheFull() || isQueueFull()) && eviction.compareAndSet(false, true)) {
+            try {
+                // the queue can be exhausted when the entries have been added to the map by other threads, but not
+                // yet to the queue, and then these threads will evict when adding the entries to the queue
+                progress = evict();
+                if (isQueueFull()) {
+                    purge();
+                }
+            } finally {
+                eviction.set(false);
+            }
+        }
+    }
+
+    /**
+     * Evicts the oldest entries which have not been referenced since they were last checked, until the cache is no
+     * longer full.
+     *
+     * @return <tt>false</tt> if the queue was exhausted before the cache is no longer full
+     */
+    private boolean evict() {
+        // bound the number of second chances, as other threads may keep referencing the entries
+        int chances = queueSize.get();
+        while (isCacheFull()) {
+            Node<K, V> node = queue.poll();
+            if (node == null) {
+                return false;
+            }
+            queueSize.decrementAndGet();
+            if (delegate.get(node.key) != node) {
+                // removed or replaced
+                continue;
+            }
+            if (node.referenced && chances-- > 0) {
+                node.referenced = false;
+                queue.offer(node);
+                queueSize.incrementAndGet();
+            } else if (delegate.remove(node.key, node)) {
+                evict.accept(node.value);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the entries which have been removed or replaced from the queue.
+     */
+    private void purge() {
+        for (int i = queueSize.get(); i > 0; i--) {
+            Node<K, V> node = queue.poll();
+            if (node == null) {
+                return;
+            }
+            if (delegate.get(node.key) == node) {
+                queue.offer(node);
+            } else {
+                queueSize.decrementAndGet();
+            }
+        }
+    }
+
+    private V touch(Node<K, V> node) {
+        if (node == null) {
+            return null;
+        }
+        // avoid writing to memory shared between threads when already referenced
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    private static <K, V> V extractValue(Node<K, V> node) {
+        return node == null ? null : node.value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newHolder() {
+        return new Node[1];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V[] newValueHolder() {
+        return (V[]) new Object[1];
+    }
+
+    /**
+     * A cache entry, which is compared by identity, to be able to distinguish the same key value pair that has been
+     * added several times to the cache.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private volatile boolean referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A modifiable cache entry.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static class CacheEntry<K, V> implements Entry<K, V> {
+
+        private final K key;
+        private V val;
+        /**
+         * The underlying cache.
+         */
+        private final ApproximateLRUCache<K, V> cache;
+
+        CacheEntry(ApproximateLRUCache<K, V> cache, K key, V value) {
+            this.cache = cache;
+            this.key = key;
+            this.val = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return val;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            V v = val;
+            val = value;
+            cache.put(key, value);
+            return v;
+        }
+    }
+}
@@ -0,0 +1,1017 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only log of segment files.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} the keys are not kept in memory, and the file store is never rewritten when
+ * keys are removed. Adding and removing keys appends a record to the active segment file, and a memory-mapped hash
+ * index (in the same directory) is used to look up keys. When the active segment is full, a new segment is started, and
+ * the older segments are compacted in the background when they mostly contain removed (or expired) keys.
+ * <p/>
+ * When sync is enabled (default) then every change is forced to disk before returning, where concurrent callers share
+ * the same disk sync (group commit).
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository which appends the keys to segment files, and uses a memory-mapped hash index"
+                        + " to look up keys, so the keys are not kept in memory. Removed and expired keys are compacted in the background.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Segmented file based idempotent repository")
+public class SegmentedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileIdempotentRepository.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    private static final String INDEX_FILE = "index.dat";
+
+    // record types
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+
+    // a record is: length (int), type (byte), timestamp (long), key and crc32 (int)
+    private static final int HEADER_SIZE = 4 + 1 + 8;
+    private static final int RECORD_OVERHEAD = HEADER_SIZE + 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock compactLock = new ReentrantLock();
+    private final Lock syncLock = new ReentrantLock();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final AtomicLong compactionCount = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private DiskIndex index;
+    private ExecutorService compactor;
+
+    @Metadata(description = "Directory where the segment files of the repository are stored", required = true)
+    private File directory;
+    @Metadata(description = "The size in bytes of each segment file. When the active segment is full then a new segment is started.",
+              defaultValue = "" + 16 * 1024 * 1024)
+    private int segmentSize = 16 * 1024 * 1024;
+    @Metadata(description = "Whether to force every change to disk before returning. Concurrent changes are forced to disk together.",
+              defaultValue = "true")
+    private boolean sync = true;
+    @Metadata(description = "Time in millis a key is kept in the repository after it was added. Expired keys are no longer contained in the"
+                            + " repository, and are removed from the segment files when compacting. The default 0 keeps the keys until removed.")
+    private long timeToLive;
+    @Metadata(label = "advanced",
+              description = "The ratio (between 0 and 1) of removed or expired data in the full segments, which triggers a compaction of"
+                            + " the segments.",
+              defaultValue = "0.5")
+    private double compactionThreshold = 0.5;
+
+    public SegmentedFileIdempotentRepository() {
+    }
+
+    public SegmentedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new segmented file based repository.
+     *
+     * @param directory the directory of the segment files
+     */
+    public static IdempotentRepository segmentedFileIdempotentRepository(File directory) {
+        return new SegmentedFileIdempotentRepository(directory);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = toBytes(key);
+        int hash = hash(key);
+        Segment segment;
+        long end;
+        lock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            long location = index.get(hash, bytes);
+            if (location != 0 && !isExpired(location, now)) {
+                return false;
+            }
+            long previous = index.put(hash, bytes, append(ADD, bytes, now));
+            release(previous);
+            segment = active;
+            end = segment.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(segment, end);
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = toBytes(key);
+        int hash = hash(key);
+        lock.readLock().lock();
+        try {
+            long location = index.get(hash, bytes);
+            return location != 0 && !isExpired(location, System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = toBytes(key);
+        int hash = hash(key);
+        Segment segment;
+        long end;
+        lock.writeLock().lock();
+        try {
+            long location = index.remove(hash, bytes);
+            if (location == 0) {
+                return false;
+            }
+            append(REMOVE, bytes, System.currentTimeMillis());
+            release(location);
+            segment = active;
+            end = segment.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(segment, end);
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        compactLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                for (Segment segment : segments.values()) {
+                    segment.close();
+                    FileUtil.deleteFile(segment.file);
+                }
+                segments.clear();
+                active = null;
+                index.clear();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the full segments, by copying the keys which are not removed or expired to a new segment, which replaces
+     * the full segments. This happens in the background when a new segment is started, and the ratio of removed or
+     * expired data in the full segments is above the compaction threshold.
+     */
+    @ManagedOperation(description = "Compacts the full segments of the store")
+    public void compact() {
+        compactLock.lock();
+        try {
+            doCompact();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory path for the store")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The size in bytes of each segment file")
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    @ManagedAttribute(description = "Whether to force every change to disk before returning")
+    public boolean isSync() {
+        return sync;
+    }
+
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "Time in millis a key is kept in the repository after it was added")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the index (expired keys are included until compacted)")
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.size : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of segment files")
+    public int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of times the segments have been compacted")
+    public long getCompactionCount() {
+        return compactionCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of times changes have been forced to disk")
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        if (segmentSize <= RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("SegmentSize must be larger than " + RECORD_OVERHEAD + ", was: " + segmentSize);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Path dir = directory.toPath();
+            Files.createDirectories(dir);
+            recoverCompaction(dir);
+            for (Path file : listFiles(dir)) {
+                int id = segmentId(file);
+                if (id > 0) {
+                    segments.put(id, new Segment(id, file));
+                }
+            }
+
+            // the index is rebuilt by replaying the segments in the order they were written
+            index = new DiskIndex(dir.resolve(INDEX_FILE));
+            for (Segment segment : segments.values()) {
+                replay(segment);
+            }
+            if (!segments.isEmpty()) {
+                active = segments.lastEntry().getValue();
+                // discard any partially written record at the end of the active segment
+                active.channel.truncate(active.size);
+            }
+            LOG.debug("Loaded {} keys from {} segments of idempotent filestore: {}", index.size, segments.size(), directory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        compactor = Executors.newSingleThreadExecutor(
+                new CamelThreadFactory(null, "SegmentedFileIdempotentRepositoryCompactor", true));
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactor != null) {
+            // a scheduled compaction is skipped when stopping
+            compactor.shutdown();
+            compactor = null;
+        }
+
+        // wait for any running compaction to complete
+        compactLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                for (Segment segment : segments.values()) {
+                    segment.close();
+                }
+                segments.clear();
+                active = null;
+                if (index != null) {
+                    index.close();
+                    index = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    /**
+     * Cleans up after a compaction which was interrupted (such as the JVM crashed). A compaction which did not complete
+     * is discarded, as the segments it copied from are all still there. A compaction which completed, but was
+     * interrupted while deleting the segments it copied from, is completed, as the segments which have not been deleted
+     * yet must not be replayed without the remove records in the segments which have been deleted.
+     */
+    private void recoverCompaction(Path dir) throws IOException {
+        List<Path> files = listFiles(dir);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(COMPACT_SUFFIX)) {
+                LOG.debug("Deleting incomplete compacted segment: {} of idempotent filestore: {}", file, directory);
+                Files.deleteIfExists(file);
+            } else if (name.endsWith(COMPACTED_SUFFIX)) {
+                int id = segmentId(file.resolveSibling(name.substring(0, name.length() - COMPACTED_SUFFIX.length())));
+                if (id > 0) {
+                    LOG.debug("Completing compaction of segments up to: {} of idempotent filestore: {}", id, directory);
+                    deleteSegments(files, id);
+                    Files.move(file, segmentFile(id), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        }
+    }
+
+    private static void deleteSegments(List<Path> files, int maxId) throws IOException {
+        for (Path file : files) {
+            int id = segmentId(file);
+            if (id > 0 && id <= maxId) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.sorted().toList();
+        }
+    }
+
+    private void replay(Segment segment) throws IOException {
+        segment.size = scan(segment.file, (offset, type, timestamp, key) -> {
+            long location = location(segment.id, offset);
+            int hash = hash(new String(key, StandardCharsets.UTF_8));
+            if (type == ADD) {
+                int length = RECORD_OVERHEAD + key.length;
+                segment.liveBytes += length;
+                segment.newestTimestamp = Math.max(segment.newestTimestamp, timestamp);
+                release(index.put(hash, key, location));
+            } else if (type == REMOVE) {
+                release(index.remove(hash, key));
+            }
+        });
+        segment.synced = segment.size;
+    }
+
+    private long append(byte type, byte[] key, long timestamp) {
+        int length = RECORD_OVERHEAD + key.length;
+        if (active == null || active.size > 0 && active.size + length > segmentSize) {
+            roll();
+        }
+
+        Segment segment = active;
+        long offset = segment.size;
+        try {
+            writeFully(segment.channel, encode(type, key, timestamp), offset);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        segment.size = offset + length;
+        if (type == ADD) {
+            segment.liveBytes += length;
+            segment.newestTimestamp = Math.max(segment.newestTimestamp, timestamp);
+        }
+        return location(segment.id, (int) offset);
+    }
+
+    private void roll() {
+        int id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = segmentFile(id);
+        LOG.debug("Creating segment: {} of idempotent filestore: {}", file, directory);
+        Segment segment;
+        try {
+            segment = new Segment(id, file);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        Segment previous = active;
+        segments.put(id, segment);
+        active = segment;
+
+        if (previous != null && compactor != null && needsCompaction()
+                && compactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                compactionScheduled.set(false);
+                if (isRunAllowed()) {
+                    try {
+                        compact();
+                    } catch (Exception e) {
+                        LOG.warn("Error compacting idempotent filestore: {} due to: {}. This exception is ignored.",
+                                directory, e.getMessage(), e);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean needsCompaction() {
+        long live = 0;
+        long total = 0;
+        for (Segment segment : segments.values()) {
+            if (segment != active) {
+                live += segment.liveBytes;
+                total += segment.size;
+            }
+        }
+        if (total > 0 && total - live >= total * compactionThreshold) {
+            return true;
+        }
+        // all the keys in the oldest segment have expired
+        Segment oldest = segments.firstEntry().getValue();
+        return oldest != active && timeToLive > 0 && oldest.newestTimestamp + timeToLive < System.currentTimeMillis();
+    }
+
+    private void doCompact() throws IOException {
+        List<Segment> inputs = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return;
+            }
+            for (Segment segment : segments.values()) {
+                if (segment != active) {
+                    inputs.add(segment);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (inputs.isEmpty()) {
+            return;
+        }
+
+        // the compacted segment replaces the newest of the full segments, so it is still replayed before the segments
+        // written during the compaction
+        int id = inputs.get(inputs.size() - 1).id;
+        Path file = segmentFile(id);
+        Path compactFile = file.resolveSibling(file.getFileName() + COMPACT_SUFFIX);
+        Path compactedFile = file.resolveSibling(file.getFileName() + COMPACTED_SUFFIX);
+        LOG.debug("Compacting {} segments of idempotent filestore: {}", inputs.size(), directory);
+
+        Segment compacted = new Segment(id, compactFile);
+        // pairs of the old location, and the hash and new offset of the copied keys
+        long[] moves = new long[1024];
+        int count = 0;
+        boolean done = false;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long now = System.currentTimeMillis();
+            for (Segment segment : inputs) {
+                long[][] holder = { moves };
+                int[] counter = { count };
+                scan(segment.file, (offset, type, timestamp, key) -> {
+                    if (type != ADD) {
+                        return;
+                    }
+                    long location = location(segment.id, offset);
+                    int hash = hash(new String(key, StandardCharsets.UTF_8));
+                    boolean expired = timeToLive > 0 && timestamp + timeToLive < now;
+                    lock.readLock().lock();
+                    try {
+                        if (index.get(hash, key) != location) {
+                            // removed or added again later
+                            return;
+                        }
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                    long newOffset = -1;
+                    if (!expired) {
+                        ByteBuffer record = encode(type, key, timestamp);
+                        if (record.remaining() > buffer.remaining()) {
+                            flush(compacted, buffer);
+                        }
+                        newOffset = compacted.size + buffer.position();
+                        if (record.remaining() > buffer.capacity()) {
+                            writeFully(compacted.channel, record, newOffset);
+                            compacted.size += record.limit();
+                        } else {
+                            buffer.put(record);
+                        }
+                        compacted.liveBytes += record.limit();
+                        compacted.newestTimestamp = Math.max(compacted.newestTimestamp, timestamp);
+                    }
+                    if (counter[0] + 2 > holder[0].length) {
+                        holder[0] = Arrays.copyOf(holder[0], holder[0].length * 2);
+                    }
+                    holder[0][counter[0]++] = location;
+                    holder[0][counter[0]++] = ((long) hash << 32) | (newOffset & 0xFFFFFFFFL);
+                });
+                moves = holder[0];
+                count = counter[0];
+                if (!isRunAllowed()) {
+                    LOG.debug("Compaction of idempotent filestore: {} aborted as the repository is stopping", directory);
+                    return;
+                }
+            }
+            flush(compacted, buffer);
+            compacted.channel.force(true);
+            compacted.synced = compacted.size;
+
+            lock.writeLock().lock();
+            try {
+                // point the index to the copied keys, or remove the expired keys
+                for (int i = 0; i < count; i += 2) {
+                    int hash = (int) (moves[i + 1] >>> 32);
+                    int offset = (int) moves[i + 1];
+                    boolean replaced = index.replace(hash, moves[i], offset == -1 ? 0 : location(id, offset));
+                    if (!replaced && offset != -1) {
+                        // the key was removed while compacting
+                        compacted.liveBytes -= readInt(compacted, offset);
+                    }
+                }
+                // the rename marks the compaction as completed, so if interrupted while deleting the segments below, then
+                // the compaction is completed on start, instead of replaying only some of the segments
+                Files.move(compactFile, compactedFile, StandardCopyOption.ATOMIC_MOVE);
+                compacted.file = compactedFile;
+                done = true;
+                for (Segment segment : inputs) {
+                    segments.remove(segment.id);
+                    segment.close();
+                }
+                segments.put(id, compacted);
+                for (Segment segment : inputs) {
+                    Files.deleteIfExists(segment.file);
+                }
+                Files.move(compactedFile, file, StandardCopyOption.ATOMIC_MOVE);
+                compacted.file = file;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            compactionCount.incrementAndGet();
+            LOG.debug("Compacted {} segments of idempotent filestore: {} to {} bytes", inputs.size(), directory,
+                    compacted.size);
+        } finally {
+            if (!done) {
+                compacted.close();
+                FileUtil.deleteFile(compactFile);
+            }
+        }
+    }
+
+    private static void flush(Segment segment, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        int length = buffer.remaining();
+        writeFully(segment.channel, buffer, segment.size);
+        segment.size += length;
+        buffer.clear();
+    }
+
+    /**
+     * Forces the segment to disk up to the given end. Callers which are waiting while another caller is forcing the
+     * segment, will find their changes are forced to disk as well, so the disk sync is shared (group commit).
+     */
+    private void sync(Segment segment, long end) {
+        if (!sync || segment.synced >= end) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (segment.synced >= end) {
+                return;
+            }
+            long size = segment.size;
+            segment.channel.force(false);
+            segment.synced = size;
+            syncCount.incrementAndGet();
+        } catch (ClosedChannelException e) {
+            // the segment has been compacted, and the compacted segment is forced to disk
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void release(long location) {
+        if (location != 0) {
+            Segment segment = segments.get(segmentId(location));
+            if (segment != null) {
+                segment.liveBytes -= readInt(segment, offset(location));
+            }
+        }
+    }
+
+    private boolean isExpired(long location, long now) {
+        if (timeToLive <= 0) {
+            return false;
+        }
+        Segment segment = segments.get(segmentId(location));
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        readFully(segment, buffer, offset(location) + 5L);
+        return buffer.getLong(0) + timeToLive < now;
+    }
+
+    private boolean matches(long location, byte[] key) {
+        Segment segment = segments.get(segmentId(location));
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + key.length);
+        readFully(segment, buffer, offset(location));
+        if (buffer.getInt(0) != RECORD_OVERHEAD + key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(HEADER_SIZE + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readInt(Segment segment, int offset) {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        readFully(segment, buffer, offset);
+        return buffer.getInt(0);
+    }
+
+    private static void readFully(Segment segment, ByteBuffer buffer, long position) {
+        try {
+            while (buffer.hasRemaining()) {
+                if (segment.channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of segment: " + segment.file);
+                }
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+
+    private static ByteBuffer encode(byte type, byte[] key, long timestamp) {
+        int length = RECORD_OVERHEAD + key.length;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length);
+        buffer.put(type);
+        buffer.putLong(timestamp);
+        buffer.put(key);
+        buffer.putInt(checksum(buffer.array(), length));
+        return buffer.flip();
+    }
+
+    private static int checksum(byte[] record, int length) {
+        // covers everything but the length and the checksum itself
+        CRC32 crc = new CRC32();
+        crc.update(record, 4, length - 8);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads the records of the segment file in order, until the end of the file or a record which is not valid (such as
+     * partially written).
+     *
+     * @return the length of the valid records
+     */
+    private static long scan(Path file, RecordVisitor visitor) throws IOException {
+        long offset = 0;
+        try (InputStream is = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is, 64 * 1024))) {
+            long fileSize = Files.size(file);
+            while (offset + RECORD_OVERHEAD <= fileSize) {
+                int length = in.readInt();
+                if (length < RECORD_OVERHEAD || offset + length > fileSize) {
+                    break;
+                }
+                byte[] record = new byte[length];
+                in.readFully(record, 4, length - 4);
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                if (buffer.getInt(length - 4) != checksum(record, length)) {
+                    break;
+                }
+                byte[] key = Arrays.copyOfRange(record, HEADER_SIZE, length - 4);
+                visitor.visit((int) offset, record[4], buffer.getLong(5), key);
+                offset += length;
+            }
+        }
+        return offset;
+    }
+
+    private Path segmentFile(int id) {
+        return directory.toPath().resolve(String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static int segmentId(Path file) {
+        String name = file.getFileName().toString();
+        if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+            try {
+                return Integer.parseInt(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10);
+            } catch (NumberFormatException e) {
+                // not a segment file
+            }
+        }
+        return 0;
+    }
+
+    private static byte[] toBytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | offset;
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(int offset, byte type, long timestamp, byte[] key) throws IOException;
+    }
+
+    /**
+     * A segment file, which is only appended to.
+     */
+    private static final class Segment {
+        private final int id;
+        private Path file;
+        private final FileChannel channel;
+        private volatile long size;
+        private volatile long synced;
+        private long liveBytes;
+        private long newestTimestamp;
+
+        Segment(int id, Path file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        void close() {
+            IOHelper.close(channel, "Closing segment of idempotent filestore", LOG);
+        }
+    }
+
+    /**
+     * An open addressing hash index from the key to the location of its record, which is stored in a memory-mapped
+     * file. Each slot is the location (long) and the hash of the key (int), and the key itself is compared with the key
+     * of the record in the segment.
+     */
+    private final class DiskIndex {
+        private static final int SLOT_SIZE = 12;
+        private static final int INITIAL_CAPACITY = 16 * 1024;
+        private static final long TOMBSTONE = -1;
+
+        private final Path file;
+        private FileChannel channel;
+        private MappedByteBuffer slots;
+        private int capacity;
+        private int size;
+        private int used;
+
+        DiskIndex(Path file) throws IOException {
+            this.file = file;
+            FileUtil.deleteFile(file);
+            allocate(INITIAL_CAPACITY);
+        }
+
+        long get(int hash, byte[] key) {
+            int mask = capacity - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE);
+                if (current == 0) {
+                    return 0;
+                } else if (current != TOMBSTONE && slots.getInt(i * SLOT_SIZE + 8) == hash && matches(current, key)) {
+                    return current;
+                }
+            }
+        }
+
+        long put(int hash, byte[] key, long location) {
+            if ((used + 1) * 4L > capacity * 3L) {
+                // keep the load factor below 0.75, and only grow if it is not mostly tombstones that fill the index
+                resize(size * 2L > capacity ? capacity * 2 : capacity);
+            }
+            int mask = capacity - 1;
+            int tombstone = -1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE);
+                if (current == 0) {
+                    int slot = i;
+                    if (tombstone != -1) {
+                        slot = tombstone;
+                    } else {
+                        used++;
+                    }
+                    slots.putLong(slot * SLOT_SIZE, location);
+                    slots.putInt(slot * SLOT_SIZE + 8, hash);
+                    size++;
+                    return 0;
+                } else if (current == TOMBSTONE) {
+                    if (tombstone == -1) {
+                        tombstone = i;
+                    }
+                } else if (slots.getInt(i * SLOT_SIZE + 8) == hash && matches(current, key)) {
+                    slots.putLong(i * SLOT_SIZE, location);
+                    return current;
+                }
+            }
+        }
+
+        long remove(int hash, byte[] key) {
+            int mask = capacity - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE);
+                if (current == 0) {
+                    return 0;
+                } else if (current != TOMBSTONE && slots.getInt(i * SLOT_SIZE + 8) == hash && matches(current, key)) {
+                    slots.putLong(i * SLOT_SIZE, TOMBSTONE);
+                    size--;
+                    return current;
+                }
+            }
+        }
+
+        /**
+         * Replaces the location of the key at the old location, or removes the key if the new location is 0.
+         *
+         * @return <tt>false</tt> if the key is no longer at the old location
+         */
+        boolean replace(int hash, long oldLocation, long newLocation) {
+            int mask = capacity - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                long current = slots.getLong(i * SLOT_SIZE);
+                if (current == 0) {
+                    return false;
+                } else if (current == oldLocation) {
+                    if (newLocation == 0) {
+                        slots.putLong(i * SLOT_SIZE, TOMBSTONE);
+                        size--;
+                    } else {
+                        slots.putLong(i * SLOT_SIZE, newLocation);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        void clear() throws IOException {
+            close();
+            FileUtil.deleteFile(file);
+            allocate(INITIAL_CAPACITY);
+        }
+
+        void close() {
+            IOHelper.close(channel, "Closing index of idempotent filestore", LOG);
+        }
+
+        private void resize(int newCapacity) {
+            MappedByteBuffer old = slots;
+            FileChannel oldChannel = channel;
+            int oldCapacity = capacity;
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                FileUtil.deleteFile(tmp);
+                map(tmp, newCapacity);
+                int mask = capacity - 1;
+                for (int i = 0; i < oldCapacity; i++) {
+                    long location = old.getLong(i * SLOT_SIZE);
+                    if (location != 0 && location != TOMBSTONE) {
+                        int hash = old.getInt(i * SLOT_SIZE + 8);
+                        int j = hash & mask;
+                        while (slots.getLong(j * SLOT_SIZE) != 0) {
+                            j = (j + 1) & mask;
+                        }
+                        slots.putLong(j * SLOT_SIZE, location);
+                        slots.putInt(j * SLOT_SIZE + 8, hash);
+                        size++;
+                        used++;
+                    }
+                }
+                IOHelper.close(oldChannel, "Closing index of idempotent filestore", LOG);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+
+        private void allocate(int newCapacity) throws IOException {
+            map(file, newCapacity);
+        }
+
+        private void map(Path path, int newCapacity) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            slots = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newCapacity * SLOT_SIZE);
+            capacity = newCapacity;
+            size = 0;
+            used = 0;
+        }
+    }
+
+}
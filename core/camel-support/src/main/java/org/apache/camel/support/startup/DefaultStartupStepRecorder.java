@@ -19,6 +19,8 @@ package org.apache.camel.support.startup;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.StartupStep;
 import org.apache.camel.spi.StartupStepRecorder;
@@ -79,6 +81,8 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     private final AtomicInteger stepCounter = new AtomicInteger();
     private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    private final ThreadLocal<Deque<Integer>> concurrentSteps = new ThreadLocal<>();
+    private final Lock lock = new ReentrantLock();
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -161,16 +165,22 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
+            Deque<Integer> steps = currentSteps();
+            int level = steps.size() - 1;
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
+            Integer parent = steps.peekFirst();
             int pid = parent != null ? parent : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
+            lock.lock();
+            try {
+                onBeginStep(step);
+            } finally {
+                lock.unlock();
+            }
+            steps.offerFirst(id);
             return step;
         } else {
             return DISABLED_STEP;
@@ -179,10 +189,39 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps().pollFirst();
             step.endStep();
-            onEndStep(step);
+            lock.lock();
+            try {
+                onEndStep(step);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public StartupStep beginConcurrentStep(Class<?> type, String name, String description) {
+        if (!enabled) {
+            return DISABLED_STEP;
         }
+        // the step runs in its own thread, so it keeps its own stack of steps, starting from the current step
+        concurrentSteps.set(new ArrayDeque<>(currentSteps));
+        return beginStep(type, name, description);
+    }
+
+    @Override
+    public void endConcurrentStep(StartupStep step) {
+        try {
+            endStep(step);
+        } finally {
+            concurrentSteps.remove();
+        }
+    }
+
+    private Deque<Integer> currentSteps() {
+        Deque<Integer> steps = concurrentSteps.get();
+        return steps != null ? steps : currentSteps;
     }
 
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
@@ -16,15 +16,13 @@
  */
 package org.apache.camel.util.concurrent;
 
-import java.util.concurrent.ThreadFactory;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
  */
-public final class CamelThreadFactory implements ThreadFactory {
+public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
     private final String pattern;
@@ -37,6 +35,19 @@ public final class CamelThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory for the given type of threads. Virtual threads requires JDK 21+, and platform threads
+     * are created on older JDKs.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, ThreadType threadType) {
+        this(pattern, name, daemon);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return false;
+    }
+
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
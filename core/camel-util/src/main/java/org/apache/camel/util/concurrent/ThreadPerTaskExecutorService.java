@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which starts a new thread for each task, which is intended to be used
+ * with virtual threads.
+ * <p/>
+ * There is no task queue, and no thread pool. The number of tasks running concurrently can optionally be limited, in
+ * which case the additional tasks wait on their own thread until a permit is available, so the caller thread is never
+ * blocked when submitting tasks.
+ * <p/>
+ * A task which is interrupted while waiting for a permit, such as by {@link #shutdownNow()}, is not run. Instead it is
+ * rejected if it implements {@link Rejectable}, and its {@link Future} is cancelled, so the caller is always notified. A
+ * task which has neither is run anyway (with the interrupt flag set), as otherwise it would be silently lost.
+ */
+public class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrentTasks;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // guards shutdown against starting new threads, so no thread is started after shutdownNow has interrupted them
+    private final Lock lock = new ReentrantLock();
+    private volatile boolean shutdown;
+
+    /**
+     * @param threadFactory      the thread factory to create a new thread per task
+     * @param maxConcurrentTasks the maximum number of tasks to run concurrently, or 0 for unbounded
+     */
+    public ThreadPerTaskExecutorService(ThreadFactory threadFactory, int maxConcurrentTasks) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.permits = maxConcurrentTasks > 0 ? new Semaphore(maxConcurrentTasks, true) : null;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Number of threads which are currently running or waiting to run a task
+     */
+    public int getActiveCount() {
+        return threads.size();
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor has been shutdown");
+            }
+            Thread thread = threadFactory.newThread(() -> runTask(runnable));
+            if (thread == null) {
+                throw new RejectedExecutionException("Thread factory did not create a thread");
+            }
+            threads.add(thread);
+            try {
+                thread.start();
+            } catch (Throwable e) {
+                threads.remove(thread);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    private void runTask(Runnable runnable) {
+        try {
+            if (permits != null) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted(runnable);
+                    return;
+                }
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        } finally {
+            threads.remove(Thread.currentThread());
+        }
+    }
+
+    private static void interrupted(Runnable runnable) {
+        boolean notified = false;
+        if (runnable instanceof Rejectable rejectable) {
+            rejectable.reject();
+            notified = true;
+        }
+        if (runnable instanceof Future<?> future) {
+            future.cancel(false);
+            notified = true;
+        }
+        if (!notified) {
+            // there is no way to tell the caller the task was not run, so run it rather than lose it
+            runnable.run();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        lock.lock();
+        try {
+            shutdown = true;
+            threads.forEach(Thread::interrupt);
+        } finally {
+            lock.unlock();
+        }
+        // the tasks are not queued, and the tasks waiting for a permit are rejected when interrupted
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && threads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long time, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        for (Thread thread : threads) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return isTerminated();
+            }
+            TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+        }
+        return isTerminated();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadPerTaskExecutorService[" + threadFactory + ", maxConcurrentTasks=" + maxConcurrentTasks + "]";
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPerTaskExecutorServiceTest {
+
+    @Test
+    public void testShutdownNowRejectsWaitingTasks() throws Exception {
+        ThreadPerTaskExecutorService service = new ThreadPerTaskExecutorService(Thread::new, 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        service.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // these tasks wait for the permit held by the first task
+        AtomicBoolean run = new AtomicBoolean();
+        CountDownLatch rejected = new CountDownLatch(1);
+        service.execute(new RejectableTask(run, rejected));
+        Future<?> future = service.submit(() -> run.set(true));
+
+        service.shutdownNow();
+
+        assertTrue(rejected.await(5, TimeUnit.SECONDS), "The waiting task should be rejected");
+        assertThrows(CancellationException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(run.get(), "The waiting tasks should not run");
+    }
+
+    @Test
+    public void testExecuteAfterShutdown() {
+        ThreadPerTaskExecutorService service = new ThreadPerTaskExecutorService(Thread::new, 0);
+        service.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> service.execute(() -> {
+        }));
+        assertTrue(service.isTerminated());
+    }
+
+    private static final class RejectableTask implements Runnable, Rejectable {
+        private final AtomicBoolean run;
+        private final CountDownLatch rejected;
+
+        private RejectableTask(AtomicBoolean run, CountDownLatch rejected) {
+            this.run = run;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void run() {
+            run.set(true);
+        }
+
+        @Override
+        public void reject() {
+            rejected.countDown();
+        }
+    }
+}
@@ -94,6 +94,7 @@ public class ModelParser extends BaseParser {
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
+                case "stripedLocking": def.setStripedLocking(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, (def, key) -> switch (key) {
@@ -557,6 +558,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); yield true;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxConcurrentTasks": def.setMaxConcurrentTasks(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -565,6 +567,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputDefinitionElementHandler(), noValueHandler());
     }
@@ -724,6 +727,7 @@ public class ModelParser extends BaseParser {
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
                 case "ignoreInvalidEndpoints": def.setIgnoreInvalidEndpoints(val); yield true;
+                case "maxConcurrentTasks": def.setMaxConcurrentTasks(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -732,6 +736,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, expressionNodeElementHandler(), noValueHandler());
     }
@@ -1138,6 +1143,8 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxConcurrentTasks": def.setMaxConcurrentTasks(val); yield true;
+                case "maxInFlight": def.setMaxInFlight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1146,6 +1153,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputExpressionNodeElementHandler(), noValueHandler());
     }
@@ -1235,6 +1243,7 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maximumCorrelationKeys": def.setMaximumCorrelationKeys(val); yield true;
                 case "mode": def.setMode(val); yield true;
                 case "rejectExecution": def.setRejectExecution(val); yield true;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); yield true;
@@ -1709,6 +1718,7 @@ public class ModelParser extends BaseParser {
                 case "comparator": def.setComparator(val); yield true;
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); yield true;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); yield true;
+                case "longSequence": def.setLongSequence(val); yield true;
                 case "rejectOld": def.setRejectOld(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
                 default: yield false;
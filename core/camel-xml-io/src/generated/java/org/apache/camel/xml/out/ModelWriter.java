@@ -827,6 +827,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("closeCorrelationKeyOnCompletion", def.getCloseCorrelationKeyOnCompletion(), null);
         doWriteAttribute("discardOnAggregationFailure", def.getDiscardOnAggregationFailure(), null);
         doWriteAttribute("eagerCheckCompletion", def.getEagerCheckCompletion(), null);
+        doWriteAttribute("stripedLocking", def.getStripedLocking(), null);
         doWriteAttribute("timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute("completionOnNewCorrelationGroup", def.getCompletionOnNewCorrelationGroup(), null);
         doWriteAttribute("completionInterval", def.getCompletionInterval(), null);
@@ -1262,8 +1263,10 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
         doWriteAttribute("streaming", def.getStreaming(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
+        doWriteAttribute("maxConcurrentTasks", def.getMaxConcurrentTasks(), "0");
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
@@ -1452,9 +1455,11 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("timeout", def.getTimeout(), "0");
         doWriteAttribute("ignoreInvalidEndpoints", def.getIgnoreInvalidEndpoints(), null);
         doWriteAttribute("streaming", def.getStreaming(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("delimiter", def.getDelimiter(), ",");
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
+        doWriteAttribute("maxConcurrentTasks", def.getMaxConcurrentTasks(), "0");
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
@@ -1803,9 +1808,12 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
         doWriteAttribute("streaming", def.getStreaming(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("delimiter", def.getDelimiter(), ",");
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
+        doWriteAttribute("maxInFlight", def.getMaxInFlight(), "0");
+        doWriteAttribute("maxConcurrentTasks", def.getMaxConcurrentTasks(), "0");
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
@@ -1878,6 +1886,7 @@ public class ModelWriter extends BaseWriter {
         doWriteProcessorDefinitionAttributes(def);
         doWriteAttribute("mode", def.getMode(), "TotalRequests");
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute("maximumCorrelationKeys", def.getMaximumCorrelationKeys(), "100000");
         doWriteAttribute("rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("executorService", def.getExecutorService(), null);
@@ -2378,6 +2387,7 @@ public class ModelWriter extends BaseWriter {
     protected void doWriteStreamResequencerConfig(String name, StreamResequencerConfig def) throws IOException {
         startElement(name);
         doWriteAttribute("comparator", def.getComparator(), null);
+        doWriteAttribute("longSequence", def.getLongSequence(), null);
         doWriteAttribute("timeout", def.getTimeout(), "1000");
         doWriteAttribute("rejectOld", def.getRejectOld(), null);
         doWriteAttribute("ignoreInvalidExchanges", def.getIgnoreInvalidExchanges(), null);
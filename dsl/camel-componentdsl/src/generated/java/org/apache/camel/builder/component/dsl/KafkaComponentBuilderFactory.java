@@ -644,6 +644,71 @@ public interface KafkaComponentBuilderFactory {
         }
     
         
+        /**
+         * Whether to process the records of a partition in parallel, while
+         * keeping the order of the records with the same key. The default is
+         * false, which processes the records of a partition one at a time. The
+         * records are processed by a pool of worker threads (see
+         * keyOrderedConcurrency), and the consumer waits for all records of a
+         * poll to complete before it polls again. The offset committed for a
+         * partition only advances up to the lowest record which has not
+         * completed. If a record fails with breakOnFirstError, then the records
+         * of other keys which completed after it are consumed again
+         * (at-least-once). This option cannot be used together with batching or
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param keyOrdered the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder keyOrdered(boolean keyOrdered) {
+            doSetProperty("keyOrdered", keyOrdered);
+            return this;
+        }
+    
+        
+        /**
+         * In key ordered mode, the number of worker threads that process the
+         * records in parallel. The worker threads are shared by the consumers
+         * of the endpoint (see consumersCount).
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder keyOrderedConcurrency(int keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
+    
+        
+        /**
+         * In key ordered mode, a simple expression that is evaluated on the
+         * exchange of each record to compute the key to keep the order for,
+         * instead of the key of the record. Records for which the key is null
+         * are processed without any ordering.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedExpression the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder keyOrderedExpression(java.lang.String keyOrderedExpression) {
+            doSetProperty("keyOrderedExpression", keyOrderedExpression);
+            return this;
+        }
+    
+        
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -2503,6 +2568,9 @@ public interface KafkaComponentBuilderFactory {
             case "headerDeserializer": getOrCreateConfiguration((KafkaComponent) component).setHeaderDeserializer((org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer) value); return true;
             case "heartbeatIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setHeartbeatIntervalMs((java.lang.Integer) value); return true;
             case "keyDeserializer": getOrCreateConfiguration((KafkaComponent) component).setKeyDeserializer((java.lang.String) value); return true;
+            case "keyOrdered": getOrCreateConfiguration((KafkaComponent) component).setKeyOrdered((boolean) value); return true;
+            case "keyOrderedConcurrency": getOrCreateConfiguration((KafkaComponent) component).setKeyOrderedConcurrency((int) value); return true;
+            case "keyOrderedExpression": getOrCreateConfiguration((KafkaComponent) component).setKeyOrderedExpression((java.lang.String) value); return true;
             case "maxPartitionFetchBytes": getOrCreateConfiguration((KafkaComponent) component).setMaxPartitionFetchBytes((java.lang.Integer) value); return true;
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Integer) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
@@ -2023,6 +2023,107 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Whether the consumer should maintain an index of the files in the
+         * directory, so each poll only evaluates files that are new or changed,
+         * instead of listing the directory and evaluating filters, idempotent
+         * and in-progress checks for every file. Changes are detected using the
+         * file system watch service, with periodic reconciliation scans of the
+         * directory. This can speed up polling directories with a very large
+         * number of files. Files skipped by a filter are not evaluated again
+         * until their length or last modified timestamp changes, so custom
+         * filters should only depend on the file name, length and last modified
+         * timestamp.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryIndex the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryIndex(boolean directoryIndex) {
+            doSetProperty("directoryIndex", directoryIndex);
+            return this;
+        }
+        /**
+         * Whether the consumer should maintain an index of the files in the
+         * directory, so each poll only evaluates files that are new or changed,
+         * instead of listing the directory and evaluating filters, idempotent
+         * and in-progress checks for every file. Changes are detected using the
+         * file system watch service, with periodic reconciliation scans of the
+         * directory. This can speed up polling directories with a very large
+         * number of files. Files skipped by a filter are not evaluated again
+         * until their length or last modified timestamp changes, so custom
+         * filters should only depend on the file name, length and last modified
+         * timestamp.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryIndex the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryIndex(String directoryIndex) {
+            doSetProperty("directoryIndex", directoryIndex);
+            return this;
+        }
+        /**
+         * Optional file used to persist the directory index, so the index
+         * survives restarts. Is only in use when directoryIndex is enabled.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param directoryIndexFile the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryIndexFile(String directoryIndexFile) {
+            doSetProperty("directoryIndexFile", directoryIndexFile);
+            return this;
+        }
+        /**
+         * Interval in millis between full reconciliation scans of the
+         * directory, when directoryIndex is enabled. The scans catch changes
+         * that the file system watch service may not report. Use 0 to only
+         * reconcile when needed, such as on startup or when new sub directories
+         * are created.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param directoryIndexReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryIndexReconcileInterval(long directoryIndexReconcileInterval) {
+            doSetProperty("directoryIndexReconcileInterval", directoryIndexReconcileInterval);
+            return this;
+        }
+        /**
+         * Interval in millis between full reconciliation scans of the
+         * directory, when directoryIndex is enabled. The scans catch changes
+         * that the file system watch service may not report. Use 0 to only
+         * reconcile when needed, such as on startup or when new sub directories
+         * are created.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param directoryIndexReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryIndexReconcileInterval(String directoryIndexReconcileInterval) {
+            doSetProperty("directoryIndexReconcileInterval", directoryIndexReconcileInterval);
+            return this;
+        }
         /**
          * Similar to the startingDirectoryMustExist option, but this applies
          * during polling (after starting the consumer).
@@ -3215,6 +3316,48 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("forceWrites", forceWrites);
             return this;
         }
+        /**
+         * When the message body is a file, then the producer writes the target
+         * file as a hard link to the file, instead of copying the content. This
+         * is only possible when the files are on the same file system,
+         * otherwise the content is copied. Notice that the source and target
+         * file then share the same content and permissions, so changing one
+         * changes the other. Is not in use when appending to files, using a
+         * charset, or with the chmod option.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param hardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder hardLink(boolean hardLink) {
+            doSetProperty("hardLink", hardLink);
+            return this;
+        }
+        /**
+         * When the message body is a file, then the producer writes the target
+         * file as a hard link to the file, instead of copying the content. This
+         * is only possible when the files are on the same file system,
+         * otherwise the content is copied. Notice that the source and target
+         * file then share the same content and permissions, so changing one
+         * changes the other. Is not in use when appending to files, using a
+         * charset, or with the chmod option.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param hardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder hardLink(String hardLink) {
+            doSetProperty("hardLink", hardLink);
+            return this;
+        }
         /**
          * Will keep the last modified timestamp from the source file (if any).
          * Will use the FileConstants.FILE_LAST_MODIFIED header to located the
@@ -958,6 +958,107 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * Whether to process the records of a partition in parallel, while
+         * keeping the order of the records with the same key. The default is
+         * false, which processes the records of a partition one at a time. The
+         * records are processed by a pool of worker threads (see
+         * keyOrderedConcurrency), and the consumer waits for all records of a
+         * poll to complete before it polls again. The offset committed for a
+         * partition only advances up to the lowest record which has not
+         * completed. If a record fails with breakOnFirstError, then the records
+         * of other keys which completed after it are consumed again
+         * (at-least-once). This option cannot be used together with batching or
+         * allowManualCommit.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param keyOrdered the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrdered(boolean keyOrdered) {
+            doSetProperty("keyOrdered", keyOrdered);
+            return this;
+        }
+        /**
+         * Whether to process the records of a partition in parallel, while
+         * keeping the order of the records with the same key. The default is
+         * false, which processes the records of a partition one at a time. The
+         * records are processed by a pool of worker threads (see
+         * keyOrderedConcurrency), and the consumer waits for all records of a
+         * poll to complete before it polls again. The offset committed for a
+         * partition only advances up to the lowest record which has not
+         * completed. If a record fails with breakOnFirstError, then the records
+         * of other keys which completed after it are consumed again
+         * (at-least-once). This option cannot be used together with batching or
+         * allowManualCommit.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param keyOrdered the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrdered(String keyOrdered) {
+            doSetProperty("keyOrdered", keyOrdered);
+            return this;
+        }
+        /**
+         * In key ordered mode, the number of worker threads that process the
+         * records in parallel. The worker threads are shared by the consumers
+         * of the endpoint (see consumersCount).
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedConcurrency(int keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
+        /**
+         * In key ordered mode, the number of worker threads that process the
+         * records in parallel. The worker threads are shared by the consumers
+         * of the endpoint (see consumersCount).
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedConcurrency(String keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
+        /**
+         * In key ordered mode, a simple expression that is evaluated on the
+         * exchange of each record to compute the key to keep the order for,
+         * instead of the key of the record. Records for which the key is null
+         * are processed without any ordering.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedExpression the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedExpression(String keyOrderedExpression) {
+            doSetProperty("keyOrderedExpression", keyOrderedExpression);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -118,6 +118,82 @@ public interface StubEndpointBuilderFactory {
         default StubEndpointConsumerBuilder basic() {
             return (StubEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether to route each batch of messages (see batchSize) as a single
+         * exchange with the list of exchanges as message body, instead of
+         * routing the messages one by one. This cannot be used with
+         * request/reply messages, which are rejected, or together with
+         * waitForTaskToComplete=Always.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchGrouped(boolean batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * Whether to route each batch of messages (see batchSize) as a single
+         * exchange with the list of exchanges as message body, instead of
+         * routing the messages one by one. This cannot be used with
+         * request/reply messages, which are rejected, or together with
+         * waitForTaskToComplete=Always.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchGrouped(String batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * per poll. When set higher than 1, the consumer drains any further
+         * waiting messages together with the first one, and processes them as a
+         * batch with the batch index, size and completion exchange properties
+         * set.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * per poll. When set higher than 1, the consumer drains any further
+         * waiting messages together with the first one, and processes them as a
+         * batch with the batch index, size and completion exchange properties
+         * set.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
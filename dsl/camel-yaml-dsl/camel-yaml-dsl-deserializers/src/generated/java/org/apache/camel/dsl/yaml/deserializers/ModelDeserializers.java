@@ -377,6 +377,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "optimisticLocking", type = "boolean", defaultValue = "false", description = "Turns on using optimistic locking, which requires the aggregationRepository being used, is supporting this by implementing org.apache.camel.spi.OptimisticLockingAggregationRepository .", displayName = "Optimistic Locking"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", defaultValue = "false", description = "When aggregated are completed they are being send out of the aggregator. This option indicates whether or not Camel should use a thread pool with multiple threads for concurrency. If no custom thread pool has been specified then Camel creates a default pool with 10 concurrent threads.", displayName = "Parallel Processing"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
+                    @YamlProperty(name = "stripedLocking", type = "boolean", defaultValue = "false", description = "Turns on using striped locking, where exchanges are locked per correlation key (using a fixed number of lock stripes) instead of using a single lock for all correlation keys. This allows exchanges with different correlation keys to be aggregated in parallel, which reduces lock contention when there are many correlation groups. The aggregationRepository being used must be thread-safe for different correlation keys. This cannot be used together with optimistic locking or completionFromBatchConsumer.", displayName = "Striped Locking"),
                     @YamlProperty(name = "timeoutCheckerExecutorService", type = "string", description = "If using either of the completionTimeout, completionTimeoutExpression, or completionInterval options a background thread is created to check for the completion for every aggregator. Set this option to provide a custom thread pool to be used rather than creating a new thread for every aggregator.", displayName = "Timeout Checker Executor Service")
             }
     )
@@ -530,6 +531,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setParallelProcessing(val);
                     break;
                 }
+                case "stripedLocking": {
+                    String val = asText(node);
+                    target.setStripedLocking(val);
+                    break;
+                }
                 case "timeoutCheckerExecutorService": {
                     String val = asText(node);
                     target.setTimeoutCheckerExecutorService(val);
@@ -10449,6 +10455,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Disables this EIP from the route.", displayName = "Disabled"),
                     @YamlProperty(name = "executorService", type = "string", description = "Refers to a custom Thread Pool to be used for parallel processing. Notice if you set this option, then parallel processing is automatic implied, and you do not have to enable that option as well.", displayName = "Executor Service"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
+                    @YamlProperty(name = "maxConcurrentTasks", type = "number", defaultValue = "0", description = "The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.", displayName = "Max Concurrent Tasks"),
                     @YamlProperty(name = "note", type = "string", description = "Sets the note of this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses the Processor when preparing the org.apache.camel.Exchange to be send. This can be used to deep-clone messages that should be send, or any custom logic needed before the exchange is send.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
@@ -10458,7 +10465,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "stopOnException", type = "boolean", defaultValue = "false", description = "Will now stop further processing if an exception or failure occurred during processing of an org.apache.camel.Exchange and the caused exception will be thrown. Will also stop if processing the exchange failed (has a fault message) or an exception was thrown and handled by the error handler (such as using onException). In all situations the multicast will stop further processing. This is the same behavior as in pipeline, which is used by the routing engine. The default behavior is to not stop but continue processing till the end", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", defaultValue = "false", description = "If enabled then Camel will process replies out-of-order, eg in the order they come back. If disabled, Camel will process replies in the same order as defined by the multicast.", displayName = "Streaming"),
                     @YamlProperty(name = "synchronous", type = "boolean", defaultValue = "false", description = "Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to continue routing after the multicast is complete, even if parallel processing is enabled.", displayName = "Synchronous"),
-                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Multicast hasn't been able to send and process all replies within the given timeframe, then the timeout triggers and the Multicast breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout")
+                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Multicast hasn't been able to send and process all replies within the given timeframe, then the timeout triggers and the Multicast breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout"),
+                    @YamlProperty(name = "virtualThreads", type = "boolean", defaultValue = "false", description = "When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are used. This option is ignored if a custom thread pool is configured with executorService.", displayName = "Virtual Threads")
             }
     )
     public static class MulticastDefinitionDeserializer extends YamlDeserializerBase<MulticastDefinition> {
@@ -10501,6 +10509,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExecutorService(val);
                     break;
                 }
+                case "maxConcurrentTasks": {
+                    String val = asText(node);
+                    target.setMaxConcurrentTasks(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -10541,6 +10554,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeout(val);
                     break;
                 }
+                case "virtualThreads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -13434,6 +13452,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression that returns which endpoints (url) to send the message to (the recipients). If the expression return an empty value then the message is not sent to any recipients.", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "ignoreInvalidEndpoints", type = "boolean", defaultValue = "false", description = "Ignore the invalidate endpoint exception when try to create a producer with that endpoint", displayName = "Ignore Invalid Endpoints"),
+                    @YamlProperty(name = "maxConcurrentTasks", type = "number", defaultValue = "0", description = "The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.", displayName = "Max Concurrent Tasks"),
                     @YamlProperty(name = "note", type = "string", description = "Sets the note of this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses the Processor when preparing the org.apache.camel.Exchange to be used send. This can be used to deep-clone messages that should be send, or any custom logic needed before the exchange is send.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
@@ -13442,7 +13461,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "stopOnException", type = "boolean", defaultValue = "false", description = "Will now stop further processing if an exception or failure occurred during processing of an org.apache.camel.Exchange and the caused exception will be thrown. Will also stop if processing the exchange failed (has a fault message) or an exception was thrown and handled by the error handler (such as using onException). In all situations the recipient list will stop further processing. This is the same behavior as in pipeline, which is used by the routing engine. The default behavior is to not stop but continue processing till the end", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", defaultValue = "false", description = "If enabled then Camel will process replies out-of-order, eg in the order they come back. If disabled, Camel will process replies in the same order as defined by the recipient list.", displayName = "Streaming"),
                     @YamlProperty(name = "synchronous", type = "boolean", defaultValue = "false", description = "Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to continue routing after the recipient list is complete, even if parallel processing is enabled.", displayName = "Synchronous"),
-                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Recipient List hasn't been able to send and process all replies within the given timeframe, then the timeout triggers and the Recipient List breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout")
+                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Recipient List hasn't been able to send and process all replies within the given timeframe, then the timeout triggers and the Recipient List breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout"),
+                    @YamlProperty(name = "virtualThreads", type = "boolean", defaultValue = "false", description = "When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are used. This option is ignored if a custom thread pool is configured with executorService.", displayName = "Virtual Threads")
             }
     )
     public static class RecipientListDefinitionDeserializer extends YamlDeserializerBase<RecipientListDefinition> {
@@ -13505,6 +13525,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidEndpoints(val);
                     break;
                 }
+                case "maxConcurrentTasks": {
+                    String val = asText(node);
+                    target.setMaxConcurrentTasks(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -13545,6 +13570,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeout(val);
                     break;
                 }
+                case "virtualThreads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -17925,6 +17955,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executorService", type = "string", description = "To use a custom Thread Pool to be used for parallel processing. Notice if you set this option, then parallel processing is automatically implied, and you do not have to enable that option as well.", displayName = "Executor Service"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using a xpath.", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
+                    @YamlProperty(name = "maxConcurrentTasks", type = "number", defaultValue = "0", description = "The maximum number of sub-tasks that can run concurrently, when virtualThreads is enabled. Any additional sub-tasks wait (on their virtual thread) until a running sub-task is complete. Use 0 for unbounded.", displayName = "Max Concurrent Tasks"),
+                    @YamlProperty(name = "maxInFlight", type = "number", defaultValue = "0", description = "The maximum number of split messages that can be in-flight (sent but not yet aggregated) at the same time, when parallel processing is enabled. When the limit is reached then the splitter stops reading from the iterator until earlier split messages have been aggregated, which keeps memory bounded when splitting big payloads in streaming mode with a slow downstream. When in use, then the replies are aggregated in the same order as the messages were split, also in streaming mode. Use 0 for unbounded.", displayName = "Max In Flight"),
                     @YamlProperty(name = "note", type = "string", description = "Sets the note of this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses the Processor when preparing the org.apache.camel.Exchange to be sent. This can be used to deep-clone messages that should be sent, or any custom logic needed before the exchange is sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
@@ -17934,7 +17966,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "stopOnException", type = "boolean", defaultValue = "false", description = "Will now stop further processing if an exception or failure occurred during processing of an org.apache.camel.Exchange and the caused exception will be thrown. Will also stop if processing the exchange failed (has a fault message) or an exception was thrown and handled by the error handler (such as using onException). In all situations the splitter will stop further processing. This is the same behavior as in pipeline, which is used by the routing engine. The default behavior is to not stop but continue processing till the end", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", defaultValue = "false", description = "When in streaming mode, then the splitter splits the original message on-demand, and each split message is processed one by one. This reduces memory usage as the splitter do not split all the messages first, but then we do not know the total size, and therefore the org.apache.camel.Exchange#SPLIT_SIZE is empty. In non-streaming mode (default) the splitter will split each message first, to know the total size, and then process each message one by one. This requires to keep all the split messages in memory and therefore requires more memory. The total size is provided in the org.apache.camel.Exchange#SPLIT_SIZE header. The streaming mode also affects the aggregation behavior. If enabled then Camel will process replies out-of-order, e.g. in the order they come back. If disabled, Camel will process replies in the same order as the messages was split.", displayName = "Streaming"),
                     @YamlProperty(name = "synchronous", type = "boolean", defaultValue = "false", description = "Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to continue routing after the split is complete, even if parallel processing is enabled.", displayName = "Synchronous"),
-                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Splitter hasn't been able to split and process all the sub messages within the given timeframe, then the timeout triggers and the Splitter breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout")
+                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Splitter hasn't been able to split and process all the sub messages within the given timeframe, then the timeout triggers and the Splitter breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout"),
+                    @YamlProperty(name = "virtualThreads", type = "boolean", defaultValue = "false", description = "When parallel processing is enabled, then each sub-task is processed on its own new virtual thread, instead of using a thread pool. This is useful when the sub-tasks are blocking (such as calling HTTP or JDBC services), as the number of concurrent sub-tasks is then not limited by the size of a thread pool. Use maxConcurrentTasks to limit how many sub-tasks can run concurrently. This requires Java 21, and on older JVMs then platform threads are used. This option is ignored if a custom thread pool is configured with executorService.", displayName = "Virtual Threads")
             }
     )
     public static class SplitDefinitionDeserializer extends YamlDeserializerBase<SplitDefinition> {
@@ -17987,6 +18020,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "maxConcurrentTasks": {
+                    String val = asText(node);
+                    target.setMaxConcurrentTasks(val);
+                    break;
+                }
+                case "maxInFlight": {
+                    String val = asText(node);
+                    target.setMaxInFlight(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -18027,6 +18070,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeout(val);
                     break;
                 }
+                case "virtualThreads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -18412,6 +18460,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "comparator", type = "string", description = "To use a custom comparator as a org.apache.camel.processor.resequencer.ExpressionResultComparator type.", displayName = "Comparator"),
                     @YamlProperty(name = "deliveryAttemptInterval", type = "string", defaultValue = "1000", description = "Sets the interval in milliseconds the stream resequencer will at most wait while waiting for condition of being able to deliver.", displayName = "Delivery Attempt Interval"),
                     @YamlProperty(name = "ignoreInvalidExchanges", type = "boolean", defaultValue = "false", description = "Whether to ignore invalid exchanges", displayName = "Ignore Invalid Exchanges"),
+                    @YamlProperty(name = "longSequence", type = "boolean", defaultValue = "false", description = "Whether the sequence numbers are long values where the next message has the sequence number incremented by one (such as with the default comparator). Then the messages are kept by their sequence numbers instead of being sorted with the comparator, which is faster. The comparator must be a org.apache.camel.processor.resequencer.LongSequenceElementComparator type.", displayName = "Long Sequence"),
                     @YamlProperty(name = "rejectOld", type = "boolean", defaultValue = "false", description = "If true, throws an exception when messages older than the last delivered message are processed", displayName = "Reject Old"),
                     @YamlProperty(name = "timeout", type = "string", defaultValue = "1000", description = "Sets minimum time (milliseconds) to wait for missing elements (messages).", displayName = "Timeout")
             }
@@ -18451,6 +18500,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidExchanges(val);
                     break;
                 }
+                case "longSequence": {
+                    String val = asText(node);
+                    target.setLongSequence(val);
+                    break;
+                }
                 case "rejectOld": {
                     String val = asText(node);
                     target.setRejectOld(val);
@@ -19024,7 +19078,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executorService", type = "string", description = "To use a custom thread pool (ScheduledExecutorService) by the throttler.", displayName = "Executor Service"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression to configure the maximum number of messages to throttle per request", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
-                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests", defaultValue = "TotalRequests", description = "Sets the throttling mode to one of the available modes enumerated in ThrottlingMode", displayName = "Mode"),
+                    @YamlProperty(name = "maximumCorrelationKeys", type = "number", defaultValue = "100000", description = "The maximum number of correlation keys to keep the throttling state for, when using the token bucket mode. When exceeded then the state of the least recently used key is evicted. Is by default 100000", displayName = "Maximum Correlation Keys"),
+                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests,TokenBucket", defaultValue = "TotalRequests", description = "Sets the throttling mode to one of the available modes enumerated in ThrottlingMode", displayName = "Mode"),
                     @YamlProperty(name = "note", type = "string", description = "Sets the note of this node", displayName = "Note"),
                     @YamlProperty(name = "rejectExecution", type = "boolean", defaultValue = "false", description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit Is by default false", displayName = "Reject Execution"),
                     @YamlProperty(name = "timePeriodMillis", type = "string", defaultValue = "1000", description = "Sets the time period during which the maximum request count is valid for", displayName = "Time Period Millis")
@@ -19075,6 +19130,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "maximumCorrelationKeys": {
+                    String val = asText(node);
+                    target.setMaximumCorrelationKeys(val);
+                    break;
+                }
                 case "mode": {
                     String val = asText(node);
                     target.setMode(val);
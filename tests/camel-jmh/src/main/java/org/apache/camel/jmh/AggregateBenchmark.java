@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures correlating exchanges in the {@code AggregateProcessor} with a varying number of correlation keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateBenchmark {
+
+    @Param({ "10", "10000" })
+    public int keys;
+
+    @Param({ "false", "true" })
+    public boolean stripedLocking;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:aggregate")
+                        .aggregate(header("id"), AggregationStrategies.groupedBody())
+                        .stripedLocking(stripedLocking)
+                        .completionSize(10)
+                        .to("log:aggregated?level=OFF");
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void aggregate() {
+        correlate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void aggregateConcurrent() {
+        correlate();
+    }
+
+    private void correlate() {
+        template.sendBodyAndHeader("direct:aggregate", "Hello World", "id", ThreadLocalRandom.current().nextInt(keys));
+    }
+
+}
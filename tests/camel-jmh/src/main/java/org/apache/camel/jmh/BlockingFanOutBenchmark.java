@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the parallel {@code Splitter} with a thread pool and with virtual threads, when the sub-tasks are blocking
+ * (simulating calls to HTTP or JDBC services). Virtual threads requires running the benchmark on JDK 21+.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(4)
+@Fork(1)
+public class BlockingFanOutBenchmark {
+
+    private static final int ITEMS = 50;
+    private static final long BLOCKING_MILLIS = 5;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private List<String> body;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:threadPool")
+                        .split(body()).parallelProcessing()
+                        .to("direct:blocking");
+
+                from("direct:virtualThreads")
+                        .split(body()).parallelProcessing().virtualThreads()
+                        .to("direct:blocking");
+
+                from("direct:virtualThreadsBounded")
+                        .split(body()).parallelProcessing().virtualThreads().maxConcurrentTasks(100)
+                        .to("direct:blocking");
+
+                from("direct:blocking").process(e -> Thread.sleep(BLOCKING_MILLIS));
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+
+        body = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            body.add("Item " + i);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void threadPool(Blackhole bh) {
+        bh.consume(template.requestBody("direct:threadPool", body));
+    }
+
+    @Benchmark
+    public void virtualThreads(Blackhole bh) {
+        bh.consume(template.requestBody("direct:virtualThreads", body));
+    }
+
+    @Benchmark
+    public void virtualThreadsBounded(Blackhole bh) {
+        bh.consume(template.requestBody("direct:virtualThreadsBounded", body));
+    }
+
+}
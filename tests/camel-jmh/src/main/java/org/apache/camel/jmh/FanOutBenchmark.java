@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the fan-out of {@code MulticastProcessor} and {@code Splitter} in sequential and parallel mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FanOutBenchmark {
+
+    private static final int ITEMS = 20;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private List<String> body;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:multicast")
+                        .multicast()
+                        .to("direct:a", "direct:b", "direct:c", "direct:d");
+
+                from("direct:multicastParallel")
+                        .multicast().parallelProcessing()
+                        .to("direct:a", "direct:b", "direct:c", "direct:d");
+
+                from("direct:split")
+                        .split(body())
+                        .to("direct:a");
+
+                from("direct:splitParallel")
+                        .split(body()).parallelProcessing()
+                        .to("direct:a");
+
+                from("direct:a").setHeader("a", constant("A"));
+                from("direct:b").setHeader("b", constant("B"));
+                from("direct:c").setHeader("c", constant("C"));
+                from("direct:d").setHeader("d", constant("D"));
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+
+        body = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            body.add("Item " + i);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void multicast(Blackhole bh) {
+        bh.consume(template.requestBody("direct:multicast", "Hello World"));
+    }
+
+    @Benchmark
+    public void multicastParallel(Blackhole bh) {
+        bh.consume(template.requestBody("direct:multicastParallel", "Hello World"));
+    }
+
+    @Benchmark
+    public void split(Blackhole bh) {
+        bh.consume(template.requestBody("direct:split", body));
+    }
+
+    @Benchmark
+    public void splitParallel(Blackhole bh) {
+        bh.consume(template.requestBody("direct:splitParallel", body));
+    }
+
+}
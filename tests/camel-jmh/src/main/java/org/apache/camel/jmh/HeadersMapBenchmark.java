@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures populating, reading and clearing the message headers map, as done per message when exchanges are pooled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadersMapBenchmark {
+
+    private static final String[] KEYS = {
+            Exchange.FILE_NAME, Exchange.CONTENT_TYPE, Exchange.HTTP_RESPONSE_CODE, Exchange.BREADCRUMB_ID,
+            "myHeader", "orderId", "customer", "priority", Exchange.FILE_LENGTH, Exchange.FILE_LAST_MODIFIED,
+            Exchange.CHARSET_NAME, "region", "source", "target", Exchange.HTTP_URI, Exchange.HTTP_METHOD };
+
+    @Param({ "default", "compact" })
+    public String headersMapFactory;
+
+    private HeadersMapFactory factory;
+    private Map<String, Object> map;
+
+    @Setup
+    public void setup() {
+        factory = "compact".equals(headersMapFactory) ? new CompactHeadersMapFactory() : new DefaultHeadersMapFactory();
+        map = factory.newMap();
+    }
+
+    @Benchmark
+    public void putGetClear(Blackhole bh) {
+        for (String key : KEYS) {
+            map.put(key, key);
+        }
+        for (String key : KEYS) {
+            bh.consume(map.get(key));
+        }
+        map.clear();
+    }
+
+    @Benchmark
+    public void putCopy(Blackhole bh) {
+        for (String key : KEYS) {
+            map.put(key, key);
+        }
+        bh.consume(factory.newMap(map));
+        map.clear();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.ApproximateLRUCacheFactory;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.cache.DefaultProducerCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures acquiring and releasing producers from the {@link DefaultProducerCache}, with more endpoints than the cache
+ * can hold to also exercise eviction as seen with high cardinality {@code toD} uris.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerCacheBenchmark {
+
+    private static final int CACHE_SIZE = 100;
+
+    @Param({ "10", "1000" })
+    public int endpoints;
+
+    @Param({ "default", "approximate" })
+    public String lruCacheFactory;
+
+    private CamelContext context;
+    private DefaultProducerCache cache;
+    private Endpoint[] uris;
+
+    @Setup
+    public void setup() {
+        LRUCacheFactory.setLRUCacheFactory(
+                "approximate".equals(lruCacheFactory) ? new ApproximateLRUCacheFactory() : new DefaultLRUCacheFactory());
+        context = new DefaultCamelContext();
+        context.start();
+        cache = new DefaultProducerCache(this, context, CACHE_SIZE);
+        cache.start();
+        uris = new Endpoint[endpoints];
+        for (int i = 0; i < endpoints; i++) {
+            uris[i] = context.getEndpoint("mock:foo" + i);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        cache.stop();
+        context.stop();
+    }
+
+    @Benchmark
+    public void acquireRelease(Blackhole bh) {
+        acquire(bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void acquireReleaseConcurrent(Blackhole bh) {
+        acquire(bh);
+    }
+
+    private void acquire(Blackhole bh) {
+        Endpoint endpoint = uris[ThreadLocalRandom.current().nextInt(endpoints)];
+        AsyncProducer producer = cache.acquireProducer(endpoint);
+        bh.consume(producer);
+        cache.releaseProducer(endpoint, producer);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures scheduling of tasks on the {@link ReactiveExecutor} configured on the {@link CamelContext}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveExecutorBenchmark {
+
+    private static final int NESTED = 8;
+
+    private CamelContext context;
+    private ReactiveExecutor executor;
+
+    @Setup
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+        executor = context.getCamelContextExtension().getReactiveExecutor();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void schedule(Blackhole bh) {
+        executor.schedule(() -> bh.consume(1));
+    }
+
+    @Benchmark
+    public void scheduleMain(Blackhole bh) {
+        executor.scheduleMain(() -> bh.consume(1));
+    }
+
+    @Benchmark
+    public void scheduleNested(Blackhole bh) {
+        executor.schedule(new Nested(bh, NESTED));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void scheduleConcurrent(Blackhole bh) {
+        executor.schedule(new Nested(bh, NESTED));
+    }
+
+    private final class Nested implements Runnable {
+        private final Blackhole bh;
+        private final int remaining;
+
+        Nested(Blackhole bh, int remaining) {
+            this.bh = bh;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(remaining);
+            if (remaining > 0) {
+                executor.schedule(new Nested(bh, remaining - 1));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per exchange overhead of routing through {@code CamelInternalProcessor} and {@code Pipeline}, which also
+ * exercises the {@code DefaultReactiveExecutor} on every processor hop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private CamelContext context;
+    private ProducerTemplate template;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:single").id("single")
+                        .setBody(constant("Bye World"));
+
+                from("direct:pipeline").id("pipeline")
+                        .setHeader("foo", constant("123"))
+                        .setProperty("bar", constant(456))
+                        .convertBodyTo(String.class)
+                        .setBody(simple("${body} ${header.foo}"))
+                        .removeHeader("foo")
+                        .transform(simple("${body} ${exchangeProperty.bar}"));
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void singleProcessor(Blackhole bh) {
+        bh.consume(template.requestBody("direct:single", "Hello World"));
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole bh) {
+        bh.consume(template.requestBody("direct:pipeline", "Hello World"));
+    }
+
+}
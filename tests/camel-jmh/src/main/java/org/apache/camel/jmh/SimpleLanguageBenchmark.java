@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures evaluation of pre-created Simple expressions and predicates, and creating them via the parse cache, with and
+ * without the compiled mode of the simple language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleLanguageBenchmark {
+
+    @Param({ "false", "true" })
+    private String compiled;
+
+    private CamelContext context;
+    private Language simple;
+    private Exchange exchange;
+    private Expression headerExpression;
+    private Expression templateExpression;
+    private Predicate headerPredicate;
+    private Predicate compoundPredicate;
+    private Predicate regexPredicate;
+    private Predicate inPredicate;
+    private Predicate rangePredicate;
+
+    @Setup
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.getGlobalOptions().put(Exchange.SIMPLE_COMPILED, compiled);
+        context.start();
+        simple = context.resolveLanguage("simple");
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        exchange.getMessage().setHeader("num", 123);
+
+        headerExpression = simple.createExpression("${header.foo}");
+        templateExpression = simple.createExpression("Hello ${header.foo} number ${header.num} with ${body}");
+        headerPredicate = simple.createPredicate("${header.foo} == 'bar'");
+        compoundPredicate = simple.createPredicate("${header.foo} == 'bar' && ${header.num} > 100");
+        regexPredicate = simple.createPredicate("${header.foo} regex '^b[a-z]+$'");
+        inPredicate = simple.createPredicate("${header.foo} in 'foo,bar,baz'");
+        rangePredicate = simple.createPredicate("${header.num} range '100..199'");
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void headerExpression(Blackhole bh) {
+        bh.consume(headerExpression.evaluate(exchange, Object.class));
+    }
+
+    @Benchmark
+    public void templateExpression(Blackhole bh) {
+        bh.consume(templateExpression.evaluate(exchange, String.class));
+    }
+
+    @Benchmark
+    public void headerPredicate(Blackhole bh) {
+        bh.consume(headerPredicate.matches(exchange));
+    }
+
+    @Benchmark
+    public void compoundPredicate(Blackhole bh) {
+        bh.consume(compoundPredicate.matches(exchange));
+    }
+
+    @Benchmark
+    public void regexPredicate(Blackhole bh) {
+        bh.consume(regexPredicate.matches(exchange));
+    }
+
+    @Benchmark
+    public void inPredicate(Blackhole bh) {
+        bh.consume(inPredicate.matches(exchange));
+    }
+
+    @Benchmark
+    public void rangePredicate(Blackhole bh) {
+        bh.consume(rangePredicate.matches(exchange));
+    }
+
+    @Benchmark
+    public void createCachedPredicate(Blackhole bh) {
+        bh.consume(simple.createPredicate("${header.foo} == 'bar'"));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.ApproximateLRUCacheFactory;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures concurrent routing with {@code toD} to high cardinality uris, where the producer and endpoint caches are
+ * continuously evicting, comparing the LRU cache implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToDynamicBenchmark {
+
+    @Param({ "100", "10000" })
+    public int uris;
+
+    @Param({ "default", "approximate" })
+    public String lruCacheFactory;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+
+    @Setup
+    public void setup() throws Exception {
+        LRUCacheFactory.setLRUCacheFactory(
+                "approximate".equals(lruCacheFactory) ? new ApproximateLRUCacheFactory() : new DefaultLRUCacheFactory());
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .toD("mock:foo${header.id}?retainFirst=0", 100);
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        template.stop();
+        context.stop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void toDConcurrent() {
+        template.sendBodyAndHeader("direct:start", "Hello", "id", ThreadLocalRandom.current().nextInt(uris));
+    }
+
+}